@@ -0,0 +1,27 @@
+-- Packed time-series point storage on graph_trace.
+--
+-- GraphTrace.pointStorage selects where a trace's time-series points live:
+--   ROWS   one graph_time_series_point row per point (the previous layout)
+--   PACKED the three packed_* columns below, written by PackedTimeSeriesPoints
+--
+-- Apply before deploying the release that reads packed traces. Existing
+-- traces default to ROWS and keep reading from their rows. On startup,
+-- GraphTracePointPackingJob packs every ROWS time-series trace whose points
+-- all have an observation time and deletes its rows; payload syncs pack
+-- traces as they are written. Set app.dashboard.point-packing.enabled=false
+-- to skip the startup conversion.
+
+alter table graph_trace
+    add column if not exists point_storage varchar(16) not null default 'ROWS',
+    add column if not exists packed_observed_at bytea,
+    add column if not exists packed_y_values bytea,
+    add column if not exists packed_point_meta jsonb;
+
+-- Remaining row-stored time-series traces after the conversion has run.
+-- Traces listed here have a point without an observation time and stay as rows.
+--
+-- select trace.id, trace.graph_id, count(point.id) as point_rows
+-- from graph_trace trace
+-- join graph_time_series_point point on point.graph_trace_id = trace.id
+-- where trace.point_storage = 'ROWS' and trace.data_mode = 'time_series'
+-- group by trace.id, trace.graph_id;
@@ -0,0 +1,58 @@
+import {describe, expect, it} from "vitest";
+import {decodeCompactTrace} from "../util/graph/compactTraceDecoder";
+import {parseLocationGraph} from "../util/common/coreApi";
+
+describe("decodeCompactTrace", () => {
+  it("expands day offsets and dictionary customdata into Plotly arrays", () => {
+    const trace = decodeCompactTrace({
+      type: "scatter",
+      name: "HPC",
+      mode: "lines+markers",
+      compactTimeSeries: {
+        baseDate: "2025-12-30",
+        dayDeltas: [0, 3, 1, -2],
+        y: [4, 5.5, null, 7],
+        customdataValues: [["Newport"], null],
+        customdataIndexes: [0, 0, 1, 0]
+      }
+    });
+
+    expect(trace).toEqual({
+      type: "scatter",
+      name: "HPC",
+      mode: "lines+markers",
+      x: ["2025-12-30", "2026-01-02", "2026-01-03", "2026-01-01"],
+      y: [4, 5.5, null, 7],
+      customdata: [["Newport"], ["Newport"], null, ["Newport"]]
+    });
+  });
+
+  it("leaves Plotly traces untouched", () => {
+    const trace = {type: "bar", x: ["a"], y: [1]};
+
+    expect(decodeCompactTrace(trace)).toBe(trace);
+  });
+
+  it("rejects malformed compact payloads", () => {
+    expect(() => decodeCompactTrace({
+      type: "scatter",
+      compactTimeSeries: {baseDate: "2026-01-01", dayDeltas: [0, 1], y: [1]}
+    })).toThrowError("Invalid compact trace payload");
+    expect(() => decodeCompactTrace({
+      type: "scatter",
+      compactTimeSeries: {baseDate: "2026-01-01", dayDeltas: [0], y: [1], customdataValues: [], customdataIndexes: [0]}
+    })).toThrowError("Invalid compact trace customdata");
+  });
+
+  it("decodes compact traces while parsing graph responses", () => {
+    const graph = parseLocationGraph({
+      id: 7,
+      name: "Water Quality Conformance",
+      data: [{type: "scatter", compactTimeSeries: {baseDate: "2026-03-01", dayDeltas: [0, 7], y: [4, 6]}}],
+      createdAt: "2026-03-01T00:00:00Z",
+      updatedAt: "2026-03-02T00:00:00Z"
+    });
+
+    expect(graph.data).toEqual([{type: "scatter", x: ["2026-03-01", "2026-03-08"], y: [4, 6]}]);
+  });
+});
@@ -122,7 +122,7 @@ describe("DashboardLocationDetailPanel data loaders", () => {
 
     const graphs = await fetchLocationGraphsById(host, "55");
 
-    expect(apiFetchMock).toHaveBeenCalledWith(host + "/api/core/locations/55/graphs?monthRange=-1", {
+    expect(apiFetchMock).toHaveBeenCalledWith(host + "/api/core/locations/55/graphs?monthRange=-1&traceFormat=compact", {
       method: "GET"
     });
     expect(graphs).toHaveLength(1);
@@ -182,7 +182,7 @@ describe("DashboardLocationDetailPanel data loaders", () => {
     const result = await fetchLocationSectionGraphsById(host, "55", 8, 7);
 
     expect(apiFetchMock).toHaveBeenCalledWith(
-      host + "/api/core/locations/55/sections/8/graphs?monthRange=7",
+      host + "/api/core/locations/55/sections/8/graphs?monthRange=7&traceFormat=compact",
       {method: "GET"}
     );
     expect(result.graphs[0].id).toBe(11);
@@ -190,12 +190,29 @@ describe("DashboardLocationDetailPanel data loaders", () => {
   });
 
   it("rejects invalid section ranges before issuing a request", async () => {
-    await expect(fetchLocationSectionGraphsById(host, "55", 8, 0))
-      .rejects.toThrowError("positive integer");
+    await expect(fetchLocationSectionGraphsById(host, "55", 8, 1.5))
+      .rejects.toThrowError("must be an integer");
 
     expect(apiFetchMock).not.toHaveBeenCalled();
   });
 
+  it("requests all-time section payloads for non-positive ranges", async () => {
+    apiFetchMock.mockResolvedValue(createMockResponse(true, {
+      sectionId: 8,
+      monthRange: -1,
+      graphs: [],
+      missingGraphIds: []
+    }));
+
+    const result = await fetchLocationSectionGraphsById(host, "55", 8, 0);
+
+    expect(apiFetchMock).toHaveBeenCalledWith(
+      host + "/api/core/locations/55/sections/8/graphs?monthRange=-1&traceFormat=compact",
+      {method: "GET"}
+    );
+    expect(result.monthRange).toBe(-1);
+  });
+
   it("rejects section responses that do not match the requested scope", async () => {
     apiFetchMock.mockResolvedValue(createMockResponse(true, {
       sectionId: 9,
@@ -7,6 +7,7 @@ import {
     LocationSectionLayoutConfig,
     LocationSummary
 } from "../../types/Types";
+import {decodeCompactTrace} from "../graph/compactTraceDecoder";
 
 // Data verification helpers. Add any new data verification helpers here!
 
@@ -165,7 +166,7 @@ const parseGraphDataEntries = (value: unknown): Record<string, unknown>[] => {
   if (!Array.isArray(value) || value.some((entry) => !isObject(entry))) {
     throw new Error("Invalid graph data payload");
   }
-  return value;
+  return value.map(decodeCompactTrace);
 };
 
 const parseLocationGraphColumns = (value: Record<string, unknown>) => {
@@ -0,0 +1,70 @@
+/** `traceFormat` request value asking the server for compact time-series traces. */
+export const COMPACT_TRACE_FORMAT = "compact";
+
+const COMPACT_FIELD = "compactTimeSeries";
+const DAY_MILLIS = 24 * 60 * 60 * 1000;
+
+const isRecord = (value: unknown): value is Record<string, unknown> =>
+  value !== null && typeof value === "object" && !Array.isArray(value);
+
+const isIntegerArray = (value: unknown): value is number[] =>
+  Array.isArray(value) && value.every((entry) => typeof entry === "number" && Number.isInteger(entry));
+
+const parseBaseEpochMillis = (value: unknown): number => {
+  if (typeof value !== "string" || !/^\d{4}-\d{2}-\d{2}$/.test(value)) {
+    throw new Error("Invalid compact trace base date");
+  }
+  const epochMillis = Date.parse(value + "T00:00:00Z");
+  if (Number.isNaN(epochMillis)) {
+    throw new Error("Invalid compact trace base date");
+  }
+  return epochMillis;
+};
+
+/**
+ * Expands traces sent in the compact time-series wire format
+ * (`traceFormat=compact`) back into the Plotly shape the dashboard renders.
+ *
+ * The server replaces a daily scatter trace's `x`, `y` and `customdata` with a
+ * `compactTimeSeries` object holding a base date, per-point day offsets from
+ * the previous point, the `y` values, and `customdata` as a dictionary plus
+ * per-point indexes. Any other trace is returned unchanged.
+ */
+export const decodeCompactTrace = (trace: Record<string, unknown>): Record<string, unknown> => {
+  const compact = trace[COMPACT_FIELD];
+  if (compact === undefined) {
+    return trace;
+  }
+  if (!isRecord(compact) || !isIntegerArray(compact.dayDeltas) || !Array.isArray(compact.y)) {
+    throw new Error("Invalid compact trace payload");
+  }
+  const dayDeltas = compact.dayDeltas;
+  const yValues = compact.y;
+  if (dayDeltas.length !== yValues.length) {
+    throw new Error("Invalid compact trace payload");
+  }
+
+  const x = new Array<string>(dayDeltas.length);
+  let epochMillis = parseBaseEpochMillis(compact.baseDate);
+  for (let index = 0; index < dayDeltas.length; index += 1) {
+    epochMillis += dayDeltas[index] * DAY_MILLIS;
+    x[index] = new Date(epochMillis).toISOString().slice(0, 10);
+  }
+
+  const {[COMPACT_FIELD]: _compact, ...plotlyTrace} = trace;
+  const decoded: Record<string, unknown> = {...plotlyTrace, x, y: yValues};
+  if (compact.customdataIndexes !== undefined) {
+    const dictionary = compact.customdataValues;
+    const indexes = compact.customdataIndexes;
+    if (
+      !Array.isArray(dictionary)
+      || !isIntegerArray(indexes)
+      || indexes.length !== dayDeltas.length
+      || indexes.some((index) => index < 0 || index >= dictionary.length)
+    ) {
+      throw new Error("Invalid compact trace customdata");
+    }
+    decoded.customdata = indexes.map((index) => dictionary[index]);
+  }
+  return decoded;
+};
@@ -14,6 +14,7 @@ import {
   LocationSummary
 } from "../../types/Types";
 import {parseCreateLocationServiceEventRequestList} from "../location/locationEventApi";
+import {COMPACT_TRACE_FORMAT} from "./compactTraceDecoder";
 
 const isRecord = (value: unknown): value is Record<string, unknown> =>
   value !== null && typeof value === "object" && !Array.isArray(value);
@@ -128,7 +129,8 @@ export const fetchLocationById = async (host: string, locationId: string): Promi
 };
 
 /**
- * Loads all graphs assigned to the selected location.
+ * Loads all graphs assigned to the selected location. Time-series traces are
+ * requested in the compact wire format and expanded while parsing.
  *
  * Endpoint: `GET /api/core/locations/{locationId}/graphs`
  *
@@ -144,7 +146,7 @@ export const fetchLocationGraphsById = async (
 ): Promise<LocationGraph[]> => {
   const parsedId = parseRouteLocationId(locationId);
   const parsedMonthRange = Number.isInteger(monthRange) ? monthRange : -1;
-  const query = new URLSearchParams({monthRange: String(parsedMonthRange)});
+  const query = new URLSearchParams({monthRange: String(parsedMonthRange), traceFormat: COMPACT_TRACE_FORMAT});
 
   const response = await apiFetch(host + "/api/core/locations/" + parsedId + "/graphs?" + query.toString(), {
     method: "GET"
@@ -165,7 +167,7 @@ const parseLocationSectionGraphsResult = (value: unknown): LocationSectionGraphs
     || value.sectionId <= 0
     || typeof value.monthRange !== "number"
     || !Number.isInteger(value.monthRange)
-    || value.monthRange <= 0
+    || (value.monthRange <= 0 && value.monthRange !== -1)
     || !Array.isArray(value.graphs)
     || !Array.isArray(value.missingGraphIds)
     || value.missingGraphIds.some((graphId) =>
@@ -182,7 +184,10 @@ const parseLocationSectionGraphsResult = (value: unknown): LocationSectionGraphs
   };
 };
 
-/** Loads one dashboard section at an independently selected positive month range. */
+/**
+ * Loads one dashboard section at an independently selected month range.
+ * Non-positive ranges request the section's all-time payloads.
+ */
 export const fetchLocationSectionGraphsById = async (
   host: string,
   locationId: string,
@@ -192,10 +197,14 @@ export const fetchLocationSectionGraphsById = async (
 ): Promise<LocationSectionGraphsResult> => {
   const parsedLocationId = parseRouteLocationId(locationId);
   const parsedSectionId = parsePositiveRouteId(sectionId, "section id");
-  if (!Number.isInteger(monthRange) || monthRange <= 0) {
-    throw new Error("Section graph month range must be a positive integer");
+  if (!Number.isInteger(monthRange)) {
+    throw new Error("Section graph month range must be an integer");
   }
-  const query = new URLSearchParams({monthRange: String(monthRange)});
+  const requestedMonthRange = monthRange > 0 ? monthRange : -1;
+  const query = new URLSearchParams({
+    monthRange: String(requestedMonthRange),
+    traceFormat: COMPACT_TRACE_FORMAT
+  });
   const requestInit: RequestInit = {method: "GET"};
   if (signal) {
     requestInit.signal = signal;
@@ -210,7 +219,7 @@ export const fetchLocationSectionGraphsById = async (
     throw new Error(payload?.message || "Unable to load section graphs");
   }
   const result = parseLocationSectionGraphsResult(await response.json());
-  if (result.sectionId !== parsedSectionId || result.monthRange !== monthRange) {
+  if (result.sectionId !== parsedSectionId || result.monthRange !== requestedMonthRange) {
     throw new Error("Section graph response did not match the request");
   }
   return result;
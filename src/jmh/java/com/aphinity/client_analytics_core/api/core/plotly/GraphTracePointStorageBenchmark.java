@@ -0,0 +1,191 @@
+package com.aphinity.client_analytics_core.api.core.plotly;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTimeSeriesPoint;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes and reads one daily time-series trace against in-memory H2 in both
+ * point layouts: a {@code graph_time_series_point} row per point, written in
+ * JDBC batches like the bulk point writer, and the trace row's packed columns.
+ * Reads rebuild the same points, parsing point metadata JSON as Hibernate
+ * would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GraphTracePointStorageBenchmark {
+    private static final long TRACE_ID = 1L;
+    private static final int BATCH_SIZE = 1000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2015, 1, 1);
+    private static final String ROW_INSERT_SQL = """
+        insert into graph_time_series_point (
+            graph_trace_id, point_order, observed_at, y_numeric, y_text, point_meta, created_at, updated_at
+        ) values (?, ?, ?, ?, ?, ? format json, ?, ?)
+        """;
+    private static final String ROW_SELECT_SQL = """
+        select point_order, observed_at, y_numeric, point_meta
+        from graph_time_series_point
+        where graph_trace_id = ?
+        order by point_order
+        """;
+
+    @Param({"5000"})
+    public int pointCount;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private JsonMapper jsonMapper;
+    private List<GraphTimeSeriesPoint> points;
+
+    @Setup(Level.Trial)
+    public void createSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:graph-trace-point-storage;DB_CLOSE_DELAY=-1", "sa", ""
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jsonMapper = JsonMapper.builder().build();
+        jdbcTemplate.execute("""
+            create table if not exists graph_trace (
+                id bigint primary key,
+                packed_observed_at varbinary,
+                packed_y_values varbinary,
+                packed_point_meta json
+            )
+            """);
+        jdbcTemplate.execute("""
+            create table if not exists graph_time_series_point (
+                id bigint generated by default as identity primary key,
+                graph_trace_id bigint not null references graph_trace (id) on delete cascade,
+                point_order integer not null,
+                observed_at timestamp with time zone not null,
+                y_numeric numeric(38, 10),
+                y_text varchar(255),
+                point_meta json not null,
+                created_at timestamp with time zone not null,
+                updated_at timestamp with time zone not null,
+                constraint uk_graph_time_series_point_trace_order unique (graph_trace_id, point_order)
+            )
+            """);
+        jdbcTemplate.execute(
+            "create index if not exists idx_graph_time_series_point_trace_id on graph_time_series_point (graph_trace_id)"
+        );
+        jdbcTemplate.execute("""
+            create index if not exists idx_graph_time_series_point_trace_observed_at
+            on graph_time_series_point (graph_trace_id, observed_at)
+            """);
+        jdbcTemplate.update("merge into graph_trace (id) key (id) values (?)", TRACE_ID);
+
+        points = new ArrayList<>(pointCount);
+        for (int index = 0; index < pointCount; index += 1) {
+            LocalDate date = FIRST_DATE.plusDays(index);
+            Map<String, Object> pointMeta = new LinkedHashMap<>();
+            pointMeta.put("x", date.toString());
+            pointMeta.put("customdata", Map.of("sampleCount", 1 + index % 4, "compliantCount", index % 3));
+            GraphTimeSeriesPoint point = new GraphTimeSeriesPoint();
+            point.setPointOrder(index);
+            point.setObservedAt(date.atStartOfDay(ZoneOffset.UTC).toInstant());
+            point.setYNumeric(BigDecimal.valueOf(index % 500, index % 3));
+            point.setPointMeta(pointMeta);
+            points.add(point);
+        }
+        writeRowPerPoint();
+        writePacked();
+    }
+
+    @Benchmark
+    public int writeRowPerPoint() {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.update("delete from graph_time_series_point where graph_trace_id = ?", TRACE_ID);
+            Timestamp now = Timestamp.from(Instant.now());
+            jdbcTemplate.batchUpdate(ROW_INSERT_SQL, points, BATCH_SIZE, (statement, point) -> {
+                statement.setLong(1, TRACE_ID);
+                statement.setInt(2, point.getPointOrder());
+                statement.setTimestamp(3, Timestamp.from(point.getObservedAt()));
+                statement.setBigDecimal(4, point.getYNumeric());
+                statement.setString(5, point.getYText());
+                statement.setString(6, jsonMapper.writeValueAsString(point.getPointMeta()));
+                statement.setTimestamp(7, now);
+                statement.setTimestamp(8, now);
+            });
+            return points.size();
+        });
+    }
+
+    @Benchmark
+    public int writePacked() {
+        return transactionTemplate.execute(status -> {
+            GraphTrace trace = new GraphTrace();
+            PackedTimeSeriesPoints.pack(trace, points);
+            return jdbcTemplate.update(
+                """
+                    update graph_trace
+                    set packed_observed_at = ?, packed_y_values = ?, packed_point_meta = ? format json
+                    where id = ?
+                    """,
+                trace.getPackedObservedAt(),
+                trace.getPackedYValues(),
+                trace.getPackedPointMeta() == null ? null : jsonMapper.writeValueAsString(trace.getPackedPointMeta()),
+                TRACE_ID
+            );
+        });
+    }
+
+    @Benchmark
+    public List<GraphTimeSeriesPoint> readRowPerPoint() {
+        return jdbcTemplate.query(ROW_SELECT_SQL, (resultSet, rowNumber) -> {
+            GraphTimeSeriesPoint point = new GraphTimeSeriesPoint();
+            point.setPointOrder(resultSet.getInt(1));
+            point.setObservedAt(resultSet.getTimestamp(2).toInstant());
+            point.setYNumeric(resultSet.getBigDecimal(3));
+            point.setPointMeta(readMap(resultSet.getString(4)));
+            return point;
+        }, TRACE_ID);
+    }
+
+    @Benchmark
+    public List<GraphTimeSeriesPoint> readPacked() {
+        return jdbcTemplate.queryForObject(
+            "select packed_observed_at, packed_y_values, packed_point_meta from graph_trace where id = ?",
+            (resultSet, rowNumber) -> {
+                GraphTrace trace = new GraphTrace();
+                trace.setPackedObservedAt(resultSet.getBytes(1));
+                trace.setPackedYValues(resultSet.getBytes(2));
+                String packedMeta = resultSet.getString(3);
+                trace.setPackedPointMeta(packedMeta == null ? null : readMap(packedMeta));
+                return PackedTimeSeriesPoints.unpack(trace);
+            },
+            TRACE_ID
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readMap(String json) {
+        return jsonMapper.readValue(json, Map.class);
+    }
+}
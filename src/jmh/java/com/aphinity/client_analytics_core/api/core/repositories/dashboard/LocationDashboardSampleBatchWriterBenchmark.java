@@ -0,0 +1,148 @@
+package com.aphinity.client_analytics_core.api.core.repositories.dashboard;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.LocationDashboardSample;
+import com.aphinity.client_analytics_core.api.core.entities.location.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replaces a 100k-sample import against in-memory H2, comparing the former
+ * identity-keyed, one-round-trip-per-row insert Hibernate issued with
+ * {@link LocationDashboardSampleBatchWriter}. Each invocation starts from an
+ * empty table inside one transaction, like an import replacement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LocationDashboardSampleBatchWriterBenchmark {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+    private static final String ROW_INSERT_SQL = """
+        insert into location_dashboard_sample (
+            location_id, observed_date, system_type_name, measurement_name, raw_value, units,
+            sample_identity, compliant, resolved, turnaround_days, origin, created_at, updated_at
+        ) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    @Param({"100000"})
+    public int sampleCount;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private LocationDashboardSampleBatchWriter writer;
+    private List<LocationDashboardSample> samples;
+
+    @Setup(Level.Trial)
+    public void createSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:sample-batch-writer;DB_CLOSE_DELAY=-1", "sa", ""
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        writer = new LocationDashboardSampleBatchWriter(jdbcTemplate);
+        jdbcTemplate.execute("""
+            create table if not exists location_dashboard_sample (
+                id bigint generated by default as identity primary key,
+                location_id bigint not null,
+                observed_date date not null,
+                system_type_name varchar(256),
+                measurement_name varchar(256) not null,
+                raw_value text,
+                units varchar(64),
+                sample_identity varchar(1024) not null,
+                compliant boolean not null,
+                resolved boolean not null,
+                turnaround_days bigint,
+                origin varchar(64) not null,
+                content_hash varchar(64),
+                created_at timestamp with time zone not null,
+                updated_at timestamp with time zone not null,
+                constraint uk_dashboard_sample_location_identity unique (location_id, sample_identity)
+            )
+            """);
+
+        Location location = new Location();
+        location.setId(1L);
+        samples = new ArrayList<>(sampleCount);
+        for (int index = 0; index < sampleCount; index += 1) {
+            LocationDashboardSample sample = new LocationDashboardSample();
+            sample.setLocation(location);
+            sample.setObservedDate(FIRST_DATE.plusDays(index / 40));
+            sample.setSystemTypeName("System " + (index % 8));
+            sample.setMeasurementName("Measurement " + (index % 5));
+            sample.setRawValue(Integer.toString(index % 100));
+            sample.setUnits("CFU/mL");
+            sample.setSampleIdentity("__generated__|sample|" + index);
+            sample.setCompliant(index % 11 != 0);
+            sample.setResolved(index % 3 == 0);
+            sample.setTurnaroundDays(index % 4 == 0 ? null : (long) (index % 9));
+            sample.setOrigin("WORKSHEET");
+            samples.add(sample);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clearSamples() {
+        jdbcTemplate.execute("truncate table location_dashboard_sample");
+    }
+
+    @Benchmark
+    public int legacyRowAtATimeIdentityInserts() {
+        return transactionTemplate.execute(status -> jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            Timestamp now = Timestamp.from(Instant.now());
+            int inserted = 0;
+            for (LocationDashboardSample sample : samples) {
+                try (PreparedStatement statement = connection.prepareStatement(
+                    ROW_INSERT_SQL, Statement.RETURN_GENERATED_KEYS
+                )) {
+                    statement.setLong(1, sample.getLocation().getId());
+                    statement.setDate(2, Date.valueOf(sample.getObservedDate()));
+                    statement.setString(3, sample.getSystemTypeName());
+                    statement.setString(4, sample.getMeasurementName());
+                    statement.setString(5, sample.getRawValue());
+                    statement.setString(6, sample.getUnits());
+                    statement.setString(7, sample.getSampleIdentity());
+                    statement.setBoolean(8, sample.isCompliant());
+                    statement.setBoolean(9, sample.isResolved());
+                    statement.setObject(10, sample.getTurnaroundDays());
+                    statement.setString(11, sample.getOrigin());
+                    statement.setTimestamp(12, now);
+                    statement.setTimestamp(13, now);
+                    inserted += statement.executeUpdate();
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        keys.next();
+                    }
+                }
+            }
+            return inserted;
+        }));
+    }
+
+    @Benchmark
+    public int batchWriter() {
+        transactionTemplate.executeWithoutResult(status -> writer.insertAll(samples));
+        return samples.size();
+    }
+}
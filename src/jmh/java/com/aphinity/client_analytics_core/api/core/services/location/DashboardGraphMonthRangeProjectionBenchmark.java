@@ -0,0 +1,127 @@
+package com.aphinity.client_analytics_core.api.core.services.location;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former parse-every-point projection, which tried up to four
+ * exception-driven parsers per x value twice per trace, with projecting a
+ * payload whose epoch-day index is built once or already carried.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DashboardGraphMonthRangeProjectionBenchmark {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+    private static final LocalDate ANCHOR_DATE = LocalDate.of(2026, 6, 23);
+
+    @Param({"4"})
+    public int traceCount;
+
+    @Param({"730", "2190"})
+    public int pointsPerTrace;
+
+    @Param({"3", "12"})
+    public int months;
+
+    private List<Map<String, Object>> payload;
+    private DashboardGraphMonthRangePayloadProjector.IndexedPayload indexedPayload;
+    private DashboardGraphMonthRange monthRange;
+
+    @Setup
+    public void buildPayload() {
+        payload = new ArrayList<>();
+        for (int traceIndex = 0; traceIndex < traceCount; traceIndex += 1) {
+            List<Object> x = new ArrayList<>();
+            List<Object> y = new ArrayList<>();
+            for (int pointIndex = 0; pointIndex < pointsPerTrace; pointIndex += 1) {
+                x.add(FIRST_DATE.plusDays(pointIndex).atStartOfDay().toString() + "Z");
+                y.add((double) (pointIndex % 17));
+            }
+            Map<String, Object> trace = new LinkedHashMap<>();
+            trace.put("type", "scatter");
+            trace.put("name", "Trace " + traceIndex);
+            trace.put("x", List.copyOf(x));
+            trace.put("y", List.copyOf(y));
+            payload.add(Map.copyOf(trace));
+        }
+        payload = List.copyOf(payload);
+        indexedPayload = DashboardGraphMonthRangePayloadProjector.IndexedPayload.of(payload);
+        monthRange = new DashboardGraphMonthRange(months);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> legacyParsePerPoint() {
+        LocalDate windowStart = monthRange.dataWindowStartInclusive(ANCHOR_DATE);
+        List<Map<String, Object>> projected = new ArrayList<>(payload.size());
+        for (Map<String, Object> trace : payload) {
+            projected.add(legacyProjectTrace(trace, windowStart));
+        }
+        return projected;
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> indexBuiltPerProjection() {
+        return DashboardGraphMonthRangePayloadProjector.project(payload, monthRange, ANCHOR_DATE);
+    }
+
+    @Benchmark
+    public DashboardGraphMonthRangePayloadProjector.IndexedPayload carriedIndex() {
+        return DashboardGraphMonthRangePayloadProjector.project(indexedPayload, monthRange, ANCHOR_DATE);
+    }
+
+    private static Map<String, Object> legacyProjectTrace(Map<String, Object> trace, LocalDate windowStart) {
+        List<?> xValues = (List<?>) trace.get("x");
+        if (!xValues.stream().allMatch(value -> legacyParseLocalDate(value) != null)) {
+            return trace;
+        }
+        List<?> yValues = (List<?>) trace.get("y");
+        List<Object> filteredXValues = new ArrayList<>();
+        List<Object> filteredYValues = new ArrayList<>();
+        for (int index = 0; index < xValues.size(); index += 1) {
+            LocalDate observedDate = legacyParseLocalDate(xValues.get(index));
+            if (observedDate == null || observedDate.isBefore(windowStart)) {
+                continue;
+            }
+            filteredXValues.add(xValues.get(index));
+            filteredYValues.add(yValues.get(index));
+        }
+        Map<String, Object> filteredTrace = new LinkedHashMap<>(trace);
+        filteredTrace.put("x", List.copyOf(filteredXValues));
+        filteredTrace.put("y", List.copyOf(filteredYValues));
+        return filteredTrace;
+    }
+
+    private static LocalDate legacyParseLocalDate(Object value) {
+        String rawValue = String.valueOf(value).strip();
+        try {
+            return LocalDate.parse(rawValue);
+        } catch (DateTimeParseException ignored) {
+        }
+        try {
+            return OffsetDateTime.parse(rawValue).toLocalDate();
+        } catch (DateTimeParseException ignored) {
+        }
+        try {
+            return LocalDateTime.parse(rawValue).toLocalDate();
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
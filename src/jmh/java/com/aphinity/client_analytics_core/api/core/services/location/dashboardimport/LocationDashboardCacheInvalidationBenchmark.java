@@ -0,0 +1,91 @@
+package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures single-location invalidation latency as the number of resident
+ * locations grows. With the per-location key index the score should stay flat
+ * across {@code locationCount}; a full key scan grows linearly with it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LocationDashboardCacheInvalidationBenchmark {
+    private static final LocalDate ANCHOR_DATE = LocalDate.of(2026, 7, 6);
+    private static final Instant REVISION = Instant.ofEpochSecond(1);
+    private static final DashboardGraphProjection PROJECTION =
+        new DashboardGraphProjection(List.of(Map.of("type", "scatter")), Map.of());
+    private static final LocationDashboardDerivedGraphSupport.HistoricalDerivedData HISTORICAL_DATA =
+        new LocationDashboardDerivedGraphSupport.HistoricalDerivedData(Map.of(), List.of(), List.of());
+
+    @Param({"10", "100", "1000"})
+    public int locationCount;
+
+    @Param({"48"})
+    public int keysPerLocation;
+
+    private LocationDashboardCache cache;
+    private long targetLocationId;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        cache = new LocationDashboardCache(
+            Duration.ofHours(1),
+            Duration.ofHours(1),
+            Duration.ofHours(1),
+            Long.MAX_VALUE,
+            Long.MAX_VALUE,
+            Ticker.systemTicker()
+        );
+        for (long locationId = 1L; locationId <= locationCount; locationId += 1L) {
+            populateLocation(locationId);
+        }
+        targetLocationId = Math.max(1L, locationCount / 2L);
+    }
+
+    @Setup(Level.Invocation)
+    public void repopulateTarget() {
+        populateLocation(targetLocationId);
+    }
+
+    @Benchmark
+    public void invalidateOneLocation() {
+        cache.invalidateLocation(targetLocationId);
+    }
+
+    private void populateLocation(long locationId) {
+        cache.getOrComputeHistoricalData(
+            new LocationDashboardCache.HistoricalDataCacheKey(locationId, REVISION),
+            () -> HISTORICAL_DATA
+        );
+        for (int index = 0; index < keysPerLocation; index += 1) {
+            cache.putGraphProjection(
+                new LocationDashboardCache.GraphProjectionCacheKey(
+                    locationId,
+                    (long) (index % 12) + 1L,
+                    (index / 12) + 1,
+                    ANCHOR_DATE,
+                    REVISION,
+                    REVISION
+                ),
+                PROJECTION
+            );
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Array;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former reflective, identity-tracking weigher with reading the
+ * size recorded on construction. {@code recordSizeOnConstruction} builds the
+ * projection, indexing and sizing each trace in the same pass, so the three
+ * scores together show where the weighing cost moved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LocationDashboardCacheWeigherBenchmark {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 1, 1);
+
+    @Param({"4"})
+    public int traceCount;
+
+    @Param({"90", "730"})
+    public int pointsPerTrace;
+
+    private List<Map<String, Object>> data;
+    private Map<String, Object> layout;
+    private DashboardGraphProjection projection;
+
+    @Setup
+    public void buildPayload() {
+        data = new ArrayList<>();
+        for (int traceIndex = 0; traceIndex < traceCount; traceIndex += 1) {
+            List<Object> x = new ArrayList<>();
+            List<Object> y = new ArrayList<>();
+            List<Object> customdata = new ArrayList<>();
+            for (int pointIndex = 0; pointIndex < pointsPerTrace; pointIndex += 1) {
+                x.add(FIRST_DATE.plusDays(pointIndex).toString());
+                y.add((double) (pointIndex % 17));
+                customdata.add(Map.of("sampleCount", pointIndex % 5, "facility", "Tower " + traceIndex));
+            }
+            Map<String, Object> trace = new LinkedHashMap<>();
+            trace.put("type", "scatter");
+            trace.put("name", "Trace " + traceIndex);
+            trace.put("x", x);
+            trace.put("y", y);
+            trace.put("customdata", customdata);
+            data.add(trace);
+        }
+        layout = Map.of("title", Map.of("text", "Samples"), "xaxis", Map.of("type", "date"));
+        projection = new DashboardGraphProjection(data, layout);
+    }
+
+    @Benchmark
+    public int legacyReflectiveWeigher() {
+        return legacyEstimateWeight(projection);
+    }
+
+    @Benchmark
+    public int recordedSizeWeigher() {
+        return DashboardPayloadWeights.toCacheWeight(projection.approximateSizeBytes());
+    }
+
+    @Benchmark
+    public long recordSizeOnConstruction() {
+        return new DashboardGraphProjection(data, layout).approximateSizeBytes();
+    }
+
+    private static int legacyEstimateWeight(Object value) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        long weight = legacyEstimateValue(value, visited);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1L, weight));
+    }
+
+    private static long legacyEstimateValue(Object value, Set<Object> visited) {
+        if (value == null) {
+            return 8L;
+        }
+        if (value instanceof String stringValue) {
+            return 40L + (long) stringValue.length() * 2L;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return 24L;
+        }
+        if (!visited.add(value)) {
+            return 0L;
+        }
+        if (value instanceof DashboardGraphProjection graphProjection) {
+            return 48L
+                + legacyEstimateValue(graphProjection.data(), visited)
+                + legacyEstimateValue(graphProjection.layout(), visited);
+        }
+        if (value instanceof Map<?, ?> map) {
+            long weight = 48L;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                weight += legacyEstimateValue(entry.getKey(), visited);
+                weight += legacyEstimateValue(entry.getValue(), visited);
+            }
+            return weight;
+        }
+        if (value instanceof Collection<?> collection) {
+            long weight = 32L;
+            for (Object element : collection) {
+                weight += legacyEstimateValue(element, visited);
+            }
+            return weight;
+        }
+        if (value.getClass().isArray()) {
+            long weight = 32L;
+            int length = Array.getLength(value);
+            for (int index = 0; index < length; index += 1) {
+                weight += legacyEstimateValue(Array.get(value, index), visited);
+            }
+            return weight;
+        }
+        return 32L;
+    }
+}
@@ -5,67 +5,189 @@ import com.aphinity.client_analytics_core.api.core.requests.dashboard.LocationGr
 import com.aphinity.client_analytics_core.api.core.requests.dashboard.LocationGraphNameUpdateRequest;
 import com.aphinity.client_analytics_core.api.core.response.dashboard.*;
 import com.aphinity.client_analytics_core.api.core.services.AuthenticatedUserService;
+import com.aphinity.client_analytics_core.api.core.services.location.DashboardGraphETagService;
+import com.aphinity.client_analytics_core.api.core.services.location.DashboardGraphReadRevision;
+import com.aphinity.client_analytics_core.api.core.services.location.DashboardTraceEncoding;
+import com.aphinity.client_analytics_core.api.core.services.location.DashboardTraceFormat;
+import com.aphinity.client_analytics_core.api.core.services.location.GraphResponseJsonCache;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationGraphMutationApplication;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationGraphReadApplication;
+import com.aphinity.client_analytics_core.api.core.services.location.LocationGraphReadPlan;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationGraphTableReadApplication;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationSectionGraphReadApplication;
+import com.aphinity.client_analytics_core.api.error.ResponseStreamAbortedException;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /** HTTP boundary for location graph and section-layout operations. */
 @RestController
 @RequestMapping({"/core", "/api/core"})
 public class LocationGraphController {
+    // Browsers keep the payload but revalidate it with If-None-Match on every read.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final LocationGraphReadApplication graphReader;
     private final LocationSectionGraphReadApplication sectionGraphReader;
     private final LocationGraphTableReadApplication tableReader;
     private final LocationGraphMutationApplication graphMutator;
     private final AuthenticatedUserService authenticatedUserService;
+    private final DashboardGraphETagService eTagService;
+    private final GraphResponseJsonCache graphJsonCache;
 
     public LocationGraphController(
         LocationGraphReadApplication graphReader,
         LocationSectionGraphReadApplication sectionGraphReader,
         LocationGraphTableReadApplication tableReader,
         LocationGraphMutationApplication graphMutator,
-        AuthenticatedUserService authenticatedUserService
+        AuthenticatedUserService authenticatedUserService,
+        DashboardGraphETagService eTagService,
+        GraphResponseJsonCache graphJsonCache
     ) {
         this.graphReader = graphReader;
         this.sectionGraphReader = sectionGraphReader;
         this.tableReader = tableReader;
         this.graphMutator = graphMutator;
         this.authenticatedUserService = authenticatedUserService;
+        this.eTagService = eTagService;
+        this.graphJsonCache = graphJsonCache;
     }
 
+    /**
+     * Streams the location's graphs as one JSON array. Access and the graph
+     * list are resolved in a short read; each graph's payload is then resolved
+     * in its own read just before it is written, or copied from the JSON cache
+     * without resolving it. A failure after the body is committed aborts the
+     * connection rather than completing a truncated array. An optional
+     * {@code maxPoints} reduces long time-series traces server-side.
+     */
     @GetMapping("/locations/{locationId}/graphs")
-    public List<GraphResponse> graphs(
+    public void graphs(
         @AuthenticationPrincipal Jwt jwt, @PathVariable Long locationId,
-        @RequestParam(required = false) Integer monthRange
-    ) {
-        return graphReader.getAccessibleLocationGraphs(userId(jwt), locationId, monthRange);
+        @RequestParam(required = false) Integer monthRange,
+        @RequestParam(name = DashboardTraceFormat.REQUEST_PARAMETER, required = false) String traceFormat,
+        @RequestParam(name = DashboardTraceEncoding.MAX_POINTS_PARAMETER, required = false) Integer maxPoints,
+        @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+        WebRequest request, HttpServletResponse response
+    ) throws IOException {
+        Long userId = userId(jwt);
+        DashboardTraceEncoding encoding = DashboardTraceEncoding.fromRequest(traceFormat, accept, maxPoints);
+        Optional<DashboardGraphReadRevision> revision =
+            eTagService.locationGraphsRevision(userId, locationId, monthRange, encoding);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (revision.isPresent()) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+            if (request.checkNotModified(revision.get().eTag())) {
+                return;
+            }
+        }
+        LocationGraphReadPlan plan = graphReader.planAccessibleLocationGraphs(userId, locationId, monthRange);
+        response.setContentType(encoding.format().mediaType().toString());
+        try {
+            graphJsonCache.writeGraphs(
+                response.getOutputStream(),
+                revision,
+                encoding,
+                plan.graphs(),
+                graph -> graphReader.getPlannedLocationGraph(plan, graph)
+            );
+        } catch (RuntimeException ex) {
+            if (response.isCommitted()) {
+                throw new ResponseStreamAbortedException("Location graph stream aborted", ex);
+            }
+            response.reset();
+            throw ex;
+        }
     }
 
     @GetMapping("/locations/{locationId}/sections/{sectionId}/graphs")
-    public LocationSectionGraphsResponse sectionGraphs(
+    public ResponseEntity<byte[]> sectionGraphs(
         @AuthenticationPrincipal Jwt jwt,
         @PathVariable Long locationId,
         @PathVariable Long sectionId,
-        @RequestParam Integer monthRange
+        @RequestParam(required = false) Integer monthRange,
+        @RequestParam(name = DashboardTraceFormat.REQUEST_PARAMETER, required = false) String traceFormat,
+        @RequestParam(name = DashboardTraceEncoding.MAX_POINTS_PARAMETER, required = false) Integer maxPoints,
+        @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+        WebRequest request
+    ) {
+        Long userId = userId(jwt);
+        DashboardTraceEncoding encoding = DashboardTraceEncoding.fromRequest(traceFormat, accept, maxPoints);
+        Optional<DashboardGraphReadRevision> revision =
+            eTagService.sectionGraphsRevision(userId, locationId, sectionId, monthRange, encoding);
+        return conditional(
+            request,
+            revision,
+            encoding.format().mediaType(),
+            () -> graphJsonCache.encodeSection(
+                revision,
+                encoding,
+                sectionGraphReader.getAccessibleLocationSectionGraphs(userId, locationId, sectionId, monthRange)
+            )
+        );
+    }
+
+    /**
+     * Reads several dashboard sections in one request so their projections
+     * share a single refresh context and historical load.
+     */
+    @GetMapping("/locations/{locationId}/sections/graphs")
+    public ResponseEntity<byte[]> sectionsGraphs(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable Long locationId,
+        @RequestParam(required = false) List<Long> sectionIds,
+        @RequestParam(required = false) Integer monthRange,
+        @RequestParam(name = DashboardTraceFormat.REQUEST_PARAMETER, required = false) String traceFormat,
+        @RequestParam(name = DashboardTraceEncoding.MAX_POINTS_PARAMETER, required = false) Integer maxPoints,
+        @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+        WebRequest request
     ) {
-        return sectionGraphReader.getAccessibleLocationSectionGraphs(userId(jwt), locationId, sectionId, monthRange);
+        Long userId = userId(jwt);
+        DashboardTraceEncoding encoding = DashboardTraceEncoding.fromRequest(traceFormat, accept, maxPoints);
+        Optional<DashboardGraphReadRevision> revision =
+            eTagService.sectionsGraphsRevision(userId, locationId, sectionIds, monthRange, encoding);
+        return conditional(
+            request,
+            revision,
+            encoding.format().mediaType(),
+            () -> graphJsonCache.encodeSections(
+                revision,
+                encoding,
+                sectionGraphReader.getAccessibleLocationSectionsGraphs(userId, locationId, sectionIds, monthRange)
+            )
+        );
     }
 
     @GetMapping("/locations/{locationId}/graphs/{graphId}/table-page")
-    public LocationDashboardTablePageResponse tablePage(
+    public ResponseEntity<LocationDashboardTablePageResponse> tablePage(
         @AuthenticationPrincipal Jwt jwt, @PathVariable Long locationId, @PathVariable Long graphId,
         @RequestParam(required = false) Integer monthRange,
-        @RequestParam(required = false) Integer page, @RequestParam(required = false) Integer size
+        @RequestParam(required = false) Integer page, @RequestParam(required = false) Integer size,
+        @RequestParam(required = false) String cursor,
+        WebRequest request
     ) {
-        return tableReader.getAccessibleLocationGraphTablePage(userId(jwt), locationId, graphId, monthRange, page, size);
+        Long userId = userId(jwt);
+        return conditional(
+            request,
+            eTagService.tablePageRevision(userId, locationId, graphId, monthRange, page, size, cursor),
+            MediaType.APPLICATION_JSON,
+            () -> tableReader.getAccessibleLocationGraphTablePage(
+                userId, locationId, graphId, monthRange, page, size, cursor
+            )
+        );
     }
 
     @PostMapping("/locations/{locationId}/graphs")
@@ -121,6 +243,36 @@ public class LocationGraphController {
         graphMutator.deleteLocationSection(userId(jwt), locationId, sectionId);
     }
 
+    /**
+     * Answers a matching If-None-Match with 304 before the body is built.
+     * Graph bodies arrive pre-encoded from {@link GraphResponseJsonCache} and
+     * are copied to the response stream as-is.
+     */
+    private <T> ResponseEntity<T> conditional(
+        WebRequest request,
+        Optional<DashboardGraphReadRevision> revision,
+        MediaType contentType,
+        Supplier<T> body
+    ) {
+        if (revision.isEmpty()) {
+            return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).contentType(contentType).body(body.get());
+        }
+        String eTag = revision.get().eTag();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+        }
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.ACCEPT)
+            .contentType(contentType)
+            .body(body.get());
+    }
+
     private Long userId(Jwt jwt) {
         return authenticatedUserService.resolveAuthenticatedUserId(jwt);
     }
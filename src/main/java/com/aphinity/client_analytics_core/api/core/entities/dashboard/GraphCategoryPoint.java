@@ -13,7 +13,10 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import org.hibernate.annotations.Immutable;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
@@ -22,6 +25,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Entity
+@Immutable
 @Table(
     name = "graph_category_point",
     indexes = {
@@ -42,6 +46,7 @@ public class GraphCategoryPoint {
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @JoinColumn(name = "graph_trace_id", nullable = false)
     private GraphTrace graphTrace;
 
@@ -1,9 +1,10 @@
 package com.aphinity.client_analytics_core.api.core.entities.dashboard;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Index;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -15,7 +16,9 @@ import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
+import org.hibernate.Length;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -68,22 +71,40 @@ public class GraphTrace {
     @Column(name = "trace_config", columnDefinition = "jsonb", nullable = false)
     private Map<String, Object> traceConfig = new LinkedHashMap<>();
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "point_storage", nullable = false, length = 16)
+    private GraphTracePointStorage pointStorage = GraphTracePointStorage.ROWS;
+
+    @Column(name = "packed_observed_at", length = Length.LONG32)
+    private byte[] packedObservedAt;
+
+    @Column(name = "packed_y_values", length = Length.LONG32)
+    private byte[] packedYValues;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "packed_point_meta", columnDefinition = "jsonb")
+    private Map<String, Object> packedPointMeta;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
-    @OneToMany(mappedBy = "graphTrace", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "graphTrace")
     @OrderBy("pointOrder asc")
     @Fetch(FetchMode.SUBSELECT)
     private List<GraphTimeSeriesPoint> timeSeriesPoints = new ArrayList<>();
 
-    @OneToMany(mappedBy = "graphTrace", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "graphTrace")
     @OrderBy("pointOrder asc")
     @Fetch(FetchMode.SUBSELECT)
     private List<GraphCategoryPoint> categoryPoints = new ArrayList<>();
 
+    /** Point rows are written by the bulk point writer from these changes, not by Hibernate. */
+    @Transient
+    private final GraphTracePointChanges pointChanges = new GraphTracePointChanges();
+
     @PrePersist
     void prePersist() {
         Instant now = Instant.now();
@@ -96,6 +117,9 @@ public class GraphTrace {
         if (traceConfig == null) {
             traceConfig = new LinkedHashMap<>();
         }
+        if (pointStorage == null) {
+            pointStorage = GraphTracePointStorage.ROWS;
+        }
     }
 
     @PreUpdate
@@ -104,6 +128,9 @@ public class GraphTrace {
         if (traceConfig == null) {
             traceConfig = new LinkedHashMap<>();
         }
+        if (pointStorage == null) {
+            pointStorage = GraphTracePointStorage.ROWS;
+        }
     }
 
     public Long getId() {
@@ -170,6 +197,38 @@ public class GraphTrace {
         this.traceConfig = traceConfig == null ? new LinkedHashMap<>() : new LinkedHashMap<>(traceConfig);
     }
 
+    public GraphTracePointStorage getPointStorage() {
+        return pointStorage;
+    }
+
+    public void setPointStorage(GraphTracePointStorage pointStorage) {
+        this.pointStorage = pointStorage;
+    }
+
+    public byte[] getPackedObservedAt() {
+        return packedObservedAt;
+    }
+
+    public void setPackedObservedAt(byte[] packedObservedAt) {
+        this.packedObservedAt = packedObservedAt;
+    }
+
+    public byte[] getPackedYValues() {
+        return packedYValues;
+    }
+
+    public void setPackedYValues(byte[] packedYValues) {
+        this.packedYValues = packedYValues;
+    }
+
+    public Map<String, Object> getPackedPointMeta() {
+        return packedPointMeta;
+    }
+
+    public void setPackedPointMeta(Map<String, Object> packedPointMeta) {
+        this.packedPointMeta = packedPointMeta == null ? null : new LinkedHashMap<>(packedPointMeta);
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -201,4 +260,8 @@ public class GraphTrace {
     public void setCategoryPoints(List<GraphCategoryPoint> categoryPoints) {
         this.categoryPoints = categoryPoints == null ? new ArrayList<>() : new ArrayList<>(categoryPoints);
     }
+
+    public GraphTracePointChanges getPointChanges() {
+        return pointChanges;
+    }
 }
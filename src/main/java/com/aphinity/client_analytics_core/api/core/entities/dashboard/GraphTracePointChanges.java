@@ -0,0 +1,67 @@
+package com.aphinity.client_analytics_core.api.core.entities.dashboard;
+
+import java.util.BitSet;
+
+/**
+ * Point rows of one {@link GraphTrace} that differ from what the trace held
+ * when it was last synced, keyed by point order.
+ *
+ * <p>Point rows are not written through Hibernate. Payload syncs record the
+ * orders they inserted or changed, and whether a point list shrank, so the
+ * bulk point writer only touches those rows.</p>
+ */
+public final class GraphTracePointChanges {
+    private final BitSet timeSeriesOrders = new BitSet();
+    private final BitSet categoryOrders = new BitSet();
+    private boolean timeSeriesChanged;
+    private boolean categoryChanged;
+
+    public void markTimeSeriesPoint(int pointOrder) {
+        timeSeriesOrders.set(pointOrder);
+        timeSeriesChanged = true;
+    }
+
+    public void markCategoryPoint(int pointOrder) {
+        categoryOrders.set(pointOrder);
+        categoryChanged = true;
+    }
+
+    /** Records that trailing time-series rows beyond the current list must be deleted. */
+    public void markTimeSeriesTrimmed() {
+        timeSeriesChanged = true;
+    }
+
+    /** Records that trailing category rows beyond the current list must be deleted. */
+    public void markCategoryTrimmed() {
+        categoryChanged = true;
+    }
+
+    public boolean isTimeSeriesChanged() {
+        return timeSeriesChanged;
+    }
+
+    public boolean isCategoryChanged() {
+        return categoryChanged;
+    }
+
+    public boolean isEmpty() {
+        return !timeSeriesChanged && !categoryChanged;
+    }
+
+    /** Ascending orders of inserted or changed time-series points. */
+    public int[] timeSeriesOrders() {
+        return timeSeriesOrders.stream().toArray();
+    }
+
+    /** Ascending orders of inserted or changed category points. */
+    public int[] categoryOrders() {
+        return categoryOrders.stream().toArray();
+    }
+
+    public void clear() {
+        timeSeriesOrders.clear();
+        categoryOrders.clear();
+        timeSeriesChanged = false;
+        categoryChanged = false;
+    }
+}
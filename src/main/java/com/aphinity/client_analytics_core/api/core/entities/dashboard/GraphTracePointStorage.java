@@ -0,0 +1,9 @@
+package com.aphinity.client_analytics_core.api.core.entities.dashboard;
+
+/** Where a {@link GraphTrace} keeps its points. */
+public enum GraphTracePointStorage {
+    /** One {@code graph_time_series_point} or {@code graph_category_point} row per point. */
+    ROWS,
+    /** Time-series points packed into the trace row's {@code packed_*} columns. */
+    PACKED
+}
@@ -70,6 +70,10 @@ public class LocationDashboardSample {
     @Column(name = "origin", nullable = false, length = 64)
     private String origin;
 
+    /** SHA-256 of the imported fields, compared on re-import to skip unchanged rows. */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
@@ -184,6 +188,14 @@ public class LocationDashboardSample {
         this.origin = origin;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public Instant getCreatedAt() {
         return createdAt;
     }
@@ -45,8 +45,13 @@ public class Location {
     @Column(name = "work_order_email", length = 256)
     private String workOrderEmail;
 
-    @Column(name = "thumbnail")
-    private byte[] thumbnail;
+    /** Byte length of the stored {@link LocationThumbnail} image, or {@code null} when none is stored. */
+    @Column(name = "thumbnail_size")
+    private Integer thumbnailSize;
+
+    /** Lowercase hex SHA-256 of the stored thumbnail image. */
+    @Column(name = "thumbnail_sha256", length = 64)
+    private String thumbnailSha256;
 
     @PrePersist
     void prePersist() {
@@ -126,12 +131,24 @@ public class Location {
         this.workOrderEmail = workOrderEmail;
     }
 
-    public byte[] getThumbnail() {
-        return thumbnail;
+    public Integer getThumbnailSize() {
+        return thumbnailSize;
+    }
+
+    public void setThumbnailSize(Integer thumbnailSize) {
+        this.thumbnailSize = thumbnailSize;
+    }
+
+    public String getThumbnailSha256() {
+        return thumbnailSha256;
+    }
+
+    public void setThumbnailSha256(String thumbnailSha256) {
+        this.thumbnailSha256 = thumbnailSha256;
     }
 
-    public void setThumbnail(byte[] thumbnail) {
-        this.thumbnail = thumbnail;
+    public boolean hasThumbnail() {
+        return thumbnailSize != null && thumbnailSize > 0;
     }
 
     private Map<String, Object> defaultSectionLayout() {
@@ -0,0 +1,154 @@
+package com.aphinity.client_analytics_core.api.core.plotly;
+
+import com.aphinity.client_analytics_core.api.core.services.location.TimeSeriesTraceIndex;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rewrites daily time-series traces into the opt-in compact wire format.
+ *
+ * <p>A scatter trace whose {@code x} values are all ISO dates and whose
+ * {@code y} values are all numbers is sent as a {@value #COMPACT_FIELD}
+ * object instead of its {@code x}, {@code y} and {@code customdata} arrays: a
+ * base date, day offsets from the previous point taken from the trace's
+ * {@link TimeSeriesTraceIndex}, the {@code y} values as a primitive array, and
+ * {@code customdata} as a dictionary of distinct values plus one index per
+ * point. Every other trace passes through untouched, so a decoder only has to
+ * expand that field.</p>
+ */
+public final class CompactTimeSeriesTraceEncoder {
+    public static final String COMPACT_FIELD = "compactTimeSeries";
+
+    private static final String X_FIELD = "x";
+    private static final String Y_FIELD = "y";
+    private static final String CUSTOMDATA_FIELD = "customdata";
+    private static final int ISO_DATE_LENGTH = 10;
+
+    private CompactTimeSeriesTraceEncoder() {
+    }
+
+    public static List<Map<String, Object>> encode(List<Map<String, Object>> traces) {
+        if (traces == null || traces.isEmpty()) {
+            return traces;
+        }
+        List<Map<String, Object>> encoded = new ArrayList<>(traces.size());
+        for (Map<String, Object> trace : traces) {
+            encoded.add(encodeTrace(trace));
+        }
+        return encoded;
+    }
+
+    static Map<String, Object> encodeTrace(Map<String, Object> trace) {
+        TimeSeriesTraceIndex dateIndex = TimeSeriesTraceIndex.of(trace);
+        if (!dateIndex.isTimeSeries()) {
+            return trace;
+        }
+        if (!(trace.get(X_FIELD) instanceof List<?> xValues)
+            || !(trace.get(Y_FIELD) instanceof List<?> yValues)
+            || xValues.size() != yValues.size()
+            || !isIsoDateText(xValues)) {
+            return trace;
+        }
+        Object rawCustomData = trace.get(CUSTOMDATA_FIELD);
+        if (rawCustomData != null
+            && !(rawCustomData instanceof List<?> customData && customData.size() == xValues.size())) {
+            return trace;
+        }
+        Object compactY = primitiveValues(yValues);
+        if (compactY == null) {
+            return trace;
+        }
+
+        int[] dayDeltas = new int[dateIndex.size()];
+        for (int index = 1; index < dayDeltas.length; index += 1) {
+            dayDeltas[index] = dateIndex.epochDayAt(index) - dateIndex.epochDayAt(index - 1);
+        }
+        Map<String, Object> compact = new LinkedHashMap<>();
+        compact.put("baseDate", xValues.getFirst());
+        compact.put("dayDeltas", dayDeltas);
+        compact.put(Y_FIELD, compactY);
+        if (rawCustomData instanceof List<?> customData) {
+            List<Object> dictionary = new ArrayList<>();
+            Map<Object, Integer> dictionaryIndexes = new HashMap<>();
+            int[] indexes = new int[customData.size()];
+            for (int index = 0; index < indexes.length; index += 1) {
+                Object value = customData.get(index);
+                Integer dictionaryIndex = dictionaryIndexes.get(value);
+                if (dictionaryIndex == null) {
+                    dictionaryIndex = dictionary.size();
+                    dictionary.add(value);
+                    dictionaryIndexes.put(value, dictionaryIndex);
+                }
+                indexes[index] = dictionaryIndex;
+            }
+            compact.put("customdataValues", dictionary);
+            compact.put("customdataIndexes", indexes);
+        }
+
+        Map<String, Object> encoded = new LinkedHashMap<>(trace.size());
+        for (Map.Entry<String, Object> entry : trace.entrySet()) {
+            if (!X_FIELD.equals(entry.getKey())
+                && !Y_FIELD.equals(entry.getKey())
+                && !CUSTOMDATA_FIELD.equals(entry.getKey())) {
+                encoded.put(entry.getKey(), entry.getValue());
+            }
+        }
+        encoded.put(COMPACT_FIELD, compact);
+        return encoded;
+    }
+
+    /**
+     * Whether every value is written as {@code yyyy-MM-dd}, so decoding prints
+     * it back identically. The trace index has already validated the dates;
+     * a ten-character value it accepted can only be in that shape.
+     */
+    private static boolean isIsoDateText(List<?> xValues) {
+        for (Object value : xValues) {
+            if (!(value instanceof String text) || text.length() != ISO_DATE_LENGTH) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies the y values into a {@code long[]} when they are all whole
+     * fixed-width numbers, or a {@code double[]} when they are all finite
+     * numbers, so they serialize without boxing.
+     *
+     * @return the primitive array, or {@code null} when a value is missing or
+     *     cannot be represented exactly
+     */
+    private static Object primitiveValues(List<?> yValues) {
+        long[] longValues = new long[yValues.size()];
+        for (int index = 0; index < longValues.length; index += 1) {
+            Object value = yValues.get(index);
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                longValues[index] = ((Number) value).longValue();
+                continue;
+            }
+            return doubleValues(yValues);
+        }
+        return longValues;
+    }
+
+    private static double[] doubleValues(List<?> yValues) {
+        double[] doubleValues = new double[yValues.size()];
+        for (int index = 0; index < doubleValues.length; index += 1) {
+            Object value = yValues.get(index);
+            if (!(value instanceof Number number) || value instanceof BigInteger) {
+                return null;
+            }
+            doubleValues[index] = number.doubleValue();
+            if (!Double.isFinite(doubleValues[index])) {
+                return null;
+            }
+        }
+        return doubleValues;
+    }
+}
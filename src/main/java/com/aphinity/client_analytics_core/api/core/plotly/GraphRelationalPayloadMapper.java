@@ -4,6 +4,9 @@ import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphCategoryPoint;
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTimeSeriesPoint;
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTracePointChanges;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTracePointStorage;
+import com.aphinity.client_analytics_core.api.core.services.location.dashboardimport.DashboardPayloadWeights;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -16,6 +19,8 @@ import java.time.format.ResolverStyle;
 import java.time.format.SignStyle;
 import java.time.temporal.ChronoField;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -107,26 +112,8 @@ public final class GraphRelationalPayloadMapper {
             throw new IllegalArgumentException("Graph is required");
         }
 
-        List<GraphTrace> graphTraces = graph.getGraphTraces();
-        if (graphTraces == null || graphTraces.isEmpty()) {
-            return new GraphPayloadMapper.GraphPayload(
-                List.of(),
-                graph.getLayout(),
-                graph.getConfig(),
-                graph.getStyle()
-            );
-        }
-
-        List<Map<String, Object>> traces = new ArrayList<>();
-        for (GraphTrace graphTrace : graphTraces) {
-            if (graphTrace == null) {
-                continue;
-            }
-            traces.add(toTraceMap(graphTrace));
-        }
-
         return new GraphPayloadMapper.GraphPayload(
-            List.copyOf(traces),
+            toTraceList(graph.getGraphTraces()),
             graph.getLayout(),
             graph.getConfig(),
             graph.getStyle()
@@ -137,6 +124,38 @@ public final class GraphRelationalPayloadMapper {
         return normalize(graph).data();
     }
 
+    /**
+     * Maps traces in list order, whether they are a graph's entities or
+     * detached traces assembled from projected rows.
+     */
+    public static List<Map<String, Object>> toTraceList(List<GraphTrace> graphTraces) {
+        return toSizedTraceList(graphTraces).traces();
+    }
+
+    /**
+     * Maps traces like {@link #toTraceList(List)} and records each trace's
+     * approximate size while its point lists are appended, so cached
+     * projections are weighed without walking the payload afterwards.
+     */
+    public static SizedTraceList toSizedTraceList(List<GraphTrace> graphTraces) {
+        if (graphTraces == null || graphTraces.isEmpty()) {
+            return SizedTraceList.EMPTY;
+        }
+
+        List<Map<String, Object>> traces = new ArrayList<>();
+        List<DashboardPayloadWeights.TraceSize> sizes = new ArrayList<>();
+        for (GraphTrace graphTrace : graphTraces) {
+            if (graphTrace == null) {
+                continue;
+            }
+            TraceSizes traceSizes = new TraceSizes();
+            Map<String, Object> trace = toTraceMap(graphTrace, traceSizes);
+            traces.add(trace);
+            sizes.add(traceSizes.of(trace));
+        }
+        return new SizedTraceList(List.copyOf(traces), List.copyOf(sizes));
+    }
+
     private static GraphTrace buildGraphTrace(
         Graph graph,
         Map<String, Object> trace,
@@ -186,12 +205,26 @@ public final class GraphRelationalPayloadMapper {
         ensureCategoryPoints(graphTrace);
         ensureTimeSeriesPoints(graphTrace);
 
+        List<List<Object>> previousTimeSeriesStates = timeSeriesPointStates(graphTrace);
+        List<List<Object>> previousCategoryStates = categoryPointStates(graphTrace);
+        populatePoints(graphTrace, trace, canonicalType, timeSeriesTrace);
+        recordPointChanges(graphTrace, previousTimeSeriesStates, previousCategoryStates);
+    }
+
+    private static void populatePoints(
+        GraphTrace graphTrace,
+        Map<String, Object> trace,
+        String canonicalType,
+        boolean timeSeriesTrace
+    ) {
         if (timeSeriesTrace) {
             graphTrace.getCategoryPoints().clear();
             populateTimeSeriesPoints(graphTrace, trace);
+            packTimeSeriesPoints(graphTrace);
             return;
         }
 
+        clearPackedPoints(graphTrace);
         graphTrace.getTimeSeriesPoints().clear();
         switch (canonicalType) {
             case "pie" -> populatePiePoints(graphTrace, trace);
@@ -205,7 +238,7 @@ public final class GraphRelationalPayloadMapper {
         }
     }
 
-    private static Map<String, Object> toTraceMap(GraphTrace trace) {
+    private static Map<String, Object> toTraceMap(GraphTrace trace, TraceSizes sizes) {
         Map<String, Object> result = new LinkedHashMap<>();
         if (trace.getTraceConfig() != null) {
             result.putAll(normalizeTraceConfig(trace.getTraceConfig()));
@@ -217,12 +250,14 @@ public final class GraphRelationalPayloadMapper {
             case "pie" -> {
                 List<Object> labels = new ArrayList<>();
                 List<Object> values = new ArrayList<>();
+                long labelBytes = 0L;
+                long valueBytes = 0L;
                 for (GraphCategoryPoint point : filteredCategoryPoints(trace)) {
-                    labels.add(resolveLabelValue(point));
-                    values.add(resolveNumericValue(point.getValueNumeric(), point.getValueText()));
+                    labelBytes += sizedAdd(labels, resolveLabelValue(point));
+                    valueBytes += sizedAdd(values, resolveNumericValue(point.getValueNumeric(), point.getValueText()));
                 }
-                result.put("labels", List.copyOf(labels));
-                result.put("values", List.copyOf(values));
+                sizes.putList(result, "labels", labels, labelBytes);
+                sizes.putList(result, "values", values, valueBytes);
             }
             case "indicator" -> {
                 List<GraphCategoryPoint> points = filteredCategoryPoints(trace);
@@ -237,23 +272,23 @@ public final class GraphRelationalPayloadMapper {
                 List<Object> yValues = new ArrayList<>();
                 List<String> barColors = new ArrayList<>();
                 String orientation = resolveStoredBarOrientation(trace);
+                long xBytes = 0L;
+                long yBytes = 0L;
 
                 for (GraphCategoryPoint point : filteredCategoryPoints(trace)) {
                     if ("v".equals(orientation)) {
-                        xValues.add(resolveLabelValue(point));
-                        yValues.add(resolveNumericValue(point.getValueNumeric(), point.getValueText()));
+                        xBytes += sizedAdd(xValues, resolveLabelValue(point));
+                        yBytes += sizedAdd(yValues, resolveNumericValue(point.getValueNumeric(), point.getValueText()));
                     } else {
-                        xValues.add(resolveNumericValue(point.getValueNumeric(), point.getValueText()));
-                        yValues.add(resolveLabelValue(point));
+                        xBytes += sizedAdd(xValues, resolveNumericValue(point.getValueNumeric(), point.getValueText()));
+                        yBytes += sizedAdd(yValues, resolveLabelValue(point));
                     }
                     barColors.add(resolveBarPointColor(point, trace));
                 }
 
-                result.putAll(Map.of(
-                    "orientation", orientation,
-                    "x", List.copyOf(xValues),
-                    "y", List.copyOf(yValues)
-                ));
+                result.put("orientation", orientation);
+                sizes.putList(result, "x", xValues, xBytes);
+                sizes.putList(result, "y", yValues, yBytes);
                 List<String> normalizedBarColors = normalizeBarColors(barColors);
                 if (!normalizedBarColors.isEmpty()) {
                     Map<String, Object> marker = extractTraceMarker(result);
@@ -267,29 +302,32 @@ public final class GraphRelationalPayloadMapper {
                 List<Object> yValues = new ArrayList<>();
                 List<Object> customDataValues = new ArrayList<>();
                 boolean hasPointCustomData = false;
+                long xBytes = 0L;
+                long yBytes = 0L;
+                long customDataBytes = 0L;
 
                 if ("time_series".equals(trace.getDataMode())) {
                     for (GraphTimeSeriesPoint point : filteredTimeSeriesPoints(trace)) {
                         Map<String, Object> pointMeta = point.getPointMeta();
-                        xValues.add(resolveXValue(pointMeta, point.getObservedAt()));
-                        yValues.add(resolveNumericValue(point.getYNumeric(), point.getYText()));
+                        xBytes += sizedAdd(xValues, resolveXValue(pointMeta, point.getObservedAt()));
+                        yBytes += sizedAdd(yValues, resolveNumericValue(point.getYNumeric(), point.getYText()));
                         Object customData = pointMeta == null ? null : pointMeta.get(INTERNAL_CUSTOMDATA_FIELD);
-                        customDataValues.add(normalizeJsonValue(customData));
+                        customDataBytes += sizedAdd(customDataValues, normalizeJsonValue(customData));
                         if (customData != null) {
                             hasPointCustomData = true;
                         }
                     }
                 } else {
                     for (GraphCategoryPoint point : filteredCategoryPoints(trace)) {
-                        xValues.add(resolveCategoricalScatterXValue(point));
-                        yValues.add(resolveNumericValue(point.getValueNumeric(), point.getValueText()));
+                        xBytes += sizedAdd(xValues, resolveCategoricalScatterXValue(point));
+                        yBytes += sizedAdd(yValues, resolveNumericValue(point.getValueNumeric(), point.getValueText()));
                     }
                 }
 
-                result.put("x", List.copyOf(xValues));
-                result.put("y", List.copyOf(yValues));
+                sizes.putList(result, "x", xValues, xBytes);
+                sizes.putList(result, "y", yValues, yBytes);
                 if (hasPointCustomData) {
-                    result.put(INTERNAL_CUSTOMDATA_FIELD, List.copyOf(customDataValues));
+                    sizes.putList(result, INTERNAL_CUSTOMDATA_FIELD, customDataValues, customDataBytes);
                 }
             }
             case "table" -> {
@@ -326,24 +364,28 @@ public final class GraphRelationalPayloadMapper {
                 List<Object> values = new ArrayList<>();
                 List<String> colors = new ArrayList<>();
                 boolean hasPointColors = false;
+                long idBytes = 0L;
+                long labelBytes = 0L;
+                long parentBytes = 0L;
+                long valueBytes = 0L;
 
                 for (GraphCategoryPoint point : filteredCategoryPoints(trace)) {
-                    ids.add(point.getCategoryKey());
-                    labels.add(resolveLabelValue(point));
-                    values.add(resolveNumericValue(point.getValueNumeric(), point.getValueText()));
+                    idBytes += sizedAdd(ids, point.getCategoryKey());
+                    labelBytes += sizedAdd(labels, resolveLabelValue(point));
+                    valueBytes += sizedAdd(values, resolveNumericValue(point.getValueNumeric(), point.getValueText()));
 
                     Map<String, Object> pointMeta = point.getPointMeta();
-                    parents.add(pointMeta == null ? "" : pointMeta.getOrDefault(INTERNAL_PARENT_FIELD, ""));
+                    parentBytes += sizedAdd(parents, pointMeta == null ? "" : pointMeta.getOrDefault(INTERNAL_PARENT_FIELD, ""));
                     Object rawColor = pointMeta == null ? null : pointMeta.get(INTERNAL_COLOR_FIELD);
                     String color = rawColor instanceof String pointColor ? pointColor : "";
                     colors.add(color);
                     hasPointColors |= !color.isBlank();
                 }
 
-                result.put("ids", List.copyOf(ids));
-                result.put("labels", List.copyOf(labels));
-                result.put("parents", List.copyOf(parents));
-                result.put("values", List.copyOf(values));
+                sizes.putList(result, "ids", ids, idBytes);
+                sizes.putList(result, "labels", labels, labelBytes);
+                sizes.putList(result, "parents", parents, parentBytes);
+                sizes.putList(result, "values", values, valueBytes);
                 if (hasPointColors) {
                     Map<String, Object> marker = extractTraceMarker(result);
                     marker.put("colors", List.copyOf(colors));
@@ -358,6 +400,46 @@ public final class GraphRelationalPayloadMapper {
         return result;
     }
 
+    private static long sizedAdd(List<Object> values, Object value) {
+        values.add(value);
+        return DashboardPayloadWeights.ofPoint(value);
+    }
+
+    /**
+     * Point list sizes summed while {@link #toTraceMap} appends to them. The
+     * remaining entries (trace config, type, name, markers, table cells) are
+     * opaque and sized by value once the trace is complete.
+     */
+    private static final class TraceSizes {
+        private final Map<String, Long> listSizes = new HashMap<>();
+
+        void putList(Map<String, Object> trace, String key, List<Object> values, long elementBytes) {
+            trace.put(key, List.copyOf(values));
+            listSizes.put(key, DashboardPayloadWeights.ofPointList(key) + elementBytes);
+        }
+
+        DashboardPayloadWeights.TraceSize of(Map<String, Object> trace) {
+            long fieldBytes = DashboardPayloadWeights.ofTraceShell();
+            long pointBytes = 0L;
+            for (Map.Entry<String, Object> entry : trace.entrySet()) {
+                Long listSize = listSizes.get(entry.getKey());
+                if (listSize == null) {
+                    fieldBytes += DashboardPayloadWeights.ofTraceField(entry.getKey(), entry.getValue());
+                } else if (DashboardPayloadWeights.TraceSize.isPointField(entry.getKey())) {
+                    pointBytes += listSize;
+                } else {
+                    fieldBytes += listSize;
+                }
+            }
+            return new DashboardPayloadWeights.TraceSize(fieldBytes, pointBytes);
+        }
+    }
+
+    /** Mapped traces with the size recorded for each while it was built. */
+    public record SizedTraceList(List<Map<String, Object>> traces, List<DashboardPayloadWeights.TraceSize> sizes) {
+        static final SizedTraceList EMPTY = new SizedTraceList(List.of(), List.of());
+    }
+
     private static void populatePiePoints(GraphTrace graphTrace, Map<String, Object> trace) {
         List<?> labels = optionalList(trace, "labels");
         if (labels == null) {
@@ -925,6 +1007,117 @@ public final class GraphRelationalPayloadMapper {
         }
     }
 
+    /**
+     * Time-series points with an observation time for every point are kept in
+     * the trace's packed columns, so their point rows are dropped. Traces
+     * still stored as rows move to packed storage here, on their next sync.
+     */
+    private static void packTimeSeriesPoints(GraphTrace graphTrace) {
+        List<GraphTimeSeriesPoint> points = graphTrace.getTimeSeriesPoints();
+        if (!PackedTimeSeriesPoints.canPack(points)) {
+            clearPackedPoints(graphTrace);
+            return;
+        }
+        PackedTimeSeriesPoints.pack(graphTrace, points);
+        graphTrace.setPointStorage(GraphTracePointStorage.PACKED);
+        points.clear();
+    }
+
+    /**
+     * Moves a time-series trace still stored as point rows into packed storage
+     * without a payload sync, and records its rows for deletion by the bulk
+     * point writer. The trace's payload is unchanged.
+     *
+     * @return whether the trace was packed; traces already packed, not time
+     *     series, or with a point lacking an observation time are left as is
+     */
+    public static boolean packRowStoredTimeSeries(GraphTrace graphTrace) {
+        if (graphTrace == null
+            || graphTrace.getPointStorage() == GraphTracePointStorage.PACKED
+            || !"time_series".equals(graphTrace.getDataMode())) {
+            return false;
+        }
+        List<GraphTimeSeriesPoint> points = filteredTimeSeriesPoints(graphTrace);
+        if (points.isEmpty() || !PackedTimeSeriesPoints.canPack(points)) {
+            return false;
+        }
+        PackedTimeSeriesPoints.pack(graphTrace, points);
+        graphTrace.setPointStorage(GraphTracePointStorage.PACKED);
+        graphTrace.getTimeSeriesPoints().clear();
+        graphTrace.getPointChanges().markTimeSeriesTrimmed();
+        return true;
+    }
+
+    private static void clearPackedPoints(GraphTrace graphTrace) {
+        graphTrace.setPointStorage(GraphTracePointStorage.ROWS);
+        graphTrace.setPackedObservedAt(null);
+        graphTrace.setPackedYValues(null);
+        graphTrace.setPackedPointMeta(null);
+    }
+
+    /**
+     * Marks every point order whose row must be inserted or rewritten, and
+     * every point list that shrank, on the trace's
+     * {@link GraphTrace#getPointChanges() pending point changes}.
+     */
+    private static void recordPointChanges(
+        GraphTrace graphTrace,
+        List<List<Object>> previousTimeSeriesStates,
+        List<List<Object>> previousCategoryStates
+    ) {
+        GraphTracePointChanges changes = graphTrace.getPointChanges();
+        List<List<Object>> timeSeriesStates = timeSeriesPointStates(graphTrace);
+        for (int index = 0; index < timeSeriesStates.size(); index++) {
+            if (index >= previousTimeSeriesStates.size()
+                || !timeSeriesStates.get(index).equals(previousTimeSeriesStates.get(index))) {
+                changes.markTimeSeriesPoint(index);
+            }
+        }
+        if (timeSeriesStates.size() < previousTimeSeriesStates.size()) {
+            changes.markTimeSeriesTrimmed();
+        }
+
+        List<List<Object>> categoryStates = categoryPointStates(graphTrace);
+        for (int index = 0; index < categoryStates.size(); index++) {
+            if (index >= previousCategoryStates.size()
+                || !categoryStates.get(index).equals(previousCategoryStates.get(index))) {
+                changes.markCategoryPoint(index);
+            }
+        }
+        if (categoryStates.size() < previousCategoryStates.size()) {
+            changes.markCategoryTrimmed();
+        }
+    }
+
+    private static List<List<Object>> timeSeriesPointStates(GraphTrace graphTrace) {
+        List<List<Object>> states = new ArrayList<>(graphTrace.getTimeSeriesPoints().size());
+        for (GraphTimeSeriesPoint point : graphTrace.getTimeSeriesPoints()) {
+            states.add(Arrays.asList(
+                point.getPointOrder(),
+                point.getObservedAt(),
+                point.getYNumeric(),
+                point.getYText(),
+                point.getPointMeta() == null ? null : new LinkedHashMap<>(point.getPointMeta())
+            ));
+        }
+        return states;
+    }
+
+    private static List<List<Object>> categoryPointStates(GraphTrace graphTrace) {
+        List<List<Object>> states = new ArrayList<>(graphTrace.getCategoryPoints().size());
+        for (GraphCategoryPoint point : graphTrace.getCategoryPoints()) {
+            states.add(Arrays.asList(
+                point.getPointOrder(),
+                point.getCategoryKey(),
+                point.getCategoryLabel(),
+                point.getValueNumeric(),
+                point.getValueText(),
+                point.getPointMeta() == null ? null : new LinkedHashMap<>(point.getPointMeta())
+            ));
+        }
+        return states;
+    }
+
     private static GraphCategoryPoint categoryPointAt(GraphTrace graphTrace, int index) {
         List<GraphCategoryPoint> points = graphTrace.getCategoryPoints();
         while (points.size() <= index) {
@@ -961,7 +1154,22 @@ public final class GraphRelationalPayloadMapper {
             .toList();
     }
 
+    /**
+     * Returns a trace's time-series points whichever
+     * {@link GraphTracePointStorage} holds them. Packed points are detached
+     * copies in point order; changes to them are not persisted.
+     */
+    public static List<GraphTimeSeriesPoint> timeSeriesPoints(GraphTrace trace) {
+        if (trace.getPointStorage() == GraphTracePointStorage.PACKED) {
+            return PackedTimeSeriesPoints.unpack(trace);
+        }
+        return trace.getTimeSeriesPoints();
+    }
+
     private static List<GraphTimeSeriesPoint> filteredTimeSeriesPoints(GraphTrace trace) {
+        if (trace.getPointStorage() == GraphTracePointStorage.PACKED) {
+            return PackedTimeSeriesPoints.unpack(trace);
+        }
         if (trace.getTimeSeriesPoints() == null || trace.getTimeSeriesPoints().isEmpty()) {
             return List.of();
         }
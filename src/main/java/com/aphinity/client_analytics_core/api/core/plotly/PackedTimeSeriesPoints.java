@@ -0,0 +1,228 @@
+package com.aphinity.client_analytics_core.api.core.plotly;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTimeSeriesPoint;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Packs a time-series trace's points into three trace columns instead of one
+ * row per point.
+ *
+ * <p>{@code packed_observed_at} holds the point count followed by each
+ * observation's epoch milliseconds as a zigzag varint delta from the previous
+ * point. {@code packed_y_values} holds each y value's scale and unscaled value
+ * as varints, falling back to two's-complement bytes past the {@code long}
+ * range, so decimals round-trip exactly. {@code packed_point_meta} keeps only
+ * what cannot be derived: the raw {@code x} values when any differs from its
+ * observation's ISO date or instant, and {@code customdata} as a dictionary of
+ * distinct values plus one index per point, {@code -1} where a point has none.</p>
+ */
+final class PackedTimeSeriesPoints {
+    static final String X_FIELD = "x";
+    static final String CUSTOMDATA_VALUES_FIELD = "customdataValues";
+    static final String CUSTOMDATA_INDEXES_FIELD = "customdataIndexes";
+
+    private static final String CUSTOMDATA_FIELD = "customdata";
+
+    private PackedTimeSeriesPoints() {
+    }
+
+    /** Whether every point has an observation time, which packing requires. */
+    static boolean canPack(List<GraphTimeSeriesPoint> points) {
+        for (GraphTimeSeriesPoint point : points) {
+            if (point == null || point.getObservedAt() == null || point.getYNumeric() == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Writes {@code points}, ordered by point order, into the trace's packed columns. */
+    static void pack(GraphTrace trace, List<GraphTimeSeriesPoint> points) {
+        ByteArrayOutputStream observedAt = new ByteArrayOutputStream(points.size() * 4 + 5);
+        ByteArrayOutputStream yValues = new ByteArrayOutputStream(points.size() * 3);
+        writeVarint(observedAt, points.size());
+
+        List<Object> xValues = new ArrayList<>(points.size());
+        boolean xDerivable = true;
+        List<Object> customDataValues = new ArrayList<>();
+        Map<Object, Integer> customDataIndexes = new HashMap<>();
+        int[] indexes = new int[points.size()];
+        boolean hasCustomData = false;
+        long previousMillis = 0L;
+        for (int index = 0; index < points.size(); index += 1) {
+            GraphTimeSeriesPoint point = points.get(index);
+            long millis = point.getObservedAt().toEpochMilli();
+            writeVarint(observedAt, zigzag(millis - previousMillis));
+            previousMillis = millis;
+            writeDecimal(yValues, point.getYNumeric());
+
+            Map<String, Object> pointMeta = point.getPointMeta() == null ? Map.of() : point.getPointMeta();
+            Object rawX = pointMeta.containsKey(X_FIELD) ? pointMeta.get(X_FIELD) : point.getObservedAt();
+            xValues.add(rawX);
+            xDerivable = xDerivable && derivedX(point.getObservedAt()).equals(rawX);
+
+            Object customData = pointMeta.get(CUSTOMDATA_FIELD);
+            if (customData == null) {
+                indexes[index] = -1;
+                continue;
+            }
+            hasCustomData = true;
+            Integer dictionaryIndex = customDataIndexes.get(customData);
+            if (dictionaryIndex == null) {
+                dictionaryIndex = customDataValues.size();
+                customDataValues.add(customData);
+                customDataIndexes.put(customData, dictionaryIndex);
+            }
+            indexes[index] = dictionaryIndex;
+        }
+
+        Map<String, Object> packedMeta = new LinkedHashMap<>();
+        if (!xDerivable) {
+            packedMeta.put(X_FIELD, xValues);
+        }
+        if (hasCustomData) {
+            packedMeta.put(CUSTOMDATA_VALUES_FIELD, customDataValues);
+            packedMeta.put(CUSTOMDATA_INDEXES_FIELD, Arrays.stream(indexes).boxed().toList());
+        }
+        trace.setPackedObservedAt(observedAt.toByteArray());
+        trace.setPackedYValues(yValues.toByteArray());
+        trace.setPackedPointMeta(packedMeta.isEmpty() ? null : packedMeta);
+    }
+
+    /**
+     * Expands the trace's packed columns into detached points carrying the
+     * same values and point metadata that point rows would.
+     */
+    static List<GraphTimeSeriesPoint> unpack(GraphTrace trace) {
+        byte[] observedAt = trace.getPackedObservedAt();
+        byte[] yValues = trace.getPackedYValues();
+        if (observedAt == null || yValues == null) {
+            return List.of();
+        }
+        Reader observedReader = new Reader(observedAt);
+        Reader yReader = new Reader(yValues);
+        int pointCount = (int) observedReader.readVarint();
+        Map<String, Object> packedMeta = trace.getPackedPointMeta() == null ? Map.of() : trace.getPackedPointMeta();
+        List<?> xValues = packedMeta.get(X_FIELD) instanceof List<?> values ? values : null;
+        List<?> customDataValues = packedMeta.get(CUSTOMDATA_VALUES_FIELD) instanceof List<?> values ? values : null;
+        List<?> customDataIndexes = packedMeta.get(CUSTOMDATA_INDEXES_FIELD) instanceof List<?> values ? values : null;
+
+        List<GraphTimeSeriesPoint> points = new ArrayList<>(pointCount);
+        long millis = 0L;
+        for (int index = 0; index < pointCount; index += 1) {
+            millis += unzigzag(observedReader.readVarint());
+            Instant observed = Instant.ofEpochMilli(millis);
+            Map<String, Object> pointMeta = new LinkedHashMap<>();
+            pointMeta.put(X_FIELD, xValues == null ? derivedX(observed) : xValues.get(index));
+            if (customDataValues != null && customDataIndexes != null
+                && customDataIndexes.get(index) instanceof Number dictionaryIndex
+                && dictionaryIndex.intValue() >= 0) {
+                pointMeta.put(CUSTOMDATA_FIELD, customDataValues.get(dictionaryIndex.intValue()));
+            }
+
+            GraphTimeSeriesPoint point = new GraphTimeSeriesPoint();
+            point.setGraphTrace(trace);
+            point.setPointOrder(index);
+            point.setObservedAt(observed);
+            point.setYNumeric(yReader.readDecimal());
+            point.setPointMeta(pointMeta);
+            points.add(point);
+        }
+        return points;
+    }
+
+    /** The ISO date of a midnight-UTC observation, otherwise its ISO instant. */
+    private static String derivedX(Instant observedAt) {
+        LocalDate date = LocalDate.ofInstant(observedAt, ZoneOffset.UTC);
+        if (date.atStartOfDay(ZoneOffset.UTC).toInstant().equals(observedAt)) {
+            return date.toString();
+        }
+        return observedAt.toString();
+    }
+
+    /**
+     * Writes {@code zigzag(scale) << 1 | wide} and then either the zigzag
+     * unscaled value or, when {@code wide}, its byte length and bytes.
+     */
+    private static void writeDecimal(ByteArrayOutputStream output, BigDecimal value) {
+        BigInteger unscaled = value.unscaledValue();
+        boolean wide = unscaled.bitLength() > 62;
+        writeVarint(output, zigzag(value.scale()) << 1 | (wide ? 1L : 0L));
+        if (!wide) {
+            writeVarint(output, zigzag(unscaled.longValue()));
+            return;
+        }
+        byte[] bytes = unscaled.toByteArray();
+        writeVarint(output, bytes.length);
+        output.writeBytes(bytes);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream output, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            output.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private long readVarint() {
+            long value = 0L;
+            int shift = 0;
+            while (true) {
+                if (position >= bytes.length || shift > 63) {
+                    throw new IllegalStateException("Packed time-series points are corrupt");
+                }
+                byte next = bytes[position++];
+                value |= (long) (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+
+        private BigDecimal readDecimal() {
+            long header = readVarint();
+            int scale = (int) unzigzag(header >>> 1);
+            if ((header & 1L) == 0L) {
+                return BigDecimal.valueOf(unzigzag(readVarint()), scale);
+            }
+            int length = (int) readVarint();
+            if (length <= 0 || position + length > bytes.length) {
+                throw new IllegalStateException("Packed time-series points are corrupt");
+            }
+            byte[] unscaled = Arrays.copyOfRange(bytes, position, position + length);
+            position += length;
+            return new BigDecimal(new BigInteger(unscaled), scale);
+        }
+    }
+}
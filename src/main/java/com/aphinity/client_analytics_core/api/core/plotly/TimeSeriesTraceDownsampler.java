@@ -0,0 +1,184 @@
+package com.aphinity.client_analytics_core.api.core.plotly;
+
+import com.aphinity.client_analytics_core.api.core.services.location.TimeSeriesTraceIndex;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reduces long time-series traces with Largest-Triangle-Three-Buckets.
+ *
+ * <p>Only scatter and scattergl traces whose {@code x} values are ascending
+ * dates or timestamps, read with the same non-throwing parser as
+ * {@link TimeSeriesTraceIndex}, and whose {@code y} values are all numbers
+ * are reduced. Every
+ * other per-point array on the trace or its {@code marker}, such as
+ * {@code customdata}, {@code text} or {@code hovertext}, keeps the entries of
+ * the retained points so hover metadata stays aligned. Traces already within
+ * the limit, or that do not qualify, pass through untouched.</p>
+ */
+public final class TimeSeriesTraceDownsampler {
+    public static final int MIN_MAX_POINTS = 3;
+
+    private static final String X_FIELD = "x";
+    private static final String Y_FIELD = "y";
+    private static final String MARKER_FIELD = "marker";
+
+    private TimeSeriesTraceDownsampler() {
+    }
+
+    public static List<Map<String, Object>> downsample(List<Map<String, Object>> traces, int maxPoints) {
+        if (traces == null || traces.isEmpty()) {
+            return traces;
+        }
+        List<Map<String, Object>> downsampled = new ArrayList<>(traces.size());
+        for (Map<String, Object> trace : traces) {
+            downsampled.add(downsampleTrace(trace, maxPoints));
+        }
+        return downsampled;
+    }
+
+    static Map<String, Object> downsampleTrace(Map<String, Object> trace, int maxPoints) {
+        int threshold = Math.max(MIN_MAX_POINTS, maxPoints);
+        if (trace == null || !TimeSeriesTraceIndex.isScatterTrace(trace.get("type"))) {
+            return trace;
+        }
+        if (!(trace.get(X_FIELD) instanceof List<?> xValues)
+            || !(trace.get(Y_FIELD) instanceof List<?> yValues)
+            || xValues.size() != yValues.size()
+            || xValues.size() <= threshold) {
+            return trace;
+        }
+        double[] x = epochMillis(xValues);
+        double[] y = numbers(yValues);
+        if (x == null || y == null) {
+            return trace;
+        }
+
+        int[] retained = largestTriangleThreeBuckets(x, y, threshold);
+        int pointCount = xValues.size();
+        Map<String, Object> downsampled = new LinkedHashMap<>(trace.size());
+        for (Map.Entry<String, Object> entry : trace.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof List<?> values && values.size() == pointCount) {
+                downsampled.put(entry.getKey(), retain(values, retained));
+            } else if (MARKER_FIELD.equals(entry.getKey()) && value instanceof Map<?, ?> marker) {
+                downsampled.put(entry.getKey(), retainMarker(marker, pointCount, retained));
+            } else {
+                downsampled.put(entry.getKey(), value);
+            }
+        }
+        return downsampled;
+    }
+
+    /**
+     * Selects {@code threshold} point indexes, always keeping the first and
+     * last point. The remaining points are split into equal buckets and each
+     * keeps the point forming the largest triangle with the previously kept
+     * point and the average of the next bucket.
+     *
+     * @return ascending retained indexes
+     */
+    static int[] largestTriangleThreeBuckets(double[] x, double[] y, int threshold) {
+        int pointCount = x.length;
+        if (threshold >= pointCount || threshold < MIN_MAX_POINTS) {
+            int[] all = new int[pointCount];
+            for (int index = 0; index < pointCount; index += 1) {
+                all[index] = index;
+            }
+            return all;
+        }
+
+        int[] retained = new int[threshold];
+        double bucketSize = (double) (pointCount - 2) / (threshold - 2);
+        int previous = 0;
+        retained[0] = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket += 1) {
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, pointCount);
+            double averageX = 0d;
+            double averageY = 0d;
+            for (int index = nextStart; index < nextEnd; index += 1) {
+                averageX += x[index];
+                averageY += y[index];
+            }
+            int nextCount = nextEnd - nextStart;
+            averageX /= nextCount;
+            averageY /= nextCount;
+
+            int bucketStart = (int) Math.floor(bucket * bucketSize) + 1;
+            int bucketEnd = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double largestArea = -1d;
+            int selected = bucketStart;
+            for (int index = bucketStart; index < bucketEnd; index += 1) {
+                double area = Math.abs(
+                    (x[previous] - averageX) * (y[index] - y[previous])
+                        - (x[previous] - x[index]) * (averageY - y[previous])
+                );
+                if (area > largestArea) {
+                    largestArea = area;
+                    selected = index;
+                }
+            }
+            retained[bucket + 1] = selected;
+            previous = selected;
+        }
+        retained[threshold - 1] = pointCount - 1;
+        return retained;
+    }
+
+    private static Map<String, Object> retainMarker(Map<?, ?> marker, int pointCount, int[] retained) {
+        Map<String, Object> downsampled = new LinkedHashMap<>(marker.size());
+        for (Map.Entry<?, ?> entry : marker.entrySet()) {
+            Object value = entry.getValue();
+            downsampled.put(
+                String.valueOf(entry.getKey()),
+                value instanceof List<?> values && values.size() == pointCount ? retain(values, retained) : value
+            );
+        }
+        return downsampled;
+    }
+
+    private static List<Object> retain(List<?> values, int[] retained) {
+        List<Object> kept = new ArrayList<>(retained.length);
+        for (int index : retained) {
+            kept.add(values.get(index));
+        }
+        return kept;
+    }
+
+    /**
+     * Returns epoch milliseconds for each value, or {@code null} unless every
+     * value is a date or timestamp and they never decrease.
+     */
+    private static double[] epochMillis(List<?> xValues) {
+        double[] epochMillis = new double[xValues.size()];
+        for (int index = 0; index < epochMillis.length; index += 1) {
+            long epochMilli = TimeSeriesTraceIndex.parseEpochMillis(xValues.get(index));
+            if (epochMilli == Long.MIN_VALUE) {
+                return null;
+            }
+            epochMillis[index] = epochMilli;
+            if (index > 0 && epochMillis[index] < epochMillis[index - 1]) {
+                return null;
+            }
+        }
+        return epochMillis;
+    }
+
+    private static double[] numbers(List<?> yValues) {
+        double[] numbers = new double[yValues.size()];
+        for (int index = 0; index < numbers.length; index += 1) {
+            if (!(yValues.get(index) instanceof Number number)) {
+                return null;
+            }
+            numbers[index] = number.doubleValue();
+            if (!Double.isFinite(numbers[index])) {
+                return null;
+            }
+        }
+        return numbers;
+    }
+}
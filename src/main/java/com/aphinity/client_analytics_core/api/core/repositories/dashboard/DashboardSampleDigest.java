@@ -0,0 +1,13 @@
+package com.aphinity.client_analytics_core.api.core.repositories.dashboard;
+
+/**
+ * Stored identity and content hash of one dashboard sample row, enough to
+ * diff a re-import against the table without loading sample values.
+ */
+public interface DashboardSampleDigest {
+    Long getId();
+
+    String getSampleIdentity();
+
+    String getContentHash();
+}
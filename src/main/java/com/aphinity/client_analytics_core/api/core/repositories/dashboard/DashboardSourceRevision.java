@@ -0,0 +1,13 @@
+package com.aphinity.client_analytics_core.api.core.repositories.dashboard;
+
+import java.time.Instant;
+
+/**
+ * Row count and latest update time of the rows a location dashboard is derived
+ * from. Together they change whenever a row is added, edited or deleted.
+ */
+public interface DashboardSourceRevision {
+    long getRowCount();
+
+    Instant getLatestUpdatedAt();
+}
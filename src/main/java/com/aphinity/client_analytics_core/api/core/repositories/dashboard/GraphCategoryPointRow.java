@@ -0,0 +1,16 @@
+package com.aphinity.client_analytics_core.api.core.repositories.dashboard;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/** Columns of one category point row, keyed by its trace. */
+public record GraphCategoryPointRow(
+    Long traceId,
+    int pointOrder,
+    String categoryKey,
+    String categoryLabel,
+    BigDecimal valueNumeric,
+    String valueText,
+    Map<String, Object> pointMeta
+) {
+}
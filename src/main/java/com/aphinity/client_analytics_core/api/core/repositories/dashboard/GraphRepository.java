@@ -1,7 +1,9 @@
 package com.aphinity.client_analytics_core.api.core.repositories.dashboard;
 
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTracePointStorage;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -36,4 +38,30 @@ public interface GraphRepository extends JpaRepository<Graph, Long> {
         @Param("locationId") Long locationId,
         @Param("graphId") Long graphId
     );
+
+    /**
+     * Ids of graphs, after the given id, with a time-series trace still stored
+     * in the given point storage, in ascending order.
+     */
+    @Query("""
+        select distinct graph.id from Graph graph
+        join graph.graphTraces graphTrace
+        where graphTrace.pointStorage = :pointStorage
+          and graphTrace.dataMode = 'time_series'
+          and graph.id > :afterGraphId
+        order by graph.id asc
+        """)
+    List<Long> findIdsWithTimeSeriesTracesStoredAs(
+        @Param("pointStorage") GraphTracePointStorage pointStorage,
+        @Param("afterGraphId") long afterGraphId,
+        Limit limit
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select graph from Graph graph
+        where graph.id in :graphIds
+        order by graph.id asc
+        """)
+    List<Graph> findByIdInForUpdate(@Param("graphIds") Collection<Long> graphIds);
 }
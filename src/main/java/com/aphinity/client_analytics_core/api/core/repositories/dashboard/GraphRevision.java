@@ -0,0 +1,12 @@
+package com.aphinity.client_analytics_core.api.core.repositories.dashboard;
+
+import java.time.Instant;
+
+/**
+ * Id and last update time of a graph, loaded without its payload.
+ */
+public interface GraphRevision {
+    Long getGraphId();
+
+    Instant getUpdatedAt();
+}
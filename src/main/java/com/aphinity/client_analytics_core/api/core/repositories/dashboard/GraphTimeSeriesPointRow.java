@@ -0,0 +1,16 @@
+package com.aphinity.client_analytics_core.api.core.repositories.dashboard;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+/** Columns of one time-series point row, keyed by its trace. */
+public record GraphTimeSeriesPointRow(
+    Long traceId,
+    int pointOrder,
+    Instant observedAt,
+    BigDecimal yNumeric,
+    String yText,
+    Map<String, Object> pointMeta
+) {
+}
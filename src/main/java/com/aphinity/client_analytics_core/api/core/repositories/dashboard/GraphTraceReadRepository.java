@@ -0,0 +1,77 @@
+package com.aphinity.client_analytics_core.api.core.repositories.dashboard;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read-only access to graph traces and their points as flat rows. Rows are
+ * constructor results, so nothing is added to the persistence context or
+ * dirty-checked. Point streams must be consumed and closed inside a
+ * transaction.
+ */
+public interface GraphTraceReadRepository extends Repository<GraphTrace, Long> {
+    @Query("""
+        select new com.aphinity.client_analytics_core.api.core.repositories.dashboard.GraphTraceRow(
+            trace.graph.id,
+            trace.id,
+            trace.traceKey,
+            trace.traceName,
+            trace.traceType,
+            trace.dataMode,
+            trace.traceOrder,
+            trace.traceConfig,
+            trace.pointStorage,
+            trace.packedObservedAt,
+            trace.packedYValues,
+            trace.packedPointMeta
+        )
+        from GraphTrace trace
+        where trace.graph.id in :graphIds
+        order by trace.graph.id asc, trace.traceOrder asc, trace.id asc
+        """)
+    List<GraphTraceRow> findTraceRowsByGraphIdIn(@Param("graphIds") Collection<Long> graphIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new com.aphinity.client_analytics_core.api.core.repositories.dashboard.GraphTimeSeriesPointRow(
+            trace.id,
+            point.pointOrder,
+            point.observedAt,
+            point.yNumeric,
+            point.yText,
+            point.pointMeta
+        )
+        from GraphTimeSeriesPoint point
+        join point.graphTrace trace
+        where trace.graph.id in :graphIds
+        order by trace.graph.id asc, trace.traceOrder asc, trace.id asc, point.pointOrder asc
+        """)
+    Stream<GraphTimeSeriesPointRow> streamTimeSeriesPointRowsByGraphIdIn(@Param("graphIds") Collection<Long> graphIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new com.aphinity.client_analytics_core.api.core.repositories.dashboard.GraphCategoryPointRow(
+            trace.id,
+            point.pointOrder,
+            point.categoryKey,
+            point.categoryLabel,
+            point.valueNumeric,
+            point.valueText,
+            point.pointMeta
+        )
+        from GraphCategoryPoint point
+        join point.graphTrace trace
+        where trace.graph.id in :graphIds
+        order by trace.graph.id asc, trace.traceOrder asc, trace.id asc, point.pointOrder asc
+        """)
+    Stream<GraphCategoryPointRow> streamCategoryPointRowsByGraphIdIn(@Param("graphIds") Collection<Long> graphIds);
+}
@@ -0,0 +1,25 @@
+package com.aphinity.client_analytics_core.api.core.repositories.dashboard;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTracePointStorage;
+
+import java.util.Map;
+
+/**
+ * Columns of one graph trace row, read without its points or an entity
+ * instance.
+ */
+public record GraphTraceRow(
+    Long graphId,
+    Long traceId,
+    String traceKey,
+    String traceName,
+    String traceType,
+    String dataMode,
+    int traceOrder,
+    Map<String, Object> traceConfig,
+    GraphTracePointStorage pointStorage,
+    byte[] packedObservedAt,
+    byte[] packedYValues,
+    Map<String, Object> packedPointMeta
+) {
+}
@@ -0,0 +1,131 @@
+package com.aphinity.client_analytics_core.api.core.repositories.dashboard;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.LocationDashboardSample;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Bulk JDBC write path for imported dashboard samples.
+ *
+ * <p>{@link LocationDashboardSample} ids are database identities, which stops
+ * Hibernate from batching inserts and costs one round-trip per sample. Import
+ * replacement never needs the generated ids back, so rows are written with
+ * plain JDBC batches instead and the database still assigns the ids. Re-import
+ * diffs update and delete rows by id the same way. The writer joins the
+ * caller's transaction.</p>
+ */
+@Repository
+public class LocationDashboardSampleBatchWriter {
+    static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+        insert into location_dashboard_sample (
+            location_id, observed_date, system_type_name, measurement_name, raw_value, units,
+            compliant, resolved, turnaround_days, origin, content_hash, sample_identity, created_at, updated_at
+        ) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    private static final String UPDATE_SQL = """
+        update location_dashboard_sample
+        set location_id = ?, observed_date = ?, system_type_name = ?, measurement_name = ?, raw_value = ?,
+            units = ?, compliant = ?, resolved = ?, turnaround_days = ?, origin = ?, content_hash = ?,
+            updated_at = ?
+        where id = ?
+        """;
+    private static final String DELETE_SQL = "delete from location_dashboard_sample where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LocationDashboardSampleBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts samples in JDBC batches of {@value #BATCH_SIZE}. Every sample
+     * must reference a persisted location.
+     *
+     * @param samples samples to insert
+     */
+    public void insertAll(List<LocationDashboardSample> samples) {
+        if (samples == null || samples.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, samples, BATCH_SIZE, (statement, sample) -> {
+            int next = bindContent(statement, sample);
+            statement.setString(next, sample.getSampleIdentity());
+            statement.setTimestamp(next + 1, now);
+            statement.setTimestamp(next + 2, now);
+        });
+    }
+
+    /**
+     * Rewrites the imported fields of existing rows in JDBC batches. The
+     * sample identity and creation time of each row are kept.
+     *
+     * @param updates stored row ids paired with their replacement content
+     */
+    public void updateAll(List<SampleUpdate> updates) {
+        if (updates == null || updates.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, updates, BATCH_SIZE, (statement, update) -> {
+            int next = bindContent(statement, update.sample());
+            statement.setTimestamp(next, now);
+            statement.setLong(next + 1, update.id());
+        });
+    }
+
+    /**
+     * Deletes rows by id in JDBC batches.
+     *
+     * @param ids stored row ids to delete
+     */
+    public void deleteAll(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, ids, BATCH_SIZE, (statement, id) -> statement.setLong(1, id));
+    }
+
+    /**
+     * Binds the imported fields shared by inserts and updates.
+     *
+     * @return index of the next unbound parameter
+     */
+    private static int bindContent(PreparedStatement statement, LocationDashboardSample sample) throws SQLException {
+        statement.setLong(1, sample.getLocation().getId());
+        statement.setDate(2, Date.valueOf(sample.getObservedDate()));
+        statement.setString(3, sample.getSystemTypeName());
+        statement.setString(4, sample.getMeasurementName());
+        statement.setString(5, sample.getRawValue());
+        statement.setString(6, sample.getUnits());
+        statement.setBoolean(7, sample.isCompliant());
+        statement.setBoolean(8, sample.isResolved());
+        if (sample.getTurnaroundDays() == null) {
+            statement.setNull(9, Types.BIGINT);
+        } else {
+            statement.setLong(9, sample.getTurnaroundDays());
+        }
+        statement.setString(10, sample.getOrigin());
+        statement.setString(11, sample.getContentHash());
+        return 12;
+    }
+
+    /**
+     * Replacement content for a stored sample row.
+     *
+     * @param id stored row id
+     * @param sample imported sample whose fields replace the row's
+     */
+    public record SampleUpdate(long id, LocationDashboardSample sample) {
+    }
+}
@@ -24,6 +24,20 @@ public interface LocationDashboardSampleRepository extends JpaRepository<Locatio
         @Param("startDate") LocalDate startDate
     );
 
+    @Query("""
+        select count(sample) as rowCount, max(sample.updatedAt) as latestUpdatedAt
+        from LocationDashboardSample sample
+        where sample.location.id = :locationId
+        """)
+    DashboardSourceRevision summarizeRevisionByLocationId(@Param("locationId") Long locationId);
+
+    @Query("""
+        select sample.id as id, sample.sampleIdentity as sampleIdentity, sample.contentHash as contentHash
+        from LocationDashboardSample sample
+        where sample.location.id = :locationId
+        """)
+    List<DashboardSampleDigest> findDigestsByLocationId(@Param("locationId") Long locationId);
+
     @Modifying
     @Query("delete from LocationDashboardSample sample where sample.location.id = :locationId")
     int deleteByLocationId(@Param("locationId") Long locationId);
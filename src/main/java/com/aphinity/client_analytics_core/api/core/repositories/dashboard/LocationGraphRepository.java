@@ -29,6 +29,17 @@ public interface LocationGraphRepository extends JpaRepository<LocationGraph, Lo
         """)
     List<LocationGraph> findByLocationIdWithGraphDetails(@Param("locationId") Long locationId);
 
+    @Query("""
+        select locationGraph from LocationGraph locationGraph
+        join fetch locationGraph.graph
+        where locationGraph.id.locationId = :locationId
+          and locationGraph.id.graphId in :graphIds
+        """)
+    List<LocationGraph> findByLocationIdAndGraphIdInWithGraph(
+        @Param("locationId") Long locationId,
+        @Param("graphIds") Collection<Long> graphIds
+    );
+
     @Query("""
         select distinct locationGraph from LocationGraph locationGraph
         join fetch locationGraph.graph graph
@@ -41,6 +52,15 @@ public interface LocationGraphRepository extends JpaRepository<LocationGraph, Lo
         @Param("graphIds") Collection<Long> graphIds
     );
 
+    @Query("""
+        select graph.id as graphId, graph.updatedAt as updatedAt
+        from LocationGraph locationGraph
+        join locationGraph.graph graph
+        where locationGraph.id.locationId = :locationId
+        order by graph.id asc
+        """)
+    List<GraphRevision> findGraphRevisionsByLocationId(@Param("locationId") Long locationId);
+
     List<LocationGraph> findByIdGraphId(Long graphId);
 
     boolean existsByIdLocationIdAndIdGraphId(Long locationId, Long graphId);
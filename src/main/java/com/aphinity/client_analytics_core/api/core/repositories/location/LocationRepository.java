@@ -13,11 +13,17 @@ import java.util.Optional;
 public interface LocationRepository extends JpaRepository<Location, Long> {
     List<Location> findAllByOrderByNameAsc();
 
+    @Query("select l.id from Location l order by l.name asc")
+    List<Long> findAllIdsOrderByNameAsc();
+
     Optional<Location> findByName(String name);
 
     @Query("select l.name from Location l where l.id = :locationId")
     Optional<String> findNameById(@Param("locationId") Long locationId);
 
+    @Query("select l.updatedAt from Location l where l.id = :locationId")
+    Optional<Instant> findUpdatedAtById(@Param("locationId") Long locationId);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("update Location l set l.updatedAt = :updatedAt where l.id = :locationId")
     int touchUpdatedAt(@Param("locationId") Long locationId, @Param("updatedAt") Instant updatedAt);
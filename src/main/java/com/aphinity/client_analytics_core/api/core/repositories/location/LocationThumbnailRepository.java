@@ -0,0 +1,13 @@
+package com.aphinity.client_analytics_core.api.core.repositories.location;
+
+import com.aphinity.client_analytics_core.api.core.entities.location.LocationThumbnail;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface LocationThumbnailRepository extends JpaRepository<LocationThumbnail, Long> {
+    @Query("select thumbnail.image from LocationThumbnail thumbnail where thumbnail.locationId = :locationId")
+    Optional<byte[]> findImageByLocationId(@Param("locationId") Long locationId);
+}
@@ -1,6 +1,7 @@
 package com.aphinity.client_analytics_core.api.core.repositories.servicecalendar;
 
 import com.aphinity.client_analytics_core.api.core.entities.servicecalendar.ServiceEvent;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.DashboardSourceRevision;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -38,6 +39,14 @@ public interface ServiceEventRepository extends JpaRepository<ServiceEvent, Long
 
     Optional<ServiceEvent> findByIdAndLocation_Id(Long eventId, Long locationId);
 
+    @Query("""
+        select count(serviceEvent) as rowCount, max(serviceEvent.updatedAt) as latestUpdatedAt
+        from ServiceEvent serviceEvent
+        where serviceEvent.location.id = :locationId
+          and serviceEvent.correctiveAction = true
+        """)
+    DashboardSourceRevision summarizeCorrectiveActionRevisionByLocationId(@Param("locationId") Long locationId);
+
     @Modifying(flushAutomatically = true)
     @Query("""
         update ServiceEvent correctiveAction
@@ -11,6 +11,17 @@ public record LocationDashboardTablePageResponse(
     int lastPage,
     long total,
     int page,
-    int size
+    int size,
+    @JsonProperty("next_cursor")
+    String nextCursor
 ) {
+    public LocationDashboardTablePageResponse(
+        List<Map<String, Object>> data,
+        int lastPage,
+        long total,
+        int page,
+        int size
+    ) {
+        this(data, lastPage, total, page, size, null);
+    }
 }
@@ -2,7 +2,10 @@ package com.aphinity.client_analytics_core.api.core.response.dashboard;
 
 import java.util.List;
 
-/** Section-scoped graph resource returned for a finite dashboard time range. */
+/**
+ * Section-scoped graph resource returned for one dashboard time range.
+ * All-time resources report a month range of {@code -1}.
+ */
 public record LocationSectionGraphsResponse(
     Long sectionId,
     Integer monthRange,
@@ -0,0 +1,19 @@
+package com.aphinity.client_analytics_core.api.core.services;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
+
+import java.util.Collection;
+
+/** Application-owned boundary for writing graph point rows recorded by payload syncs. */
+public interface GraphPointWriter {
+    /**
+     * Writes the pending point changes of every trace on the given graphs and
+     * clears them. Must run in the transaction that synced the graphs.
+     */
+    void writePendingPoints(Collection<Graph> graphs);
+
+    static GraphPointWriter noop() {
+        return graphs -> {
+        };
+    }
+}
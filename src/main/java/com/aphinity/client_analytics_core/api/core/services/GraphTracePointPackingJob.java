@@ -0,0 +1,110 @@
+package com.aphinity.client_analytics_core.api.core.services;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTracePointStorage;
+import com.aphinity.client_analytics_core.api.core.plotly.GraphRelationalPayloadMapper;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.GraphRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Converts time-series traces still stored as one point row per point into
+ * packed storage once the application is ready.
+ *
+ * <p>Payload syncs pack a trace the next time it is written, but imported
+ * graphs that are never edited would otherwise keep their rows. Graphs are
+ * locked and converted in small batches, each in its own transaction, and
+ * their rows are deleted through {@link GraphPointWriter}. Graphs are visited
+ * in id order once per run, so traces that cannot be packed are not retried
+ * until the next start. The schema change this relies on is described in
+ * {@code docs/schema/graph-trace-packed-points.sql}.</p>
+ */
+@Component
+public class GraphTracePointPackingJob {
+    private static final Logger log = LoggerFactory.getLogger(GraphTracePointPackingJob.class);
+
+    private final GraphRepository graphRepository;
+    private final GraphPointWriter graphPointWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public GraphTracePointPackingJob(
+        GraphRepository graphRepository,
+        GraphPointWriter graphPointWriter,
+        TransactionTemplate transactionTemplate,
+        @Value("${app.dashboard.point-packing.enabled:true}") boolean enabled,
+        @Value("${app.dashboard.point-packing.batch-size:50}") int batchSize
+    ) {
+        this.graphRepository = graphRepository;
+        this.graphPointWriter = graphPointWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void packOnStartup() {
+        if (enabled) {
+            packRowStoredTimeSeriesTraces();
+        }
+    }
+
+    /**
+     * Packs every row-stored time-series trace that can be packed.
+     *
+     * @return number of traces packed
+     */
+    public int packRowStoredTimeSeriesTraces() {
+        long startedAt = System.nanoTime();
+        long afterGraphId = 0L;
+        int graphCount = 0;
+        int packedTraceCount = 0;
+        while (true) {
+            List<Long> graphIds = graphRepository.findIdsWithTimeSeriesTracesStoredAs(
+                GraphTracePointStorage.ROWS,
+                afterGraphId,
+                Limit.of(batchSize)
+            );
+            if (graphIds.isEmpty()) {
+                break;
+            }
+            Integer packed = transactionTemplate.execute(status -> packGraphs(graphIds));
+            packedTraceCount += packed == null ? 0 : packed;
+            graphCount += graphIds.size();
+            afterGraphId = graphIds.getLast();
+        }
+        if (graphCount > 0) {
+            log.info(
+                "Packed row-stored time-series traces graphCount={} packedTraceCount={} elapsedMs={}",
+                graphCount,
+                packedTraceCount,
+                (System.nanoTime() - startedAt) / 1_000_000L
+            );
+        }
+        return packedTraceCount;
+    }
+
+    private int packGraphs(List<Long> graphIds) {
+        List<Graph> graphs = graphRepository.findByIdInForUpdate(graphIds);
+        int packedTraceCount = 0;
+        for (Graph graph : graphs) {
+            for (GraphTrace trace : graph.getGraphTraces()) {
+                if (GraphRelationalPayloadMapper.packRowStoredTimeSeries(trace)) {
+                    packedTraceCount += 1;
+                }
+            }
+        }
+        graphPointWriter.writePendingPoints(graphs);
+        return packedTraceCount;
+    }
+}
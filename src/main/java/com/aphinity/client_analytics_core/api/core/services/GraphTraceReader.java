@@ -0,0 +1,32 @@
+package com.aphinity.client_analytics_core.api.core.services;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Application-owned boundary for reading graph traces and their points for payload mapping. */
+public interface GraphTraceReader {
+    /**
+     * Returns the traces of each given graph in trace order, keyed by graph
+     * id, with their points attached. Graphs without traces map to an empty
+     * list. Callers must only read the returned traces.
+     */
+    Map<Long, List<GraphTrace>> readTraces(Collection<Graph> graphs);
+
+    /** Reads the traces already reachable from each graph entity. */
+    static GraphTraceReader fromEntities() {
+        return graphs -> {
+            Map<Long, List<GraphTrace>> tracesByGraphId = new LinkedHashMap<>();
+            for (Graph graph : graphs) {
+                if (graph != null && graph.getId() != null) {
+                    tracesByGraphId.put(graph.getId(), graph.getGraphTraces());
+                }
+            }
+            return tracesByGraphId;
+        };
+    }
+}
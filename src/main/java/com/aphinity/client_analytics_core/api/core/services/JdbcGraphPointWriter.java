@@ -0,0 +1,255 @@
+package com.aphinity.client_analytics_core.api.core.services;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphCategoryPoint;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTimeSeriesPoint;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTracePointChanges;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC adapter that writes graph point rows in batches keyed by
+ * {@code (graph_trace_id, point_order)}.
+ *
+ * <p>Point entities are immutable to Hibernate, so large traces are never
+ * dirty-checked or written one identity insert at a time. Only the orders a
+ * payload sync recorded are updated, missing rows are inserted and rows past
+ * the end of a shrunk list are deleted. Read-only transactions are skipped,
+ * matching Hibernate, which does not flush them.</p>
+ */
+@Component
+public class JdbcGraphPointWriter implements GraphPointWriter {
+    static final int BATCH_SIZE = 1000;
+
+    private static final String DELETE_TRAILING_TIME_SERIES_SQL =
+        "delete from graph_time_series_point where graph_trace_id = ? and point_order >= ?";
+    private static final String UPDATE_TIME_SERIES_SQL = """
+        update graph_time_series_point
+        set observed_at = ?, y_numeric = ?, y_text = ?, point_meta = %s, updated_at = ?
+        where graph_trace_id = ? and point_order = ?
+        """;
+    private static final String INSERT_TIME_SERIES_SQL = """
+        insert into graph_time_series_point (
+            observed_at, y_numeric, y_text, point_meta, updated_at, graph_trace_id, point_order, created_at
+        ) values (?, ?, ?, %s, ?, ?, ?, ?)
+        """;
+    private static final String DELETE_TRAILING_CATEGORY_SQL =
+        "delete from graph_category_point where graph_trace_id = ? and point_order >= ?";
+    private static final String UPDATE_CATEGORY_SQL = """
+        update graph_category_point
+        set category_key = ?, category_label = ?, value_numeric = ?, value_text = ?, point_meta = %s,
+            updated_at = ?
+        where graph_trace_id = ? and point_order = ?
+        """;
+    private static final String INSERT_CATEGORY_SQL = """
+        insert into graph_category_point (
+            category_key, category_label, value_numeric, value_text, point_meta, updated_at, graph_trace_id,
+            point_order, created_at
+        ) values (?, ?, ?, ?, %s, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+    private volatile String jsonParameter;
+
+    public JdbcGraphPointWriter(JdbcTemplate jdbcTemplate, EntityManager entityManager, JsonMapper jsonMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public void writePendingPoints(Collection<Graph> graphs) {
+        if (graphs == null
+            || graphs.isEmpty()
+            || !TransactionSynchronizationManager.isActualTransactionActive()
+            || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        List<GraphTrace> changedTraces = new ArrayList<>();
+        for (Graph graph : graphs) {
+            if (graph == null || graph.getGraphTraces() == null) {
+                continue;
+            }
+            for (GraphTrace trace : graph.getGraphTraces()) {
+                if (trace != null && !trace.getPointChanges().isEmpty()) {
+                    changedTraces.add(trace);
+                }
+            }
+        }
+        if (changedTraces.isEmpty()) {
+            return;
+        }
+
+        // New traces need their ids, and removed traces must be gone before their points are touched.
+        entityManager.flush();
+
+        List<TrailingPoints> timeSeriesTrims = new ArrayList<>();
+        List<PendingPoint<GraphTimeSeriesPoint>> timeSeriesWrites = new ArrayList<>();
+        List<TrailingPoints> categoryTrims = new ArrayList<>();
+        List<PendingPoint<GraphCategoryPoint>> categoryWrites = new ArrayList<>();
+        for (GraphTrace trace : changedTraces) {
+            long traceId = trace.getId();
+            GraphTracePointChanges changes = trace.getPointChanges();
+            if (changes.isTimeSeriesChanged()) {
+                List<GraphTimeSeriesPoint> points = trace.getTimeSeriesPoints();
+                timeSeriesTrims.add(new TrailingPoints(traceId, points.size()));
+                for (int pointOrder : changes.timeSeriesOrders()) {
+                    if (pointOrder < points.size()) {
+                        timeSeriesWrites.add(new PendingPoint<>(traceId, pointOrder, points.get(pointOrder)));
+                    }
+                }
+            }
+            if (changes.isCategoryChanged()) {
+                List<GraphCategoryPoint> points = trace.getCategoryPoints();
+                categoryTrims.add(new TrailingPoints(traceId, points.size()));
+                for (int pointOrder : changes.categoryOrders()) {
+                    if (pointOrder < points.size()) {
+                        categoryWrites.add(new PendingPoint<>(traceId, pointOrder, points.get(pointOrder)));
+                    }
+                }
+            }
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        String json = jsonParameter();
+        deleteTrailing(DELETE_TRAILING_TIME_SERIES_SQL, timeSeriesTrims);
+        deleteTrailing(DELETE_TRAILING_CATEGORY_SQL, categoryTrims);
+        upsert(
+            UPDATE_TIME_SERIES_SQL.formatted(json),
+            INSERT_TIME_SERIES_SQL.formatted(json),
+            timeSeriesWrites,
+            (statement, pending) -> bindTimeSeriesPoint(statement, pending, now),
+            8,
+            now
+        );
+        upsert(
+            UPDATE_CATEGORY_SQL.formatted(json),
+            INSERT_CATEGORY_SQL.formatted(json),
+            categoryWrites,
+            (statement, pending) -> bindCategoryPoint(statement, pending, now),
+            9,
+            now
+        );
+        changedTraces.forEach(trace -> trace.getPointChanges().clear());
+    }
+
+    private void deleteTrailing(String sql, List<TrailingPoints> trims) {
+        if (trims.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, trims, BATCH_SIZE, (statement, trim) -> {
+            statement.setLong(1, trim.traceId());
+            statement.setInt(2, trim.pointCount());
+        });
+    }
+
+    /**
+     * Updates each pending point by trace and order, then inserts the ones
+     * that matched no row. Both statements share their leading parameters;
+     * the insert adds the creation time at {@code createdAtIndex}.
+     */
+    private <T> void upsert(
+        String updateSql,
+        String insertSql,
+        List<PendingPoint<T>> points,
+        ParameterizedPreparedStatementSetter<PendingPoint<T>> binder,
+        int createdAtIndex,
+        Timestamp now
+    ) {
+        if (points.isEmpty()) {
+            return;
+        }
+        int[][] updateCounts = jdbcTemplate.batchUpdate(updateSql, points, BATCH_SIZE, binder);
+        List<PendingPoint<T>> missing = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : updateCounts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    missing.add(points.get(index));
+                }
+                index += 1;
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(insertSql, missing, BATCH_SIZE, (statement, pending) -> {
+            binder.setValues(statement, pending);
+            statement.setTimestamp(createdAtIndex, now);
+        });
+    }
+
+    private void bindTimeSeriesPoint(
+        PreparedStatement statement,
+        PendingPoint<GraphTimeSeriesPoint> pending,
+        Timestamp now
+    ) throws SQLException {
+        GraphTimeSeriesPoint point = pending.point();
+        statement.setTimestamp(1, Timestamp.from(point.getObservedAt()));
+        statement.setBigDecimal(2, point.getYNumeric());
+        statement.setString(3, point.getYText());
+        statement.setString(4, toJson(point.getPointMeta()));
+        statement.setTimestamp(5, now);
+        statement.setLong(6, pending.traceId());
+        statement.setInt(7, pending.pointOrder());
+    }
+
+    private void bindCategoryPoint(
+        PreparedStatement statement,
+        PendingPoint<GraphCategoryPoint> pending,
+        Timestamp now
+    ) throws SQLException {
+        GraphCategoryPoint point = pending.point();
+        statement.setString(1, point.getCategoryKey());
+        statement.setString(2, point.getCategoryLabel());
+        statement.setBigDecimal(3, point.getValueNumeric());
+        statement.setString(4, point.getValueText());
+        statement.setString(5, toJson(point.getPointMeta()));
+        statement.setTimestamp(6, now);
+        statement.setLong(7, pending.traceId());
+        statement.setInt(8, pending.pointOrder());
+    }
+
+    private String toJson(Map<String, Object> pointMeta) {
+        return jsonMapper.writeValueAsString(pointMeta == null ? Map.of() : pointMeta);
+    }
+
+    /**
+     * PostgreSQL needs string parameters cast to {@code jsonb}; H2, used by
+     * the integration tests, parses them with {@code FORMAT JSON} instead.
+     */
+    private String jsonParameter() {
+        String parameter = jsonParameter;
+        if (parameter == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+            );
+            parameter = "H2".equalsIgnoreCase(product) ? "? format json" : "cast(? as jsonb)";
+            jsonParameter = parameter;
+        }
+        return parameter;
+    }
+
+    private record TrailingPoints(long traceId, int pointCount) {
+    }
+
+    private record PendingPoint<T>(long traceId, int pointOrder, T point) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.aphinity.client_analytics_core.api.core.services;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphCategoryPoint;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTimeSeriesPoint;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.GraphCategoryPointRow;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.GraphTimeSeriesPointRow;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.GraphTraceReadRepository;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.GraphTraceRow;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Reads graph traces from flat trace and point rows instead of hydrating
+ * trace and point entities.
+ *
+ * <p>Trace columns are read once per trace and point rows are streamed in
+ * graph, trace and point order, so each row is appended to its trace as it
+ * arrives. The returned traces are plain objects outside the persistence
+ * context: nothing is dirty-checked at flush and the points become garbage
+ * as soon as the caller has mapped them.</p>
+ */
+@Component
+public class ProjectedGraphTraceReader implements GraphTraceReader {
+    private final GraphTraceReadRepository graphTraceReadRepository;
+
+    public ProjectedGraphTraceReader(GraphTraceReadRepository graphTraceReadRepository) {
+        this.graphTraceReadRepository = graphTraceReadRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<GraphTrace>> readTraces(Collection<Graph> graphs) {
+        Set<Long> graphIds = new LinkedHashSet<>();
+        if (graphs != null) {
+            for (Graph graph : graphs) {
+                if (graph != null && graph.getId() != null) {
+                    graphIds.add(graph.getId());
+                }
+            }
+        }
+        if (graphIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<GraphTrace>> tracesByGraphId = new LinkedHashMap<>();
+        graphIds.forEach(graphId -> tracesByGraphId.put(graphId, new ArrayList<>()));
+        Map<Long, GraphTrace> tracesById = new HashMap<>();
+        for (GraphTraceRow row : graphTraceReadRepository.findTraceRowsByGraphIdIn(graphIds)) {
+            GraphTrace trace = toTrace(row);
+            tracesById.put(row.traceId(), trace);
+            tracesByGraphId.get(row.graphId()).add(trace);
+        }
+        if (tracesById.isEmpty()) {
+            return tracesByGraphId;
+        }
+
+        try (Stream<GraphTimeSeriesPointRow> rows =
+                 graphTraceReadRepository.streamTimeSeriesPointRowsByGraphIdIn(graphIds)) {
+            rows.forEach(row -> {
+                GraphTrace trace = tracesById.get(row.traceId());
+                if (trace != null) {
+                    trace.getTimeSeriesPoints().add(toTimeSeriesPoint(trace, row));
+                }
+            });
+        }
+        try (Stream<GraphCategoryPointRow> rows = graphTraceReadRepository.streamCategoryPointRowsByGraphIdIn(graphIds)) {
+            rows.forEach(row -> {
+                GraphTrace trace = tracesById.get(row.traceId());
+                if (trace != null) {
+                    trace.getCategoryPoints().add(toCategoryPoint(trace, row));
+                }
+            });
+        }
+        return tracesByGraphId;
+    }
+
+    private GraphTrace toTrace(GraphTraceRow row) {
+        GraphTrace trace = new GraphTrace();
+        trace.setId(row.traceId());
+        trace.setTraceKey(row.traceKey());
+        trace.setTraceName(row.traceName());
+        trace.setTraceType(row.traceType());
+        trace.setDataMode(row.dataMode());
+        trace.setTraceOrder(row.traceOrder());
+        trace.setTraceConfig(row.traceConfig());
+        trace.setPointStorage(row.pointStorage());
+        trace.setPackedObservedAt(row.packedObservedAt());
+        trace.setPackedYValues(row.packedYValues());
+        trace.setPackedPointMeta(row.packedPointMeta());
+        return trace;
+    }
+
+    private GraphTimeSeriesPoint toTimeSeriesPoint(GraphTrace trace, GraphTimeSeriesPointRow row) {
+        GraphTimeSeriesPoint point = new GraphTimeSeriesPoint();
+        point.setGraphTrace(trace);
+        point.setPointOrder(row.pointOrder());
+        point.setObservedAt(row.observedAt());
+        point.setYNumeric(row.yNumeric());
+        point.setYText(row.yText());
+        point.setPointMeta(row.pointMeta());
+        return point;
+    }
+
+    private GraphCategoryPoint toCategoryPoint(GraphTrace trace, GraphCategoryPointRow row) {
+        GraphCategoryPoint point = new GraphCategoryPoint();
+        point.setGraphTrace(trace);
+        point.setPointOrder(row.pointOrder());
+        point.setCategoryKey(row.categoryKey());
+        point.setCategoryLabel(row.categoryLabel());
+        point.setValueNumeric(row.valueNumeric());
+        point.setValueText(row.valueText());
+        point.setPointMeta(row.pointMeta());
+        return point;
+    }
+}
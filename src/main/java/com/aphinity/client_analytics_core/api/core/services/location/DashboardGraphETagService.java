@@ -0,0 +1,179 @@
+package com.aphinity.client_analytics_core.api.core.services.location;
+
+import com.aphinity.client_analytics_core.api.auth.entities.AppUser;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.GraphRevision;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.LocationGraphRepository;
+import com.aphinity.client_analytics_core.api.core.repositories.location.LocationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Strong entity tags for dashboard graph reads.
+ * <p>
+ * A tag covers every revision a graph response is built from: the location row,
+ * which dashboard mutations touch, the update time of each assigned graph, the
+ * requested range and trace encoding, and the anchor date that month windows
+ * are measured from.
+ * These load with two narrow queries, so a matching {@code If-None-Match} can be
+ * answered before any projection or serialization work. Bump
+ * {@link #TAG_VERSION} when response shapes change for the same revisions.
+ */
+@Service
+public class DashboardGraphETagService {
+    static final String TAG_VERSION = "1";
+
+    private final LocationAccessPolicy accessPolicy;
+    private final LocationRepository locationRepository;
+    private final LocationGraphRepository locationGraphRepository;
+    private final Clock clock;
+
+    public DashboardGraphETagService(
+        LocationAccessPolicy accessPolicy,
+        LocationRepository locationRepository,
+        LocationGraphRepository locationGraphRepository,
+        Clock clock
+    ) {
+        this.accessPolicy = accessPolicy;
+        this.locationRepository = locationRepository;
+        this.locationGraphRepository = locationGraphRepository;
+        this.clock = clock;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<DashboardGraphReadRevision> locationGraphsRevision(
+        Long userId,
+        Long locationId,
+        Integer monthRange,
+        DashboardTraceEncoding traceEncoding
+    ) {
+        return revision(userId, locationId, rangeKey(monthRange), "graphs", encodingKey(traceEncoding));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<DashboardGraphReadRevision> sectionGraphsRevision(
+        Long userId,
+        Long locationId,
+        Long sectionId,
+        Integer monthRange,
+        DashboardTraceEncoding traceEncoding
+    ) {
+        return revision(userId, locationId, rangeKey(monthRange), "section:" + sectionId, encodingKey(traceEncoding));
+    }
+
+    /**
+     * Tag for a multi-section read. Sections are keyed in request order with
+     * duplicates collapsed, matching the body they describe; an empty request
+     * yields no revision so the read reports it.
+     */
+    @Transactional(readOnly = true)
+    public Optional<DashboardGraphReadRevision> sectionsGraphsRevision(
+        Long userId,
+        Long locationId,
+        List<Long> sectionIds,
+        Integer monthRange,
+        DashboardTraceEncoding traceEncoding
+    ) {
+        if (sectionIds == null || sectionIds.isEmpty()) {
+            return Optional.empty();
+        }
+        String sectionsKey = sectionIds.stream()
+            .distinct()
+            .map(String::valueOf)
+            .collect(Collectors.joining(","));
+        return revision(userId, locationId, rangeKey(monthRange), "sections:" + sectionsKey, encodingKey(traceEncoding));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<DashboardGraphReadRevision> tablePageRevision(
+        Long userId,
+        Long locationId,
+        Long graphId,
+        Integer monthRange,
+        Integer page,
+        Integer size,
+        String cursor
+    ) {
+        return revision(
+            userId,
+            locationId,
+            rangeKey(monthRange),
+            "table:" + graphId,
+            "page:" + page,
+            "size:" + size,
+            "cursor:" + (cursor == null ? "" : cursor.strip())
+        );
+    }
+
+    /**
+     * Builds the quoted tag after the same user and access checks as the read
+     * itself. A missing location yields no revision so the regular read
+     * reports it.
+     */
+    private Optional<DashboardGraphReadRevision> revision(
+        Long userId,
+        Long locationId,
+        String rangeKey,
+        String... resourceParts
+    ) {
+        if (locationId == null) {
+            return Optional.empty();
+        }
+        Optional<Instant> locationRevision = locationRepository.findUpdatedAtById(locationId);
+        if (locationRevision.isEmpty()) {
+            return Optional.empty();
+        }
+        AppUser user = accessPolicy.requireUser(userId);
+        if (!accessPolicy.hasLocationAccess(user, locationId)) {
+            throw accessPolicy.forbidden();
+        }
+
+        LocalDate anchorDate = LocalDate.now(clock);
+        StringBuilder source = new StringBuilder("v").append(TAG_VERSION)
+            .append('|').append(locationId)
+            .append('|').append(locationRevision.get())
+            .append('|').append(anchorDate);
+        for (String resourcePart : resourceParts) {
+            source.append('|').append(resourcePart);
+        }
+        source.append('|').append(rangeKey);
+        for (GraphRevision graphRevision : locationGraphRepository.findGraphRevisionsByLocationId(locationId)) {
+            source.append('|').append(graphRevision.getGraphId()).append('@').append(graphRevision.getUpdatedAt());
+        }
+        return Optional.of(new DashboardGraphReadRevision(
+            "\"" + sha256(source.toString()) + "\"",
+            locationId,
+            locationRevision.get(),
+            anchorDate,
+            rangeKey
+        ));
+    }
+
+    private String rangeKey(Integer monthRange) {
+        DashboardGraphMonthRange resolvedMonthRange = DashboardGraphMonthRange.fromRequestValue(monthRange);
+        return resolvedMonthRange.isAllTime() ? "range:all" : "range:" + resolvedMonthRange.months();
+    }
+
+    private String encodingKey(DashboardTraceEncoding traceEncoding) {
+        return (traceEncoding == null ? DashboardTraceEncoding.PLOTLY : traceEncoding).key();
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 digest unavailable", ex);
+        }
+    }
+}
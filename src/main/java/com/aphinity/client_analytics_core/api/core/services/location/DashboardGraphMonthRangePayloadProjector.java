@@ -1,34 +1,19 @@
 package com.aphinity.client_analytics_core.api.core.services.location;
 
+import com.aphinity.client_analytics_core.api.core.services.location.dashboardimport.DashboardPayloadWeights;
+
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
-import java.time.format.SignStyle;
-import java.time.temporal.ChronoField;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Projects Plotly payloads to a requested dashboard month window without
  * mutating the stored all-time graph data.
  */
 public final class DashboardGraphMonthRangePayloadProjector {
-    private static final DateTimeFormatter FLEXIBLE_LOCAL_DATE_FORMATTER = new DateTimeFormatterBuilder()
-        .appendValue(ChronoField.YEAR, 4)
-        .appendLiteral('-')
-        .appendValue(ChronoField.MONTH_OF_YEAR, 1, 2, SignStyle.NOT_NEGATIVE)
-        .appendLiteral('-')
-        .appendValue(ChronoField.DAY_OF_MONTH, 1, 2, SignStyle.NOT_NEGATIVE)
-        .toFormatter(Locale.ROOT)
-        .withResolverStyle(ResolverStyle.STRICT);
-
     private DashboardGraphMonthRangePayloadProjector() {
     }
 
@@ -49,16 +34,58 @@ public final class DashboardGraphMonthRangePayloadProjector {
         if (allTimePayload == null || allTimePayload.isEmpty() || monthRange == null || monthRange.isAllTime()) {
             return allTimePayload == null ? List.of() : allTimePayload;
         }
+        return project(IndexedPayload.of(allTimePayload), monthRange, anchorDate).data();
+    }
+
+    /**
+     * Filters an indexed payload to the requested month range. Ascending
+     * traces are cut at the binary-searched window start; the returned payload
+     * carries the narrowed indexes so it can be projected again without
+     * parsing. Rebuilt traces keep the recorded size of their other fields and
+     * add up the x, y and customdata elements as they are copied; unchanged
+     * traces keep their recorded size.
+     *
+     * @param payload graph data with one trace index per trace
+     * @param monthRange requested month range
+     * @param anchorDate upper-bound reference date for the rolling window
+     * @return projected payload and its trace indexes
+     */
+    public static IndexedPayload project(
+        IndexedPayload payload,
+        DashboardGraphMonthRange monthRange,
+        LocalDate anchorDate
+    ) {
+        if (payload == null) {
+            return IndexedPayload.EMPTY;
+        }
+        if (payload.data().isEmpty() || monthRange == null || monthRange.isAllTime()) {
+            return payload;
+        }
         LocalDate windowStart = monthRange.dataWindowStartInclusive(anchorDate);
         if (windowStart == null) {
-            return allTimePayload;
+            return payload;
         }
 
-        List<Map<String, Object>> projectedPayload = new ArrayList<>(allTimePayload.size());
-        for (Map<String, Object> trace : allTimePayload) {
-            projectedPayload.add(projectTrace(trace, windowStart));
+        long windowStartEpochDay = windowStart.toEpochDay();
+        List<Map<String, Object>> projectedData = new ArrayList<>(payload.data().size());
+        List<TimeSeriesTraceIndex> projectedIndexes = new ArrayList<>(payload.data().size());
+        List<DashboardPayloadWeights.TraceSize> projectedSizes = new ArrayList<>(payload.data().size());
+        for (int traceIndex = 0; traceIndex < payload.data().size(); traceIndex += 1) {
+            Map<String, Object> trace = payload.data().get(traceIndex);
+            TimeSeriesTraceIndex dateIndex = payload.traceIndexes().get(traceIndex);
+            DashboardPayloadWeights.TraceSize traceSize = payload.traceSizes().get(traceIndex);
+            if (!dateIndex.isTimeSeries()) {
+                projectedData.add(trace);
+                projectedIndexes.add(TimeSeriesTraceIndex.NONE);
+                projectedSizes.add(traceSize);
+                continue;
+            }
+            IndexedTrace projectedTrace = projectTrace(trace, dateIndex, windowStartEpochDay);
+            projectedData.add(projectedTrace.trace());
+            projectedIndexes.add(projectedTrace.dateIndex());
+            projectedSizes.add(new DashboardPayloadWeights.TraceSize(traceSize.fieldBytes(), projectedTrace.pointBytes()));
         }
-        return List.copyOf(projectedPayload);
+        return new IndexedPayload(projectedData, projectedIndexes, projectedSizes);
     }
 
     public static Map<String, Object> projectLayout(
@@ -73,6 +100,33 @@ public final class DashboardGraphMonthRangePayloadProjector {
         if (projectedPayload == null || projectedPayload.stream().noneMatch(DashboardGraphMonthRangePayloadProjector::isTimeSeriesTrace)) {
             return layout;
         }
+        return capDateAxis(layout, monthRange, anchorDate);
+    }
+
+    /**
+     * Caps the visible date axis when the indexed payload still holds at least
+     * one time-series trace, reading the carried indexes instead of the x values.
+     */
+    public static Map<String, Object> projectLayout(
+        Map<String, Object> layout,
+        DashboardGraphMonthRange monthRange,
+        LocalDate anchorDate,
+        IndexedPayload projectedPayload
+    ) {
+        if (monthRange == null || monthRange.isAllTime() || anchorDate == null) {
+            return layout;
+        }
+        if (projectedPayload == null || !projectedPayload.containsTimeSeries()) {
+            return layout;
+        }
+        return capDateAxis(layout, monthRange, anchorDate);
+    }
+
+    private static Map<String, Object> capDateAxis(
+        Map<String, Object> layout,
+        DashboardGraphMonthRange monthRange,
+        LocalDate anchorDate
+    ) {
         LocalDate displayStart = monthRange.displayWindowStartInclusive(anchorDate);
         LocalDate displayEnd = monthRange.displayWindowEndInclusive(anchorDate);
         if (displayStart == null || displayEnd == null) {
@@ -98,59 +152,67 @@ public final class DashboardGraphMonthRangePayloadProjector {
      * @return true when the trace can be safely range-projected
      */
     public static boolean isTimeSeriesTrace(Map<String, Object> trace) {
-        if (trace == null) {
-            return false;
-        }
-        Object rawType = trace.get("type");
-        if (!(rawType instanceof String traceType)) {
-            return false;
-        }
-        String normalizedType = traceType.strip().toLowerCase(Locale.ROOT);
-        if (!"scatter".equals(normalizedType) && !"scattergl".equals(normalizedType)) {
-            return false;
-        }
-        List<?> xValues = asList(trace.get("x"));
-        return !xValues.isEmpty() && xValues.stream().allMatch(value -> parseLocalDate(value) != null);
+        return TimeSeriesTraceIndex.of(trace).isTimeSeries();
     }
 
-    private static Map<String, Object> projectTrace(Map<String, Object> trace, LocalDate windowStart) {
-        if (!isTimeSeriesTrace(trace)) {
-            return trace;
-        }
-
+    private static IndexedTrace projectTrace(
+        Map<String, Object> trace,
+        TimeSeriesTraceIndex dateIndex,
+        long windowStartEpochDay
+    ) {
         List<?> xValues = asList(trace.get("x"));
         List<?> yValues = asList(trace.get("y"));
         List<?> customDataValues = asList(trace.get("customdata"));
-        int pointCount = Math.min(xValues.size(), yValues.size());
+        int pointCount = Math.min(Math.min(xValues.size(), yValues.size()), dateIndex.size());
 
-        List<Object> filteredXValues = new ArrayList<>();
-        List<Object> filteredYValues = new ArrayList<>();
-        List<Object> filteredCustomDataValues = new ArrayList<>();
-        boolean hasCustomData = false;
-
-        for (int index = 0; index < pointCount; index += 1) {
-            LocalDate observedDate = parseLocalDate(xValues.get(index));
-            if (observedDate == null || observedDate.isBefore(windowStart)) {
-                continue;
+        List<Object> filteredXValues;
+        List<Object> filteredYValues;
+        List<Object> filteredCustomDataValues;
+        TimeSeriesTraceIndex filteredDateIndex;
+        PointSizes pointSizes = new PointSizes();
+        if (dateIndex.ascending()) {
+            int fromIndex = Math.min(dateIndex.firstIndexOnOrAfter(windowStartEpochDay), pointCount);
+            filteredXValues = new ArrayList<>(pointCount - fromIndex);
+            filteredYValues = new ArrayList<>(pointCount - fromIndex);
+            filteredCustomDataValues = new ArrayList<>(pointCount - fromIndex);
+            for (int index = fromIndex; index < pointCount; index += 1) {
+                pointSizes.add(
+                    filteredXValues, xValues.get(index),
+                    filteredYValues, yValues.get(index),
+                    filteredCustomDataValues, index < customDataValues.size() ? customDataValues.get(index) : null
+                );
             }
-            filteredXValues.add(xValues.get(index));
-            filteredYValues.add(yValues.get(index));
-            Object customDataValue = index < customDataValues.size() ? customDataValues.get(index) : null;
-            filteredCustomDataValues.add(customDataValue);
-            if (customDataValue != null) {
-                hasCustomData = true;
+            filteredDateIndex = dateIndex.slice(fromIndex, pointCount);
+        } else {
+            filteredXValues = new ArrayList<>();
+            filteredYValues = new ArrayList<>();
+            filteredCustomDataValues = new ArrayList<>();
+            int[] keptPositions = new int[pointCount];
+            int keptCount = 0;
+            for (int index = 0; index < pointCount; index += 1) {
+                if (dateIndex.epochDayAt(index) < windowStartEpochDay) {
+                    continue;
+                }
+                pointSizes.add(
+                    filteredXValues, xValues.get(index),
+                    filteredYValues, yValues.get(index),
+                    filteredCustomDataValues, index < customDataValues.size() ? customDataValues.get(index) : null
+                );
+                keptPositions[keptCount] = index;
+                keptCount += 1;
             }
+            filteredDateIndex = dateIndex.select(keptPositions, keptCount);
         }
 
         Map<String, Object> filteredTrace = new LinkedHashMap<>(trace);
         filteredTrace.put("x", List.copyOf(filteredXValues));
         filteredTrace.put("y", List.copyOf(filteredYValues));
-        if (hasCustomData) {
+        if (pointSizes.hasCustomData) {
             filteredTrace.put("customdata", List.copyOf(filteredCustomDataValues));
         } else {
             filteredTrace.remove("customdata");
         }
-        return filteredTrace;
+        return new IndexedTrace(filteredTrace, filteredDateIndex, pointSizes.bytes());
     }
 
     private static List<?> asList(Object value) {
@@ -167,30 +229,139 @@ public final class DashboardGraphMonthRangePayloadProjector {
         return copy;
     }
 
-    private static LocalDate parseLocalDate(Object value) {
-        if (value == null) {
-            return null;
+    /**
+     * Plotly payload paired with one {@link TimeSeriesTraceIndex} per trace and
+     * the size each trace's builder recorded: the relational mapper sums point
+     * lists as it appends to them and the projector does the same for the
+     * points it keeps. Only payloads built elsewhere, such as derived graphs,
+     * are measured by walking them. Sizes are not part of equality.
+     */
+    public static final class IndexedPayload {
+        static final IndexedPayload EMPTY = new IndexedPayload(List.of(), List.of(), List.of());
+
+        private final List<Map<String, Object>> data;
+        private final List<TimeSeriesTraceIndex> traceIndexes;
+        private final List<DashboardPayloadWeights.TraceSize> traceSizes;
+        private final long approximateSizeBytes;
+
+        private IndexedPayload(
+            List<Map<String, Object>> data,
+            List<TimeSeriesTraceIndex> traceIndexes,
+            List<DashboardPayloadWeights.TraceSize> traceSizes
+        ) {
+            this.data = List.copyOf(data);
+            this.traceIndexes = List.copyOf(traceIndexes);
+            this.traceSizes = List.copyOf(traceSizes);
+            long traceSizeBytes = 0L;
+            for (int traceIndex = 0; traceIndex < this.traceSizes.size(); traceIndex += 1) {
+                traceSizeBytes += this.traceSizes.get(traceIndex).totalBytes()
+                    + DashboardPayloadWeights.ofTraceIndex(this.traceIndexes.get(traceIndex));
+            }
+            this.approximateSizeBytes = DashboardPayloadWeights.ofIndexedPayload(traceSizeBytes);
         }
-        String rawValue = String.valueOf(value).strip();
-        if (rawValue.isBlank()) {
-            return null;
+
+        /**
+         * Indexes a payload whose traces were sized while they were built.
+         *
+         * @param data payload traces
+         * @param traceSizes one recorded size per trace, in the same order
+         */
+        public static IndexedPayload of(
+            List<Map<String, Object>> data,
+            List<DashboardPayloadWeights.TraceSize> traceSizes
+        ) {
+            if (data == null || data.isEmpty()) {
+                return EMPTY;
+            }
+            if (traceSizes.size() != data.size()) {
+                throw new IllegalArgumentException("Expected one trace size per trace");
+            }
+            List<TimeSeriesTraceIndex> traceIndexes = new ArrayList<>(data.size());
+            for (Map<String, Object> trace : data) {
+                traceIndexes.add(TimeSeriesTraceIndex.of(trace));
+            }
+            return new IndexedPayload(data, traceIndexes, traceSizes);
         }
-        try {
-            return LocalDate.parse(rawValue);
-        } catch (DateTimeParseException ignored) {
+
+        /** Indexes a payload built without recorded sizes, measuring each trace. */
+        public static IndexedPayload of(List<Map<String, Object>> data) {
+            if (data == null || data.isEmpty()) {
+                return EMPTY;
+            }
+            List<DashboardPayloadWeights.TraceSize> traceSizes = new ArrayList<>(data.size());
+            for (Map<String, Object> trace : data) {
+                traceSizes.add(DashboardPayloadWeights.measureTrace(trace));
+            }
+            return of(data, traceSizes);
         }
-        try {
-            return OffsetDateTime.parse(rawValue).toLocalDate();
-        } catch (DateTimeParseException ignored) {
+
+        public List<Map<String, Object>> data() {
+            return data;
         }
-        try {
-            return LocalDateTime.parse(rawValue).toLocalDate();
-        } catch (DateTimeParseException ignored) {
+
+        public List<TimeSeriesTraceIndex> traceIndexes() {
+            return traceIndexes;
         }
-        try {
-            return LocalDate.parse(rawValue, FLEXIBLE_LOCAL_DATE_FORMATTER);
-        } catch (DateTimeParseException ex) {
-            return null;
+
+        /** Approximate retained size of the traces, their indexes and both lists. */
+        public long approximateSizeBytes() {
+            return approximateSizeBytes;
+        }
+
+        List<DashboardPayloadWeights.TraceSize> traceSizes() {
+            return traceSizes;
+        }
+
+        public boolean containsTimeSeries() {
+            return traceIndexes.stream().anyMatch(TimeSeriesTraceIndex::isTimeSeries);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IndexedPayload that
+                && data.equals(that.data)
+                && traceIndexes.equals(that.traceIndexes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(data, traceIndexes);
+        }
+
+        @Override
+        public String toString() {
+            return "IndexedPayload[data=" + data + ", traceIndexes=" + traceIndexes + "]";
+        }
+    }
+
+    private record IndexedTrace(Map<String, Object> trace, TimeSeriesTraceIndex dateIndex, long pointBytes) {
+    }
+
+    /** Sums the kept x, y and customdata elements as they are copied. */
+    private static final class PointSizes {
+        private long xBytes;
+        private long yBytes;
+        private long customDataBytes;
+        private boolean hasCustomData;
+
+        void add(
+            List<Object> xValues, Object x,
+            List<Object> yValues, Object y,
+            List<Object> customDataValues, Object customData
+        ) {
+            xValues.add(x);
+            yValues.add(y);
+            customDataValues.add(customData);
+            xBytes += DashboardPayloadWeights.ofPoint(x);
+            yBytes += DashboardPayloadWeights.ofPoint(y);
+            customDataBytes += DashboardPayloadWeights.ofPoint(customData);
+            hasCustomData |= customData != null;
+        }
+
+        long bytes() {
+            long bytes = DashboardPayloadWeights.ofPointList("x") + xBytes
+                + DashboardPayloadWeights.ofPointList("y") + yBytes;
+            return hasCustomData ? bytes + DashboardPayloadWeights.ofPointList("customdata") + customDataBytes : bytes;
         }
     }
 }
@@ -0,0 +1,23 @@
+package com.aphinity.client_analytics_core.api.core.services.location;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Revisions one dashboard graph read was checked against, with the strong
+ * entity tag derived from them.
+ *
+ * @param eTag quoted strong entity tag for the whole response
+ * @param locationId location being read
+ * @param locationRevision location update time, touched by every dashboard mutation
+ * @param anchorDate date that month windows are measured from
+ * @param rangeKey canonical requested range, {@code range:all} or {@code range:N}
+ */
+public record DashboardGraphReadRevision(
+    String eTag,
+    Long locationId,
+    Instant locationRevision,
+    LocalDate anchorDate,
+    String rangeKey
+) {
+}
@@ -0,0 +1,48 @@
+package com.aphinity.client_analytics_core.api.core.services.location;
+
+import com.aphinity.client_analytics_core.api.core.plotly.TimeSeriesTraceDownsampler;
+
+/**
+ * Response-side trace shaping requested for a dashboard graph read: the wire
+ * {@link DashboardTraceFormat} and an optional per-trace point budget applied
+ * with {@link TimeSeriesTraceDownsampler}. A {@code null} {@link #maxPoints()}
+ * sends every point.
+ *
+ * @param format wire format for the graphs' traces
+ * @param maxPoints normalized point budget per time-series trace, or {@code null}
+ */
+public record DashboardTraceEncoding(DashboardTraceFormat format, Integer maxPoints) {
+    public static final String MAX_POINTS_PARAMETER = "maxPoints";
+    public static final DashboardTraceEncoding PLOTLY = new DashboardTraceEncoding(DashboardTraceFormat.PLOTLY, null);
+
+    public DashboardTraceEncoding {
+        format = format == null ? DashboardTraceFormat.PLOTLY : format;
+        maxPoints = normalizeMaxPoints(maxPoints);
+    }
+
+    /**
+     * Resolves the request's trace shaping. Missing or non-positive
+     * {@value #MAX_POINTS_PARAMETER} values disable downsampling; smaller
+     * budgets than LTTB can honor are raised to
+     * {@link TimeSeriesTraceDownsampler#MIN_MAX_POINTS}.
+     */
+    public static DashboardTraceEncoding fromRequest(String traceFormat, String accept, Integer maxPoints) {
+        return new DashboardTraceEncoding(DashboardTraceFormat.fromRequest(traceFormat, accept), maxPoints);
+    }
+
+    public boolean downsamples() {
+        return maxPoints != null;
+    }
+
+    /** Stable key fragment identifying this shaping in tags and cache keys. */
+    String key() {
+        return "format:" + format.name() + "|points:" + (maxPoints == null ? "all" : maxPoints);
+    }
+
+    private static Integer normalizeMaxPoints(Integer maxPoints) {
+        if (maxPoints == null || maxPoints <= 0) {
+            return null;
+        }
+        return Math.max(TimeSeriesTraceDownsampler.MIN_MAX_POINTS, maxPoints);
+    }
+}
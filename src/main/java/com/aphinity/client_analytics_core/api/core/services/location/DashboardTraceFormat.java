@@ -0,0 +1,53 @@
+package com.aphinity.client_analytics_core.api.core.services.location;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Wire format requested for dashboard graph traces.
+ *
+ * <p>{@link #PLOTLY} sends traces exactly as Plotly consumes them.
+ * {@link #COMPACT} sends daily time-series traces in the columnar shape
+ * produced by
+ * {@link com.aphinity.client_analytics_core.api.core.plotly.CompactTimeSeriesTraceEncoder}.
+ * Clients opt in with {@code traceFormat=compact} or by accepting
+ * {@link #COMPACT_MEDIA_TYPE_VALUE}.</p>
+ */
+public enum DashboardTraceFormat {
+    PLOTLY,
+    COMPACT;
+
+    public static final String REQUEST_PARAMETER = "traceFormat";
+    public static final String COMPACT_MEDIA_TYPE_VALUE = "application/vnd.aphinity.compact-traces+json";
+    public static final MediaType COMPACT_MEDIA_TYPE = MediaType.parseMediaType(COMPACT_MEDIA_TYPE_VALUE);
+
+    /**
+     * Resolves the format from the query parameter, falling back to the
+     * Accept header. Unknown or malformed values select {@link #PLOTLY}.
+     *
+     * @param traceFormat optional {@value #REQUEST_PARAMETER} query value
+     * @param accept optional Accept header value
+     * @return requested trace format
+     */
+    public static DashboardTraceFormat fromRequest(String traceFormat, String accept) {
+        if (traceFormat != null && !traceFormat.isBlank()) {
+            return "compact".equals(traceFormat.strip().toLowerCase(Locale.ROOT)) ? COMPACT : PLOTLY;
+        }
+        if (accept == null || accept.isBlank()) {
+            return PLOTLY;
+        }
+        try {
+            List<MediaType> acceptedTypes = MediaType.parseMediaTypes(accept);
+            return acceptedTypes.stream().anyMatch(COMPACT_MEDIA_TYPE::equalsTypeAndSubtype) ? COMPACT : PLOTLY;
+        } catch (InvalidMediaTypeException ex) {
+            return PLOTLY;
+        }
+    }
+
+    public MediaType mediaType() {
+        return this == COMPACT ? COMPACT_MEDIA_TYPE : MediaType.APPLICATION_JSON;
+    }
+}
@@ -0,0 +1,260 @@
+package com.aphinity.client_analytics_core.api.core.services.location;
+
+import com.aphinity.client_analytics_core.api.core.plotly.CompactTimeSeriesTraceEncoder;
+import com.aphinity.client_analytics_core.api.core.plotly.TimeSeriesTraceDownsampler;
+import com.aphinity.client_analytics_core.api.core.response.dashboard.GraphResponse;
+import com.aphinity.client_analytics_core.api.core.response.dashboard.LocationSectionGraphsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Serialize-once JSON bodies for dashboard graph reads.
+ *
+ * <p>Each graph is encoded to UTF-8 once per revision it was built from: the
+ * location and graph update times, the requested range and the anchor date.
+ * Later reads of the same revision copy the cached bytes into the response
+ * instead of walking the graph's nested payload maps through Jackson again.
+ * Keys carry their revisions, so a mutation simply stops matching old entries
+ * and they age out without explicit invalidation. Reads without a revision
+ * are encoded without caching. Each trace format and point budget is cached
+ * separately, so a downsampled trace is reduced once per graph revision.</p>
+ */
+@Component
+public class GraphResponseJsonCache {
+    public static final long MAX_WEIGHT_BYTES = 32L * 1024L * 1024L;
+    public static final Duration IDLE_TTL = Duration.ofMinutes(10);
+
+    private static final byte[] ARRAY_START = bytes("[");
+    private static final byte[] ARRAY_END = bytes("]");
+    private static final byte[] SEPARATOR = bytes(",");
+
+    private final JsonMapper jsonMapper;
+    private final Cache<GraphJsonKey, byte[]> graphJson;
+
+    public GraphResponseJsonCache(JsonMapper jsonMapper) {
+        this(jsonMapper, MAX_WEIGHT_BYTES, IDLE_TTL);
+    }
+
+    GraphResponseJsonCache(JsonMapper jsonMapper, long maximumWeightBytes, Duration idleTtl) {
+        this.jsonMapper = jsonMapper;
+        this.graphJson = Caffeine.newBuilder()
+            .maximumWeight(maximumWeightBytes)
+            .weigher((GraphJsonKey key, byte[] value) -> value.length)
+            .expireAfterAccess(idleTtl)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Writes a location's graph collection as one JSON array, resolving each
+     * graph only when it is its turn to be written. A graph whose fragment is
+     * cached for its planned revision is copied without being resolved, so at
+     * most one graph payload is held at a time. Nothing is written until the
+     * first fragment is ready, which leaves the response clean for errors
+     * raised by the first graph.
+     *
+     * @param body response stream
+     * @param revision revision the read was checked against, if any
+     * @param traceEncoding wire format and point budget for the graphs' traces
+     * @param graphs planned graphs in response order
+     * @param resolver builds a planned graph's payload; empty skips the graph
+     */
+    public void writeGraphs(
+        OutputStream body,
+        Optional<DashboardGraphReadRevision> revision,
+        DashboardTraceEncoding traceEncoding,
+        List<LocationGraphReadPlan.PlannedGraph> graphs,
+        Function<LocationGraphReadPlan.PlannedGraph, Optional<GraphResponse>> resolver
+    ) throws IOException {
+        boolean started = false;
+        for (LocationGraphReadPlan.PlannedGraph plannedGraph : graphs) {
+            GraphJsonKey plannedKey = graphJsonKey(
+                revision,
+                traceEncoding,
+                plannedGraph.graphId(),
+                plannedGraph.updatedAt(),
+                plannedGraph.sectionTimeRangeEnabled()
+            );
+            byte[] fragment = plannedKey == null ? null : graphJson.getIfPresent(plannedKey);
+            if (fragment == null) {
+                Optional<GraphResponse> graph = resolver.apply(plannedGraph);
+                if (graph.isEmpty()) {
+                    continue;
+                }
+                fragment = graphJson(revision, traceEncoding, graph.get());
+            }
+            body.write(started ? SEPARATOR : ARRAY_START);
+            started = true;
+            body.write(fragment);
+        }
+        if (!started) {
+            body.write(ARRAY_START);
+        }
+        body.write(ARRAY_END);
+    }
+
+    /**
+     * Encodes a section resource with the same field order Jackson uses for
+     * {@link LocationSectionGraphsResponse}.
+     */
+    public byte[] encodeSection(
+        Optional<DashboardGraphReadRevision> revision,
+        DashboardTraceEncoding traceEncoding,
+        LocationSectionGraphsResponse section
+    ) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writeSection(body, revision, traceEncoding, section);
+        return body.toByteArray();
+    }
+
+    /** Encodes several section resources as one JSON array in the given order. */
+    public byte[] encodeSections(
+        Optional<DashboardGraphReadRevision> revision,
+        DashboardTraceEncoding traceEncoding,
+        List<LocationSectionGraphsResponse> sections
+    ) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(ARRAY_START);
+        for (int index = 0; index < sections.size(); index += 1) {
+            if (index > 0) {
+                body.writeBytes(SEPARATOR);
+            }
+            writeSection(body, revision, traceEncoding, sections.get(index));
+        }
+        body.writeBytes(ARRAY_END);
+        return body.toByteArray();
+    }
+
+    long cachedGraphCount() {
+        return graphJson.estimatedSize();
+    }
+
+    private void writeSection(
+        ByteArrayOutputStream body,
+        Optional<DashboardGraphReadRevision> revision,
+        DashboardTraceEncoding traceEncoding,
+        LocationSectionGraphsResponse section
+    ) {
+        body.writeBytes(bytes("{\"sectionId\":"));
+        body.writeBytes(jsonMapper.writeValueAsBytes(section.sectionId()));
+        body.writeBytes(bytes(",\"monthRange\":"));
+        body.writeBytes(jsonMapper.writeValueAsBytes(section.monthRange()));
+        body.writeBytes(bytes(",\"graphs\":"));
+        writeGraphArray(body, revision, traceEncoding, section.graphs());
+        body.writeBytes(bytes(",\"missingGraphIds\":"));
+        body.writeBytes(jsonMapper.writeValueAsBytes(section.missingGraphIds()));
+        body.writeBytes(bytes("}"));
+    }
+
+    private void writeGraphArray(
+        ByteArrayOutputStream body,
+        Optional<DashboardGraphReadRevision> revision,
+        DashboardTraceEncoding traceEncoding,
+        List<GraphResponse> graphs
+    ) {
+        body.writeBytes(ARRAY_START);
+        for (int index = 0; index < graphs.size(); index += 1) {
+            if (index > 0) {
+                body.writeBytes(SEPARATOR);
+            }
+            body.writeBytes(graphJson(revision, traceEncoding, graphs.get(index)));
+        }
+        body.writeBytes(ARRAY_END);
+    }
+
+    private byte[] graphJson(
+        Optional<DashboardGraphReadRevision> revision,
+        DashboardTraceEncoding traceEncoding,
+        GraphResponse graph
+    ) {
+        GraphJsonKey key = graphJsonKey(
+            revision,
+            traceEncoding,
+            graph.id(),
+            graph.updatedAt(),
+            graph.sectionTimeRangeEnabled()
+        );
+        if (key == null) {
+            return serialize(traceEncoding, graph);
+        }
+        return graphJson.get(key, ignored -> serialize(traceEncoding, graph));
+    }
+
+    private static GraphJsonKey graphJsonKey(
+        Optional<DashboardGraphReadRevision> revision,
+        DashboardTraceEncoding traceEncoding,
+        Long graphId,
+        Instant graphRevision,
+        boolean sectionTimeRangeEnabled
+    ) {
+        if (revision.isEmpty() || graphId == null || graphRevision == null) {
+            return null;
+        }
+        DashboardGraphReadRevision readRevision = revision.get();
+        return new GraphJsonKey(
+            readRevision.locationId(),
+            readRevision.locationRevision(),
+            readRevision.anchorDate(),
+            readRevision.rangeKey(),
+            graphId,
+            graphRevision,
+            sectionTimeRangeEnabled,
+            traceEncoding
+        );
+    }
+
+    private byte[] serialize(DashboardTraceEncoding traceEncoding, GraphResponse graph) {
+        if (traceEncoding.format() != DashboardTraceFormat.COMPACT && !traceEncoding.downsamples()) {
+            return jsonMapper.writeValueAsBytes(graph);
+        }
+        List<Map<String, Object>> data = graph.data();
+        if (traceEncoding.downsamples()) {
+            data = TimeSeriesTraceDownsampler.downsample(data, traceEncoding.maxPoints());
+        }
+        if (traceEncoding.format() == DashboardTraceFormat.COMPACT) {
+            data = CompactTimeSeriesTraceEncoder.encode(data);
+        }
+        return jsonMapper.writeValueAsBytes(new GraphResponse(
+            graph.id(),
+            graph.name(),
+            graph.description(),
+            data,
+            graph.layout(),
+            graph.config(),
+            graph.style(),
+            graph.createdAt(),
+            graph.updatedAt(),
+            graph.sectionTimeRangeEnabled()
+        ));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record GraphJsonKey(
+        Long locationId,
+        Instant locationRevision,
+        LocalDate anchorDate,
+        String rangeKey,
+        Long graphId,
+        Instant graphRevision,
+        boolean sectionTimeRangeEnabled,
+        DashboardTraceEncoding traceEncoding
+    ) {
+    }
+}
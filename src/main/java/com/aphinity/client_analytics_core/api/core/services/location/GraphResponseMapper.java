@@ -76,6 +76,26 @@ public class GraphResponseMapper {
         return toResponse(graph, payload, payload.data(), sectionTimeRangeEnabled);
     }
 
+    /**
+     * Maps a graph whose all-time data payload was normalized ahead of time,
+     * e.g. by the dashboard projection cache. Layout, configuration, and style
+     * are normalized exactly as for {@link #toResponse(Graph)}.
+     *
+     * @param graph graph entity to expose
+     * @param normalizedData normalized all-time graph data
+     * @param sectionTimeRangeEnabled whether the graph's section supports month ranges
+     * @return normalized graph response
+     */
+    public GraphResponse toNormalizedResponse(
+        Graph graph,
+        List<Map<String, Object>> normalizedData,
+        boolean sectionTimeRangeEnabled
+    ) {
+        GraphPayloadMapper.GraphPayload payload =
+            GraphPayloadMapper.normalize(null, graph.getLayout(), graph.getConfig(), graph.getStyle());
+        return toResponse(graph, payload, normalizedData, sectionTimeRangeEnabled);
+    }
+
     private GraphResponse toResponse(
         Graph graph,
         GraphPayloadMapper.GraphPayload payload,
@@ -12,6 +12,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
+
 /** Authorized application boundary for dashboard spreadsheet uploads. */
 @Service
 public class LocationDashboardUploadService {
@@ -43,6 +45,10 @@ public class LocationDashboardUploadService {
         }
         Location location = locationRepository.findById(locationId).orElseThrow(accessPolicy::locationNotFound);
         LocationDashboardSpreadsheetUploadResponse response = importService.importLocationDashboard(location, file, persistSamples);
+        if (persistSamples) {
+            // Replaced samples change range projections before any graph is saved.
+            locationRepository.touchUpdatedAt(locationId, Instant.now());
+        }
         cacheInvalidationService.invalidate(locationId);
         return response;
     }
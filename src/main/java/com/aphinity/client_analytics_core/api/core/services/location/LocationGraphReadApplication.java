@@ -3,8 +3,18 @@ package com.aphinity.client_analytics_core.api.core.services.location;
 import com.aphinity.client_analytics_core.api.core.response.dashboard.GraphResponse;
 
 import java.util.List;
+import java.util.Optional;
 
 /** Read boundary for a location's complete graph collection. */
 public interface LocationGraphReadApplication {
     List<GraphResponse> getAccessibleLocationGraphs(Long userId, Long locationId, Integer monthRange);
+
+    /** Checks access and lists the collection's graphs without building their payloads. */
+    LocationGraphReadPlan planAccessibleLocationGraphs(Long userId, Long locationId, Integer monthRange);
+
+    /**
+     * Builds one planned graph's payload in its own read. Empty when the graph
+     * was unassigned after the plan was made.
+     */
+    Optional<GraphResponse> getPlannedLocationGraph(LocationGraphReadPlan plan, LocationGraphReadPlan.PlannedGraph graph);
 }
@@ -0,0 +1,38 @@
+package com.aphinity.client_analytics_core.api.core.services.location;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Access-checked outline of a location's graph collection: the graphs in
+ * dashboard order with the revisions they were listed at, but none of their
+ * payloads. Only {@link LocationGraphReadApplication} creates plans, so holding
+ * one means the caller's access to the location was checked.
+ */
+public final class LocationGraphReadPlan {
+    private final Long locationId;
+    private final DashboardGraphMonthRange monthRange;
+    private final List<PlannedGraph> graphs;
+
+    LocationGraphReadPlan(Long locationId, DashboardGraphMonthRange monthRange, List<PlannedGraph> graphs) {
+        this.locationId = locationId;
+        this.monthRange = monthRange;
+        this.graphs = List.copyOf(graphs);
+    }
+
+    public Long locationId() {
+        return locationId;
+    }
+
+    public DashboardGraphMonthRange monthRange() {
+        return monthRange;
+    }
+
+    public List<PlannedGraph> graphs() {
+        return graphs;
+    }
+
+    /** One assigned graph and the revision it had when the plan was made. */
+    public record PlannedGraph(Long graphId, Instant updatedAt, boolean sectionTimeRangeEnabled) {
+    }
+}
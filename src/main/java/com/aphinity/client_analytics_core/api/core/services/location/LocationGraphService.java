@@ -36,6 +36,7 @@ import com.aphinity.client_analytics_core.api.core.services.location.dashboardim
 import com.aphinity.client_analytics_core.api.core.services.location.dashboardimport.DashboardProjectionInvalidator;
 import com.aphinity.client_analytics_core.api.core.services.location.payload.LocationGraphUpdatePayloadValidationFactory;
 import com.aphinity.client_analytics_core.api.core.services.location.payload.LocationGraphUpdatePayloadValidationFactory.ValidatedGraphPayload;
+import com.aphinity.client_analytics_core.api.core.services.GraphPointWriter;
 import com.aphinity.client_analytics_core.api.core.services.PersistenceEntityReloader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,10 +55,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -72,8 +75,10 @@ import java.util.stream.Collectors;
 public class LocationGraphService implements LocationGraphReadApplication,
     LocationSectionGraphReadApplication, LocationGraphTableReadApplication, LocationGraphMutationApplication {
     private static final Logger log = LoggerFactory.getLogger(LocationGraphService.class);
+    static final int MAX_BATCH_SECTIONS = 50;
 
     private PersistenceEntityReloader entityReloader = PersistenceEntityReloader.noop();
+    private GraphPointWriter graphPointWriter = GraphPointWriter.noop();
 
     private final AppUserRepository appUserRepository;
     private final LocationRepository locationRepository;
@@ -136,6 +141,11 @@ public class LocationGraphService implements LocationGraphReadApplication,
         this.entityReloader = entityReloader;
     }
 
+    @Autowired(required = false)
+    void configureGraphPointWriter(GraphPointWriter graphPointWriter) {
+        this.graphPointWriter = graphPointWriter;
+    }
+
     /**
      * Returns graphs assigned to a location when the caller has access.
      *
@@ -157,6 +167,7 @@ public class LocationGraphService implements LocationGraphReadApplication,
      * @param monthRange requested rolling month range, or all-time when null/non-positive
      * @return assigned graph payloads with any applicable time-series projection
      */
+    @Override
     @Transactional(readOnly = true)
     public List<GraphResponse> getAccessibleLocationGraphs(Long userId, Long locationId, Integer monthRange) {
         AppUser user = requireUser(userId);
@@ -169,32 +180,127 @@ public class LocationGraphService implements LocationGraphReadApplication,
         Map<Long, DashboardGraphProjection> rangeProjectionsByGraphId = resolvedMonthRange.isAllTime()
             ? Map.of()
             : graphProjectionQuery.resolveGraphProjections(locationId, resolvedMonthRange);
-        List<Graph> assignedGraphs = locationGraphRepository.findByLocationIdWithGraphDetails(locationId).stream()
+        // All-time payloads come from the projection cache, which reads missing traces as flat rows.
+        List<LocationGraph> locationGraphs = resolvedMonthRange.isAllTime()
+            ? locationGraphRepository.findByLocationIdWithGraph(locationId)
+            : locationGraphRepository.findByLocationIdWithGraphDetails(locationId);
+        List<Graph> assignedGraphs = locationGraphs.stream()
             .map(LocationGraph::getGraph)
             .filter(Objects::nonNull)
             .toList();
+        Map<Long, DashboardGraphProjection> allTimeProjectionsByGraphId = resolvedMonthRange.isAllTime()
+            ? graphProjectionQuery.resolveAllTimeGraphProjections(locationId, assignedGraphs)
+            : Map.of();
         Map<Long, Boolean> sectionTimeRangeCapabilities = graphCapabilityQuery
             .resolveSectionTimeRangeCapabilities(locationName, assignedGraphs);
         return assignedGraphs.stream()
             .map(graph -> {
+                boolean sectionTimeRangeEnabled = sectionTimeRangeCapabilities.getOrDefault(graph.getId(), true);
+                DashboardGraphProjection allTimeProjection = allTimeProjectionsByGraphId.get(graph.getId());
+                if (allTimeProjection != null) {
+                    return graphResponseMapper.toNormalizedResponse(
+                        graph,
+                        allTimeProjection.data(),
+                        sectionTimeRangeEnabled
+                    );
+                }
                 DashboardGraphProjection projection = rangeProjectionsByGraphId.get(graph.getId());
                 return projection == null
-                    ? graphResponseMapper.toResponse(
-                        graph, null, null, sectionTimeRangeCapabilities.getOrDefault(graph.getId(), true)
-                    )
+                    ? graphResponseMapper.toResponse(graph, null, null, sectionTimeRangeEnabled)
                     : graphResponseMapper.toResponse(
                         graph,
                         projection.data(),
                         projection.layout(),
-                        sectionTimeRangeCapabilities.getOrDefault(graph.getId(), true)
+                        sectionTimeRangeEnabled
                     );
             })
             .toList();
     }
 
     /**
-     * Returns one dashboard section in layout order for an arbitrary positive
-     * rolling month range without rebuilding unrelated section graphs.
+     * Checks access and lists the location's graphs in dashboard order with
+     * their revisions and section time-range capabilities. Graphs are loaded
+     * without traces and no projection is resolved, so the read transaction
+     * ends before any payload is built.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public LocationGraphReadPlan planAccessibleLocationGraphs(Long userId, Long locationId, Integer monthRange) {
+        AppUser user = requireUser(userId);
+        String locationName = locationRepository.findNameById(locationId).orElseThrow(this::locationNotFound);
+        if (!hasLocationAccess(user, locationId)) {
+            throw forbidden();
+        }
+
+        List<Graph> assignedGraphs = locationGraphRepository.findByLocationIdWithGraph(locationId).stream()
+            .map(LocationGraph::getGraph)
+            .filter(Objects::nonNull)
+            .filter(graph -> graph.getId() != null)
+            .toList();
+        Map<Long, Boolean> sectionTimeRangeCapabilities = graphCapabilityQuery
+            .resolveSectionTimeRangeCapabilities(locationName, assignedGraphs);
+        return new LocationGraphReadPlan(
+            locationId,
+            DashboardGraphMonthRange.fromRequestValue(monthRange),
+            assignedGraphs.stream()
+                .map(graph -> new LocationGraphReadPlan.PlannedGraph(
+                    graph.getId(),
+                    graph.getUpdatedAt(),
+                    sectionTimeRangeCapabilities.getOrDefault(graph.getId(), true)
+                ))
+                .toList()
+        );
+    }
+
+    /**
+     * Builds one graph of a plan the same way
+     * {@link #getAccessibleLocationGraphs(Long, Long, Integer)} builds it, in a
+     * read transaction of its own. Ranged graphs resolve only their own
+     * projection and its derived-graph dependencies.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<GraphResponse> getPlannedLocationGraph(
+        LocationGraphReadPlan plan,
+        LocationGraphReadPlan.PlannedGraph plannedGraph
+    ) {
+        Long locationId = plan.locationId();
+        List<Long> graphIds = List.of(plannedGraph.graphId());
+        DashboardGraphMonthRange monthRange = plan.monthRange();
+        List<LocationGraph> locationGraphs = monthRange.isAllTime()
+            ? locationGraphRepository.findByLocationIdAndGraphIdInWithGraph(locationId, graphIds)
+            : locationGraphRepository.findByLocationIdAndGraphIdInWithGraphDetails(locationId, graphIds);
+        Optional<Graph> assignedGraph = locationGraphs.stream()
+            .map(LocationGraph::getGraph)
+            .filter(Objects::nonNull)
+            .findFirst();
+        if (assignedGraph.isEmpty()) {
+            return Optional.empty();
+        }
+        Graph graph = assignedGraph.get();
+        boolean sectionTimeRangeEnabled = plannedGraph.sectionTimeRangeEnabled();
+        if (monthRange.isAllTime()) {
+            DashboardGraphProjection projection = graphProjectionQuery
+                .resolveAllTimeGraphProjections(locationId, List.of(graph))
+                .get(graph.getId());
+            return Optional.of(projection == null
+                ? graphResponseMapper.toResponse(graph, null, null, sectionTimeRangeEnabled)
+                : graphResponseMapper.toNormalizedResponse(graph, projection.data(), sectionTimeRangeEnabled));
+        }
+        DashboardGraphProjection projection = graphProjectionQuery
+            .resolveGraphProjections(locationId, graphIds, monthRange)
+            .get(graph.getId());
+        return Optional.of(projection == null
+            ? graphResponseMapper.toResponse(graph, null, null, sectionTimeRangeEnabled)
+            : graphResponseMapper.toResponse(graph, projection.data(), projection.layout(), sectionTimeRangeEnabled));
+    }
+
+    /**
+     * Returns one dashboard section in layout order without rebuilding unrelated
+     * section graphs. Positive month ranges are projected like the full
+     * dashboard; null or non-positive values return the section's all-time
+     * payloads, which need no derived-graph dependencies because derived
+     * graphs persist their all-time data.
      */
     @Override
     @Transactional(readOnly = true)
@@ -204,24 +310,61 @@ public class LocationGraphService implements LocationGraphReadApplication,
         Long sectionId,
         Integer monthRange
     ) {
-        if (monthRange == null || monthRange <= 0) {
-            throw invalidSectionMonthRange();
+        return getAccessibleLocationSectionsGraphs(userId, locationId, List.of(sectionId), monthRange).getFirst();
+    }
+
+    /**
+     * Returns several dashboard sections from one read: access is checked once,
+     * the sections' graphs load in one query, and ranged projections resolve
+     * for the union of their graph ids so derived graphs share one refresh
+     * context and historical load. Sections are returned in request order with
+     * duplicate ids collapsed; any section missing from the layout fails the
+     * whole read like the single-section endpoint.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<LocationSectionGraphsResponse> getAccessibleLocationSectionsGraphs(
+        Long userId,
+        Long locationId,
+        List<Long> sectionIds,
+        Integer monthRange
+    ) {
+        Set<Long> requestedSectionIds = sectionIds == null ? Set.of() : new LinkedHashSet<>(sectionIds);
+        if (requestedSectionIds.isEmpty() || requestedSectionIds.contains(null)) {
+            throw invalidSectionIds();
         }
+        if (requestedSectionIds.size() > MAX_BATCH_SECTIONS) {
+            throw tooManySections();
+        }
+        DashboardGraphMonthRange resolvedMonthRange = DashboardGraphMonthRange.fromRequestValue(monthRange);
+        Integer responseMonthRange = resolvedMonthRange.isAllTime()
+            ? DashboardGraphMonthRange.ALL_TIME_REQUEST_VALUE
+            : resolvedMonthRange.months();
         AppUser user = requireUser(userId);
         Location location = locationRepository.findById(locationId).orElseThrow(this::locationNotFound);
         if (!hasLocationAccess(user, locationId)) {
             throw forbidden();
         }
-        List<Long> sectionGraphIds = sectionGraphSelector.select(location.getSectionLayout(), sectionId)
-            .orElseThrow(this::locationSectionReadNotFound)
-            .graphIds();
-        if (sectionGraphIds.isEmpty()) {
-            return new LocationSectionGraphsResponse(sectionId, monthRange, List.of(), List.of());
+        Map<Long, List<Long>> graphIdsBySectionId = new LinkedHashMap<>();
+        Set<Long> requestedGraphIds = new LinkedHashSet<>();
+        for (Long sectionId : requestedSectionIds) {
+            List<Long> sectionGraphIds = sectionGraphSelector.select(location.getSectionLayout(), sectionId)
+                .orElseThrow(this::locationSectionReadNotFound)
+                .graphIds();
+            graphIdsBySectionId.put(sectionId, sectionGraphIds);
+            requestedGraphIds.addAll(sectionGraphIds);
+        }
+        if (requestedGraphIds.isEmpty()) {
+            return graphIdsBySectionId.keySet().stream()
+                .map(sectionId -> new LocationSectionGraphsResponse(sectionId, responseMonthRange, List.of(), List.of()))
+                .toList();
         }
 
-        Map<Long, Graph> assignedGraphsById = locationGraphRepository
-            .findByLocationIdAndGraphIdInWithGraphDetails(locationId, sectionGraphIds)
-            .stream()
+        List<Long> graphIds = List.copyOf(requestedGraphIds);
+        List<LocationGraph> locationGraphs = resolvedMonthRange.isAllTime()
+            ? locationGraphRepository.findByLocationIdAndGraphIdInWithGraph(locationId, graphIds)
+            : locationGraphRepository.findByLocationIdAndGraphIdInWithGraphDetails(locationId, graphIds);
+        Map<Long, Graph> assignedGraphsById = locationGraphs.stream()
             .map(LocationGraph::getGraph)
             .filter(Objects::nonNull)
             .filter(graph -> graph.getId() != null)
@@ -231,45 +374,64 @@ public class LocationGraphService implements LocationGraphReadApplication,
                 (left, right) -> left,
                 LinkedHashMap::new
             ));
-        DashboardGraphMonthRange resolvedMonthRange = DashboardGraphMonthRange.fromRequestValue(monthRange);
-        Map<Long, DashboardGraphProjection> projectionsByGraphId = graphProjectionQuery.resolveGraphProjections(
-            locationId,
-            sectionGraphIds,
-            resolvedMonthRange
-        );
+        Map<Long, DashboardGraphProjection> projectionsByGraphId = resolvedMonthRange.isAllTime()
+            ? graphProjectionQuery.resolveAllTimeGraphProjections(locationId, assignedGraphsById.values())
+            : graphProjectionQuery.resolveGraphProjections(locationId, graphIds, resolvedMonthRange);
         Map<Long, Boolean> sectionTimeRangeCapabilities = graphCapabilityQuery
             .resolveSectionTimeRangeCapabilities(location.getName(), assignedGraphsById.values());
-        List<Long> unresolvedProjectionIds = assignedGraphsById.keySet().stream()
-            .filter(graphId -> !projectionsByGraphId.containsKey(graphId))
-            .toList();
+        List<Long> unresolvedProjectionIds = resolvedMonthRange.isAllTime()
+            ? List.of()
+            : assignedGraphsById.keySet().stream()
+                .filter(graphId -> !projectionsByGraphId.containsKey(graphId))
+                .toList();
         if (!unresolvedProjectionIds.isEmpty()) {
             log.error(
-                "Section graph projection failed locationId={} sectionId={} monthRange={} graphIds={}",
+                "Section graph projection failed locationId={} sectionIds={} monthRange={} graphIds={}",
                 locationId,
-                sectionId,
+                graphIdsBySectionId.keySet(),
                 monthRange,
                 unresolvedProjectionIds
             );
             throw graphProjectionUnavailable();
         }
 
-        List<GraphResponse> graphs = sectionGraphIds.stream()
-            .map(assignedGraphsById::get)
-            .filter(Objects::nonNull)
-            .map(graph -> {
-                DashboardGraphProjection projection = projectionsByGraphId.get(graph.getId());
-                return graphResponseMapper.toResponse(
+        List<LocationSectionGraphsResponse> sections = new ArrayList<>(graphIdsBySectionId.size());
+        graphIdsBySectionId.forEach((sectionId, sectionGraphIds) -> {
+            List<GraphResponse> graphs = sectionGraphIds.stream()
+                .map(assignedGraphsById::get)
+                .filter(Objects::nonNull)
+                .map(graph -> sectionGraphResponse(
                     graph,
-                    projection.data(),
-                    projection.layout(),
+                    projectionsByGraphId.get(graph.getId()),
+                    resolvedMonthRange,
                     sectionTimeRangeCapabilities.getOrDefault(graph.getId(), true)
-                );
-            })
-            .toList();
-        List<Long> missingGraphIds = sectionGraphIds.stream()
-            .filter(graphId -> !assignedGraphsById.containsKey(graphId))
-            .toList();
-        return new LocationSectionGraphsResponse(sectionId, monthRange, graphs, missingGraphIds);
+                ))
+                .toList();
+            List<Long> missingGraphIds = sectionGraphIds.stream()
+                .filter(graphId -> !assignedGraphsById.containsKey(graphId))
+                .toList();
+            sections.add(new LocationSectionGraphsResponse(sectionId, responseMonthRange, graphs, missingGraphIds));
+        });
+        return List.copyOf(sections);
+    }
+
+    private GraphResponse sectionGraphResponse(
+        Graph graph,
+        DashboardGraphProjection projection,
+        DashboardGraphMonthRange resolvedMonthRange,
+        boolean sectionTimeRangeEnabled
+    ) {
+        if (!resolvedMonthRange.isAllTime()) {
+            return graphResponseMapper.toResponse(
+                graph,
+                projection.data(),
+                projection.layout(),
+                sectionTimeRangeEnabled
+            );
+        }
+        return projection == null
+            ? graphResponseMapper.toResponse(graph, null, null, sectionTimeRangeEnabled)
+            : graphResponseMapper.toNormalizedResponse(graph, projection.data(), sectionTimeRangeEnabled);
     }
 
     @Transactional(readOnly = true)
@@ -279,7 +441,8 @@ public class LocationGraphService implements LocationGraphReadApplication,
         Long graphId,
         Integer monthRange,
         Integer page,
-        Integer size
+        Integer size,
+        String cursor
     ) {
         AppUser user = requireUser(userId);
         if (!locationRepository.existsById(locationId)) {
@@ -296,7 +459,8 @@ public class LocationGraphService implements LocationGraphReadApplication,
             graphId,
             monthRange,
             page,
-            size
+            size,
+            cursor
         );
     }
 
@@ -350,6 +514,7 @@ public class LocationGraphService implements LocationGraphReadApplication,
         Graph savedGraph;
         try {
             savedGraph = graphRepository.saveAndFlush(graph);
+            graphPointWriter.writePendingPoints(List.of(graph));
         } catch (RuntimeException ex) {
             log.error(
                 "Graph create persistence failed before assignment actorUserId={} locationId={} sectionId={} createNewSection={} graphType={}",
@@ -687,6 +852,7 @@ public class LocationGraphService implements LocationGraphReadApplication,
             try {
                 if (hasGraphUpdates) {
                     graphRepository.saveAllAndFlush(graphs);
+                    graphPointWriter.writePendingPoints(graphs);
                     // Spreadsheet preview applies already carry fully-computed derived graphs.
                     // Rebuilding them here from persisted corrective actions would wipe
                     // non-conformance resolution state that only exists in the preview batch.
@@ -1344,8 +1510,15 @@ public class LocationGraphService implements LocationGraphReadApplication,
         return new ResponseStatusException(HttpStatus.NOT_FOUND, "Location section not found");
     }
 
-    private ResponseStatusException invalidSectionMonthRange() {
-        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Section graph month range must be positive");
+    private ResponseStatusException invalidSectionIds() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Section ids are required");
+    }
+
+    private ResponseStatusException tooManySections() {
+        return new ResponseStatusException(
+            HttpStatus.BAD_REQUEST,
+            "At most " + MAX_BATCH_SECTIONS + " sections can be read at once"
+        );
     }
 
     private ResponseStatusException graphProjectionUnavailable() {
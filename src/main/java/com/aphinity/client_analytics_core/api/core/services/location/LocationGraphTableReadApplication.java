@@ -5,6 +5,6 @@ import com.aphinity.client_analytics_core.api.core.response.dashboard.LocationDa
 /** Read boundary for pageable dashboard table projections. */
 public interface LocationGraphTableReadApplication {
     LocationDashboardTablePageResponse getAccessibleLocationGraphTablePage(
-        Long userId, Long locationId, Long graphId, Integer monthRange, Integer page, Integer size
+        Long userId, Long locationId, Long graphId, Integer monthRange, Integer page, Integer size, String cursor
     );
 }
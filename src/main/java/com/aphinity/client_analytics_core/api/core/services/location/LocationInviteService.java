@@ -315,7 +315,7 @@ public class LocationInviteService {
             location.getSectionLayout(),
             location.getWorkOrderEmail(),
             null,
-            location.getThumbnail() != null && location.getThumbnail().length > 0
+            location.hasThumbnail()
         );
     }
 
@@ -22,7 +22,6 @@ public class LocationResponseMapper {
     public LocationResponse toResponse(Location location, AppUser user) {
         Boolean alertsSubscribed = user == null ? null
             : subscriptionRepository.existsByLocationIdAndUserId(location.getId(), user.getId());
-        byte[] thumbnail = location.getThumbnail();
         return new LocationResponse(
             location.getId(),
             location.getName(),
@@ -31,7 +30,7 @@ public class LocationResponseMapper {
             location.getSectionLayout(),
             location.getWorkOrderEmail(),
             alertsSubscribed,
-            thumbnail != null && thumbnail.length > 0
+            location.hasThumbnail()
         );
     }
 }
@@ -2,9 +2,15 @@ package com.aphinity.client_analytics_core.api.core.services.location;
 
 import com.aphinity.client_analytics_core.api.core.response.dashboard.LocationSectionGraphsResponse;
 
+import java.util.List;
+
 /** Read boundary for independently projected dashboard sections. */
 public interface LocationSectionGraphReadApplication {
     LocationSectionGraphsResponse getAccessibleLocationSectionGraphs(
         Long userId, Long locationId, Long sectionId, Integer monthRange
     );
+
+    List<LocationSectionGraphsResponse> getAccessibleLocationSectionsGraphs(
+        Long userId, Long locationId, List<Long> sectionIds, Integer monthRange
+    );
 }
@@ -2,7 +2,9 @@ package com.aphinity.client_analytics_core.api.core.services.location;
 
 import com.aphinity.client_analytics_core.api.auth.entities.AppUser;
 import com.aphinity.client_analytics_core.api.core.entities.location.Location;
+import com.aphinity.client_analytics_core.api.core.entities.location.LocationThumbnail;
 import com.aphinity.client_analytics_core.api.core.repositories.location.LocationRepository;
+import com.aphinity.client_analytics_core.api.core.repositories.location.LocationThumbnailRepository;
 import com.aphinity.client_analytics_core.api.core.response.location.LocationResponse;
 import com.aphinity.client_analytics_core.api.core.services.PersistenceEntityReloader;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,23 +14,34 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
-/** Owns location thumbnail conversion, persistence, and authorized retrieval. */
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Owns location thumbnail conversion, persistence, and authorized retrieval.
+ * Image bytes are stored in {@link LocationThumbnail}; the location row only
+ * records their size and SHA-256 so list and detail reads never touch them.
+ */
 @Service
 public class LocationThumbnailService {
     private PersistenceEntityReloader entityReloader = PersistenceEntityReloader.noop();
 
     private final LocationRepository locationRepository;
+    private final LocationThumbnailRepository thumbnailRepository;
     private final LocationThumbnailImageService imageService;
     private final LocationAccessPolicy accessPolicy;
     private final LocationResponseMapper responseMapper;
 
     public LocationThumbnailService(
         LocationRepository locationRepository,
+        LocationThumbnailRepository thumbnailRepository,
         LocationThumbnailImageService imageService,
         LocationAccessPolicy accessPolicy,
         LocationResponseMapper responseMapper
     ) {
         this.locationRepository = locationRepository;
+        this.thumbnailRepository = thumbnailRepository;
         this.imageService = imageService;
         this.accessPolicy = accessPolicy;
         this.responseMapper = responseMapper;
@@ -44,7 +57,13 @@ public class LocationThumbnailService {
         AppUser user = accessPolicy.requireUser(userId);
         accessPolicy.requirePartnerOrAdmin(user);
         Location location = locationRepository.findById(locationId).orElseThrow(accessPolicy::locationNotFound);
-        location.setThumbnail(imageService.convertToWebp(file));
+        byte[] image = imageService.convertToWebp(file);
+        LocationThumbnail thumbnail = thumbnailRepository.findById(locationId).orElseGet(LocationThumbnail::new);
+        thumbnail.setLocation(location);
+        thumbnail.setImage(image);
+        thumbnailRepository.save(thumbnail);
+        location.setThumbnailSize(image.length);
+        location.setThumbnailSha256(sha256(image));
         Location persisted = locationRepository.saveAndFlush(location);
         if (persisted != null) location = persisted;
         entityReloader.refreshIfManaged(location);
@@ -56,10 +75,21 @@ public class LocationThumbnailService {
         AppUser user = accessPolicy.requireUser(userId);
         Location location = locationRepository.findById(locationId).orElseThrow(accessPolicy::locationNotFound);
         if (!accessPolicy.hasLocationAccess(user, locationId)) throw accessPolicy.forbidden();
-        byte[] thumbnail = location.getThumbnail();
-        if (thumbnail == null || thumbnail.length == 0) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Location thumbnail not found");
+        if (!location.hasThumbnail()) throw thumbnailNotFound();
+        return thumbnailRepository.findImageByLocationId(locationId)
+            .filter(image -> image.length > 0)
+            .orElseThrow(this::thumbnailNotFound);
+    }
+
+    private ResponseStatusException thumbnailNotFound() {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Location thumbnail not found");
+    }
+
+    private static String sha256(byte[] image) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(image));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
         }
-        return thumbnail;
     }
 }
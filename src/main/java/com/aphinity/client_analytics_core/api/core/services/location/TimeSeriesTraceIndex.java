@@ -0,0 +1,289 @@
+package com.aphinity.client_analytics_core.api.core.services.location;
+
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Epoch-day index over the x values of a date-backed scatter trace.
+ *
+ * <p>The index is parsed once, without exception-driven fallbacks, and lets
+ * month windows be cut by binary search. Stored traces are kept in ascending
+ * date order by {@code CartesianTraceDateOrderCanonicalizer}; traces written
+ * before that ordering existed are still indexed and fall back to a linear
+ * scan.</p>
+ */
+public final class TimeSeriesTraceIndex {
+    /**
+     * Index of a trace that is not a time series, including date-backed traces
+     * whose window is empty.
+     */
+    public static final TimeSeriesTraceIndex NONE = new TimeSeriesTraceIndex(new int[0], true);
+
+    private static final DateTimeFormatter TIME_SUFFIX_FORMATTER = new DateTimeFormatterBuilder()
+        .appendLiteral('T')
+        .append(DateTimeFormatter.ISO_LOCAL_TIME)
+        .optionalStart()
+        .appendOffsetId()
+        .optionalEnd()
+        .toFormatter(Locale.ROOT);
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final int[] epochDays;
+    private final boolean ascending;
+
+    private TimeSeriesTraceIndex(int[] epochDays, boolean ascending) {
+        this.epochDays = epochDays;
+        this.ascending = ascending;
+    }
+
+    /**
+     * Indexes a scatter trace whose x values can all be read as dates.
+     *
+     * @param trace Plotly trace payload
+     * @return the trace index, or {@link #NONE} when the trace cannot be range-projected
+     */
+    public static TimeSeriesTraceIndex of(Map<String, Object> trace) {
+        if (trace == null || !isScatterTrace(trace.get("type"))) {
+            return NONE;
+        }
+        if (!(trace.get("x") instanceof List<?> xValues) || xValues.isEmpty()) {
+            return NONE;
+        }
+        int[] epochDays = new int[xValues.size()];
+        boolean ascending = true;
+        for (int index = 0; index < epochDays.length; index += 1) {
+            long epochDay = parseEpochDay(xValues.get(index));
+            if (epochDay == Long.MIN_VALUE) {
+                return NONE;
+            }
+            epochDays[index] = (int) epochDay;
+            if (index > 0 && epochDays[index] < epochDays[index - 1]) {
+                ascending = false;
+            }
+        }
+        return new TimeSeriesTraceIndex(epochDays, ascending);
+    }
+
+    /**
+     * Indexes every trace of a payload, position for position.
+     */
+    public static List<TimeSeriesTraceIndex> ofPayload(List<Map<String, Object>> payload) {
+        if (payload == null || payload.isEmpty()) {
+            return List.of();
+        }
+        List<TimeSeriesTraceIndex> traceIndexes = new ArrayList<>(payload.size());
+        for (Map<String, Object> trace : payload) {
+            traceIndexes.add(of(trace));
+        }
+        return List.copyOf(traceIndexes);
+    }
+
+    public boolean isTimeSeries() {
+        return epochDays.length > 0;
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public boolean ascending() {
+        return ascending;
+    }
+
+    public int epochDayAt(int index) {
+        return epochDays[index];
+    }
+
+    /**
+     * Returns the first position whose date is on or after the given epoch
+     * day. Only meaningful for ascending indexes.
+     */
+    int firstIndexOnOrAfter(long epochDay) {
+        int low = 0;
+        int high = epochDays.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (epochDays[middle] < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    TimeSeriesTraceIndex slice(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return NONE;
+        }
+        if (fromIndex == 0 && toIndex == epochDays.length) {
+            return this;
+        }
+        return new TimeSeriesTraceIndex(Arrays.copyOfRange(epochDays, fromIndex, toIndex), ascending);
+    }
+
+    TimeSeriesTraceIndex select(int[] positions, int count) {
+        if (count == 0) {
+            return NONE;
+        }
+        int[] selectedEpochDays = new int[count];
+        boolean selectedAscending = true;
+        for (int index = 0; index < count; index += 1) {
+            selectedEpochDays[index] = epochDays[positions[index]];
+            if (index > 0 && selectedEpochDays[index] < selectedEpochDays[index - 1]) {
+                selectedAscending = false;
+            }
+        }
+        return new TimeSeriesTraceIndex(selectedEpochDays, selectedAscending);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TimeSeriesTraceIndex that && Arrays.equals(epochDays, that.epochDays);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(epochDays);
+    }
+
+    /**
+     * Whether a trace type can carry a date-backed series: {@code scatter} or
+     * {@code scattergl}, ignoring case and surrounding whitespace.
+     */
+    public static boolean isScatterTrace(Object rawType) {
+        if (!(rawType instanceof String traceType)) {
+            return false;
+        }
+        String normalizedType = traceType.strip().toLowerCase(Locale.ROOT);
+        return "scatter".equals(normalizedType) || "scattergl".equals(normalizedType);
+    }
+
+    /**
+     * Reads {@code yyyy-M-d} dates, optionally followed by an ISO local time
+     * and offset, as an epoch day. The calendar date of a date-time is the
+     * date as written, matching {@code OffsetDateTime#toLocalDate}.
+     *
+     * @return the epoch day, or {@link Long#MIN_VALUE} when the value is not a date
+     */
+    static long parseEpochDay(Object value) {
+        return parse(value, false);
+    }
+
+    /**
+     * Reads the same values as {@link #parseEpochDay} as epoch milliseconds,
+     * for callers that need sub-day resolution. Date-times are shifted by
+     * their offset; values without a time or offset are read as UTC.
+     *
+     * @return the epoch millisecond, or {@link Long#MIN_VALUE} when the value is not a date
+     */
+    public static long parseEpochMillis(Object value) {
+        return parse(value, true);
+    }
+
+    private static long parse(Object value, boolean epochMillis) {
+        if (value == null) {
+            return Long.MIN_VALUE;
+        }
+        String rawValue = value instanceof String stringValue ? stringValue.strip() : String.valueOf(value).strip();
+        int length = rawValue.length();
+        if (length < 8 || !isDigits(rawValue, 0, 4) || rawValue.charAt(4) != '-') {
+            return Long.MIN_VALUE;
+        }
+        int year = digitsValue(rawValue, 0, 4);
+        int monthEnd = digitRunEnd(rawValue, 5, 2);
+        if (monthEnd == 5 || monthEnd >= length || rawValue.charAt(monthEnd) != '-') {
+            return Long.MIN_VALUE;
+        }
+        int month = digitsValue(rawValue, 5, monthEnd);
+        int dayEnd = digitRunEnd(rawValue, monthEnd + 1, 2);
+        if (dayEnd == monthEnd + 1) {
+            return Long.MIN_VALUE;
+        }
+        int day = digitsValue(rawValue, monthEnd + 1, dayEnd);
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return Long.MIN_VALUE;
+        }
+        long epochDay = LocalDate.of(year, month, day).toEpochDay();
+        if (dayEnd == length) {
+            return epochMillis ? epochDay * MILLIS_PER_DAY : epochDay;
+        }
+        TemporalAccessor time = parseIsoTimeSuffix(rawValue, dayEnd, monthEnd == 7 && dayEnd == 10);
+        if (time == null) {
+            return Long.MIN_VALUE;
+        }
+        return epochMillis ? epochDay * MILLIS_PER_DAY + millisOfDay(time) : epochDay;
+    }
+
+    private static TemporalAccessor parseIsoTimeSuffix(String rawValue, int fromIndex, boolean isoDate) {
+        if (!isoDate || rawValue.charAt(fromIndex) != 'T') {
+            return null;
+        }
+        ParsePosition position = new ParsePosition(fromIndex);
+        TemporalAccessor parsed = TIME_SUFFIX_FORMATTER.parseUnresolved(rawValue, position);
+        if (parsed == null || position.getErrorIndex() >= 0 || position.getIndex() != rawValue.length()) {
+            return null;
+        }
+        boolean valid = isValidField(parsed, ChronoField.HOUR_OF_DAY)
+            && isValidField(parsed, ChronoField.MINUTE_OF_HOUR)
+            && isValidField(parsed, ChronoField.SECOND_OF_MINUTE);
+        return valid ? parsed : null;
+    }
+
+    private static long millisOfDay(TemporalAccessor time) {
+        long seconds = fieldOrZero(time, ChronoField.HOUR_OF_DAY) * 3_600L
+            + fieldOrZero(time, ChronoField.MINUTE_OF_HOUR) * 60L
+            + fieldOrZero(time, ChronoField.SECOND_OF_MINUTE)
+            - fieldOrZero(time, ChronoField.OFFSET_SECONDS);
+        return seconds * 1_000L + fieldOrZero(time, ChronoField.NANO_OF_SECOND) / 1_000_000L;
+    }
+
+    private static long fieldOrZero(TemporalAccessor parsed, ChronoField field) {
+        return parsed.isSupported(field) ? parsed.getLong(field) : 0L;
+    }
+
+    private static boolean isValidField(TemporalAccessor parsed, ChronoField field) {
+        return !parsed.isSupported(field) || field.range().isValidValue(parsed.getLong(field));
+    }
+
+    private static boolean isDigits(String value, int fromIndex, int toIndex) {
+        for (int index = fromIndex; index < toIndex; index += 1) {
+            if (!isAsciiDigit(value.charAt(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digitRunEnd(String value, int fromIndex, int maxDigits) {
+        int index = fromIndex;
+        while (index < value.length() && index - fromIndex < maxDigits && isAsciiDigit(value.charAt(index))) {
+            index += 1;
+        }
+        return index;
+    }
+
+    private static int digitsValue(String value, int fromIndex, int toIndex) {
+        int result = 0;
+        for (int index = fromIndex; index < toIndex; index += 1) {
+            result = result * 10 + (value.charAt(index) - '0');
+        }
+        return result;
+    }
+
+    private static boolean isAsciiDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+}
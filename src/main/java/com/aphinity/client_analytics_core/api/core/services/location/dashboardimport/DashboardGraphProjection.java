@@ -1,19 +1,84 @@
 package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
 
+import com.aphinity.client_analytics_core.api.core.services.location.DashboardGraphMonthRangePayloadProjector.IndexedPayload;
+import com.aphinity.client_analytics_core.api.core.services.location.TimeSeriesTraceIndex;
+
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable projected graph payload exposed by the dashboard projection port.
+ * The approximate retained size comes from the sizes the payload recorded
+ * while its traces were built, so caches weigh the projection without walking
+ * it. Each trace carries its epoch-day index so cached projections can be
+ * narrowed to shorter windows without parsing x values again. The size is
+ * not part of equality.
+ */
+public final class DashboardGraphProjection {
+    private final IndexedPayload payload;
+    private final Map<String, Object> layout;
+    private final long approximateSizeBytes;
+
+    public DashboardGraphProjection(IndexedPayload payload, Map<String, Object> layout) {
+        this.payload = payload == null ? IndexedPayload.of(null) : payload;
+        this.layout = copyLayout(layout);
+        this.approximateSizeBytes = DashboardPayloadWeights.ofProjection(
+            this.payload.approximateSizeBytes(),
+            this.layout
+        );
+    }
+
+    public DashboardGraphProjection(List<Map<String, Object>> data, Map<String, Object> layout) {
+        this(IndexedPayload.of(data), layout);
+    }
+
+    DashboardGraphProjection(List<Map<String, Object>> data, Map<String, Object> layout, long approximateSizeBytes) {
+        this.payload = IndexedPayload.of(data);
+        this.layout = copyLayout(layout);
+        this.approximateSizeBytes = approximateSizeBytes;
+    }
+
+    public List<Map<String, Object>> data() {
+        return payload.data();
+    }
+
+    public Map<String, Object> layout() {
+        return layout;
+    }
+
+    public List<TimeSeriesTraceIndex> traceDateIndexes() {
+        return payload.traceIndexes();
+    }
+
+    public long approximateSizeBytes() {
+        return approximateSizeBytes;
+    }
+
+    IndexedPayload indexedPayload() {
+        return payload;
+    }
+
+    private static Map<String, Object> copyLayout(Map<String, Object> layout) {
+        return layout == null ? Map.of() : Collections.unmodifiableMap(new LinkedHashMap<>(layout));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof DashboardGraphProjection that
+            && payload.equals(that.payload)
+            && layout.equals(that.layout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(payload, layout);
+    }
 
-/** Immutable projected graph payload exposed by the dashboard projection port. */
-public record DashboardGraphProjection(
-    List<Map<String, Object>> data,
-    Map<String, Object> layout
-) {
-    public DashboardGraphProjection {
-        data = data == null ? List.of() : List.copyOf(data);
-        layout = layout == null
-            ? Map.of()
-            : Collections.unmodifiableMap(new LinkedHashMap<>(layout));
+    @Override
+    public String toString() {
+        return "DashboardGraphProjection[data=" + payload.data() + ", layout=" + layout + "]";
     }
 }
@@ -1,5 +1,6 @@
 package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
 
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
 import com.aphinity.client_analytics_core.api.core.services.location.DashboardGraphMonthRange;
 
 import java.util.Collection;
@@ -17,4 +18,13 @@ public interface DashboardGraphProjectionQuery {
         Collection<Long> graphIds,
         DashboardGraphMonthRange monthRange
     );
+
+    /**
+     * Returns cached normalized all-time payloads for already loaded graphs.
+     * Graphs missing from the result should be mapped directly.
+     */
+    Map<Long, DashboardGraphProjection> resolveAllTimeGraphProjections(
+        Long locationId,
+        Collection<Graph> graphs
+    );
 }
@@ -3,9 +3,13 @@ package com.aphinity.client_analytics_core.api.core.services.location.dashboardi
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 
 /** Shared composition for dashboard import and range-projection collaborators. */
 @Configuration
@@ -16,4 +20,23 @@ public class DashboardImportComposition {
         return JsonMapper.builder().findAndAddModules().build();
     }
 
+    /**
+     * Bounded pool for CPU-bound derived-graph payload computation. When the
+     * queue is full the submitting request thread computes the payload itself.
+     */
+    @Bean(name = "dashboardDerivedGraphExecutor")
+    TaskExecutor dashboardDerivedGraphExecutor() {
+        int poolSize = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(64);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("dashboard-derived-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        return executor;
+    }
+
 }
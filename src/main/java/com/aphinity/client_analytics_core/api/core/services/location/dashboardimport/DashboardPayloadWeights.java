@@ -0,0 +1,190 @@
+package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
+
+import com.aphinity.client_analytics_core.api.core.services.location.TimeSeriesTraceIndex;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Approximate retained-size arithmetic for cached dashboard values.
+ *
+ * <p>Sizes are recorded once while a value is constructed and read back by the
+ * cache weighers, so admission and eviction never walk a payload. The figures
+ * only need to be consistent relative to each other. Trace point lists are
+ * sized element by element as the relational mapper and the month-range
+ * projector append to them; only opaque entries such as trace config are
+ * walked. Shared sub-objects count every time they are referenced; historical
+ * columns count primitive arrays by length and dictionary strings once.</p>
+ */
+public final class DashboardPayloadWeights {
+    private static final long REFERENCE_BYTES = 8L;
+    private static final long BOXED_VALUE_BYTES = 24L;
+    private static final long STRING_BYTES = 40L;
+    private static final long COLLECTION_BYTES = 32L;
+    private static final long MAP_BYTES = 48L;
+    private static final long MAP_ENTRY_BYTES = 32L;
+    private static final long RECORD_BYTES = 48L;
+    private static final long ARRAY_BYTES = 16L;
+    private static final long OPAQUE_OBJECT_BYTES = 32L;
+    private static final long INDEX_BYTES = 40L;
+
+    private DashboardPayloadWeights() {
+    }
+
+    /** Size of a trace map itself and its slot in the payload list. */
+    public static long ofTraceShell() {
+        return MAP_BYTES + REFERENCE_BYTES;
+    }
+
+    /**
+     * Size of a trace entry whose value is copied in opaquely, such as trace
+     * config, type and name. Only these entries are walked.
+     */
+    public static long ofTraceField(String key, Object value) {
+        return ofString(key) + ofValue(value);
+    }
+
+    /** Size of an entry holding a point list, excluding its elements. */
+    public static long ofPointList(String key) {
+        return ofString(key) + COLLECTION_BYTES;
+    }
+
+    /** Size of one element appended to a point list; scalars cost a constant. */
+    public static long ofPoint(Object value) {
+        return ofValue(value);
+    }
+
+    /** Size of a trace's epoch-day index. */
+    public static long ofTraceIndex(TimeSeriesTraceIndex traceDateIndex) {
+        return traceDateIndex.isTimeSeries()
+            ? INDEX_BYTES + (long) traceDateIndex.size() * Integer.BYTES
+            : 0L;
+    }
+
+    /**
+     * Measures a trace whose builder did not record its size, such as a derived
+     * graph trace, splitting it the same way as {@link TraceSize}.
+     */
+    public static TraceSize measureTrace(Map<String, Object> trace) {
+        long fieldBytes = ofTraceShell();
+        long pointBytes = 0L;
+        for (Map.Entry<String, Object> entry : trace.entrySet()) {
+            if (TraceSize.POINT_FIELDS.contains(entry.getKey()) && entry.getValue() instanceof Collection<?> points) {
+                pointBytes += ofPointList(entry.getKey());
+                for (Object point : points) {
+                    pointBytes += ofPoint(point);
+                }
+            } else {
+                fieldBytes += ofTraceField(entry.getKey(), entry.getValue());
+            }
+        }
+        return new TraceSize(fieldBytes, pointBytes);
+    }
+
+    /** Size of a payload's trace and index lists given the summed trace sizes. */
+    public static long ofIndexedPayload(long traceSizeBytes) {
+        return 2L * COLLECTION_BYTES + traceSizeBytes;
+    }
+
+    static long ofProjection(long payloadSizeBytes, Map<String, Object> layout) {
+        return RECORD_BYTES + payloadSizeBytes + ofValue(layout);
+    }
+
+    static long ofIntColumn(int length) {
+        return ARRAY_BYTES + (long) length * Integer.BYTES;
+    }
+
+    static long ofLongColumn(int length) {
+        return ARRAY_BYTES + (long) length * Long.BYTES;
+    }
+
+    static long ofStringColumn(int length) {
+        return ARRAY_BYTES + (long) length * REFERENCE_BYTES;
+    }
+
+    static long ofStrings(String[] values) {
+        long weight = ofStringColumn(values.length);
+        for (String value : values) {
+            weight += value == null ? 0L : ofString(value);
+        }
+        return weight;
+    }
+
+    static long ofFlags(BitSet flags) {
+        return COLLECTION_BYTES + (long) Long.BYTES * ((flags.length() + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    static long ofDictionaryEntry(String value) {
+        return REFERENCE_BYTES + MAP_ENTRY_BYTES + ofString(value);
+    }
+
+    static long ofIdentityValues(Map<String, String> identityValues) {
+        return MAP_ENTRY_BYTES + ofStringMap(identityValues);
+    }
+
+    /**
+     * Converts an approximate byte size into a Caffeine weight. Weights must be
+     * non-negative ints; every resident value weighs at least one unit.
+     */
+    static int toCacheWeight(long approximateSizeBytes) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1L, approximateSizeBytes));
+    }
+
+    private static long ofStringMap(Map<String, String> values) {
+        long weight = MAP_BYTES;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            weight += ofString(entry.getKey()) + ofString(entry.getValue());
+        }
+        return weight;
+    }
+
+    private static long ofString(String value) {
+        return value == null ? REFERENCE_BYTES : STRING_BYTES + (long) value.length() * 2L;
+    }
+
+    private static long ofValue(Object value) {
+        if (value == null) {
+            return REFERENCE_BYTES;
+        }
+        if (value instanceof String stringValue) {
+            return ofString(stringValue);
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return BOXED_VALUE_BYTES;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long weight = MAP_BYTES;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                weight += ofValue(entry.getKey()) + ofValue(entry.getValue());
+            }
+            return weight;
+        }
+        if (value instanceof Collection<?> collection) {
+            long weight = COLLECTION_BYTES;
+            for (Object element : collection) {
+                weight += ofValue(element);
+            }
+            return weight;
+        }
+        return OPAQUE_OBJECT_BYTES;
+    }
+
+    /**
+     * Recorded size of one trace: {@code pointBytes} covers the x, y and
+     * customdata lists the month-range projector rebuilds, {@code fieldBytes}
+     * everything else, including the trace map itself.
+     */
+    public record TraceSize(long fieldBytes, long pointBytes) {
+        static final Set<String> POINT_FIELDS = Set.of("x", "y", "customdata");
+
+        public static boolean isPointField(String key) {
+            return POINT_FIELDS.contains(key);
+        }
+
+        public long totalBytes() {
+            return fieldBytes + pointBytes;
+        }
+    }
+}
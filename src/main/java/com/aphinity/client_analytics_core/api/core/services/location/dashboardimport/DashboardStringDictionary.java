@@ -0,0 +1,75 @@
+package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary shared by the columns of one {@link LocationDashboardDerivedGraphSupport.HistoricalDerivedData}.
+ * Facility, measurement, system-type and unit names repeat across thousands of
+ * rows, so each distinct string is kept once and rows store its int id.
+ * Identity-value maps are interned the same way.
+ */
+final class DashboardStringDictionary {
+    static final int NULL_ID = -1;
+
+    private final String[] values;
+    private final long approximateSizeBytes;
+
+    private DashboardStringDictionary(String[] values, long approximateSizeBytes) {
+        this.values = values;
+        this.approximateSizeBytes = approximateSizeBytes;
+    }
+
+    String value(int id) {
+        return id == NULL_ID ? null : values[id];
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    /**
+     * Retained size of the distinct strings and interned identity maps.
+     */
+    long approximateSizeBytes() {
+        return approximateSizeBytes;
+    }
+
+    static final class Builder {
+        private final Map<String, Integer> idsByValue = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final Map<Map<String, String>, Map<String, String>> internedIdentityValues = new HashMap<>();
+        private long approximateSizeBytes = DashboardPayloadWeights.ofStringColumn(0);
+
+        int idOf(String value) {
+            if (value == null) {
+                return NULL_ID;
+            }
+            Integer existingId = idsByValue.get(value);
+            if (existingId != null) {
+                return existingId;
+            }
+            int id = values.size();
+            values.add(value);
+            idsByValue.put(value, id);
+            approximateSizeBytes += DashboardPayloadWeights.ofDictionaryEntry(value);
+            return id;
+        }
+
+        Map<String, String> internIdentityValues(Map<String, String> identityValues) {
+            Map<String, String> immutableValues = LocationDashboardIdentitySupport.immutableCopy(identityValues);
+            Map<String, String> interned = internedIdentityValues.putIfAbsent(immutableValues, immutableValues);
+            if (interned != null) {
+                return interned;
+            }
+            approximateSizeBytes += DashboardPayloadWeights.ofIdentityValues(immutableValues);
+            return immutableValues;
+        }
+
+        DashboardStringDictionary build() {
+            return new DashboardStringDictionary(values.toArray(String[]::new), approximateSizeBytes);
+        }
+    }
+}
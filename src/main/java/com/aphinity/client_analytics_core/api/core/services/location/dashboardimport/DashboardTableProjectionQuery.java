@@ -9,6 +9,7 @@ public interface DashboardTableProjectionQuery {
         Long graphId,
         Integer monthRange,
         Integer page,
-        Integer size
+        Integer size,
+        String cursor
     );
 }
@@ -0,0 +1,105 @@
+package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Computes the payloads of several derived graphs over the same historical
+ * data. Every {@link LocationDashboardImportStrategyConfig.DerivedGraphType}
+ * is a pure function of that data and its own graph, so large inputs are fanned
+ * out over a bounded executor; results always come back in request order.
+ *
+ * <p>Graphs are JPA entities bound to the caller's persistence context, so
+ * their lazy trace points are initialized on the calling thread before fan-out
+ * and callers apply graph mutations only after this returns.</p>
+ */
+final class DerivedGraphPayloadComputation {
+    /**
+     * Combined sample, incident and raw-sample rows below which fan-out costs
+     * more than it saves.
+     */
+    static final int DEFAULT_PARALLEL_ROW_THRESHOLD = 2_000;
+
+    private final Executor executor;
+    private final int parallelRowThreshold;
+
+    DerivedGraphPayloadComputation(Executor executor, int parallelRowThreshold) {
+        this.executor = executor;
+        this.parallelRowThreshold = parallelRowThreshold;
+    }
+
+    static DerivedGraphPayloadComputation sequential() {
+        return new DerivedGraphPayloadComputation(Runnable::run, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Builds one payload per request.
+     *
+     * @return payloads in the same order as {@code requests}
+     */
+    List<List<Map<String, Object>>> buildPayloads(
+        List<Request> requests,
+        LocationDashboardDerivedGraphSupport.HistoricalDerivedData historicalData,
+        List<LocationDashboardImportStrategyConfig.SpreadsheetIdentityColumn> identityPattern,
+        LocalDate anchorDate
+    ) {
+        if (requests.size() < 2 || historicalData.rowCount() < parallelRowThreshold) {
+            List<List<Map<String, Object>>> payloads = new ArrayList<>(requests.size());
+            for (Request request : requests) {
+                payloads.add(buildPayload(request, historicalData, identityPattern, anchorDate));
+            }
+            return payloads;
+        }
+
+        for (Request request : requests) {
+            LocationDashboardGraphMetadataSupport.currentTraceList(request.graph());
+        }
+        List<CompletableFuture<List<Map<String, Object>>>> futures = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            futures.add(CompletableFuture.supplyAsync(
+                () -> buildPayload(request, historicalData, identityPattern, anchorDate),
+                executor
+            ));
+        }
+        List<List<Map<String, Object>>> payloads = new ArrayList<>(futures.size());
+        for (CompletableFuture<List<Map<String, Object>>> future : futures) {
+            try {
+                payloads.add(future.join());
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw ex;
+            }
+        }
+        return payloads;
+    }
+
+    private static List<Map<String, Object>> buildPayload(
+        Request request,
+        LocationDashboardDerivedGraphSupport.HistoricalDerivedData historicalData,
+        List<LocationDashboardImportStrategyConfig.SpreadsheetIdentityColumn> identityPattern,
+        LocalDate anchorDate
+    ) {
+        return LocationDashboardDerivedGraphSupport.buildPayload(
+            request.definition(),
+            request.graph(),
+            historicalData,
+            identityPattern,
+            anchorDate
+        );
+    }
+
+    record Request(
+        LocationDashboardImportStrategyConfig.DerivedGraphConfig definition,
+        Graph graph
+    ) {
+    }
+}
@@ -3,10 +3,6 @@ package com.aphinity.client_analytics_core.api.core.services.location.dashboardi
 import com.aphinity.client_analytics_core.api.core.services.location.DashboardGraphMonthRange;
 
 import java.time.LocalDate;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Applies dashboard month-range windows to historical data used by derived graphs.
@@ -16,7 +12,8 @@ final class HistoricalDerivedDataTimeRangeProjector {
     }
 
     /**
-     * Filters historical samples and corrective actions to the requested rolling window.
+     * Views historical samples and corrective actions inside the requested rolling window.
+     * The result shares storage with the all-time data.
      *
      * @param historicalData all-time historical data
      * @param monthRange requested month range
@@ -35,41 +32,6 @@ final class HistoricalDerivedDataTimeRangeProjector {
         if (windowStart == null) {
             return historicalData;
         }
-        return projectFromWindowStart(historicalData, windowStart);
-    }
-
-    private static LocationDashboardDerivedGraphSupport.HistoricalDerivedData projectFromWindowStart(
-        LocationDashboardDerivedGraphSupport.HistoricalDerivedData historicalData,
-        LocalDate windowStart
-    ) {
-        Map<LocalDate, List<LocationDashboardDerivedGraphSupport.HistoricalSamplePoint>> filteredSamplesByDate =
-            historicalData.samplesByDate().entrySet().stream()
-                .filter(entry -> entry.getKey() != null && !entry.getKey().isBefore(windowStart))
-                .collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    entry -> entry.getValue() == null ? List.of() : List.copyOf(entry.getValue()),
-                    (left, right) -> left,
-                    LinkedHashMap::new
-                ));
-
-        List<LocationDashboardNonConformanceIncident> filteredNonConformances =
-            historicalData.nonConformances().stream()
-                .filter(nonConformance -> nonConformance != null
-                    && nonConformance.observedDate() != null
-                    && !nonConformance.observedDate().isBefore(windowStart))
-                .toList();
-
-        List<LocationDashboardDerivedGraphSupport.HistoricalRawSample> filteredRawSamples =
-            historicalData.rawSamples().stream()
-                .filter(sample -> sample != null
-                    && sample.observedDate() != null
-                    && !sample.observedDate().isBefore(windowStart))
-                .toList();
-
-        return new LocationDashboardDerivedGraphSupport.HistoricalDerivedData(
-            filteredSamplesByDate,
-            filteredNonConformances,
-            filteredRawSamples
-        );
+        return historicalData.fromDate(windowStart);
     }
 }
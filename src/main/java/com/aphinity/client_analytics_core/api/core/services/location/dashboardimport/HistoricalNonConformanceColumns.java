@@ -0,0 +1,184 @@
+package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar store of non-conformance incidents ordered by observed date, keeping
+ * collected order within a day and undated incidents first. Names are
+ * dictionary ids and a missing turnaround is {@link #NO_TURNAROUND}. An
+ * instance covers rows {@code [firstRow, rowEnd)} so range slices are views.
+ */
+final class HistoricalNonConformanceColumns {
+    static final long NO_TURNAROUND = Long.MIN_VALUE;
+
+    private final int[] observedEpochDays;
+    private final int[] facilityIds;
+    private final int[] measurementIds;
+    private final int[] systemTypeIds;
+    private final BitSet resolvedRows;
+    private final long[] turnaroundDays;
+    private final String[] sampleIdentities;
+    private final List<Map<String, String>> identityValues;
+    private final int firstRow;
+    private final int rowEnd;
+
+    private HistoricalNonConformanceColumns(
+        int[] observedEpochDays,
+        int[] facilityIds,
+        int[] measurementIds,
+        int[] systemTypeIds,
+        BitSet resolvedRows,
+        long[] turnaroundDays,
+        String[] sampleIdentities,
+        List<Map<String, String>> identityValues,
+        int firstRow,
+        int rowEnd
+    ) {
+        this.observedEpochDays = observedEpochDays;
+        this.facilityIds = facilityIds;
+        this.measurementIds = measurementIds;
+        this.systemTypeIds = systemTypeIds;
+        this.resolvedRows = resolvedRows;
+        this.turnaroundDays = turnaroundDays;
+        this.sampleIdentities = sampleIdentities;
+        this.identityValues = identityValues;
+        this.firstRow = firstRow;
+        this.rowEnd = rowEnd;
+    }
+
+    static HistoricalNonConformanceColumns of(
+        List<LocationDashboardNonConformanceIncident> nonConformances,
+        DashboardStringDictionary.Builder dictionary
+    ) {
+        List<LocationDashboardNonConformanceIncident> incidents =
+            nonConformances == null ? List.of() : List.copyOf(nonConformances);
+        int rowCount = incidents.size();
+        int[] collectedEpochDays = new int[rowCount];
+        for (int row = 0; row < rowCount; row += 1) {
+            collectedEpochDays[row] = HistoricalSampleColumns.encodeDate(incidents.get(row).observedDate());
+        }
+        int[] dateOrder = HistoricalSampleColumns.dateOrder(collectedEpochDays);
+
+        int[] observedEpochDays = new int[rowCount];
+        int[] facilityIds = new int[rowCount];
+        int[] measurementIds = new int[rowCount];
+        int[] systemTypeIds = new int[rowCount];
+        BitSet resolvedRows = new BitSet(rowCount);
+        long[] turnaroundDays = new long[rowCount];
+        String[] sampleIdentities = new String[rowCount];
+        List<Map<String, String>> identityValues = new ArrayList<>(rowCount);
+        for (int row = 0; row < rowCount; row += 1) {
+            LocationDashboardNonConformanceIncident incident = incidents.get(dateOrder[row]);
+            observedEpochDays[row] = collectedEpochDays[dateOrder[row]];
+            facilityIds[row] = dictionary.idOf(incident.facilityName());
+            measurementIds[row] = dictionary.idOf(incident.measurementName());
+            systemTypeIds[row] = dictionary.idOf(incident.systemTypeName());
+            resolvedRows.set(row, incident.resolved());
+            turnaroundDays[row] = incident.turnaroundDays() == null ? NO_TURNAROUND : incident.turnaroundDays();
+            sampleIdentities[row] = incident.sampleIdentity();
+            identityValues.add(dictionary.internIdentityValues(incident.identityValues()));
+        }
+        return new HistoricalNonConformanceColumns(
+            observedEpochDays,
+            facilityIds,
+            measurementIds,
+            systemTypeIds,
+            resolvedRows,
+            turnaroundDays,
+            sampleIdentities,
+            List.copyOf(identityValues),
+            0,
+            rowCount
+        );
+    }
+
+    int size() {
+        return rowEnd - firstRow;
+    }
+
+    int resolvedCount() {
+        int resolvedCount = 0;
+        int row = resolvedRows.nextSetBit(firstRow);
+        while (row >= 0 && row < rowEnd) {
+            resolvedCount += 1;
+            row = resolvedRows.nextSetBit(row + 1);
+        }
+        return resolvedCount;
+    }
+
+    boolean resolved(int row) {
+        return resolvedRows.get(firstRow + row);
+    }
+
+    int facilityId(int row) {
+        return facilityIds[firstRow + row];
+    }
+
+    int measurementId(int row) {
+        return measurementIds[firstRow + row];
+    }
+
+    int systemTypeId(int row) {
+        return systemTypeIds[firstRow + row];
+    }
+
+    long turnaroundDays(int row) {
+        return turnaroundDays[firstRow + row];
+    }
+
+    /**
+     * Returns a view of the incidents observed on or after the given epoch
+     * day. Undated incidents sort first, so they fall outside every view.
+     */
+    HistoricalNonConformanceColumns fromEpochDay(int epochDay) {
+        int viewFirstRow = HistoricalSampleColumns.firstIndexOnOrAfter(observedEpochDays, firstRow, rowEnd, epochDay);
+        if (viewFirstRow == firstRow) {
+            return this;
+        }
+        return new HistoricalNonConformanceColumns(
+            observedEpochDays,
+            facilityIds,
+            measurementIds,
+            systemTypeIds,
+            resolvedRows,
+            turnaroundDays,
+            sampleIdentities,
+            identityValues,
+            viewFirstRow,
+            rowEnd
+        );
+    }
+
+    List<LocationDashboardNonConformanceIncident> toIncidents(DashboardStringDictionary dictionary) {
+        List<LocationDashboardNonConformanceIncident> incidents = new ArrayList<>(size());
+        for (int row = firstRow; row < rowEnd; row += 1) {
+            incidents.add(new LocationDashboardNonConformanceIncident(
+                HistoricalSampleColumns.decodeDate(observedEpochDays[row]),
+                dictionary.value(facilityIds[row]),
+                dictionary.value(measurementIds[row]),
+                identityValues.get(row),
+                sampleIdentities[row],
+                resolvedRows.get(row),
+                turnaroundDays[row] == NO_TURNAROUND ? null : turnaroundDays[row],
+                dictionary.value(systemTypeIds[row])
+            ));
+        }
+        return List.copyOf(incidents);
+    }
+
+    /**
+     * Retained size of the shared columns; a view reports the storage it
+     * shares with the all-time data.
+     */
+    long approximateSizeBytes() {
+        int rowCount = observedEpochDays.length;
+        return 4L * DashboardPayloadWeights.ofIntColumn(rowCount)
+            + DashboardPayloadWeights.ofFlags(resolvedRows)
+            + DashboardPayloadWeights.ofLongColumn(rowCount)
+            + DashboardPayloadWeights.ofStrings(sampleIdentities)
+            + DashboardPayloadWeights.ofStringColumn(rowCount);
+    }
+}
@@ -0,0 +1,203 @@
+package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar store of raw sample rows ordered by observed date, keeping collected
+ * order within a day and undated rows first. Measurement and unit names are
+ * dictionary ids; row identifiers and raw values stay strings because they
+ * rarely repeat. An instance covers rows {@code [firstRow, rowEnd)} so range
+ * slices are views.
+ */
+final class HistoricalRawSampleColumns {
+    private static final Comparator<LocationDashboardDerivedGraphSupport.HistoricalRawSample> RECENT_FIRST = Comparator
+        .comparing(LocationDashboardDerivedGraphSupport.HistoricalRawSample::observedDate, Comparator.reverseOrder())
+        .thenComparing(
+            LocationDashboardDerivedGraphSupport.HistoricalRawSample::rowIdentifier,
+            Comparator.nullsLast(String::compareTo)
+        );
+
+    private final int[] observedEpochDays;
+    private final String[] rowIdentifiers;
+    private final List<Map<String, String>> identityValues;
+    private final int[] measurementIds;
+    private final String[] rawValues;
+    private final int[] unitIds;
+    private final BitSet compliantRows;
+    private final BitSet resolvedRows;
+    private final int firstRow;
+    private final int rowEnd;
+
+    private HistoricalRawSampleColumns(
+        int[] observedEpochDays,
+        String[] rowIdentifiers,
+        List<Map<String, String>> identityValues,
+        int[] measurementIds,
+        String[] rawValues,
+        int[] unitIds,
+        BitSet compliantRows,
+        BitSet resolvedRows,
+        int firstRow,
+        int rowEnd
+    ) {
+        this.observedEpochDays = observedEpochDays;
+        this.rowIdentifiers = rowIdentifiers;
+        this.identityValues = identityValues;
+        this.measurementIds = measurementIds;
+        this.rawValues = rawValues;
+        this.unitIds = unitIds;
+        this.compliantRows = compliantRows;
+        this.resolvedRows = resolvedRows;
+        this.firstRow = firstRow;
+        this.rowEnd = rowEnd;
+    }
+
+    static HistoricalRawSampleColumns of(
+        List<LocationDashboardDerivedGraphSupport.HistoricalRawSample> rawSamples,
+        DashboardStringDictionary.Builder dictionary
+    ) {
+        List<LocationDashboardDerivedGraphSupport.HistoricalRawSample> samples =
+            rawSamples == null ? List.of() : List.copyOf(rawSamples);
+        int rowCount = samples.size();
+        int[] collectedEpochDays = new int[rowCount];
+        for (int row = 0; row < rowCount; row += 1) {
+            collectedEpochDays[row] = HistoricalSampleColumns.encodeDate(samples.get(row).observedDate());
+        }
+        int[] dateOrder = HistoricalSampleColumns.dateOrder(collectedEpochDays);
+
+        int[] observedEpochDays = new int[rowCount];
+        String[] rowIdentifiers = new String[rowCount];
+        List<Map<String, String>> identityValues = new ArrayList<>(rowCount);
+        int[] measurementIds = new int[rowCount];
+        String[] rawValues = new String[rowCount];
+        int[] unitIds = new int[rowCount];
+        BitSet compliantRows = new BitSet(rowCount);
+        BitSet resolvedRows = new BitSet(rowCount);
+        for (int row = 0; row < rowCount; row += 1) {
+            LocationDashboardDerivedGraphSupport.HistoricalRawSample sample = samples.get(dateOrder[row]);
+            observedEpochDays[row] = collectedEpochDays[dateOrder[row]];
+            rowIdentifiers[row] = sample.rowIdentifier();
+            identityValues.add(dictionary.internIdentityValues(sample.identityValues()));
+            measurementIds[row] = dictionary.idOf(sample.measurementName());
+            rawValues[row] = sample.rawValue();
+            unitIds[row] = dictionary.idOf(sample.units());
+            compliantRows.set(row, sample.compliant());
+            resolvedRows.set(row, sample.resolved());
+        }
+        return new HistoricalRawSampleColumns(
+            observedEpochDays,
+            rowIdentifiers,
+            List.copyOf(identityValues),
+            measurementIds,
+            rawValues,
+            unitIds,
+            compliantRows,
+            resolvedRows,
+            0,
+            rowCount
+        );
+    }
+
+    int size() {
+        return rowEnd - firstRow;
+    }
+
+    int measurementId(int row) {
+        return measurementIds[firstRow + row];
+    }
+
+    Map<String, String> identityValues(int row) {
+        return identityValues.get(firstRow + row);
+    }
+
+    boolean compliant(int row) {
+        return compliantRows.get(firstRow + row);
+    }
+
+    /**
+     * Returns a view of the rows observed on or after the given epoch day.
+     * Undated rows sort first, so they fall outside every view.
+     */
+    HistoricalRawSampleColumns fromEpochDay(int epochDay) {
+        int viewFirstRow = HistoricalSampleColumns.firstIndexOnOrAfter(observedEpochDays, firstRow, rowEnd, epochDay);
+        if (viewFirstRow == firstRow) {
+            return this;
+        }
+        return new HistoricalRawSampleColumns(
+            observedEpochDays,
+            rowIdentifiers,
+            identityValues,
+            measurementIds,
+            rawValues,
+            unitIds,
+            compliantRows,
+            resolvedRows,
+            viewFirstRow,
+            rowEnd
+        );
+    }
+
+    List<LocationDashboardDerivedGraphSupport.HistoricalRawSample> toRawSamples(DashboardStringDictionary dictionary) {
+        List<LocationDashboardDerivedGraphSupport.HistoricalRawSample> samples = new ArrayList<>(size());
+        for (int row = firstRow; row < rowEnd; row += 1) {
+            samples.add(toRawSample(row, dictionary));
+        }
+        return List.copyOf(samples);
+    }
+
+    /**
+     * Materializes only the dated rows observed on or after the given epoch
+     * day, newest first and then by row identifier.
+     */
+    List<LocationDashboardDerivedGraphSupport.HistoricalRawSample> recentRawSamples(
+        int onOrAfterEpochDay,
+        DashboardStringDictionary dictionary
+    ) {
+        int windowFirstRow = HistoricalSampleColumns.firstIndexOnOrAfter(
+            observedEpochDays,
+            firstRow,
+            rowEnd,
+            Math.max(onOrAfterEpochDay, HistoricalSampleColumns.NO_DATE + 1)
+        );
+        List<LocationDashboardDerivedGraphSupport.HistoricalRawSample> samples = new ArrayList<>(rowEnd - windowFirstRow);
+        for (int row = windowFirstRow; row < rowEnd; row += 1) {
+            samples.add(toRawSample(row, dictionary));
+        }
+        samples.sort(RECENT_FIRST);
+        return List.copyOf(samples);
+    }
+
+    /**
+     * Retained size of the shared columns; a view reports the storage it
+     * shares with the all-time data.
+     */
+    long approximateSizeBytes() {
+        int rowCount = observedEpochDays.length;
+        return 3L * DashboardPayloadWeights.ofIntColumn(rowCount)
+            + DashboardPayloadWeights.ofStrings(rowIdentifiers)
+            + DashboardPayloadWeights.ofStrings(rawValues)
+            + DashboardPayloadWeights.ofStringColumn(rowCount)
+            + DashboardPayloadWeights.ofFlags(compliantRows)
+            + DashboardPayloadWeights.ofFlags(resolvedRows);
+    }
+
+    private LocationDashboardDerivedGraphSupport.HistoricalRawSample toRawSample(
+        int row,
+        DashboardStringDictionary dictionary
+    ) {
+        return new LocationDashboardDerivedGraphSupport.HistoricalRawSample(
+            HistoricalSampleColumns.decodeDate(observedEpochDays[row]),
+            rowIdentifiers[row],
+            identityValues.get(row),
+            dictionary.value(measurementIds[row]),
+            rawValues[row],
+            dictionary.value(unitIds[row]),
+            compliantRows.get(row),
+            resolvedRows.get(row)
+        );
+    }
+}
@@ -0,0 +1,256 @@
+package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Columnar store of historical sample points grouped into ascending date
+ * buckets. Bucket {@code b} owns rows {@code bucketOffsets[b]} until
+ * {@code bucketOffsets[b + 1]}; names are dictionary ids. An instance covers
+ * buckets {@code [firstBucket, bucketEnd)} so range slices are views.
+ */
+final class HistoricalSampleColumns {
+    static final int NO_DATE = Integer.MIN_VALUE;
+
+    private final int[] bucketEpochDays;
+    private final int[] bucketOffsets;
+    private final int[] observedEpochDays;
+    private final int[] facilityIds;
+    private final int[] measurementIds;
+    private final int[] systemTypeIds;
+    private final long[] sampleCounts;
+    private final long[] compliantCounts;
+    private final BitSet repeatedRows;
+    private final int firstBucket;
+    private final int bucketEnd;
+
+    private HistoricalSampleColumns(
+        int[] bucketEpochDays,
+        int[] bucketOffsets,
+        int[] observedEpochDays,
+        int[] facilityIds,
+        int[] measurementIds,
+        int[] systemTypeIds,
+        long[] sampleCounts,
+        long[] compliantCounts,
+        BitSet repeatedRows,
+        int firstBucket,
+        int bucketEnd
+    ) {
+        this.bucketEpochDays = bucketEpochDays;
+        this.bucketOffsets = bucketOffsets;
+        this.observedEpochDays = observedEpochDays;
+        this.facilityIds = facilityIds;
+        this.measurementIds = measurementIds;
+        this.systemTypeIds = systemTypeIds;
+        this.sampleCounts = sampleCounts;
+        this.compliantCounts = compliantCounts;
+        this.repeatedRows = repeatedRows;
+        this.firstBucket = firstBucket;
+        this.bucketEnd = bucketEnd;
+    }
+
+    /**
+     * Encodes date buckets in ascending date order, dropping undated buckets. A
+     * point repeated within its bucket is kept for {@link #toSamplesByDate} but
+     * counted once in totals.
+     */
+    static HistoricalSampleColumns of(
+        Map<LocalDate, List<LocationDashboardDerivedGraphSupport.HistoricalSamplePoint>> samplesByDate,
+        DashboardStringDictionary.Builder dictionary
+    ) {
+        List<Map.Entry<LocalDate, List<LocationDashboardDerivedGraphSupport.HistoricalSamplePoint>>> sortedEntries =
+            new ArrayList<>();
+        if (samplesByDate != null) {
+            samplesByDate.entrySet().stream()
+                .filter(entry -> entry.getKey() != null)
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(sortedEntries::add);
+        }
+        int rowCount = 0;
+        for (Map.Entry<LocalDate, List<LocationDashboardDerivedGraphSupport.HistoricalSamplePoint>> entry : sortedEntries) {
+            rowCount += entry.getValue() == null ? 0 : entry.getValue().size();
+        }
+
+        int[] bucketEpochDays = new int[sortedEntries.size()];
+        int[] bucketOffsets = new int[sortedEntries.size() + 1];
+        int[] observedEpochDays = new int[rowCount];
+        int[] facilityIds = new int[rowCount];
+        int[] measurementIds = new int[rowCount];
+        int[] systemTypeIds = new int[rowCount];
+        long[] sampleCounts = new long[rowCount];
+        long[] compliantCounts = new long[rowCount];
+        BitSet repeatedRows = new BitSet();
+        int row = 0;
+        for (int bucket = 0; bucket < sortedEntries.size(); bucket += 1) {
+            Map.Entry<LocalDate, List<LocationDashboardDerivedGraphSupport.HistoricalSamplePoint>> entry =
+                sortedEntries.get(bucket);
+            bucketEpochDays[bucket] = (int) entry.getKey().toEpochDay();
+            bucketOffsets[bucket] = row;
+            List<LocationDashboardDerivedGraphSupport.HistoricalSamplePoint> bucketPoints =
+                entry.getValue() == null ? List.of() : List.copyOf(entry.getValue());
+            Set<LocationDashboardDerivedGraphSupport.HistoricalSamplePoint> seenPoints = new HashSet<>();
+            for (LocationDashboardDerivedGraphSupport.HistoricalSamplePoint samplePoint : bucketPoints) {
+                observedEpochDays[row] = encodeDate(samplePoint.observedDate());
+                facilityIds[row] = dictionary.idOf(samplePoint.facilityName());
+                measurementIds[row] = dictionary.idOf(samplePoint.measurementName());
+                systemTypeIds[row] = dictionary.idOf(samplePoint.systemTypeName());
+                sampleCounts[row] = samplePoint.sampleCount();
+                compliantCounts[row] = samplePoint.compliantCount();
+                if (!seenPoints.add(samplePoint)) {
+                    repeatedRows.set(row);
+                }
+                row += 1;
+            }
+        }
+        bucketOffsets[sortedEntries.size()] = row;
+        return new HistoricalSampleColumns(
+            bucketEpochDays,
+            bucketOffsets,
+            observedEpochDays,
+            facilityIds,
+            measurementIds,
+            systemTypeIds,
+            sampleCounts,
+            compliantCounts,
+            repeatedRows,
+            0,
+            bucketEpochDays.length
+        );
+    }
+
+    int rowCount() {
+        return bucketOffsets[bucketEnd] - bucketOffsets[firstBucket];
+    }
+
+    /**
+     * Sums sample and compliant counts of rows with a measurement name.
+     *
+     * @return {@code [totalSamples, compliantSamples]}
+     */
+    long[] measuredTotals() {
+        long totalSamples = 0L;
+        long compliantSamples = 0L;
+        for (int row = bucketOffsets[firstBucket]; row < bucketOffsets[bucketEnd]; row += 1) {
+            if (measurementIds[row] == DashboardStringDictionary.NULL_ID || repeatedRows.get(row)) {
+                continue;
+            }
+            totalSamples += sampleCounts[row];
+            compliantSamples += compliantCounts[row];
+        }
+        return new long[] {totalSamples, compliantSamples};
+    }
+
+    /**
+     * Returns a view of the buckets dated on or after the given epoch day.
+     * The view shares every column with this instance; nothing is copied.
+     */
+    HistoricalSampleColumns fromEpochDay(int epochDay) {
+        int viewFirstBucket = firstIndexOnOrAfter(bucketEpochDays, firstBucket, bucketEnd, epochDay);
+        if (viewFirstBucket == firstBucket) {
+            return this;
+        }
+        return new HistoricalSampleColumns(
+            bucketEpochDays,
+            bucketOffsets,
+            observedEpochDays,
+            facilityIds,
+            measurementIds,
+            systemTypeIds,
+            sampleCounts,
+            compliantCounts,
+            repeatedRows,
+            viewFirstBucket,
+            bucketEnd
+        );
+    }
+
+    Map<LocalDate, List<LocationDashboardDerivedGraphSupport.HistoricalSamplePoint>> toSamplesByDate(
+        DashboardStringDictionary dictionary
+    ) {
+        Map<LocalDate, List<LocationDashboardDerivedGraphSupport.HistoricalSamplePoint>> samplesByDate =
+            new LinkedHashMap<>();
+        for (int bucket = firstBucket; bucket < bucketEnd; bucket += 1) {
+            List<LocationDashboardDerivedGraphSupport.HistoricalSamplePoint> bucketPoints = new ArrayList<>();
+            for (int row = bucketOffsets[bucket]; row < bucketOffsets[bucket + 1]; row += 1) {
+                bucketPoints.add(new LocationDashboardDerivedGraphSupport.HistoricalSamplePoint(
+                    decodeDate(observedEpochDays[row]),
+                    dictionary.value(facilityIds[row]),
+                    dictionary.value(measurementIds[row]),
+                    dictionary.value(systemTypeIds[row]),
+                    sampleCounts[row],
+                    compliantCounts[row]
+                ));
+            }
+            samplesByDate.put(LocalDate.ofEpochDay(bucketEpochDays[bucket]), List.copyOf(bucketPoints));
+        }
+        return Collections.unmodifiableMap(samplesByDate);
+    }
+
+    /**
+     * Retained size of the shared columns; a view reports the storage it
+     * shares with the all-time data.
+     */
+    long approximateSizeBytes() {
+        int rowCount = observedEpochDays.length;
+        return DashboardPayloadWeights.ofIntColumn(bucketEpochDays.length)
+            + DashboardPayloadWeights.ofIntColumn(bucketOffsets.length)
+            + 4L * DashboardPayloadWeights.ofIntColumn(rowCount)
+            + 2L * DashboardPayloadWeights.ofLongColumn(rowCount)
+            + DashboardPayloadWeights.ofFlags(repeatedRows);
+    }
+
+    /**
+     * Stable ascending order of the given epoch days. Undated rows encode as
+     * {@link #NO_DATE} and therefore sort first, ahead of every window start.
+     */
+    static int[] dateOrder(int[] epochDays) {
+        Integer[] rows = new Integer[epochDays.length];
+        for (int row = 0; row < rows.length; row += 1) {
+            rows[row] = row;
+        }
+        Arrays.sort(rows, Comparator.comparingInt(row -> epochDays[row]));
+        int[] order = new int[rows.length];
+        for (int row = 0; row < rows.length; row += 1) {
+            order[row] = rows[row];
+        }
+        return order;
+    }
+
+    /**
+     * Lower-bound binary search over an ascending range of epoch days.
+     *
+     * @return the first index in {@code [from, to)} whose value is at least
+     *     {@code epochDay}, or {@code to} when there is none
+     */
+    static int firstIndexOnOrAfter(int[] epochDays, int from, int to, int epochDay) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (epochDays[middle] < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    static int encodeDate(LocalDate date) {
+        return date == null ? NO_DATE : (int) date.toEpochDay();
+    }
+
+    static LocalDate decodeDate(int epochDay) {
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+}
@@ -1,20 +1,25 @@
 package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.Ticker;
 import org.springframework.stereotype.Service;
 
-import java.lang.reflect.Array;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.IdentityHashMap;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -35,8 +40,12 @@ public class LocationDashboardCache {
 
     private final Cache<HistoricalDataCacheKey, LocationDashboardDerivedGraphSupport.HistoricalDerivedData>
         historicalDataCache;
-    private final Cache<GraphProjectionCacheKey, DashboardGraphProjection>
+    private final AsyncCache<GraphProjectionCacheKey, DashboardGraphProjection>
         graphProjectionCache;
+    private final LocationKeyIndex<HistoricalDataCacheKey> historicalDataKeys =
+        new LocationKeyIndex<>(HistoricalDataCacheKey::locationId);
+    private final LocationKeyIndex<GraphProjectionCacheKey> graphProjectionKeys =
+        new LocationKeyIndex<>(GraphProjectionCacheKey::locationId);
 
     public LocationDashboardCache() {
         this(
@@ -60,7 +69,10 @@ public class LocationDashboardCache {
         this.historicalDataCache = Caffeine.newBuilder()
             .maximumWeight(historicalDataMaximumWeight)
             .weigher((HistoricalDataCacheKey key, LocationDashboardDerivedGraphSupport.HistoricalDerivedData value) ->
-                estimateWeight(value))
+                DashboardPayloadWeights.toCacheWeight(value.approximateSizeBytes()))
+            .evictionListener((HistoricalDataCacheKey key,
+                LocationDashboardDerivedGraphSupport.HistoricalDerivedData value,
+                RemovalCause cause) -> historicalDataKeys.remove(key))
             .expireAfterWrite(historicalDataTtl)
             .recordStats()
             .ticker(ticker)
@@ -68,12 +80,14 @@ public class LocationDashboardCache {
         this.graphProjectionCache = Caffeine.newBuilder()
             .maximumWeight(graphProjectionMaximumWeight)
             .weigher((GraphProjectionCacheKey key, DashboardGraphProjection value) ->
-                estimateWeight(value))
+                DashboardPayloadWeights.toCacheWeight(value.approximateSizeBytes()))
+            .evictionListener((GraphProjectionCacheKey key, DashboardGraphProjection value, RemovalCause cause) ->
+                graphProjectionKeys.remove(key))
             .expireAfterAccess(graphProjectionIdleTtl)
             .expireAfterWrite(graphProjectionTtl)
             .recordStats()
             .ticker(ticker)
-            .build();
+            .buildAsync();
     }
 
     LocationDashboardDerivedGraphSupport.HistoricalDerivedData getOrComputeHistoricalData(
@@ -83,16 +97,18 @@ public class LocationDashboardCache {
         if (key == null) {
             return Objects.requireNonNull(loader.get(), "Historical data loader returned null");
         }
-        return historicalDataCache.get(
-            key,
-            ignored -> Objects.requireNonNull(loader.get(), "Historical data loader returned null")
-        );
+        return historicalDataCache.get(key, ignored -> {
+            LocationDashboardDerivedGraphSupport.HistoricalDerivedData value =
+                Objects.requireNonNull(loader.get(), "Historical data loader returned null");
+            historicalDataKeys.add(key);
+            return value;
+        });
     }
 
     DashboardGraphProjection getGraphProjection(
         GraphProjectionCacheKey key
     ) {
-        return key == null ? null : graphProjectionCache.getIfPresent(key);
+        return key == null ? null : graphProjectionCache.synchronous().getIfPresent(key);
     }
 
     void putGraphProjection(
@@ -100,21 +116,80 @@ public class LocationDashboardCache {
         DashboardGraphProjection value
     ) {
         if (key != null && value != null) {
-            graphProjectionCache.put(key, value);
+            graphProjectionCache.asMap().compute(key, (ignored, previous) -> {
+                graphProjectionKeys.add(key);
+                return CompletableFuture.completedFuture(value);
+            });
+        }
+    }
+
+    /**
+     * Returns the projections for all requested keys, loading the absent ones
+     * with a single loader call. Keys already being loaded by another request
+     * are awaited rather than rebuilt, so concurrent viewers of an expired or
+     * invalidated dashboard trigger one rebuild per key. The loader runs on the
+     * calling thread and may omit keys it cannot project.
+     */
+    Map<GraphProjectionCacheKey, DashboardGraphProjection> getOrComputeGraphProjections(
+        Collection<GraphProjectionCacheKey> keys,
+        Function<Set<GraphProjectionCacheKey>, Map<GraphProjectionCacheKey, DashboardGraphProjection>> loader
+    ) {
+        if (keys == null || keys.isEmpty()) {
+            return Map.of();
         }
+        return join(graphProjectionCache.getAll(keys, (missingKeys, executor) -> {
+            Map<GraphProjectionCacheKey, DashboardGraphProjection> loaded = Objects.requireNonNull(
+                loader.apply(Set.copyOf(missingKeys)),
+                "Graph projection loader returned null"
+            );
+            loaded.keySet().forEach(graphProjectionKeys::add);
+            return CompletableFuture.completedFuture(loaded);
+        }));
+    }
+
+    /**
+     * Returns a resident projection of the same graph revision whose window
+     * covers the requested finite range, so the caller can slice it instead of
+     * rebuilding from the full history. The shortest cached longer range for
+     * the same anchor date and location revision is preferred; the all-time
+     * projection is the fallback. Returns null when neither is resident.
+     */
+    DashboardGraphProjection findCoveringGraphProjection(GraphProjectionCacheKey key) {
+        if (key == null || key.locationId() == null || key.monthRange() == null) {
+            return null;
+        }
+        List<GraphProjectionCacheKey> longerRangeKeys = graphProjectionKeys.keys(key.locationId()).stream()
+            .filter(candidate -> candidate.monthRange() != null && candidate.monthRange() > key.monthRange())
+            .filter(candidate -> Objects.equals(candidate.graphId(), key.graphId())
+                && Objects.equals(candidate.anchorDate(), key.anchorDate())
+                && Objects.equals(candidate.locationRevision(), key.locationRevision())
+                && Objects.equals(candidate.graphRevision(), key.graphRevision()))
+            .sorted(Comparator.comparing(GraphProjectionCacheKey::monthRange))
+            .toList();
+        for (GraphProjectionCacheKey candidate : longerRangeKeys) {
+            DashboardGraphProjection projection = getGraphProjection(candidate);
+            if (projection != null) {
+                return projection;
+            }
+        }
+        return getGraphProjection(
+            GraphProjectionCacheKey.allTime(key.locationId(), key.graphId(), key.graphRevision())
+        );
     }
 
     /**
      * Removes every dashboard cache entry belonging to a location.
      * Explicit invalidation is used in addition to revisioned keys so writes
-     * cannot leave stale payloads resident until their TTL elapses.
+     * cannot leave stale payloads resident until their TTL elapses. Keys are
+     * resolved through a per-location index, so the cost is proportional to
+     * the location's own entries rather than the total cache size.
      */
     public void invalidateLocation(Long locationId) {
         if (locationId == null) {
             return;
         }
-        historicalDataCache.asMap().keySet().removeIf(key -> Objects.equals(key.locationId(), locationId));
-        graphProjectionCache.asMap().keySet().removeIf(key -> Objects.equals(key.locationId(), locationId));
+        historicalDataCache.invalidateAll(historicalDataKeys.drain(locationId));
+        graphProjectionCache.synchronous().invalidateAll(graphProjectionKeys.drain(locationId));
     }
 
     long historicalDataEntryCount() {
@@ -122,7 +197,34 @@ public class LocationDashboardCache {
     }
 
     long graphProjectionEntryCount() {
-        return graphProjectionCache.estimatedSize();
+        return graphProjectionCache.synchronous().estimatedSize();
+    }
+
+    int indexedKeyCount(Long locationId) {
+        return historicalDataKeys.size(locationId) + graphProjectionKeys.size(locationId);
+    }
+
+    int indexedLocationCount() {
+        return historicalDataKeys.locationCount() + graphProjectionKeys.locationCount();
+    }
+
+    void cleanUp() {
+        historicalDataCache.cleanUp();
+        graphProjectionCache.synchronous().cleanUp();
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
     }
 
     public record HistoricalDataCacheKey(
@@ -139,61 +241,73 @@ public class LocationDashboardCache {
         Instant locationRevision,
         Instant graphRevision
     ) {
+        /**
+         * Key of a graph's normalized all-time payload. It does not depend on
+         * the anchor date or location revision, only on the graph revision.
+         */
+        static GraphProjectionCacheKey allTime(Long locationId, Long graphId, Instant graphRevision) {
+            return new GraphProjectionCacheKey(locationId, graphId, null, null, null, graphRevision);
+        }
     }
 
-    private static int estimateWeight(Object value) {
-        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
-        long weight = estimateValue(value, visited);
-        return (int) Math.min(Integer.MAX_VALUE, Math.max(1L, weight));
-    }
+    /**
+     * Secondary index from location id to the cache keys currently resident for
+     * that location. Keys are registered while their value is being inserted,
+     * before it can be evicted, and dropped on eviction, so an evicted entry
+     * never leaves its key behind. A location's set is removed with its last
+     * key.
+     */
+    private static final class LocationKeyIndex<K> {
+        private final ConcurrentHashMap<Long, Set<K>> keysByLocationId = new ConcurrentHashMap<>();
+        private final Function<K, Long> locationIdExtractor;
 
-    private static long estimateValue(Object value, Set<Object> visited) {
-        if (value == null) {
-            return 8L;
-        }
-        if (value instanceof String stringValue) {
-            return 40L + (long) stringValue.length() * 2L;
+        private LocationKeyIndex(Function<K, Long> locationIdExtractor) {
+            this.locationIdExtractor = locationIdExtractor;
         }
-        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
-            return 24L;
-        }
-        if (!visited.add(value)) {
-            return 0L;
+
+        void add(K key) {
+            Long locationId = locationIdExtractor.apply(key);
+            if (locationId == null) {
+                return;
+            }
+            keysByLocationId.compute(locationId, (ignored, keys) -> {
+                Set<K> locationKeys = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+                locationKeys.add(key);
+                return locationKeys;
+            });
         }
-        if (value instanceof LocationDashboardDerivedGraphSupport.HistoricalDerivedData historicalData) {
-            return 48L
-                + estimateValue(historicalData.samplesByDate(), visited)
-                + estimateValue(historicalData.nonConformances(), visited)
-                + estimateValue(historicalData.rawSamples(), visited);
+
+        void remove(K key) {
+            if (key == null) {
+                return;
+            }
+            Long locationId = locationIdExtractor.apply(key);
+            if (locationId == null) {
+                return;
+            }
+            keysByLocationId.computeIfPresent(locationId, (ignored, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
         }
-        if (value instanceof DashboardGraphProjection projection) {
-            return 48L
-                + estimateValue(projection.data(), visited)
-                + estimateValue(projection.layout(), visited);
+
+        Set<K> drain(Long locationId) {
+            Set<K> keys = keysByLocationId.remove(locationId);
+            return keys == null ? Set.of() : keys;
         }
-        if (value instanceof Map<?, ?> map) {
-            long weight = 48L;
-            for (Map.Entry<?, ?> entry : map.entrySet()) {
-                weight += estimateValue(entry.getKey(), visited);
-                weight += estimateValue(entry.getValue(), visited);
-            }
-            return weight;
+
+        Set<K> keys(Long locationId) {
+            Set<K> keys = keysByLocationId.get(locationId);
+            return keys == null ? Set.of() : keys;
         }
-        if (value instanceof Collection<?> collection) {
-            long weight = 32L;
-            for (Object element : collection) {
-                weight += estimateValue(element, visited);
-            }
-            return weight;
+
+        int size(Long locationId) {
+            Set<K> keys = keysByLocationId.get(locationId);
+            return keys == null ? 0 : keys.size();
         }
-        if (value.getClass().isArray()) {
-            long weight = 32L;
-            int length = Array.getLength(value);
-            for (int index = 0; index < length; index += 1) {
-                weight += estimateValue(Array.get(value, index), visited);
-            }
-            return weight;
+
+        int locationCount() {
+            return keysByLocationId.size();
         }
-        return 32L;
     }
 }
@@ -6,12 +6,15 @@ import com.aphinity.client_analytics_core.api.core.entities.servicecalendar.Serv
 import com.aphinity.client_analytics_core.api.core.plotly.GraphPayloadMapper;
 import com.aphinity.client_analytics_core.api.core.plotly.GraphRelationalPayloadMapper;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -21,7 +24,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.Collectors;
 
 final class LocationDashboardDerivedGraphSupport {
@@ -34,6 +37,11 @@ final class LocationDashboardDerivedGraphSupport {
     private static final String UNKNOWN_CATEGORY_LABEL = "Unknown Category";
     private static final List<String> TURNAROUND_BUCKETS =
         List.of("< 1 week", "< 2 weeks", "< 1 month", "< 3 months", "≥ 3 months");
+    /**
+     * Bump when {@link #buildPayload} output changes for the same inputs so
+     * stored derived graphs are rebuilt on the next scheduled refresh.
+     */
+    static final int DERIVATION_VERSION = 1;
     private static final ZoneId DASHBOARD_TIME_ZONE = ZoneId.of("America/Phoenix");
 
     private LocationDashboardDerivedGraphSupport() {
@@ -43,6 +51,14 @@ final class LocationDashboardDerivedGraphSupport {
         return derivedGraphType == null ? null : derivedGraphType.value();
     }
 
+    /**
+     * Whether a derived payload changes with the anchor date alone, even when
+     * its source rows are unchanged.
+     */
+    static boolean dependsOnAnchorMonth(LocationDashboardImportStrategyConfig.DerivedGraphType derivedGraphType) {
+        return derivedGraphType == LocationDashboardImportStrategyConfig.DerivedGraphType.RECENT_SAMPLE_MEASUREMENTS;
+    }
+
     static List<Map<String, Object>> buildPayload(
         LocationDashboardImportStrategyConfig.DerivedGraphConfig derivedGraphDefinition,
         Graph graph,
@@ -66,17 +82,14 @@ final class LocationDashboardDerivedGraphSupport {
         LocalDate anchorDate
     ) {
         LocationDashboardImportStrategyConfig.DerivedGraphType derivedGraphType = derivedGraphDefinition.derivedType();
-        List<HistoricalSamplePoint> waterQualitySamplePoints = historicalData.allSamplePoints().stream()
-            .filter(samplePoint -> samplePoint.measurementName() != null)
-            .toList();
-        List<LocationDashboardNonConformanceIncident> nonConformances = historicalData.nonConformances();
+        DashboardStringDictionary dictionary = historicalData.dictionary();
+        HistoricalNonConformanceColumns nonConformances = historicalData.nonConformanceColumns();
 
-        long totalSamples = waterQualitySamplePoints.stream().mapToLong(HistoricalSamplePoint::sampleCount).sum();
-        long compliantSamples = waterQualitySamplePoints.stream().mapToLong(HistoricalSamplePoint::compliantCount).sum();
+        long[] measuredTotals = historicalData.samples().measuredTotals();
+        long totalSamples = measuredTotals[0];
+        long compliantSamples = measuredTotals[1];
         long totalIncidentNonConformances = nonConformances.size();
-        long resolvedNonConformances = nonConformances.stream()
-            .filter(LocationDashboardNonConformanceIncident::resolved)
-            .count();
+        long resolvedNonConformances = nonConformances.resolvedCount();
         long activeNonConformances = totalIncidentNonConformances - resolvedNonConformances;
 
         return switch (derivedGraphType) {
@@ -121,25 +134,25 @@ final class LocationDashboardDerivedGraphSupport {
             case NON_CONFORMANCES_BY_FACILITY -> List.of(buildHorizontalBarTrace(
                 graph,
                 "Non-Conformances",
-                countIncidentLabels(nonConformances, LocationDashboardNonConformanceIncident::facilityName, UNKNOWN_FACILITY_LABEL),
+                countIncidentLabels(nonConformances, nonConformances::facilityId, dictionary, UNKNOWN_FACILITY_LABEL),
                 DEFAULT_GRAPH_COLOR,
                 0
             ));
             case NON_CONFORMANCES_BY_SYSTEM_TYPE -> List.of(buildHorizontalBarTrace(
                 graph,
                 "Non-Conformances",
-                countIncidentLabels(nonConformances, LocationDashboardNonConformanceIncident::systemTypeName, UNKNOWN_SYSTEM_TYPE_LABEL),
+                countIncidentLabels(nonConformances, nonConformances::systemTypeId, dictionary, UNKNOWN_SYSTEM_TYPE_LABEL),
                 DEFAULT_GRAPH_COLOR,
                 0
             ));
             case NON_CONFORMANCES_BY_CATEGORY -> List.of(buildHorizontalBarTrace(
                 graph,
                 "Non-Conformances",
-                countIncidentLabels(nonConformances, LocationDashboardNonConformanceIncident::measurementName, UNKNOWN_CATEGORY_LABEL),
+                countIncidentLabels(nonConformances, nonConformances::measurementId, dictionary, UNKNOWN_CATEGORY_LABEL),
                 DEFAULT_GRAPH_COLOR,
                 0
             ));
-            case NON_CONFORMANCE_STATUS_BY_FACILITY -> buildStatusByFacilityPayload(graph, nonConformances);
+            case NON_CONFORMANCE_STATUS_BY_FACILITY -> buildStatusByFacilityPayload(graph, nonConformances, dictionary);
             case NON_CONFORMANCE_TURNAROUND_TIME -> List.of(buildHorizontalBarTrace(
                 graph,
                 "Resolved",
@@ -148,14 +161,15 @@ final class LocationDashboardDerivedGraphSupport {
                 0
             ));
             case RECENT_SAMPLE_MEASUREMENTS -> List.of(buildRecentSampleMeasurementsTrace(
-                historicalData.recentRawSamples(),
+                historicalData.recentRawSamples(recentSampleWindowStart(anchorDate)),
                 identityPattern,
                 anchorDate
             ));
             case SAMPLE_CONFORMANCE_HIERARCHY -> List.of(SampleConformanceSunburstBuilder.build(
                 findExistingTrace(graph, "sunburst", 0),
                 derivedGraphDefinition.name(),
-                historicalData.rawSamples(),
+                historicalData.rawSampleColumns(),
+                dictionary,
                 derivedGraphDefinition.hierarchy()
             ));
         };
@@ -212,6 +226,65 @@ final class LocationDashboardDerivedGraphSupport {
         LocalDate anchorDate
     ) {
         List<IdentityColumnDefinition> identityColumns = identityColumns(identityPattern);
+        List<RecentSampleRow> rows = foldRecentSampleRows(rawSamples, anchorDate);
+        List<String> headers = recentSampleHeaders(identityColumns);
+        List<String> fields = headers.stream()
+            .map(LocationDashboardDerivedGraphSupport::slugField)
+            .toList();
+        List<Map<String, Object>> tableRows = new ArrayList<>();
+        for (RecentSampleRow row : rows) {
+            tableRows.add(recentSampleTableRow(row, identityColumns, fields));
+        }
+        return new RecentSampleMeasurementsTable(headers, fields, tableRows);
+    }
+
+    /**
+     * Builds one page of the recent-sample table. Rows are folded and ordered
+     * exactly as in {@link #buildRecentSampleMeasurementsTable}, but only the
+     * rows on the page are rendered. A cursor from an earlier page seeks past
+     * the row it names, so following pages stay stable when newer rows arrive;
+     * without one the 1-based page number selects the offset.
+     *
+     * @throws IllegalArgumentException when the cursor is malformed
+     */
+    static RecentSampleMeasurementsPage buildRecentSampleMeasurementsPage(
+        List<HistoricalRawSample> rawSamples,
+        List<LocationDashboardImportStrategyConfig.SpreadsheetIdentityColumn> identityPattern,
+        LocalDate anchorDate,
+        String cursor,
+        int requestedPage,
+        int pageSize
+    ) {
+        List<IdentityColumnDefinition> identityColumns = identityColumns(identityPattern);
+        List<RecentSampleRow> rows = foldRecentSampleRows(rawSamples, anchorDate);
+        List<String> fields = recentSampleHeaders(identityColumns).stream()
+            .map(LocationDashboardDerivedGraphSupport::slugField)
+            .toList();
+
+        int total = rows.size();
+        int lastPage = Math.max(1, (int) Math.ceil(total / (double) pageSize));
+        int fromIndex = cursor == null || cursor.isBlank()
+            ? Math.min((Math.min(requestedPage, lastPage) - 1) * pageSize, total)
+            : firstRowAfter(rows, RecentSampleCursor.decode(cursor));
+        int toIndex = Math.min(fromIndex + pageSize, total);
+        List<Map<String, Object>> pageRows = new ArrayList<>(toIndex - fromIndex);
+        for (RecentSampleRow row : rows.subList(fromIndex, toIndex)) {
+            pageRows.add(recentSampleTableRow(row, identityColumns, fields));
+        }
+        String nextCursor = toIndex < total ? RecentSampleCursor.of(rows.get(toIndex - 1)).encode() : null;
+        return new RecentSampleMeasurementsPage(
+            pageRows,
+            total,
+            Math.min(fromIndex / pageSize + 1, lastPage),
+            lastPage,
+            nextCursor
+        );
+    }
+
+    private static List<RecentSampleRow> foldRecentSampleRows(
+        List<HistoricalRawSample> rawSamples,
+        LocalDate anchorDate
+    ) {
         LocalDate windowStart = recentSampleWindowStart(anchorDate);
         Map<String, RecentSampleRow> rowsByIdentifier = new LinkedHashMap<>();
         for (HistoricalRawSample sample : rawSamples == null ? List.<HistoricalRawSample>of() : rawSamples) {
@@ -255,39 +328,57 @@ final class LocationDashboardDerivedGraphSupport {
             }
         }
 
-        List<RecentSampleRow> rows = rowsByIdentifier.values().stream()
+        return rowsByIdentifier.values().stream()
             .sorted(Comparator
                 .comparing(RecentSampleRow::observedDate, Comparator.reverseOrder())
                 .thenComparing(RecentSampleRow::rowIdentifier))
             .toList();
+    }
+
+    /** Lower bound of the first row ordered after the cursor's row. */
+    private static int firstRowAfter(List<RecentSampleRow> rows, RecentSampleCursor cursor) {
+        int low = 0;
+        int high = rows.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cursor.compareToRow(rows.get(middle)) >= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static List<String> recentSampleHeaders(List<IdentityColumnDefinition> identityColumns) {
         List<String> headers = new ArrayList<>();
         identityColumns.stream().map(IdentityColumnDefinition::label).forEach(headers::add);
         headers.add("Measurement");
         headers.add("Observed");
         headers.add("Value");
         headers.add("Follow-ups");
+        return headers;
+    }
 
-        List<String> fields = headers.stream()
-            .map(LocationDashboardDerivedGraphSupport::slugField)
-            .toList();
-        List<Map<String, Object>> tableRows = new ArrayList<>();
-        for (RecentSampleRow row : rows) {
-            Map<String, Object> tableRow = new LinkedHashMap<>();
-            int fieldIndex = 0;
-            for (IdentityColumnDefinition identityColumn : identityColumns) {
-                tableRow.put(fields.get(fieldIndex), row.identityValues().getOrDefault(identityColumn.key(), ""));
-                fieldIndex += 1;
-            }
-            tableRow.put(fields.get(fieldIndex++), row.measurementName());
-            tableRow.put(fields.get(fieldIndex++), String.valueOf(row.observedDate()));
-            tableRow.put(fields.get(fieldIndex++), row.rawValue());
-            tableRow.put(fields.get(fieldIndex), row.followUps().isEmpty() ? "" : row.followUps().size());
-            tableRow.put("rowIdentifier", row.rowIdentifier());
-            tableRow.put("caStatus", row.caStatus());
-            tableRow.put("followUps", row.followUps());
-            tableRows.add(Map.copyOf(tableRow));
-        }
-        return new RecentSampleMeasurementsTable(headers, fields, tableRows);
+    private static Map<String, Object> recentSampleTableRow(
+        RecentSampleRow row,
+        List<IdentityColumnDefinition> identityColumns,
+        List<String> fields
+    ) {
+        Map<String, Object> tableRow = new LinkedHashMap<>();
+        int fieldIndex = 0;
+        for (IdentityColumnDefinition identityColumn : identityColumns) {
+            tableRow.put(fields.get(fieldIndex), row.identityValues().getOrDefault(identityColumn.key(), ""));
+            fieldIndex += 1;
+        }
+        tableRow.put(fields.get(fieldIndex++), row.measurementName());
+        tableRow.put(fields.get(fieldIndex++), String.valueOf(row.observedDate()));
+        tableRow.put(fields.get(fieldIndex++), row.rawValue());
+        tableRow.put(fields.get(fieldIndex), row.followUps().isEmpty() ? "" : row.followUps().size());
+        tableRow.put("rowIdentifier", row.rowIdentifier());
+        tableRow.put("caStatus", row.caStatus());
+        tableRow.put("followUps", row.followUps());
+        return Map.copyOf(tableRow);
     }
 
     private static String slugField(String header) {
@@ -297,7 +388,7 @@ final class LocationDashboardDerivedGraphSupport {
         return normalized.isBlank() ? "column" : normalized;
     }
 
-    private static LocalDate recentSampleWindowStart(LocalDate anchorDate) {
+    static LocalDate recentSampleWindowStart(LocalDate anchorDate) {
         LocalDate effectiveAnchorDate = anchorDate == null ? LocalDate.now(DASHBOARD_TIME_ZONE) : anchorDate;
         return effectiveAnchorDate.minusMonths(1).withDayOfMonth(1);
     }
@@ -378,18 +469,29 @@ final class LocationDashboardDerivedGraphSupport {
 
     private static List<Map<String, Object>> buildStatusByFacilityPayload(
         Graph graph,
-        List<LocationDashboardNonConformanceIncident> nonConformances
+        HistoricalNonConformanceColumns nonConformances,
+        DashboardStringDictionary dictionary
     ) {
-        Map<String, long[]> countsByFacility = new LinkedHashMap<>();
-        for (LocationDashboardNonConformanceIncident nonConformance : nonConformances) {
-            String facilityName = labelOrFallback(nonConformance.facilityName(), UNKNOWN_FACILITY_LABEL);
-            long[] counts = countsByFacility.computeIfAbsent(facilityName, ignored -> new long[2]);
-            if (nonConformance.resolved()) {
-                counts[1] += 1;
+        long[] activeCountsByFacilityId = new long[dictionary.size() + 1];
+        long[] resolvedCountsByFacilityId = new long[dictionary.size() + 1];
+        for (int row = 0; row < nonConformances.size(); row += 1) {
+            int slot = nonConformances.facilityId(row) + 1;
+            if (nonConformances.resolved(row)) {
+                resolvedCountsByFacilityId[slot] += 1;
             } else {
-                counts[0] += 1;
+                activeCountsByFacilityId[slot] += 1;
             }
         }
+        Map<String, long[]> countsByFacility = new LinkedHashMap<>();
+        for (int slot = 0; slot < activeCountsByFacilityId.length; slot += 1) {
+            if (activeCountsByFacilityId[slot] == 0L && resolvedCountsByFacilityId[slot] == 0L) {
+                continue;
+            }
+            String facilityName = labelOrFallback(dictionary.value(slot - 1), UNKNOWN_FACILITY_LABEL);
+            long[] counts = countsByFacility.computeIfAbsent(facilityName, ignored -> new long[2]);
+            counts[0] += activeCountsByFacilityId[slot];
+            counts[1] += resolvedCountsByFacilityId[slot];
+        }
 
         List<Map.Entry<String, long[]>> orderedCounts = countsByFacility.entrySet().stream()
             .sorted(Comparator
@@ -408,17 +510,22 @@ final class LocationDashboardDerivedGraphSupport {
     }
 
     private static Map<String, Long> countIncidentLabels(
-        List<LocationDashboardNonConformanceIncident> nonConformances,
-        Function<LocationDashboardNonConformanceIncident, String> labelExtractor,
+        HistoricalNonConformanceColumns nonConformances,
+        IntUnaryOperator labelIdExtractor,
+        DashboardStringDictionary dictionary,
         String fallbackLabel
     ) {
+        // Slot 0 counts incidents without a label; slot id + 1 counts the label with that dictionary id.
+        long[] countsByLabelId = new long[dictionary.size() + 1];
+        for (int row = 0; row < nonConformances.size(); row += 1) {
+            countsByLabelId[labelIdExtractor.applyAsInt(row) + 1] += 1;
+        }
         Map<String, Long> countsByLabel = new LinkedHashMap<>();
-        for (LocationDashboardNonConformanceIncident nonConformance : nonConformances) {
-            if (nonConformance == null) {
-                continue;
+        for (int slot = 0; slot < countsByLabelId.length; slot += 1) {
+            if (countsByLabelId[slot] > 0L) {
+                String label = labelOrFallback(dictionary.value(slot - 1), fallbackLabel);
+                countsByLabel.merge(label, countsByLabelId[slot], Long::sum);
             }
-            String label = labelOrFallback(labelExtractor.apply(nonConformance), fallbackLabel);
-            countsByLabel.merge(label, 1L, Long::sum);
         }
 
         return countsByLabel.entrySet().stream()
@@ -434,43 +541,40 @@ final class LocationDashboardDerivedGraphSupport {
     }
 
     private static Map<String, Long> countLabelsByTurnaround(
-        List<LocationDashboardNonConformanceIncident> nonConformances
+        HistoricalNonConformanceColumns nonConformances
     ) {
-        Map<String, Long> countsByTurnaround = new LinkedHashMap<>();
-        TURNAROUND_BUCKETS.forEach(label -> countsByTurnaround.put(label, 0L));
-        nonConformances.stream()
-            .map(LocationDashboardDerivedGraphSupport::turnaroundLabel)
-            .filter(Objects::nonNull)
-            .forEach(label -> countsByTurnaround.merge(label, 1L, Long::sum));
+        long[] countsByBucket = new long[TURNAROUND_BUCKETS.size()];
+        for (int row = 0; row < nonConformances.size(); row += 1) {
+            long turnaroundDays = nonConformances.turnaroundDays(row);
+            if (turnaroundDays != HistoricalNonConformanceColumns.NO_TURNAROUND) {
+                countsByBucket[turnaroundBucket(turnaroundDays)] += 1;
+            }
+        }
 
-        return countsByTurnaround.entrySet().stream()
-            .filter(entry -> entry.getValue() > 0L)
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                Map.Entry::getValue,
-                (left, right) -> left,
-                LinkedHashMap::new
-            ));
+        Map<String, Long> countsByTurnaround = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < countsByBucket.length; bucket += 1) {
+            if (countsByBucket[bucket] > 0L) {
+                countsByTurnaround.put(TURNAROUND_BUCKETS.get(bucket), countsByBucket[bucket]);
+            }
+        }
+        return countsByTurnaround;
     }
 
-    private static String turnaroundLabel(LocationDashboardNonConformanceIncident nonConformance) {
-        if (nonConformance == null || nonConformance.turnaroundDays() == null) {
-            return null;
-        }
-        long turnaroundDays = Math.max(0L, nonConformance.turnaroundDays());
+    private static int turnaroundBucket(long rawTurnaroundDays) {
+        long turnaroundDays = Math.max(0L, rawTurnaroundDays);
         if (turnaroundDays < 7L) {
-            return "< 1 week";
+            return 0;
         }
         if (turnaroundDays < 14L) {
-            return "< 2 weeks";
+            return 1;
         }
         if (turnaroundDays < 31L) {
-            return "< 1 month";
+            return 2;
         }
         if (turnaroundDays < 92L) {
-            return "< 3 months";
+            return 3;
         }
-        return "≥ 3 months";
+        return 4;
     }
 
     private static Map<String, Object> buildPieTrace(
@@ -789,6 +893,58 @@ final class LocationDashboardDerivedGraphSupport {
         }
     }
 
+    record RecentSampleMeasurementsPage(
+        List<Map<String, Object>> rows,
+        long total,
+        int page,
+        int lastPage,
+        String nextCursor
+    ) {
+        RecentSampleMeasurementsPage {
+            rows = rows == null ? List.of() : List.copyOf(rows);
+        }
+    }
+
+    /**
+     * Keyset position in the recent-sample table: the observed date and row
+     * identifier of the last row a client has seen, encoded as an opaque
+     * URL-safe token.
+     */
+    record RecentSampleCursor(LocalDate observedDate, String rowIdentifier) {
+        private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+        private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+        private static RecentSampleCursor of(RecentSampleRow row) {
+            return new RecentSampleCursor(row.observedDate(), row.rowIdentifier());
+        }
+
+        static RecentSampleCursor decode(String token) {
+            try {
+                String decoded = new String(DECODER.decode(token.strip()), StandardCharsets.UTF_8);
+                int separator = decoded.indexOf('|');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Recent sample cursor is invalid");
+                }
+                return new RecentSampleCursor(
+                    LocalDate.parse(decoded.substring(0, separator)),
+                    decoded.substring(separator + 1)
+                );
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("Recent sample cursor is invalid", ex);
+            }
+        }
+
+        String encode() {
+            return ENCODER.encodeToString((observedDate + "|" + rowIdentifier).getBytes(StandardCharsets.UTF_8));
+        }
+
+        /** Compares this position with a row in table order: newest first, then by row identifier. */
+        private int compareToRow(RecentSampleRow row) {
+            int byDate = row.observedDate().compareTo(observedDate);
+            return byDate != 0 ? byDate : rowIdentifier.compareTo(row.rowIdentifier());
+        }
+    }
+
     record HistoricalRawSample(
         LocalDate observedDate,
         String rowIdentifier,
@@ -854,24 +1010,41 @@ final class LocationDashboardDerivedGraphSupport {
         }
     }
 
-    record HistoricalDerivedData(
-        Map<LocalDate, List<HistoricalSamplePoint>> samplesByDate,
-        List<LocationDashboardNonConformanceIncident> nonConformances,
-        List<HistoricalRawSample> rawSamples
-    ) {
-        HistoricalDerivedData {
-            Map<LocalDate, List<HistoricalSamplePoint>> normalizedSamplesByDate = new LinkedHashMap<>();
-            if (samplesByDate != null) {
-                samplesByDate.entrySet().stream()
-                    .sorted(Map.Entry.comparingByKey())
-                    .forEach(entry -> normalizedSamplesByDate.put(
-                        entry.getKey(),
-                        entry.getValue() == null ? List.of() : List.copyOf(entry.getValue())
-                    ));
-            }
-            samplesByDate = Map.copyOf(normalizedSamplesByDate);
-            nonConformances = nonConformances == null ? List.of() : List.copyOf(nonConformances);
-            rawSamples = rawSamples == null ? List.of() : List.copyOf(rawSamples);
+    /**
+     * Derivation input shared by every derived graph of a location. Samples,
+     * incidents and raw rows are held as dictionary-encoded primitive columns
+     * so the historical-data cache retains a few arrays per location instead
+     * of one record per row; the record views are materialized on demand. The
+     * approximate retained size is computed from the columns on construction
+     * so the cache can weigh entries in constant time.
+     */
+    static final class HistoricalDerivedData {
+        private final DashboardStringDictionary dictionary;
+        private final HistoricalSampleColumns samples;
+        private final HistoricalNonConformanceColumns nonConformanceColumns;
+        private final HistoricalRawSampleColumns rawSampleColumns;
+        private final long approximateSizeBytes;
+
+        HistoricalDerivedData(
+            Map<LocalDate, List<HistoricalSamplePoint>> samplesByDate,
+            List<LocationDashboardNonConformanceIncident> nonConformances,
+            List<HistoricalRawSample> rawSamples,
+            long approximateSizeBytes
+        ) {
+            DashboardStringDictionary.Builder dictionaryBuilder = new DashboardStringDictionary.Builder();
+            this.samples = HistoricalSampleColumns.of(samplesByDate, dictionaryBuilder);
+            this.nonConformanceColumns = HistoricalNonConformanceColumns.of(nonConformances, dictionaryBuilder);
+            this.rawSampleColumns = HistoricalRawSampleColumns.of(rawSamples, dictionaryBuilder);
+            this.dictionary = dictionaryBuilder.build();
+            this.approximateSizeBytes = approximateSizeBytes > 0L ? approximateSizeBytes : estimateSizeBytes();
+        }
+
+        HistoricalDerivedData(
+            Map<LocalDate, List<HistoricalSamplePoint>> samplesByDate,
+            List<LocationDashboardNonConformanceIncident> nonConformances,
+            List<HistoricalRawSample> rawSamples
+        ) {
+            this(samplesByDate, nonConformances, rawSamples, 0L);
         }
 
         HistoricalDerivedData(
@@ -881,21 +1054,103 @@ final class LocationDashboardDerivedGraphSupport {
             this(samplesByDate, nonConformances, List.of());
         }
 
+        private HistoricalDerivedData(
+            DashboardStringDictionary dictionary,
+            HistoricalSampleColumns samples,
+            HistoricalNonConformanceColumns nonConformanceColumns,
+            HistoricalRawSampleColumns rawSampleColumns,
+            long approximateSizeBytes
+        ) {
+            this.dictionary = dictionary;
+            this.samples = samples;
+            this.nonConformanceColumns = nonConformanceColumns;
+            this.rawSampleColumns = rawSampleColumns;
+            this.approximateSizeBytes = approximateSizeBytes;
+        }
+
+        Map<LocalDate, List<HistoricalSamplePoint>> samplesByDate() {
+            return samples.toSamplesByDate(dictionary);
+        }
+
+        List<LocationDashboardNonConformanceIncident> nonConformances() {
+            return nonConformanceColumns.toIncidents(dictionary);
+        }
+
+        List<HistoricalRawSample> rawSamples() {
+            return rawSampleColumns.toRawSamples(dictionary);
+        }
+
         List<HistoricalSamplePoint> allSamplePoints() {
             Set<HistoricalSamplePoint> samplePoints = new LinkedHashSet<>();
-            for (List<HistoricalSamplePoint> bucket : samplesByDate.values()) {
+            for (List<HistoricalSamplePoint> bucket : samplesByDate().values()) {
                 samplePoints.addAll(bucket);
             }
             return List.copyOf(samplePoints);
         }
 
-        List<HistoricalRawSample> recentRawSamples() {
-            return rawSamples.stream()
-                .filter(sample -> sample != null && sample.observedDate() != null)
-                .sorted(Comparator
-                    .comparing(HistoricalRawSample::observedDate, Comparator.reverseOrder())
-                    .thenComparing(HistoricalRawSample::rowIdentifier, Comparator.nullsLast(String::compareTo)))
-                .toList();
+        long approximateSizeBytes() {
+            return approximateSizeBytes;
+        }
+
+        int rowCount() {
+            return samples.rowCount() + nonConformanceColumns.size() + rawSampleColumns.size();
+        }
+
+        DashboardStringDictionary dictionary() {
+            return dictionary;
+        }
+
+        HistoricalSampleColumns samples() {
+            return samples;
+        }
+
+        HistoricalNonConformanceColumns nonConformanceColumns() {
+            return nonConformanceColumns;
+        }
+
+        HistoricalRawSampleColumns rawSampleColumns() {
+            return rawSampleColumns;
+        }
+
+        /**
+         * Views the rows observed on or after the window start. Every column is
+         * date-sorted, so this is a binary search per column and the view
+         * shares all storage, including the dictionary, with this instance.
+         */
+        HistoricalDerivedData fromDate(LocalDate windowStart) {
+            int epochDay = (int) windowStart.toEpochDay();
+            HistoricalSampleColumns samplesView = samples.fromEpochDay(epochDay);
+            HistoricalNonConformanceColumns nonConformancesView = nonConformanceColumns.fromEpochDay(epochDay);
+            HistoricalRawSampleColumns rawSamplesView = rawSampleColumns.fromEpochDay(epochDay);
+            if (samplesView == samples
+                && nonConformancesView == nonConformanceColumns
+                && rawSamplesView == rawSampleColumns) {
+                return this;
+            }
+            return new HistoricalDerivedData(
+                dictionary,
+                samplesView,
+                nonConformancesView,
+                rawSamplesView,
+                approximateSizeBytes
+            );
+        }
+
+        /**
+         * Raw samples observed on or after the given date, newest first. Only
+         * the rows inside the window are materialized.
+         */
+        List<HistoricalRawSample> recentRawSamples(LocalDate windowStart) {
+            int epochDay = windowStart == null ? Integer.MIN_VALUE + 1 : (int) windowStart.toEpochDay();
+            return rawSampleColumns.recentRawSamples(epochDay, dictionary);
+        }
+
+        private long estimateSizeBytes() {
+            return 48L
+                + dictionary.approximateSizeBytes()
+                + samples.approximateSizeBytes()
+                + nonConformanceColumns.approximateSizeBytes()
+                + rawSampleColumns.approximateSizeBytes();
         }
     }
 
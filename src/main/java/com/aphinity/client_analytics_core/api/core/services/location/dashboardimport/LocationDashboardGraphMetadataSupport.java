@@ -4,6 +4,7 @@ import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
 import com.aphinity.client_analytics_core.api.core.plotly.GraphRelationalPayloadMapper;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -24,6 +25,8 @@ import static com.aphinity.client_analytics_core.api.core.services.location.dash
 final class LocationDashboardGraphMetadataSupport {
     static final String IMPORT_LAYOUT_META_KEY = "aphinityImport";
     static final String GRAPH_SIZE_LAYOUT_META_KEY = "aphinitySize";
+    static final String DERIVED_SOURCE_REVISION_META_KEY = "derivedSourceRevision";
+    static final String DERIVED_ANCHOR_MONTH_META_KEY = "derivedAnchorMonth";
     private static final String GRAPH_SIZE_HALF = "half";
     private static final String GRAPH_SIZE_FULL = "full";
     private static final String GRAPH_SIZE_DUPLEX = "duplex";
@@ -165,6 +168,25 @@ final class LocationDashboardGraphMetadataSupport {
         return layout;
     }
 
+    /**
+     * Records which source revision and anchor month a derived graph payload
+     * was last rebuilt from, so unchanged locations can skip the next refresh.
+     */
+    static Map<String, Object> withDerivedRefreshRevision(
+        Map<String, Object> existingLayout,
+        String sourceRevision,
+        YearMonth anchorMonth
+    ) {
+        Map<String, Object> layout = copyMutableMap(existingLayout);
+        Map<String, Object> meta = copyMutableMap(asMap(layout.get("meta")));
+        Map<String, Object> importMeta = copyMutableMap(asMap(meta.get(IMPORT_LAYOUT_META_KEY)));
+        importMeta.put(DERIVED_SOURCE_REVISION_META_KEY, sourceRevision);
+        importMeta.put(DERIVED_ANCHOR_MONTH_META_KEY, anchorMonth.toString());
+        meta.put(IMPORT_LAYOUT_META_KEY, importMeta);
+        layout.put("meta", meta);
+        return layout;
+    }
+
     static Map<String, Object> withDerivedImportStyle(
         Map<String, Object> existingStyle,
         DerivedGraphConfig derivedGraphDefinition
@@ -4,6 +4,7 @@ import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTimeSeriesPoint;
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace;
 import com.aphinity.client_analytics_core.api.core.entities.servicecalendar.ServiceEvent;
+import com.aphinity.client_analytics_core.api.core.plotly.GraphRelationalPayloadMapper;
 import com.aphinity.client_analytics_core.api.core.services.location.dashboardimport.LocationDashboardImportStrategy.AnalyzedSamplePoint;
 
 import java.time.LocalDate;
@@ -105,7 +106,11 @@ public final class LocationDashboardHistoricalDataAssembler {
         );
     }
 
-    private List<LocationDashboardDerivedGraphSupport.HistoricalRawSample> collectRawSamples(
+    /**
+     * Converts persisted samples to the raw sample rows behind the recent-sample
+     * table, skipping corrective-action drafts and rows without an identity.
+     */
+    List<LocationDashboardDerivedGraphSupport.HistoricalRawSample> collectRawSamples(
         List<LocationDashboardImportStrategy.AnalyzedSamplePoint> analyzedSamples,
         List<LocationDashboardImportStrategyConfig.SpreadsheetIdentityColumn> identityPattern
     ) {
@@ -201,12 +206,13 @@ public final class LocationDashboardHistoricalDataAssembler {
                 continue;
             }
             String measurementName = traceName(trace);
-            if (measurementName == null || trace.getTimeSeriesPoints() == null) {
+            List<GraphTimeSeriesPoint> points = GraphRelationalPayloadMapper.timeSeriesPoints(trace);
+            if (measurementName == null || points == null) {
                 continue;
             }
-            List<?> legacyCustomDataValues = validatedLegacyCustomData(trace, trace.getTimeSeriesPoints().size());
-            for (int index = 0; index < trace.getTimeSeriesPoints().size(); index += 1) {
-                GraphTimeSeriesPoint point = trace.getTimeSeriesPoints().get(index);
+            List<?> legacyCustomDataValues = validatedLegacyCustomData(trace, points.size());
+            for (int index = 0; index < points.size(); index += 1) {
+                GraphTimeSeriesPoint point = points.get(index);
                 if (point == null) {
                     continue;
                 }
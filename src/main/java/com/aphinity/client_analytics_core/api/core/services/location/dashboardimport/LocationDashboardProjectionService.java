@@ -1,5 +1,6 @@
 package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
 
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
 import com.aphinity.client_analytics_core.api.core.response.dashboard.LocationDashboardTablePageResponse;
 import com.aphinity.client_analytics_core.api.core.services.location.DashboardGraphMonthRange;
 import org.springframework.stereotype.Service;
@@ -30,10 +31,17 @@ public class LocationDashboardProjectionService implements DashboardGraphProject
         return engine.resolveLocationMonthRangeProjections(locationId, graphIds, monthRange);
     }
 
+    @Override
+    public Map<Long, DashboardGraphProjection> resolveAllTimeGraphProjections(
+        Long locationId, Collection<Graph> graphs
+    ) {
+        return engine.resolveAllTimeGraphProjections(locationId, graphs);
+    }
+
     @Override
     public LocationDashboardTablePageResponse resolveTablePage(
-        Long locationId, Long graphId, Integer monthRange, Integer page, Integer size
+        Long locationId, Long graphId, Integer monthRange, Integer page, Integer size, String cursor
     ) {
-        return engine.resolveRecentSampleMeasurementsPage(locationId, graphId, monthRange, page, size);
+        return engine.resolveRecentSampleMeasurementsPage(locationId, graphId, monthRange, page, size, cursor);
     }
 }
@@ -16,6 +16,15 @@ public class LocationDashboardRefreshService implements DerivedGraphRefresher {
         engine.refreshLocationDateGroups(locationId);
     }
 
+    /**
+     * Rebuilds derived graphs only when their inputs changed since the last refresh.
+     *
+     * @return {@code true} when the derived graphs were rebuilt
+     */
+    public boolean refreshDerivedGraphsIfStale(Long locationId) {
+        return engine.refreshLocationDateGroupsIfStale(locationId);
+    }
+
     @Override
     public void refreshImportedGraphRanges(Long locationId) {
         engine.refreshLocationImportedGraphDateGroups(locationId);
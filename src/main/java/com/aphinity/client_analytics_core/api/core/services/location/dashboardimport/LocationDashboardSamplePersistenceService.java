@@ -4,12 +4,20 @@ import com.aphinity.client_analytics_core.api.core.entities.dashboard.LocationDa
 import com.aphinity.client_analytics_core.api.core.entities.location.Location;
 import com.aphinity.client_analytics_core.api.core.entities.servicecalendar.ServiceEvent;
 import com.aphinity.client_analytics_core.api.core.entities.servicecalendar.ServiceEventStatus;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.DashboardSampleDigest;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.DashboardSourceRevision;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.LocationDashboardSampleBatchWriter;
 import com.aphinity.client_analytics_core.api.core.repositories.dashboard.LocationDashboardSampleRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +32,14 @@ public class LocationDashboardSamplePersistenceService {
     static final String GENERATED_SAMPLE_IDENTITY_PREFIX = "__generated__|";
 
     private final LocationDashboardSampleRepository sampleRepository;
+    private final LocationDashboardSampleBatchWriter sampleBatchWriter;
 
-    public LocationDashboardSamplePersistenceService(LocationDashboardSampleRepository sampleRepository) {
+    public LocationDashboardSamplePersistenceService(
+        LocationDashboardSampleRepository sampleRepository,
+        LocationDashboardSampleBatchWriter sampleBatchWriter
+    ) {
         this.sampleRepository = sampleRepository;
+        this.sampleBatchWriter = sampleBatchWriter;
     }
 
     /**
@@ -95,7 +108,6 @@ public class LocationDashboardSamplePersistenceService {
             throw new IllegalArgumentException("Location is required");
         }
 
-        sampleRepository.deleteByLocationId(location.getId());
         List<LocationDashboardSample> analyzedSampleFacts = toPersistedSamples(location, analyzedSamples);
         List<LocationDashboardSample> samples = analyzedSampleFacts;
         if (samples.isEmpty()) {
@@ -106,9 +118,85 @@ public class LocationDashboardSamplePersistenceService {
                 toPersistedCorrectiveActionSamples(location, analyzedSamples, correctiveActions)
             );
         }
-        if (!samples.isEmpty()) {
-            sampleRepository.saveAll(samples);
+        writeSampleDiff(location.getId(), samples);
+    }
+
+    /**
+     * Brings the stored rows of a location in line with {@code samples} by
+     * sample identity. Rows whose content hash already matches are left alone,
+     * so a re-upload that changes a few samples only writes those rows.
+     * Stored rows without a hash predate hashing and are rewritten once.
+     */
+    private void writeSampleDiff(Long locationId, List<LocationDashboardSample> samples) {
+        Map<String, DashboardSampleDigest> storedByIdentity = new HashMap<>();
+        for (DashboardSampleDigest digest : sampleRepository.findDigestsByLocationId(locationId)) {
+            storedByIdentity.put(digest.getSampleIdentity(), digest);
+        }
+
+        List<LocationDashboardSample> inserts = new ArrayList<>();
+        List<LocationDashboardSampleBatchWriter.SampleUpdate> updates = new ArrayList<>();
+        for (LocationDashboardSample sample : samples) {
+            sample.setContentHash(contentHash(sample));
+            DashboardSampleDigest stored = storedByIdentity.remove(sample.getSampleIdentity());
+            if (stored == null) {
+                inserts.add(sample);
+            } else if (!sample.getContentHash().equals(stored.getContentHash())) {
+                updates.add(new LocationDashboardSampleBatchWriter.SampleUpdate(stored.getId(), sample));
+            }
+        }
+        List<Long> deletes = storedByIdentity.values().stream()
+            .map(DashboardSampleDigest::getId)
+            .toList();
+
+        sampleBatchWriter.deleteAll(deletes);
+        sampleBatchWriter.updateAll(updates);
+        sampleBatchWriter.insertAll(inserts);
+    }
+
+    /**
+     * Hashes every imported field of a sample except its identity. Each value
+     * is length-prefixed so adjacent fields cannot run into each other.
+     */
+    static String contentHash(LocationDashboardSample sample) {
+        StringBuilder content = new StringBuilder(128);
+        appendHashField(content, sample.getObservedDate());
+        appendHashField(content, sample.getSystemTypeName());
+        appendHashField(content, sample.getMeasurementName());
+        appendHashField(content, sample.getRawValue());
+        appendHashField(content, sample.getUnits());
+        appendHashField(content, sample.isCompliant());
+        appendHashField(content, sample.isResolved());
+        appendHashField(content, sample.getTurnaroundDays());
+        appendHashField(content, sample.getOrigin());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private static void appendHashField(StringBuilder content, Object value) {
+        if (value == null) {
+            content.append("-1:");
+            return;
         }
+        String text = value.toString();
+        content.append(text.length()).append(':').append(text);
+    }
+
+    /**
+     * Summarizes the stored samples of a location without loading them.
+     *
+     * @param locationId location whose samples are summarized
+     * @return sample row count and latest update time, or {@code null} when unavailable
+     */
+    @Transactional(readOnly = true)
+    public DashboardSourceRevision summarizeLocationSamples(Long locationId) {
+        if (locationId == null) {
+            return null;
+        }
+        return sampleRepository.summarizeRevisionByLocationId(locationId);
     }
 
     /**
@@ -127,6 +215,31 @@ public class LocationDashboardSamplePersistenceService {
             .toList();
     }
 
+    /**
+     * Loads persisted samples observed on or after a date, in the same order as
+     * {@link #loadLocationSamples(Long)}. The range scan is served by the
+     * location/observed-date index, so recent windows never read older history.
+     *
+     * @param locationId location id
+     * @param startDate first observed date to include
+     * @return persisted samples converted to import-domain records
+     */
+    @Transactional(readOnly = true)
+    public List<LocationDashboardImportStrategy.AnalyzedSamplePoint> loadLocationSamplesSince(
+        Long locationId,
+        LocalDate startDate
+    ) {
+        if (locationId == null) {
+            return List.of();
+        }
+        if (startDate == null) {
+            return loadLocationSamples(locationId);
+        }
+        return sampleRepository.findByLocationIdAndObservedDateOnOrAfter(locationId, startDate).stream()
+            .map(this::toAnalyzedSamplePoint)
+            .toList();
+    }
+
     List<LocationDashboardSample> toPersistedSamples(
         Location location,
         List<LocationDashboardImportStrategy.AnalyzedSamplePoint> analyzedSamples
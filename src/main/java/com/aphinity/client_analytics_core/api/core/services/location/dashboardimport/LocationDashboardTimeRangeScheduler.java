@@ -1,30 +1,273 @@
 package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
 
-import com.aphinity.client_analytics_core.api.core.entities.location.Location;
 import com.aphinity.client_analytics_core.api.core.repositories.location.LocationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Nightly refresh of persisted derived dashboard graphs for every location.
+ * <p>
+ * Locations are refreshed concurrently on a bounded worker pool, each in its
+ * own transaction whose timeout bounds that location's work, so one slow
+ * location only occupies one worker. Each location is also given its own
+ * deadline, counted from when a worker picks it up, after which its task is
+ * cancelled; locations still queued behind a slow one are not charged for its
+ * time. Transaction and query timeouts both count as timed out. Locations whose
+ * derived graph inputs are unchanged since their last refresh are skipped.
+ */
 @Service
 public class LocationDashboardTimeRangeScheduler {
+    private static final Logger log = LoggerFactory.getLogger(LocationDashboardTimeRangeScheduler.class);
+    private static final int SLOWEST_LOCATIONS_LOGGED = 5;
+
     private final LocationDashboardRefreshService refreshService;
     private final LocationRepository locationRepository;
+    private final TransactionTemplate locationTransaction;
+    private final int workerCount;
+    private final Duration locationTimeout;
 
     public LocationDashboardTimeRangeScheduler(
         LocationDashboardRefreshService refreshService,
-        LocationRepository locationRepository
+        LocationRepository locationRepository,
+        TransactionTemplate transactionTemplate,
+        @Value("${app.dashboard.refresh.worker-count:3}") int workerCount,
+        @Value("${app.dashboard.refresh.location-timeout:PT5M}") Duration locationTimeout
     ) {
         this.refreshService = refreshService;
         this.locationRepository = locationRepository;
+        this.workerCount = Math.max(1, workerCount);
+        this.locationTimeout = locationTimeout == null || locationTimeout.isNegative() || locationTimeout.isZero()
+            ? Duration.ofMinutes(5)
+            : locationTimeout;
+        this.locationTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.locationTransaction.setTimeout((int) Math.max(1L, this.locationTimeout.toSeconds()));
     }
 
     @Scheduled(cron = "0 30 0 * * *", zone = "America/Phoenix")
     public void refreshAllLocationDashboardTimeRanges() {
-        for (Location location : locationRepository.findAllByOrderByNameAsc()) {
-            if (location == null || location.getId() == null) {
+        refreshLocations(locationRepository.findAllIdsOrderByNameAsc());
+    }
+
+    /**
+     * Refreshes the given locations and logs a summary of durations and failures.
+     *
+     * @return per-location outcomes in input order
+     */
+    List<LocationRefreshOutcome> refreshLocations(List<Long> locationIds) {
+        List<Long> ids = locationIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        long startedAt = System.nanoTime();
+        ExecutorService workers = Executors.newFixedThreadPool(
+            Math.min(workerCount, ids.size()),
+            new CustomizableThreadFactory("dashboard-refresh-")
+        );
+        List<LocationRefresh> refreshes = new ArrayList<>(ids.size());
+        List<LocationRefreshOutcome> outcomes = new ArrayList<>(ids.size());
+        try {
+            for (Long locationId : ids) {
+                LocationRefresh refresh = new LocationRefresh(locationId);
+                refresh.submit(workers, () -> refreshLocation(refresh));
+                refreshes.add(refresh);
+            }
+            workers.shutdown();
+            // Locations are bounded individually; this only stops the batch
+            // waiting forever on queued work behind workers that ignore
+            // cancellation.
+            long batchRounds = (ids.size() + workerCount - 1L) / workerCount;
+            long batchDeadline = System.nanoTime() + locationTimeout.multipliedBy(batchRounds + 1L).toNanos();
+            for (LocationRefresh refresh : refreshes) {
+                outcomes.add(awaitOutcome(refresh, batchDeadline));
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        logSummary(outcomes, Duration.ofNanos(System.nanoTime() - startedAt));
+        return outcomes;
+    }
+
+    private LocationRefreshOutcome refreshLocation(LocationRefresh refresh) {
+        long startedAt = System.nanoTime();
+        refresh.markStarted(startedAt);
+        Long locationId = refresh.locationId();
+        try {
+            Boolean refreshed = locationTransaction.execute(status -> refreshService.refreshDerivedGraphsIfStale(locationId));
+            RefreshStatus refreshStatus = Boolean.TRUE.equals(refreshed) ? RefreshStatus.REFRESHED : RefreshStatus.SKIPPED;
+            return LocationRefreshOutcome.of(locationId, refreshStatus, startedAt, null);
+        } catch (RuntimeException ex) {
+            RefreshStatus refreshStatus = isTimeout(ex) ? RefreshStatus.TIMED_OUT : RefreshStatus.FAILED;
+            return LocationRefreshOutcome.of(locationId, refreshStatus, startedAt, ex);
+        }
+    }
+
+    /**
+     * Waits for one location until its own deadline, counted from when a worker
+     * started it, and cancels it once that passes. A location still queued at
+     * the batch deadline is cancelled without running.
+     */
+    private LocationRefreshOutcome awaitOutcome(LocationRefresh refresh, long batchDeadline) {
+        Future<LocationRefreshOutcome> future = refresh.future();
+        try {
+            long deadline = batchDeadline;
+            if (refresh.awaitStart(remainingNanos(batchDeadline))) {
+                deadline = Math.min(refresh.startedAtNanos() + locationTimeout.toNanos(), batchDeadline);
+            }
+            return future.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            return new LocationRefreshOutcome(refresh.locationId(), RefreshStatus.TIMED_OUT, null, ex);
+        } catch (ExecutionException ex) {
+            return new LocationRefreshOutcome(refresh.locationId(), RefreshStatus.FAILED, null, ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return new LocationRefreshOutcome(refresh.locationId(), RefreshStatus.FAILED, null, ex);
+        }
+    }
+
+    private static long remainingNanos(long deadline) {
+        return Math.max(0L, deadline - System.nanoTime());
+    }
+
+    /**
+     * Whether a refresh failed because a deadline was reached: the location's
+     * transaction timed out, or a query was cancelled by its statement timeout,
+     * whether or not the persistence layer translated the exception.
+     */
+    private static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransactionTimedOutException
+                || cause instanceof QueryTimeoutException
+                || cause instanceof jakarta.persistence.QueryTimeoutException
+                || cause instanceof SQLTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void logSummary(List<LocationRefreshOutcome> outcomes, Duration elapsed) {
+        for (LocationRefreshOutcome outcome : outcomes) {
+            if (outcome.status() == RefreshStatus.REFRESHED || outcome.status() == RefreshStatus.SKIPPED) {
                 continue;
             }
-            refreshService.refreshDerivedGraphs(location.getId());
+            log.warn(
+                "Location dashboard refresh {} locationId={} duration={} errorType={} errorMessage={}",
+                outcome.status() == RefreshStatus.TIMED_OUT ? "timed out" : "failed",
+                outcome.locationId(),
+                outcome.duration(),
+                outcome.error() == null ? null : outcome.error().getClass().getSimpleName(),
+                outcome.error() == null ? null : outcome.error().getMessage(),
+                outcome.error()
+            );
+        }
+        List<String> slowest = outcomes.stream()
+            .filter(outcome -> outcome.duration() != null)
+            .sorted(Comparator.comparing(LocationRefreshOutcome::duration).reversed())
+            .limit(SLOWEST_LOCATIONS_LOGGED)
+            .map(outcome -> outcome.locationId() + "=" + outcome.duration().toMillis() + "ms")
+            .toList();
+        log.info(
+            "Refreshed location dashboards locationCount={} refreshed={} skipped={} failed={} timedOut={} workers={} elapsed={} slowest={}",
+            outcomes.size(),
+            count(outcomes, RefreshStatus.REFRESHED),
+            count(outcomes, RefreshStatus.SKIPPED),
+            count(outcomes, RefreshStatus.FAILED),
+            count(outcomes, RefreshStatus.TIMED_OUT),
+            workerCount,
+            elapsed,
+            slowest
+        );
+    }
+
+    private static long count(List<LocationRefreshOutcome> outcomes, RefreshStatus status) {
+        return outcomes.stream().filter(outcome -> outcome.status() == status).count();
+    }
+
+    /** One submitted location refresh and the moment a worker started it. */
+    private static final class LocationRefresh {
+        private final Long locationId;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile long startedAtNanos;
+        private Future<LocationRefreshOutcome> future;
+
+        LocationRefresh(Long locationId) {
+            this.locationId = locationId;
+        }
+
+        void submit(ExecutorService workers, Callable<LocationRefreshOutcome> task) {
+            future = workers.submit(task);
+        }
+
+        void markStarted(long nanos) {
+            startedAtNanos = nanos;
+            started.countDown();
+        }
+
+        boolean awaitStart(long timeoutNanos) throws InterruptedException {
+            return started.await(timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+
+        Long locationId() {
+            return locationId;
+        }
+
+        long startedAtNanos() {
+            return startedAtNanos;
+        }
+
+        Future<LocationRefreshOutcome> future() {
+            return future;
+        }
+    }
+
+    enum RefreshStatus {
+        REFRESHED,
+        SKIPPED,
+        FAILED,
+        TIMED_OUT
+    }
+
+    /**
+     * Result of one location refresh; {@code duration} is absent when the
+     * worker never reported back.
+     */
+    record LocationRefreshOutcome(
+        Long locationId,
+        RefreshStatus status,
+        Duration duration,
+        Throwable error
+    ) {
+        static LocationRefreshOutcome of(Long locationId, RefreshStatus status, long startedAtNanos, Throwable error) {
+            return new LocationRefreshOutcome(
+                locationId,
+                status,
+                Duration.ofNanos(System.nanoTime() - startedAtNanos),
+                error
+            );
         }
     }
 }
@@ -5,17 +5,23 @@ import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.LocationGraph;
 import com.aphinity.client_analytics_core.api.core.entities.location.Location;
 import com.aphinity.client_analytics_core.api.core.entities.servicecalendar.ServiceEvent;
+import com.aphinity.client_analytics_core.api.core.plotly.GraphPayloadMapper;
 import com.aphinity.client_analytics_core.api.core.plotly.GraphRelationalPayloadMapper;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.DashboardSourceRevision;
 import com.aphinity.client_analytics_core.api.core.repositories.dashboard.LocationGraphRepository;
 import com.aphinity.client_analytics_core.api.core.repositories.location.LocationRepository;
 import com.aphinity.client_analytics_core.api.core.repositories.servicecalendar.ServiceEventRepository;
 import com.aphinity.client_analytics_core.api.core.response.dashboard.LocationDashboardTablePageResponse;
+import com.aphinity.client_analytics_core.api.core.services.GraphPointWriter;
+import com.aphinity.client_analytics_core.api.core.services.GraphTraceReader;
 import com.aphinity.client_analytics_core.api.core.services.location.DashboardGraphMonthRange;
 import com.aphinity.client_analytics_core.api.core.services.location.DashboardGraphMonthRangePayloadProjector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -23,6 +29,8 @@ import org.springframework.web.server.ResponseStatusException;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -55,8 +63,10 @@ public class LocationDashboardTimeRangeService {
     private final LocationDashboardCache dashboardCache;
     private final LocationDashboardGraphMatcher graphMatcher;
     private final LocationDashboardHistoricalDataAssembler historicalDataAssembler;
+    private final DerivedGraphPayloadComputation derivedGraphPayloads;
+    private GraphPointWriter graphPointWriter = GraphPointWriter.noop();
+    private GraphTraceReader graphTraceReader = GraphTraceReader.fromEntities();
 
-    @Autowired
     public LocationDashboardTimeRangeService(
         LocationRepository locationRepository,
         LocationGraphRepository locationGraphRepository,
@@ -67,6 +77,62 @@ public class LocationDashboardTimeRangeService {
         LocationDashboardGraphMatcher graphMatcher,
         LocationDashboardHistoricalDataAssembler historicalDataAssembler,
         Clock clock
+    ) {
+        this(
+            locationRepository,
+            locationGraphRepository,
+            serviceEventRepository,
+            strategyRegistry,
+            samplePersistenceService,
+            dashboardCache,
+            graphMatcher,
+            historicalDataAssembler,
+            clock,
+            DerivedGraphPayloadComputation.sequential()
+        );
+    }
+
+    @Autowired
+    public LocationDashboardTimeRangeService(
+        LocationRepository locationRepository,
+        LocationGraphRepository locationGraphRepository,
+        ServiceEventRepository serviceEventRepository,
+        DashboardImportStrategyResolver strategyRegistry,
+        LocationDashboardSamplePersistenceService samplePersistenceService,
+        LocationDashboardCache dashboardCache,
+        LocationDashboardGraphMatcher graphMatcher,
+        LocationDashboardHistoricalDataAssembler historicalDataAssembler,
+        Clock clock,
+        @Qualifier("dashboardDerivedGraphExecutor") TaskExecutor derivedGraphExecutor
+    ) {
+        this(
+            locationRepository,
+            locationGraphRepository,
+            serviceEventRepository,
+            strategyRegistry,
+            samplePersistenceService,
+            dashboardCache,
+            graphMatcher,
+            historicalDataAssembler,
+            clock,
+            new DerivedGraphPayloadComputation(
+                derivedGraphExecutor,
+                DerivedGraphPayloadComputation.DEFAULT_PARALLEL_ROW_THRESHOLD
+            )
+        );
+    }
+
+    LocationDashboardTimeRangeService(
+        LocationRepository locationRepository,
+        LocationGraphRepository locationGraphRepository,
+        ServiceEventRepository serviceEventRepository,
+        DashboardImportStrategyResolver strategyRegistry,
+        LocationDashboardSamplePersistenceService samplePersistenceService,
+        LocationDashboardCache dashboardCache,
+        LocationDashboardGraphMatcher graphMatcher,
+        LocationDashboardHistoricalDataAssembler historicalDataAssembler,
+        Clock clock,
+        DerivedGraphPayloadComputation derivedGraphPayloads
     ) {
         this.locationRepository = locationRepository;
         this.locationGraphRepository = locationGraphRepository;
@@ -77,6 +143,17 @@ public class LocationDashboardTimeRangeService {
         this.dashboardCache = dashboardCache;
         this.graphMatcher = graphMatcher;
         this.historicalDataAssembler = historicalDataAssembler;
+        this.derivedGraphPayloads = derivedGraphPayloads;
+    }
+
+    @Autowired(required = false)
+    void configureGraphPointWriter(GraphPointWriter graphPointWriter) {
+        this.graphPointWriter = graphPointWriter;
+    }
+
+    @Autowired(required = false)
+    void configureGraphTraceReader(GraphTraceReader graphTraceReader) {
+        this.graphTraceReader = graphTraceReader;
     }
 
     /**
@@ -105,13 +182,7 @@ public class LocationDashboardTimeRangeService {
             }
 
             strategyRegistry.resolve(refreshContext.location().getName()).ifPresent(strategy ->
-                refreshDerivedGraphs(
-                    locationId,
-                    refreshContext.location(),
-                    refreshContext.assignedGraphs(),
-                    strategy,
-                    refreshContext.refreshedAt()
-                )
+                refreshDerivedGraphs(locationId, refreshContext, strategy)
             );
 
             log.info(
@@ -127,6 +198,67 @@ public class LocationDashboardTimeRangeService {
         }
     }
 
+    /**
+     * Refreshes persisted all-time derived graphs for one location only when
+     * their inputs changed since the last refresh. Each refresh stamps the
+     * source revision on the derived graphs; a location is skipped when every
+     * derived graph carries the current revision and no month-anchored graph
+     * was built in an earlier month.
+     *
+     * @param locationId location whose derived graph payloads may be refreshed
+     * @return {@code true} when the derived graphs were rebuilt
+     */
+    @Transactional
+    public boolean refreshLocationDateGroupsIfStale(Long locationId) {
+        RefreshContext refreshContext = loadRefreshContext(locationId);
+        if (refreshContext == null) {
+            return false;
+        }
+        LocationDashboardImportStrategy strategy =
+            strategyRegistry.resolve(refreshContext.location().getName()).orElse(null);
+        if (strategy == null) {
+            return false;
+        }
+        Map<String, Graph> matchedDerivedGraphsByDefinitionId = graphMatcher.matchAvailableDerivedGraphs(
+            strategy.derivedGraphDefinitions(),
+            refreshContext.assignedGraphs(),
+            refreshContext.location().getName()
+        );
+        if (matchedDerivedGraphsByDefinitionId.isEmpty()) {
+            return false;
+        }
+
+        String sourceRevision = sourceRevision(
+            locationId,
+            refreshContext,
+            strategy,
+            matchedDerivedGraphsByDefinitionId.values()
+        );
+        YearMonth anchorMonth = YearMonth.from(refreshContext.anchorDate());
+        if (derivedGraphsCurrent(strategy, matchedDerivedGraphsByDefinitionId, sourceRevision, anchorMonth)) {
+            log.debug(
+                "Skipped unchanged location dashboard derived graphs locationId={} sourceRevision={}",
+                locationId,
+                sourceRevision
+            );
+            return false;
+        }
+
+        dashboardCache.invalidateLocation(locationId);
+        try {
+            refreshDerivedGraphs(locationId, refreshContext, strategy, sourceRevision);
+            log.info(
+                "Refreshed stale location dashboard derived graphs locationId={} graphCount={} anchorDate={}",
+                locationId,
+                refreshContext.assignedGraphs().size(),
+                refreshContext.anchorDate()
+            );
+            return true;
+        } finally {
+            dashboardCache.invalidateLocation(locationId);
+        }
+    }
+
     /**
      * Placeholder hook for imported graph range materialization.
      * Imported graphs are currently projected at response time, so this method
@@ -218,11 +350,7 @@ public class LocationDashboardTimeRangeService {
             return Map.of();
         }
 
-        Map<Long, DashboardGraphProjection> projectionsByGraphId = new LinkedHashMap<>();
-        Map<Long, Graph> graphsById = refreshContext.assignedGraphs().stream()
-            .filter(graph -> graph != null && graph.getId() != null)
-            .collect(Collectors.toMap(Graph::getId, graph -> graph, (left, right) -> left, LinkedHashMap::new));
-        Set<Long> missingDerivedGraphIds = new LinkedHashSet<>();
+        Map<LocationDashboardCache.GraphProjectionCacheKey, Graph> graphsByCacheKey = new LinkedHashMap<>();
         for (Graph graph : refreshContext.assignedGraphs()) {
             if (graph == null || graph.getId() == null) {
                 continue;
@@ -230,51 +358,143 @@ public class LocationDashboardTimeRangeService {
             if (requestedGraphIds != null && !requestedGraphIds.contains(graph.getId())) {
                 continue;
             }
-            LocationDashboardCache.GraphProjectionCacheKey cacheKey =
-                graphProjectionCacheKey(refreshContext, graph, normalizedRange);
-            DashboardGraphProjection cachedProjection = dashboardCache.getGraphProjection(cacheKey);
-            if (cachedProjection != null) {
-                projectionsByGraphId.put(graph.getId(), cachedProjection);
+            graphsByCacheKey.putIfAbsent(graphProjectionCacheKey(refreshContext, graph, normalizedRange), graph);
+        }
+
+        Map<LocationDashboardCache.GraphProjectionCacheKey, DashboardGraphProjection> projectionsByCacheKey =
+            dashboardCache.getOrComputeGraphProjections(
+                graphsByCacheKey.keySet(),
+                missingCacheKeys -> loadGraphProjections(
+                    locationId,
+                    refreshContext,
+                    normalizedRange,
+                    graphsByCacheKey,
+                    missingCacheKeys
+                )
+            );
+        Map<Long, DashboardGraphProjection> projectionsByGraphId = new LinkedHashMap<>();
+        graphsByCacheKey.forEach((cacheKey, graph) -> {
+            DashboardGraphProjection projection = projectionsByCacheKey.get(cacheKey);
+            if (projection != null) {
+                projectionsByGraphId.put(graph.getId(), projection);
+            }
+        });
+        return Map.copyOf(projectionsByGraphId);
+    }
+
+    /**
+     * Resolves normalized all-time payloads for graphs the caller has already
+     * loaded. Entries are keyed by graph revision and dropped with the
+     * location's range projections, so unchanged graphs skip relational
+     * normalization. Cache misses read their traces in one batch through the
+     * {@link GraphTraceReader}, so callers can load graphs without traces.
+     * Graphs whose payload cannot be normalized are omitted and left to the
+     * caller's regular response mapping.
+     */
+    public Map<Long, DashboardGraphProjection> resolveAllTimeGraphProjections(
+        Long locationId,
+        Collection<Graph> graphs
+    ) {
+        if (locationId == null || graphs == null || graphs.isEmpty()) {
+            return Map.of();
+        }
+        Map<LocationDashboardCache.GraphProjectionCacheKey, Graph> graphsByCacheKey = new LinkedHashMap<>();
+        for (Graph graph : graphs) {
+            if (graph == null || graph.getId() == null) {
+                continue;
+            }
+            graphsByCacheKey.putIfAbsent(allTimeGraphProjectionCacheKey(locationId, graph), graph);
+        }
+
+        Map<LocationDashboardCache.GraphProjectionCacheKey, DashboardGraphProjection> projectionsByCacheKey =
+            dashboardCache.getOrComputeGraphProjections(
+                graphsByCacheKey.keySet(),
+                missingCacheKeys -> {
+                    Map<Long, List<GraphTrace>> tracesByGraphId = graphTraceReader.readTraces(
+                        missingCacheKeys.stream().map(graphsByCacheKey::get).toList()
+                    );
+                    Map<LocationDashboardCache.GraphProjectionCacheKey, DashboardGraphProjection> loaded =
+                        new LinkedHashMap<>();
+                    for (LocationDashboardCache.GraphProjectionCacheKey cacheKey : missingCacheKeys) {
+                        Graph graph = graphsByCacheKey.get(cacheKey);
+                        DashboardGraphProjection projection = projectAllTimeGraph(
+                            graph,
+                            tracesByGraphId.getOrDefault(graph.getId(), List.of())
+                        );
+                        if (projection != null) {
+                            loaded.put(cacheKey, projection);
+                        }
+                    }
+                    return loaded;
+                }
+            );
+        Map<Long, DashboardGraphProjection> projectionsByGraphId = new LinkedHashMap<>();
+        graphsByCacheKey.forEach((cacheKey, graph) -> {
+            DashboardGraphProjection projection = projectionsByCacheKey.get(cacheKey);
+            if (projection != null) {
+                projectionsByGraphId.put(graph.getId(), projection);
+            }
+        });
+        return Map.copyOf(projectionsByGraphId);
+    }
+
+    /**
+     * Builds every projection missing from the cache for one request in a
+     * single pass. Imported graphs are projected from their all-time payloads;
+     * all missing derived graphs share one historical-data load.
+     */
+    private Map<LocationDashboardCache.GraphProjectionCacheKey, DashboardGraphProjection> loadGraphProjections(
+        Long locationId,
+        RefreshContext refreshContext,
+        DashboardGraphMonthRange monthRange,
+        Map<LocationDashboardCache.GraphProjectionCacheKey, Graph> graphsByCacheKey,
+        Set<LocationDashboardCache.GraphProjectionCacheKey> missingCacheKeys
+    ) {
+        Map<LocationDashboardCache.GraphProjectionCacheKey, DashboardGraphProjection> projectionsByCacheKey =
+            new LinkedHashMap<>();
+        Map<Long, LocationDashboardCache.GraphProjectionCacheKey> missingDerivedCacheKeysByGraphId =
+            new LinkedHashMap<>();
+        for (LocationDashboardCache.GraphProjectionCacheKey cacheKey : missingCacheKeys) {
+            Graph graph = graphsByCacheKey.get(cacheKey);
+            if (graph == null) {
                 continue;
             }
             if (isDerivedGraph(graph)) {
-                missingDerivedGraphIds.add(graph.getId());
+                missingDerivedCacheKeysByGraphId.put(graph.getId(), cacheKey);
                 continue;
             }
-
-            DashboardGraphProjection projection = projectImportedGraph(graph, normalizedRange, refreshContext.anchorDate());
-            dashboardCache.putGraphProjection(cacheKey, projection);
-            projectionsByGraphId.put(graph.getId(), projection);
+            DashboardGraphProjection coveringProjection = dashboardCache.findCoveringGraphProjection(cacheKey);
+            projectionsByCacheKey.put(cacheKey, coveringProjection == null
+                ? projectImportedGraph(graph, monthRange, refreshContext.anchorDate())
+                : sliceImportedGraphProjection(graph, coveringProjection, monthRange, refreshContext.anchorDate()));
         }
 
-        if (!missingDerivedGraphIds.isEmpty()) {
+        if (!missingDerivedCacheKeysByGraphId.isEmpty()) {
             refreshDerivedGraphsForResponse(
                 locationId,
                 refreshContext.location(),
                 refreshContext.assignedGraphs(),
-                normalizedRange,
+                monthRange,
                 refreshContext.anchorDate(),
                 refreshContext.refreshedAt(),
-                missingDerivedGraphIds
+                missingDerivedCacheKeysByGraphId.keySet()
             ).forEach((graphId, payload) -> {
-                Graph graph = graphsById.get(graphId);
-                DashboardGraphProjection projection = new DashboardGraphProjection(
+                LocationDashboardCache.GraphProjectionCacheKey cacheKey = missingDerivedCacheKeysByGraphId.get(graphId);
+                if (cacheKey == null) {
+                    return;
+                }
+                projectionsByCacheKey.put(cacheKey, new DashboardGraphProjection(
                     payload,
                     DashboardGraphMonthRangePayloadProjector.projectLayout(
-                        graph == null ? null : graph.getLayout(),
-                        normalizedRange,
+                        graphsByCacheKey.get(cacheKey).getLayout(),
+                        monthRange,
                         refreshContext.anchorDate(),
                         payload
                     )
-                );
-                dashboardCache.putGraphProjection(
-                    graphProjectionCacheKey(refreshContext, graph, normalizedRange),
-                    projection
-                );
-                projectionsByGraphId.put(graphId, projection);
+                ));
             });
         }
-        return Map.copyOf(projectionsByGraphId);
+        return projectionsByCacheKey;
     }
 
     @Transactional(readOnly = true)
@@ -283,7 +503,8 @@ public class LocationDashboardTimeRangeService {
         Long graphId,
         Integer monthRange,
         Integer page,
-        Integer size
+        Integer size,
+        String cursor
     ) {
         RefreshContext refreshContext = loadRefreshContext(locationId);
         if (refreshContext == null) {
@@ -300,6 +521,7 @@ public class LocationDashboardTimeRangeService {
                 refreshContext,
                 strategy,
                 normalizedRange,
+                cursor,
                 requestedPage,
                 normalizedSize
             ))
@@ -390,11 +612,20 @@ public class LocationDashboardTimeRangeService {
 
     private void refreshDerivedGraphs(
         Long locationId,
-        Location location,
-        List<Graph> assignedGraphs,
+        RefreshContext refreshContext,
+        LocationDashboardImportStrategy strategy
+    ) {
+        refreshDerivedGraphs(locationId, refreshContext, strategy, null);
+    }
+
+    private void refreshDerivedGraphs(
+        Long locationId,
+        RefreshContext refreshContext,
         LocationDashboardImportStrategy strategy,
-        Instant refreshedAt
+        String knownSourceRevision
     ) {
+        Location location = refreshContext.location();
+        List<Graph> assignedGraphs = refreshContext.assignedGraphs();
         Map<String, Graph> matchedImportGraphsByDefinitionId = graphMatcher.matchAvailableImportGraphs(
             strategy.graphDefinitions(),
             assignedGraphs,
@@ -408,6 +639,12 @@ public class LocationDashboardTimeRangeService {
         if (matchedDerivedGraphsByDefinitionId.isEmpty()) {
             return;
         }
+        // Computed before the rebuild so that rows changed concurrently are
+        // picked up again by the next scheduled refresh.
+        String sourceRevision = knownSourceRevision != null
+            ? knownSourceRevision
+            : sourceRevision(locationId, refreshContext, strategy, matchedDerivedGraphsByDefinitionId.values());
+        YearMonth anchorMonth = YearMonth.from(refreshContext.anchorDate());
 
         Map<Long, Graph> assignedGraphsById = assignedGraphs.stream()
             .filter(graph -> graph != null && graph.getId() != null)
@@ -420,6 +657,7 @@ public class LocationDashboardTimeRangeService {
             assignedGraphsById
         );
 
+        List<DerivedGraphPayloadComputation.Request> requests = new ArrayList<>();
         for (DerivedGraphConfig derivedGraphDefinition : strategy.derivedGraphDefinitions()) {
             if (derivedGraphDefinition == null) {
                 continue;
@@ -430,29 +668,39 @@ public class LocationDashboardTimeRangeService {
             if (graph == null) {
                 continue;
             }
-            graph.setLayout(LocationDashboardGraphMetadataSupport.withDerivedImportMetadata(
-                graph.getLayout(),
-                derivedGraphDefinition,
-                strategy.locationName(),
-                LocationDashboardGraphMetadataSupport.currentTraceList(graph)
+            graph.setLayout(LocationDashboardGraphMetadataSupport.withDerivedRefreshRevision(
+                LocationDashboardGraphMetadataSupport.withDerivedImportMetadata(
+                    graph.getLayout(),
+                    derivedGraphDefinition,
+                    strategy.locationName(),
+                    LocationDashboardGraphMetadataSupport.currentTraceList(graph)
+                ),
+                sourceRevision,
+                anchorMonth
             ));
             graph.setStyle(LocationDashboardGraphMetadataSupport.withDerivedImportStyle(
                 graph.getStyle(),
                 derivedGraphDefinition
             ));
             graph.setGraphType(LocationDashboardGraphMetadataSupport.normalizeGraphType(derivedGraphDefinition.graphType()));
-            GraphRelationalPayloadMapper.syncGraphData(
-                graph,
-                LocationDashboardDerivedGraphSupport.buildPayload(
-                    derivedGraphDefinition,
-                    graph,
-                    allTimeHistoricalData,
-                    strategy.spreadsheetIdentityPattern(),
-                    LocalDate.now(clock)
-                )
-            );
-            graph.setUpdatedAt(refreshedAt);
+            requests.add(new DerivedGraphPayloadComputation.Request(derivedGraphDefinition, graph));
+        }
+
+        // Payloads are computed off-thread; entity writes stay on this thread.
+        List<List<Map<String, Object>>> payloads = derivedGraphPayloads.buildPayloads(
+            requests,
+            allTimeHistoricalData,
+            strategy.spreadsheetIdentityPattern(),
+            refreshContext.anchorDate()
+        );
+        List<Graph> syncedGraphs = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index += 1) {
+            Graph graph = requests.get(index).graph();
+            GraphRelationalPayloadMapper.syncGraphData(graph, payloads.get(index));
+            graph.setUpdatedAt(refreshContext.refreshedAt());
+            syncedGraphs.add(graph);
         }
+        graphPointWriter.writePendingPoints(syncedGraphs);
     }
 
     private Map<Long, List<Map<String, Object>>> refreshDerivedGraphsForResponse(
@@ -515,7 +763,8 @@ public class LocationDashboardTimeRangeService {
         LocationDashboardDerivedGraphSupport.HistoricalDerivedData rangedHistoricalData =
             HistoricalDerivedDataTimeRangeProjector.project(historicalData, monthRange, anchorDate);
 
-        Map<Long, List<Map<String, Object>>> payloadsByGraphId = new LinkedHashMap<>();
+        boolean allTime = monthRange == null || monthRange.isAllTime();
+        List<DerivedGraphPayloadComputation.Request> requests = new ArrayList<>();
         for (DerivedGraphConfig derivedGraphDefinition : strategy.derivedGraphDefinitions()) {
             if (derivedGraphDefinition == null) {
                 continue;
@@ -526,53 +775,51 @@ public class LocationDashboardTimeRangeService {
             if (graph == null || graph.getId() == null) {
                 continue;
             }
-            if (monthRange != null && !monthRange.isAllTime()
-                && requestedGraphIds != null
-                && !requestedGraphIds.contains(graph.getId())) {
+            if (!allTime && requestedGraphIds != null && !requestedGraphIds.contains(graph.getId())) {
                 continue;
             }
-            if (monthRange == null || monthRange.isAllTime()) {
-                GraphRelationalPayloadMapper.syncGraphData(
-                    graph,
-                    LocationDashboardDerivedGraphSupport.buildPayload(
-                        derivedGraphDefinition,
-                        graph,
-                        rangedHistoricalData,
-                        strategy.spreadsheetIdentityPattern(),
-                        anchorDate
-                    )
-                );
+            requests.add(new DerivedGraphPayloadComputation.Request(derivedGraphDefinition, graph));
+        }
+
+        List<List<Map<String, Object>>> payloads = derivedGraphPayloads.buildPayloads(
+            requests,
+            rangedHistoricalData,
+            strategy.spreadsheetIdentityPattern(),
+            anchorDate
+        );
+        Map<Long, List<Map<String, Object>>> payloadsByGraphId = new LinkedHashMap<>();
+        List<Graph> syncedGraphs = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index += 1) {
+            Graph graph = requests.get(index).graph();
+            if (allTime) {
+                GraphRelationalPayloadMapper.syncGraphData(graph, payloads.get(index));
                 graph.setUpdatedAt(refreshedAt);
+                syncedGraphs.add(graph);
                 continue;
             }
-            payloadsByGraphId.put(
-                graph.getId(),
-                LocationDashboardDerivedGraphSupport.buildPayload(
-                    derivedGraphDefinition,
-                    graph,
-                    rangedHistoricalData,
-                    strategy.spreadsheetIdentityPattern(),
-                    anchorDate
-                )
-            );
+            payloadsByGraphId.put(graph.getId(), payloads.get(index));
         }
+        graphPointWriter.writePendingPoints(syncedGraphs);
         return payloadsByGraphId;
     }
 
+    /**
+     * Pages the recent-sample table from the samples inside its window only.
+     * The window is pushed into the sample query, which the location and
+     * observed-date index serves as a range scan, so neither the location's
+     * full history nor its cached historical data is loaded. Rows are folded
+     * within the window and only the requested page is rendered.
+     */
     private LocationDashboardTablePageResponse buildRecentSampleMeasurementsPage(
         Long locationId,
         Long graphId,
         RefreshContext refreshContext,
         LocationDashboardImportStrategy strategy,
         DashboardGraphMonthRange monthRange,
+        String cursor,
         int requestedPage,
         int pageSize
     ) {
-        Map<String, Graph> matchedImportGraphsByDefinitionId = graphMatcher.matchAvailableImportGraphs(
-            strategy.graphDefinitions(),
-            refreshContext.assignedGraphs(),
-            refreshContext.location().getName()
-        );
         Map<String, Graph> matchedDerivedGraphsByDefinitionId = graphMatcher.matchAvailableDerivedGraphs(
             strategy.derivedGraphDefinitions(),
             refreshContext.assignedGraphs(),
@@ -592,36 +839,38 @@ public class LocationDashboardTimeRangeService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Location dashboard table not found");
         }
 
-        Map<Long, Graph> assignedGraphsById = refreshContext.assignedGraphs().stream()
-            .filter(graph -> graph != null && graph.getId() != null)
-            .collect(Collectors.toMap(Graph::getId, graph -> graph, (left, right) -> left, LinkedHashMap::new));
-        LocationDashboardDerivedGraphSupport.HistoricalDerivedData historicalData = loadHistoricalData(
-            locationId,
-            refreshContext.location(),
-            strategy,
-            matchedImportGraphsByDefinitionId,
-            assignedGraphsById
-        );
-        LocationDashboardDerivedGraphSupport.HistoricalDerivedData rangedHistoricalData =
-            HistoricalDerivedDataTimeRangeProjector.project(historicalData, monthRange, refreshContext.anchorDate());
-        LocationDashboardDerivedGraphSupport.RecentSampleMeasurementsTable table =
-            LocationDashboardDerivedGraphSupport.buildRecentSampleMeasurementsTable(
-                rangedHistoricalData.recentRawSamples(),
+        LocalDate windowStart = LocationDashboardDerivedGraphSupport.recentSampleWindowStart(refreshContext.anchorDate());
+        LocalDate rangeStart = monthRange.selectedWindowStartInclusive(refreshContext.anchorDate());
+        if (rangeStart != null && rangeStart.isAfter(windowStart)) {
+            windowStart = rangeStart;
+        }
+        List<LocationDashboardDerivedGraphSupport.HistoricalRawSample> windowSamples = historicalDataAssembler
+            .collectRawSamples(
+                samplePersistenceService.loadLocationSamplesSince(locationId, windowStart),
+                strategy.spreadsheetIdentityPattern()
+            );
+        LocationDashboardDerivedGraphSupport.RecentSampleMeasurementsPage tablePage;
+        try {
+            // Fold the window in the same newest-first order the cached historical data yields.
+            tablePage = LocationDashboardDerivedGraphSupport.buildRecentSampleMeasurementsPage(
+                new LocationDashboardDerivedGraphSupport.HistoricalDerivedData(Map.of(), List.of(), windowSamples)
+                    .recentRawSamples(windowStart),
                 strategy.spreadsheetIdentityPattern(),
-                refreshContext.anchorDate()
+                refreshContext.anchorDate(),
+                cursor,
+                requestedPage,
+                pageSize
             );
-
-        long total = table.rows().size();
-        int lastPage = Math.max(1, (int) Math.ceil(total / (double) pageSize));
-        int responsePage = Math.min(requestedPage, lastPage);
-        int fromIndex = Math.min((responsePage - 1) * pageSize, table.rows().size());
-        int toIndex = Math.min(fromIndex + pageSize, table.rows().size());
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Table page cursor is invalid");
+        }
         return new LocationDashboardTablePageResponse(
-            table.rows().subList(fromIndex, toIndex),
-            lastPage,
-            total,
-            responsePage,
-            pageSize
+            tablePage.rows(),
+            tablePage.lastPage(),
+            tablePage.total(),
+            tablePage.page(),
+            pageSize,
+            tablePage.nextCursor()
         );
     }
 
@@ -630,10 +879,38 @@ public class LocationDashboardTimeRangeService {
         DashboardGraphMonthRange monthRange,
         LocalDate anchorDate
     ) {
-        List<Map<String, Object>> allTimePayload = GraphRelationalPayloadMapper.normalize(graph).data();
-        List<Map<String, Object>> projectedPayload = graphContainsTimeSeries(graph)
-            ? DashboardGraphMonthRangePayloadProjector.project(allTimePayload, monthRange, anchorDate)
-            : allTimePayload;
+        GraphRelationalPayloadMapper.SizedTraceList traces =
+            GraphRelationalPayloadMapper.toSizedTraceList(graph.getGraphTraces());
+        DashboardGraphMonthRangePayloadProjector.IndexedPayload allTimePayload =
+            DashboardGraphMonthRangePayloadProjector.IndexedPayload.of(traces.traces(), traces.sizes());
+        return projectIndexedPayload(graph, allTimePayload, monthRange, anchorDate);
+    }
+
+    /**
+     * Narrows a cached projection of a longer window, or of all time, to the
+     * requested range. Imported time-series projection only drops points
+     * before the window start, so slicing a wider projection yields the same
+     * payload as projecting the full history. Derived graphs aggregate over
+     * their window and are never sliced.
+     */
+    private DashboardGraphProjection sliceImportedGraphProjection(
+        Graph graph,
+        DashboardGraphProjection coveringProjection,
+        DashboardGraphMonthRange monthRange,
+        LocalDate anchorDate
+    ) {
+        return projectIndexedPayload(graph, coveringProjection.indexedPayload(), monthRange, anchorDate);
+    }
+
+    private DashboardGraphProjection projectIndexedPayload(
+        Graph graph,
+        DashboardGraphMonthRangePayloadProjector.IndexedPayload payload,
+        DashboardGraphMonthRange monthRange,
+        LocalDate anchorDate
+    ) {
+        DashboardGraphMonthRangePayloadProjector.IndexedPayload projectedPayload = graphContainsTimeSeries(graph)
+            ? DashboardGraphMonthRangePayloadProjector.project(payload, monthRange, anchorDate)
+            : payload;
         return new DashboardGraphProjection(
             projectedPayload,
             DashboardGraphMonthRangePayloadProjector.projectLayout(
@@ -645,6 +922,28 @@ public class LocationDashboardTimeRangeService {
         );
     }
 
+    private DashboardGraphProjection projectAllTimeGraph(Graph graph, List<GraphTrace> graphTraces) {
+        if (graph == null) {
+            return null;
+        }
+        try {
+            GraphRelationalPayloadMapper.SizedTraceList traces = GraphRelationalPayloadMapper.toSizedTraceList(graphTraces);
+            GraphPayloadMapper.GraphPayload payload = GraphPayloadMapper.normalize(
+                traces.traces(),
+                graph.getLayout(),
+                graph.getConfig(),
+                graph.getStyle()
+            );
+            return new DashboardGraphProjection(
+                DashboardGraphMonthRangePayloadProjector.IndexedPayload.of(payload.data(), traces.sizes()),
+                payload.layout()
+            );
+        } catch (IllegalArgumentException ex) {
+            log.warn("Skipped all-time graph projection for invalid payload graphId={}", graph.getId(), ex);
+            return null;
+        }
+    }
+
     private LocationDashboardDerivedGraphSupport.HistoricalDerivedData loadHistoricalData(
         Long locationId,
         Location location,
@@ -671,6 +970,85 @@ public class LocationDashboardTimeRangeService {
         });
     }
 
+    /**
+     * Fingerprint of everything a derived graph rebuild reads: the derivation
+     * code and strategy, the location row, stored samples, corrective actions
+     * and the assigned imported graphs. Derived graphs are outputs and are left
+     * out so that a refresh does not invalidate its own revision.
+     */
+    private String sourceRevision(
+        Long locationId,
+        RefreshContext refreshContext,
+        LocationDashboardImportStrategy strategy,
+        Collection<Graph> derivedGraphs
+    ) {
+        Set<Long> derivedGraphIds = derivedGraphs.stream()
+            .map(Graph::getId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Instant latestInputGraphUpdate = refreshContext.assignedGraphs().stream()
+            .filter(graph -> graph.getId() == null || !derivedGraphIds.contains(graph.getId()))
+            .map(this::graphRevision)
+            .max(Instant::compareTo)
+            .orElse(Instant.EPOCH);
+        // Enum hash codes differ between JVM runs, so hash the rendered records.
+        int strategyFingerprint = String.join(
+            "\n",
+            String.valueOf(strategy.graphDefinitions()),
+            String.valueOf(strategy.derivedGraphDefinitions()),
+            String.valueOf(strategy.spreadsheetIdentityPattern())
+        ).hashCode();
+        return String.join(
+            "|",
+            "v" + LocationDashboardDerivedGraphSupport.DERIVATION_VERSION,
+            Integer.toHexString(strategyFingerprint),
+            locationRevision(refreshContext.location()).toString(),
+            rowRevision(samplePersistenceService.summarizeLocationSamples(locationId)),
+            rowRevision(serviceEventRepository.summarizeCorrectiveActionRevisionByLocationId(locationId)),
+            latestInputGraphUpdate.toString()
+        );
+    }
+
+    private String rowRevision(DashboardSourceRevision revision) {
+        if (revision == null) {
+            return "0@" + Instant.EPOCH;
+        }
+        Instant latestUpdatedAt = revision.getLatestUpdatedAt() == null ? Instant.EPOCH : revision.getLatestUpdatedAt();
+        return revision.getRowCount() + "@" + latestUpdatedAt;
+    }
+
+    private boolean derivedGraphsCurrent(
+        LocationDashboardImportStrategy strategy,
+        Map<String, Graph> matchedDerivedGraphsByDefinitionId,
+        String sourceRevision,
+        YearMonth anchorMonth
+    ) {
+        for (DerivedGraphConfig derivedGraphDefinition : strategy.derivedGraphDefinitions()) {
+            if (derivedGraphDefinition == null) {
+                continue;
+            }
+            Graph graph = matchedDerivedGraphsByDefinitionId.get(
+                LocationDashboardGraphMetadataSupport.normalizeKey(derivedGraphDefinition.id())
+            );
+            if (graph == null) {
+                continue;
+            }
+            Map<String, String> importMetadata = LocationDashboardGraphMetadataSupport.readImportMetadata(graph);
+            if (!sourceRevision.equals(
+                importMetadata.get(LocationDashboardGraphMetadataSupport.DERIVED_SOURCE_REVISION_META_KEY)
+            )) {
+                return false;
+            }
+            if (LocationDashboardDerivedGraphSupport.dependsOnAnchorMonth(derivedGraphDefinition.derivedType())
+                && !anchorMonth.toString().equals(
+                    importMetadata.get(LocationDashboardGraphMetadataSupport.DERIVED_ANCHOR_MONTH_META_KEY)
+                )) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private LocationDashboardCache.GraphProjectionCacheKey graphProjectionCacheKey(
         RefreshContext refreshContext,
         Graph graph,
@@ -689,6 +1067,10 @@ public class LocationDashboardTimeRangeService {
         );
     }
 
+    private LocationDashboardCache.GraphProjectionCacheKey allTimeGraphProjectionCacheKey(Long locationId, Graph graph) {
+        return LocationDashboardCache.GraphProjectionCacheKey.allTime(locationId, graph.getId(), graphRevision(graph));
+    }
+
     private Instant locationRevision(Location location) {
         return location == null || location.getUpdatedAt() == null
             ? Instant.EPOCH
@@ -30,15 +30,54 @@ final class SampleConformanceSunburstBuilder {
             if (sample == null) {
                 continue;
             }
-            SunburstNode current = root;
-            for (int levelIndex = 0; levelIndex < effectiveHierarchy.size(); levelIndex += 1) {
-                String label = hierarchyLabel(sample, effectiveHierarchy.get(levelIndex));
-                current = current.child(levelIndex, label);
-                current.incrementValue();
-            }
-            current.recordConformance(sample.compliant());
+            addSample(root, effectiveHierarchy, sample.identityValues(), sample.measurementName(), sample.compliant());
+        }
+        return toTrace(existingTrace, traceName, root);
+    }
+
+    /**
+     * Builds the sunburst straight from the historical raw-sample columns
+     * without materializing a record per row.
+     */
+    static Map<String, Object> build(
+        Map<String, Object> existingTrace,
+        String traceName,
+        HistoricalRawSampleColumns rawSamples,
+        DashboardStringDictionary dictionary,
+        List<LocationDashboardImportStrategyConfig.DerivedGraphHierarchyLevel> hierarchy
+    ) {
+        SunburstNode root = SunburstNode.root();
+        List<LocationDashboardImportStrategyConfig.DerivedGraphHierarchyLevel> effectiveHierarchy =
+            hierarchy == null ? List.of() : hierarchy;
+        for (int row = 0; row < rawSamples.size(); row += 1) {
+            addSample(
+                root,
+                effectiveHierarchy,
+                rawSamples.identityValues(row),
+                dictionary.value(rawSamples.measurementId(row)),
+                rawSamples.compliant(row)
+            );
         }
+        return toTrace(existingTrace, traceName, root);
+    }
+
+    private static void addSample(
+        SunburstNode root,
+        List<LocationDashboardImportStrategyConfig.DerivedGraphHierarchyLevel> hierarchy,
+        Map<String, String> identityValues,
+        String measurementName,
+        boolean compliant
+    ) {
+        SunburstNode current = root;
+        for (int levelIndex = 0; levelIndex < hierarchy.size(); levelIndex += 1) {
+            String label = hierarchyLabel(identityValues, measurementName, hierarchy.get(levelIndex));
+            current = current.child(levelIndex, label);
+            current.incrementValue();
+        }
+        current.recordConformance(compliant);
+    }
 
+    private static Map<String, Object> toTrace(Map<String, Object> existingTrace, String traceName, SunburstNode root) {
         List<SunburstNode> nodes = new ArrayList<>();
         root.appendDescendants(nodes);
         Map<String, Object> trace = existingTrace == null
@@ -86,15 +125,16 @@ final class SampleConformanceSunburstBuilder {
     }
 
     private static String hierarchyLabel(
-        LocationDashboardDerivedGraphSupport.HistoricalRawSample sample,
+        Map<String, String> identityValues,
+        String measurementName,
         LocationDashboardImportStrategyConfig.DerivedGraphHierarchyLevel level
     ) {
         if (level == null || level.source() == null) {
             return UNKNOWN_LABEL;
         }
         String value = switch (level.source()) {
-            case IDENTITY -> sample.identityValues().get(level.key());
-            case MEASUREMENT -> sample.measurementName();
+            case IDENTITY -> identityValues.get(level.key());
+            case MEASUREMENT -> measurementName;
         };
         if (value == null || value.isBlank()) {
             return UNKNOWN_LABEL;
@@ -141,6 +141,19 @@ public class ApiExceptionHandler {
         Map.entry("Unable to issue invite", new ErrorDefinition("invite_issue_failed", "Unable to issue invite"))
     );
 
+    /**
+     * Rethrows failures from a response that was already committed so the
+     * servlet container aborts the connection; writing an error body here
+     * would leave a client with a malformed 200 response.
+     *
+     * @param ex failure raised while streaming a committed body
+     */
+    @ExceptionHandler(ResponseStreamAbortedException.class)
+    public void handleAbortedStream(ResponseStreamAbortedException ex) {
+        log.error(formatUnhandledException(ex));
+        throw ex;
+    }
+
     @ExceptionHandler(ApiClientException.class)
     public ResponseEntity<ApiErrorResponse> handleApiClientException(ApiClientException ex) {
         int status = ex.getStatus().value();
@@ -0,0 +1,12 @@
+package com.aphinity.client_analytics_core.api.error;
+
+/**
+ * Failure raised after a streamed response body was committed. The status and
+ * part of the body are already on the wire, so the request must end by
+ * aborting the connection instead of appending an error payload.
+ */
+public class ResponseStreamAbortedException extends RuntimeException {
+    public ResponseStreamAbortedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -19,7 +19,10 @@ import com.aphinity.client_analytics_core.api.core.repositories.location.Locatio
 import com.aphinity.client_analytics_core.api.core.repositories.location.UserSubscriptionToLocationRepository;
 import com.aphinity.client_analytics_core.api.core.services.AccountRoleService;
 import com.aphinity.client_analytics_core.api.core.services.AuthenticatedUserService;
+import com.aphinity.client_analytics_core.api.core.services.location.DashboardGraphETagService;
+import com.aphinity.client_analytics_core.api.core.services.location.GraphResponseJsonCache;
 import com.aphinity.client_analytics_core.api.core.services.location.GraphResponseMapper;
+import com.aphinity.client_analytics_core.api.core.services.location.LocationAccessPolicy;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationGraphTemplateFactory;
 import com.aphinity.client_analytics_core.api.core.services.location.BuiltinLocationGraphDefinitions;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationGraphService;
@@ -46,6 +49,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
@@ -59,7 +63,9 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.core.MethodParameter;
 
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -69,6 +75,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -77,6 +85,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -105,7 +114,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
     RelationalPlotlyGraphPayloadAdapter.class,
     LocationGraphService.class,
     JsonDashboardSectionGraphSelector.class,
-    LocationGraphPipelineWebMvcTest.JwtArgumentResolverConfig.class
+    LocationAccessPolicy.class,
+    DashboardGraphETagService.class,
+    GraphResponseJsonCache.class,
+    LocationGraphPipelineWebMvcTest.JwtArgumentResolverConfig.class,
+    LocationGraphPipelineWebMvcTest.FixedClockConfig.class
 })
 @AutoConfigureMockMvc(addFilters = false)
 class LocationGraphPipelineWebMvcTest {
@@ -195,7 +208,9 @@ class LocationGraphPipelineWebMvcTest {
         locationGraph.setGraph(graph);
         when(locationDashboardTimeRangeService.resolveLocationMonthRangePayloads(eq(locationId), any()))
             .thenReturn(Map.of());
-        when(locationGraphRepository.findByLocationIdWithGraphDetails(locationId)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdWithGraph(locationId)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdAndGraphIdInWithGraph(eq(locationId), anyCollection()))
+            .thenReturn(List.of(locationGraph));
         when(dashboardGraphCapabilityQuery.resolveSectionTimeRangeCapabilities(
             eq("Hoag Hospital"), anyCollection()
         )).thenReturn(Map.of(31L, false));
@@ -215,7 +230,40 @@ class LocationGraphPipelineWebMvcTest {
 
         verify(locationRepository).findNameById(locationId);
         verify(locationUserRepository).existsByIdLocationIdAndIdUserId(locationId, userId);
-        verify(locationGraphRepository).findByLocationIdWithGraphDetails(locationId);
+        verify(locationGraphRepository).findByLocationIdWithGraph(locationId);
+    }
+
+    @Test
+    void locationGraphsAnswersMatchingIfNoneMatchWithoutLoadingGraphPayloads() throws Exception {
+        Long userId = 7L;
+        Long locationId = 11L;
+        AppUser user = verifiedUser(userId);
+        when(authenticatedUserService.resolveAuthenticatedUserId(nullable(Jwt.class))).thenReturn(userId);
+        when(appUserRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(locationRepository.findUpdatedAtById(locationId))
+            .thenReturn(Optional.of(Instant.parse("2026-03-01T00:00:00Z")));
+        when(locationRepository.findNameById(locationId)).thenReturn(Optional.of("Hoag Hospital"));
+        when(accountRoleService.isPartnerOrAdmin(user)).thenReturn(false);
+        when(locationUserRepository.existsByIdLocationIdAndIdUserId(locationId, userId)).thenReturn(true);
+        when(locationGraphRepository.findGraphRevisionsByLocationId(locationId)).thenReturn(List.of());
+        when(locationGraphRepository.findByLocationIdWithGraph(locationId)).thenReturn(List.of());
+        when(locationGraphRepository.findByLocationIdWithGraphDetails(locationId)).thenReturn(List.of());
+
+        String eTag = mockMvc.perform(get("/core/locations/{locationId}/graphs", locationId))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "no-cache, private"))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+        mockMvc.perform(get("/core/locations/{locationId}/graphs", locationId).header("If-None-Match", eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", eTag));
+        mockMvc.perform(get("/core/locations/{locationId}/graphs?monthRange=3", locationId).header("If-None-Match", eTag))
+            .andExpect(status().isOk());
+
+        verify(locationGraphRepository, times(2)).findByLocationIdWithGraph(locationId);
+        verify(locationGraphRepository, never()).findByLocationIdWithGraphDetails(locationId);
     }
 
     @Test
@@ -281,6 +329,66 @@ class LocationGraphPipelineWebMvcTest {
             .andExpect(jsonPath("$.missingGraphIds[0]").value(999));
     }
 
+    @Test
+    void sectionGraphsReturnsAllTimePayloadsForOnlyTheSectionGraphs() throws Exception {
+        Long userId = 7L;
+        Long locationId = 11L;
+        AppUser user = verifiedUser(userId);
+        Location location = new Location();
+        location.setId(locationId);
+        location.setName("Hoag Hospital");
+        location.setSectionLayout(Map.of("sections", List.of(Map.of(
+            "section_id", 2,
+            "graph_ids", List.of(31, 12)
+        ))));
+        when(authenticatedUserService.resolveAuthenticatedUserId(nullable(Jwt.class))).thenReturn(userId);
+        when(appUserRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(locationRepository.findById(locationId)).thenReturn(Optional.of(location));
+        when(accountRoleService.isPartnerOrAdmin(user)).thenReturn(false);
+        when(locationUserRepository.existsByIdLocationIdAndIdUserId(locationId, userId)).thenReturn(true);
+
+        Graph first = new Graph();
+        first.setId(31L);
+        first.setName("First");
+        writeData(first, List.of(Map.of("type", "bar", "x", List.of("all"), "y", List.of(1))));
+        Graph last = new Graph();
+        last.setId(12L);
+        last.setName("Last");
+        writeData(last, List.of(Map.of("type", "bar", "x", List.of("persisted"), "y", List.of(2))));
+        LocationGraph firstAssignment = new LocationGraph();
+        firstAssignment.setGraph(first);
+        LocationGraph lastAssignment = new LocationGraph();
+        lastAssignment.setGraph(last);
+        when(locationGraphRepository.findByLocationIdAndGraphIdInWithGraph(
+            eq(locationId), anyCollection()
+        )).thenReturn(List.of(lastAssignment, firstAssignment));
+        when(locationDashboardTimeRangeService.resolveAllTimeGraphProjections(eq(locationId), anyCollection()))
+            .thenReturn(Map.of(
+                31L,
+                new DashboardGraphProjection(
+                    List.of(Map.of("type", "bar", "x", List.of("cached"), "y", List.of(1))),
+                    Map.of()
+                )
+            ));
+
+        mockMvc.perform(get(
+                "/api/core/locations/{locationId}/sections/{sectionId}/graphs?monthRange=-1",
+                locationId,
+                2L
+            ))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.monthRange").value(-1))
+            .andExpect(jsonPath("$.graphs.length()").value(2))
+            .andExpect(jsonPath("$.graphs[0].id").value(31))
+            .andExpect(jsonPath("$.graphs[0].data[0].x[0]").value("cached"))
+            .andExpect(jsonPath("$.graphs[1].id").value(12))
+            .andExpect(jsonPath("$.graphs[1].data[0].x[0]").value("persisted"));
+
+        verify(locationDashboardTimeRangeService, never())
+            .resolveLocationMonthRangeProjections(any(), anyCollection(), any());
+        verify(locationGraphRepository, never()).findByLocationIdWithGraphDetails(locationId);
+    }
+
     @Test
     void sectionGraphsReturnsHandledErrorWhenAnAssignedGraphCannotBeProjected() throws Exception {
         Long userId = 7L;
@@ -354,15 +462,31 @@ class LocationGraphPipelineWebMvcTest {
     }
 
     @Test
-    void sectionGraphsRejectsNonPositiveMonthRangesBeforeLoadingData() throws Exception {
-        when(authenticatedUserService.resolveAuthenticatedUserId(nullable(Jwt.class))).thenReturn(7L);
+    void sectionGraphsTreatsMissingOrNonPositiveMonthRangesAsAllTime() throws Exception {
+        Long userId = 7L;
+        Long locationId = 11L;
+        AppUser user = verifiedUser(userId);
+        Location location = new Location();
+        location.setId(locationId);
+        location.setSectionLayout(Map.of("sections", List.of(
+            Map.of("section_id", 2, "graph_ids", List.of())
+        )));
+        when(authenticatedUserService.resolveAuthenticatedUserId(nullable(Jwt.class))).thenReturn(userId);
+        when(appUserRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(locationRepository.findById(locationId)).thenReturn(Optional.of(location));
+        when(accountRoleService.isPartnerOrAdmin(user)).thenReturn(false);
+        when(locationUserRepository.existsByIdLocationIdAndIdUserId(locationId, userId)).thenReturn(true);
 
         mockMvc.perform(get(
                 "/core/locations/{locationId}/sections/{sectionId}/graphs?monthRange=0",
-                11L,
+                locationId,
                 2L
             ))
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.monthRange").value(-1));
+        mockMvc.perform(get("/core/locations/{locationId}/sections/{sectionId}/graphs", locationId, 2L))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.monthRange").value(-1));
 
         verifyNoInteractions(locationGraphRepository);
     }
@@ -423,6 +547,107 @@ class LocationGraphPipelineWebMvcTest {
         verifyNoInteractions(locationGraphRepository);
     }
 
+    @Test
+    void sectionsGraphsResolvesSeveralSectionsWithOneProjectionLoad() throws Exception {
+        Long userId = 7L;
+        Long locationId = 11L;
+        AppUser user = verifiedUser(userId);
+        Location location = new Location();
+        location.setId(locationId);
+        location.setName("Hoag Hospital");
+        location.setSectionLayout(Map.of("sections", List.of(
+            Map.of("section_id", 2, "graph_ids", List.of(31, 12)),
+            Map.of("section_id", 3, "graph_ids", List.of(12, 999))
+        )));
+        when(authenticatedUserService.resolveAuthenticatedUserId(nullable(Jwt.class))).thenReturn(userId);
+        when(appUserRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(locationRepository.findById(locationId)).thenReturn(Optional.of(location));
+        when(accountRoleService.isPartnerOrAdmin(user)).thenReturn(false);
+        when(locationUserRepository.existsByIdLocationIdAndIdUserId(locationId, userId)).thenReturn(true);
+
+        Graph first = new Graph();
+        first.setId(31L);
+        first.setName("First");
+        writeData(first, List.of(Map.of("type", "bar", "x", List.of("all"), "y", List.of(1))));
+        Graph shared = new Graph();
+        shared.setId(12L);
+        shared.setName("Shared");
+        writeData(shared, List.of(Map.of("type", "bar", "x", List.of("all"), "y", List.of(2))));
+        LocationGraph firstAssignment = new LocationGraph();
+        firstAssignment.setGraph(first);
+        LocationGraph sharedAssignment = new LocationGraph();
+        sharedAssignment.setGraph(shared);
+        when(locationGraphRepository.findByLocationIdAndGraphIdInWithGraphDetails(
+            eq(locationId), anyCollection()
+        )).thenReturn(List.of(sharedAssignment, firstAssignment));
+        when(locationDashboardTimeRangeService.resolveLocationMonthRangeProjections(
+            eq(locationId), anyCollection(), eq(new DashboardGraphMonthRange(4))
+        )).thenReturn(Map.of(
+            31L,
+            new DashboardGraphProjection(
+                List.of(Map.of("type", "bar", "x", List.of("ranged"), "y", List.of(9))),
+                Map.of()
+            ),
+            12L,
+            new DashboardGraphProjection(
+                List.of(Map.of("type", "bar", "x", List.of("shared-ranged"), "y", List.of(2))),
+                Map.of()
+            )
+        ));
+
+        mockMvc.perform(get(
+                "/api/core/locations/{locationId}/sections/graphs?sectionIds=3,2,3&monthRange=4",
+                locationId
+            ))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].sectionId").value(3))
+            .andExpect(jsonPath("$[0].monthRange").value(4))
+            .andExpect(jsonPath("$[0].graphs.length()").value(1))
+            .andExpect(jsonPath("$[0].graphs[0].data[0].x[0]").value("shared-ranged"))
+            .andExpect(jsonPath("$[0].missingGraphIds[0]").value(999))
+            .andExpect(jsonPath("$[1].sectionId").value(2))
+            .andExpect(jsonPath("$[1].graphs[0].id").value(31))
+            .andExpect(jsonPath("$[1].graphs[0].data[0].x[0]").value("ranged"))
+            .andExpect(jsonPath("$[1].graphs[1].id").value(12))
+            .andExpect(jsonPath("$[1].missingGraphIds.length()").value(0));
+
+        verify(appUserRepository, times(1)).findById(userId);
+        verify(locationGraphRepository, times(1))
+            .findByLocationIdAndGraphIdInWithGraphDetails(eq(locationId), anyCollection());
+        verify(locationDashboardTimeRangeService, times(1))
+            .resolveLocationMonthRangeProjections(eq(locationId), eq(List.of(12L, 999L, 31L)), any());
+    }
+
+    @Test
+    void sectionsGraphsRejectsMissingSectionIdsAndUnknownSections() throws Exception {
+        Long userId = 7L;
+        Long locationId = 11L;
+        AppUser user = verifiedUser(userId);
+        Location location = new Location();
+        location.setId(locationId);
+        location.setSectionLayout(Map.of("sections", List.of(
+            Map.of("section_id", 2, "graph_ids", List.of())
+        )));
+        when(authenticatedUserService.resolveAuthenticatedUserId(nullable(Jwt.class))).thenReturn(userId);
+        when(appUserRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(locationRepository.findById(locationId)).thenReturn(Optional.of(location));
+        when(accountRoleService.isPartnerOrAdmin(user)).thenReturn(false);
+        when(locationUserRepository.existsByIdLocationIdAndIdUserId(locationId, userId)).thenReturn(true);
+
+        mockMvc.perform(get("/core/locations/{locationId}/sections/graphs?monthRange=2", locationId))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/core/locations/{locationId}/sections/graphs?sectionIds=2,5", locationId))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/core/locations/{locationId}/sections/graphs?sectionIds=2", locationId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].sectionId").value(2))
+            .andExpect(jsonPath("$[0].monthRange").value(-1))
+            .andExpect(jsonPath("$[0].graphs.length()").value(0));
+
+        verifyNoInteractions(locationGraphRepository);
+    }
+
     @Test
     void locationGraphsCoversIndicatorDataFormationAndClientTransmission() throws Exception {
         Long userId = 9L;
@@ -476,7 +701,9 @@ class LocationGraphPipelineWebMvcTest {
         locationGraph.setGraph(graph);
         when(locationDashboardTimeRangeService.resolveLocationMonthRangePayloads(eq(locationId), any()))
             .thenReturn(Map.of());
-        when(locationGraphRepository.findByLocationIdWithGraphDetails(locationId)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdWithGraph(locationId)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdAndGraphIdInWithGraph(eq(locationId), anyCollection()))
+            .thenReturn(List.of(locationGraph));
 
         mockMvc.perform(get("/core/locations/{locationId}/graphs", locationId))
             .andExpect(status().isOk())
@@ -499,7 +726,7 @@ class LocationGraphPipelineWebMvcTest {
 
         verify(locationRepository).findNameById(locationId);
         verify(locationUserRepository).existsByIdLocationIdAndIdUserId(locationId, userId);
-        verify(locationGraphRepository).findByLocationIdWithGraphDetails(locationId);
+        verify(locationGraphRepository).findByLocationIdWithGraph(locationId);
     }
 
     @Test
@@ -526,7 +753,9 @@ class LocationGraphPipelineWebMvcTest {
         locationGraph.setGraph(graph);
         when(locationDashboardTimeRangeService.resolveLocationMonthRangePayloads(eq(locationId), any()))
             .thenReturn(Map.of());
-        when(locationGraphRepository.findByLocationIdWithGraphDetails(locationId)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdWithGraph(locationId)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdAndGraphIdInWithGraph(eq(locationId), anyCollection()))
+            .thenReturn(List.of(locationGraph));
 
         mockMvc.perform(get("/core/locations/{locationId}/graphs", locationId))
             .andExpect(status().isOk())
@@ -563,7 +792,9 @@ class LocationGraphPipelineWebMvcTest {
         locationGraph.setGraph(graph);
         when(locationDashboardTimeRangeService.resolveLocationMonthRangePayloads(eq(locationId), any()))
             .thenReturn(Map.of());
-        when(locationGraphRepository.findByLocationIdWithGraphDetails(locationId)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdWithGraph(locationId)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdAndGraphIdInWithGraph(eq(locationId), anyCollection()))
+            .thenReturn(List.of(locationGraph));
 
         mockMvc.perform(get("/core/locations/{locationId}/graphs", locationId))
             .andExpect(status().isOk())
@@ -1515,6 +1746,14 @@ class LocationGraphPipelineWebMvcTest {
         return user;
     }
 
+    @TestConfiguration
+    static class FixedClockConfig {
+        @Bean
+        Clock applicationClock() {
+            return Clock.fixed(Instant.parse("2026-03-10T12:00:00Z"), ZoneId.of("America/Phoenix"));
+        }
+    }
+
     @TestConfiguration
     static class JwtArgumentResolverConfig implements WebMvcConfigurer {
         @Override
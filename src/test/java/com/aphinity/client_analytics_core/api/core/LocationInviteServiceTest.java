@@ -260,7 +260,7 @@ class LocationInviteServiceTest {
         AppUser inviter = verifiedUser(7L, "partner@example.com");
         Location austin = location(11L, "Austin");
         Location denver = location(12L, "Denver");
-        austin.setThumbnail(new byte[] {1, 2, 3});
+        austin.setThumbnailSize(3);
 
         when(appUserRepository.findById(7L)).thenReturn(Optional.of(inviter));
         when(accountRoleService.isPartnerOrAdmin(inviter)).thenReturn(true);
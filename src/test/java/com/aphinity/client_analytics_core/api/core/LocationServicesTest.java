@@ -10,6 +10,7 @@ import com.aphinity.client_analytics_core.api.core.entities.location.Location;
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.LocationGraph;
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.LocationGraphId;
 import com.aphinity.client_analytics_core.api.core.entities.location.LocationUser;
+import com.aphinity.client_analytics_core.api.core.entities.location.LocationThumbnail;
 import com.aphinity.client_analytics_core.api.core.entities.location.UserSubscriptionToLocation;
 import com.aphinity.client_analytics_core.api.core.plotly.GraphPayloadMapper;
 import com.aphinity.client_analytics_core.api.core.plotly.GraphRelationalPayloadMapper;
@@ -17,6 +18,7 @@ import com.aphinity.client_analytics_core.api.core.requests.dashboard.LocationGr
 import com.aphinity.client_analytics_core.api.core.repositories.dashboard.GraphRepository;
 import com.aphinity.client_analytics_core.api.core.repositories.dashboard.LocationGraphRepository;
 import com.aphinity.client_analytics_core.api.core.repositories.location.LocationRepository;
+import com.aphinity.client_analytics_core.api.core.repositories.location.LocationThumbnailRepository;
 import com.aphinity.client_analytics_core.api.core.repositories.location.LocationUserRepository;
 import com.aphinity.client_analytics_core.api.core.repositories.location.UserSubscriptionToLocationRepository;
 import com.aphinity.client_analytics_core.api.core.response.dashboard.AccountRole;
@@ -35,12 +37,14 @@ import com.aphinity.client_analytics_core.api.core.services.location.LocationAle
 import com.aphinity.client_analytics_core.api.core.services.location.LocationDashboardUploadService;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationDetailsService;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationGraphMutationApplication;
+import com.aphinity.client_analytics_core.api.core.services.location.LocationGraphReadPlan;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationGraphService;
 import com.aphinity.client_analytics_core.api.core.services.location.JsonDashboardSectionGraphSelector;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationMembershipService;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationResponseMapper;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationThumbnailService;
 import com.aphinity.client_analytics_core.api.core.services.location.LocationThumbnailImageService;
+import com.aphinity.client_analytics_core.api.core.services.location.dashboardimport.DashboardGraphProjection;
 import com.aphinity.client_analytics_core.api.core.services.location.dashboardimport.LocationDashboardCacheInvalidationService;
 import com.aphinity.client_analytics_core.api.core.services.location.dashboardimport.LocationDashboardImportService;
 import com.aphinity.client_analytics_core.api.core.services.location.dashboardimport.LocationDashboardMutationLockService;
@@ -57,6 +61,7 @@ import com.aphinity.client_analytics_core.api.core.services.location.payload.Sun
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.BeforeEach;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -111,6 +116,9 @@ class LocationServicesTest {
     @Mock
     private LocationThumbnailImageService locationThumbnailImageService;
 
+    @Mock
+    private LocationThumbnailRepository locationThumbnailRepository;
+
     @Mock
     private LocationDashboardImportService locationDashboardImportService;
 
@@ -186,7 +194,7 @@ class LocationServicesTest {
             (locationName, graphs) -> Map.of()
         );
         thumbnailService = new LocationThumbnailService(
-            locationRepository, locationThumbnailImageService, accessPolicy, responseMapper
+            locationRepository, locationThumbnailRepository, locationThumbnailImageService, accessPolicy, responseMapper
         );
         uploadService = new LocationDashboardUploadService(
             locationRepository, accessPolicy, locationDashboardImportService, invalidator
@@ -1634,7 +1642,7 @@ class LocationServicesTest {
 
         LocationGraph locationGraph = new LocationGraph();
         locationGraph.setGraph(graph);
-        when(locationGraphRepository.findByLocationIdWithGraphDetails(99L)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdWithGraph(99L)).thenReturn(List.of(locationGraph));
         when(locationRepository.findNameById(99L)).thenReturn(Optional.of("Test Location"));
 
         List<GraphResponse> responses = graphService.getAccessibleLocationGraphs(5L, 99L, -1);
@@ -1788,7 +1796,7 @@ class LocationServicesTest {
 
         LocationGraph locationGraph = new LocationGraph();
         locationGraph.setGraph(graph);
-        when(locationGraphRepository.findByLocationIdWithGraphDetails(11L)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdWithGraph(11L)).thenReturn(List.of(locationGraph));
 
         List<GraphResponse> responses = graphService.getAccessibleLocationGraphs(7L, 11L);
 
@@ -1801,7 +1809,73 @@ class LocationServicesTest {
         assertEquals(Map.of("title", "Sessions"), response.layout());
         assertEquals(Map.of("displayModeBar", false), response.config());
         assertEquals(Map.of("height", 320), response.style());
-        verify(locationGraphRepository).findByLocationIdWithGraphDetails(11L);
+        verify(locationGraphRepository).findByLocationIdWithGraph(11L);
+    }
+
+    @Test
+    void getAccessibleLocationGraphsUsesCachedAllTimeProjection() {
+        AppUser user = verifiedUser(7L);
+        when(appUserRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(locationRepository.findNameById(11L)).thenReturn(Optional.of("Test Location"));
+        when(accountRoleService.isPartnerOrAdmin(user)).thenReturn(false);
+        when(locationUserRepository.existsByIdLocationIdAndIdUserId(11L, 7L)).thenReturn(true);
+
+        Graph graph = new Graph();
+        graph.setId(19L);
+        graph.setName("Daily sessions");
+        writeData(graph, Map.of("type", "bar", "y", List.of(4, 9, 6)));
+        graph.setLayout(Map.of("title", "Sessions"));
+        graph.setConfig(Map.of("displayModeBar", false));
+        LocationGraph locationGraph = new LocationGraph();
+        locationGraph.setGraph(graph);
+        when(locationGraphRepository.findByLocationIdWithGraph(11L)).thenReturn(List.of(locationGraph));
+        List<Map<String, Object>> cachedData = List.of(Map.of("type", "bar", "y", List.of(1)));
+        when(locationDashboardTimeRangeService.resolveAllTimeGraphProjections(11L, List.of(graph)))
+            .thenReturn(Map.of(19L, new DashboardGraphProjection(cachedData, Map.of("title", "Sessions"))));
+
+        List<GraphResponse> responses = graphService.getAccessibleLocationGraphs(7L, 11L);
+
+        assertEquals(1, responses.size());
+        assertEquals(cachedData, responses.getFirst().data());
+        assertEquals(Map.of("title", "Sessions"), responses.getFirst().layout());
+        assertEquals(Map.of("displayModeBar", false), responses.getFirst().config());
+    }
+
+    @Test
+    void plannedLocationGraphsResolveTheirProjectionOnlyWhenRequested() {
+        AppUser user = verifiedUser(7L);
+        when(appUserRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(locationRepository.findNameById(11L)).thenReturn(Optional.of("Test Location"));
+        when(accountRoleService.isPartnerOrAdmin(user)).thenReturn(false);
+        when(locationUserRepository.existsByIdLocationIdAndIdUserId(11L, 7L)).thenReturn(true);
+
+        Graph graph = new Graph();
+        graph.setId(19L);
+        graph.setName("Daily sessions");
+        graph.setUpdatedAt(Instant.parse("2026-01-02T00:00:00Z"));
+        writeData(graph, Map.of("type", "bar", "y", List.of(4, 9, 6)));
+        LocationGraph locationGraph = new LocationGraph();
+        locationGraph.setGraph(graph);
+        when(locationGraphRepository.findByLocationIdWithGraph(11L)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdAndGraphIdInWithGraph(11L, List.of(19L)))
+            .thenReturn(List.of(locationGraph));
+        List<Map<String, Object>> cachedData = List.of(Map.of("type", "bar", "y", List.of(1)));
+        when(locationDashboardTimeRangeService.resolveAllTimeGraphProjections(11L, List.of(graph)))
+            .thenReturn(Map.of(19L, new DashboardGraphProjection(cachedData, Map.of())));
+
+        LocationGraphReadPlan plan = graphService.planAccessibleLocationGraphs(7L, 11L, -1);
+
+        assertEquals(
+            List.of(new LocationGraphReadPlan.PlannedGraph(19L, Instant.parse("2026-01-02T00:00:00Z"), true)),
+            plan.graphs()
+        );
+        verify(locationDashboardTimeRangeService, never()).resolveAllTimeGraphProjections(any(), anyCollection());
+
+        GraphResponse response = graphService.getPlannedLocationGraph(plan, plan.graphs().getFirst()).orElseThrow();
+
+        assertEquals(cachedData, response.data());
+        when(locationGraphRepository.findByLocationIdAndGraphIdInWithGraph(11L, List.of(19L))).thenReturn(List.of());
+        assertTrue(graphService.getPlannedLocationGraph(plan, plan.graphs().getFirst()).isEmpty());
     }
 
     @Test
@@ -1830,7 +1904,7 @@ class LocationServicesTest {
 
         LocationGraph locationGraph = new LocationGraph();
         locationGraph.setGraph(graph);
-        when(locationGraphRepository.findByLocationIdWithGraphDetails(44L)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdWithGraph(44L)).thenReturn(List.of(locationGraph));
 
         List<GraphResponse> responses = graphService.getAccessibleLocationGraphs(17L, 44L);
 
@@ -1864,7 +1938,7 @@ class LocationServicesTest {
 
         LocationGraph locationGraph = new LocationGraph();
         locationGraph.setGraph(graph);
-        when(locationGraphRepository.findByLocationIdWithGraphDetails(57L)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdWithGraph(57L)).thenReturn(List.of(locationGraph));
 
         List<GraphResponse> responses = graphService.getAccessibleLocationGraphs(23L, 57L);
 
@@ -1897,7 +1971,7 @@ class LocationServicesTest {
 
         LocationGraph locationGraph = new LocationGraph();
         locationGraph.setGraph(graph);
-        when(locationGraphRepository.findByLocationIdWithGraphDetails(58L)).thenReturn(List.of(locationGraph));
+        when(locationGraphRepository.findByLocationIdWithGraph(58L)).thenReturn(List.of(locationGraph));
 
         List<GraphResponse> responses = graphService.getAccessibleLocationGraphs(24L, 58L);
 
@@ -2014,7 +2088,12 @@ class LocationServicesTest {
 
         LocationResponse response = thumbnailService.updateThumbnail(7L, 9L, file);
 
-        assertArrayEquals(webpBytes, location.getThumbnail());
+        ArgumentCaptor<LocationThumbnail> thumbnailCaptor = ArgumentCaptor.forClass(LocationThumbnail.class);
+        verify(locationThumbnailRepository).save(thumbnailCaptor.capture());
+        assertSame(location, thumbnailCaptor.getValue().getLocation());
+        assertArrayEquals(webpBytes, thumbnailCaptor.getValue().getImage());
+        assertEquals(3, location.getThumbnailSize());
+        assertEquals("787c798e39a5bc1910355bae6d0cd87a36b2e10fd0202a83e3bb6b005da83472", location.getThumbnailSha256());
         assertTrue(response.thumbnailAvailable());
         verify(locationThumbnailImageService).convertToWebp(file);
         verify(locationRepository).saveAndFlush(location);
@@ -2098,8 +2177,9 @@ class LocationServicesTest {
         Location location = new Location();
         location.setId(9L);
         location.setName("Phoenix");
-        location.setThumbnail(new byte[] {7, 8, 9});
+        location.setThumbnailSize(3);
         when(locationRepository.findById(9L)).thenReturn(Optional.of(location));
+        when(locationThumbnailRepository.findImageByLocationId(9L)).thenReturn(Optional.of(new byte[] {7, 8, 9}));
 
         byte[] thumbnail = thumbnailService.getThumbnail(7L, 9L);
 
@@ -0,0 +1,77 @@
+package com.aphinity.client_analytics_core.api.core.plotly;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CompactTimeSeriesTraceEncoderTest {
+    @Test
+    void encodesDailyScatterTraceAsDayOffsetsAndCustomDataDictionary() {
+        List<Object> customData = Arrays.asList(List.of("Newport"), List.of("Newport"), null, List.of("Irvine"));
+        Map<String, Object> trace = Map.of(
+            "type", "scatter",
+            "name", "HPC",
+            "mode", "lines+markers",
+            "x", List.of("2025-12-30", "2026-01-02", "2026-01-03", "2026-01-01"),
+            "y", List.of(4, 5.5, 6, 7),
+            "customdata", customData
+        );
+
+        Map<String, Object> encoded = CompactTimeSeriesTraceEncoder.encodeTrace(trace);
+
+        assertFalse(encoded.containsKey("x"));
+        assertFalse(encoded.containsKey("y"));
+        assertFalse(encoded.containsKey("customdata"));
+        assertEquals("lines+markers", encoded.get("mode"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> compact = (Map<String, Object>) encoded.get(CompactTimeSeriesTraceEncoder.COMPACT_FIELD);
+        assertEquals("2025-12-30", compact.get("baseDate"));
+        assertArrayEquals(new int[] {0, 3, 1, -2}, (int[]) compact.get("dayDeltas"));
+        assertArrayEquals(new double[] {4, 5.5, 6, 7}, (double[]) compact.get("y"));
+        assertEquals(Arrays.asList(List.of("Newport"), null, List.of("Irvine")), compact.get("customdataValues"));
+        assertArrayEquals(new int[] {0, 0, 1, 2}, (int[]) compact.get("customdataIndexes"));
+    }
+
+    @Test
+    void encodesWholeNumberYValuesOfScatterGlTracesAsLongs() {
+        Map<String, Object> trace = Map.of(
+            "type", "scattergl",
+            "x", List.of("2026-01-01", "2026-01-02"),
+            "y", List.of(3, 4L)
+        );
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> compact = (Map<String, Object>) CompactTimeSeriesTraceEncoder.encodeTrace(trace)
+            .get(CompactTimeSeriesTraceEncoder.COMPACT_FIELD);
+
+        assertArrayEquals(new int[] {0, 1}, (int[]) compact.get("dayDeltas"));
+        assertArrayEquals(new long[] {3, 4}, (long[]) compact.get("y"));
+        assertFalse(compact.containsKey("customdataIndexes"));
+    }
+
+    @Test
+    void leavesNonDailyAndNonScatterTracesUntouched() {
+        Map<String, Object> timestamped = Map.of(
+            "type", "scatter",
+            "x", List.of("2026-01-01T08:00:00Z"),
+            "y", List.of(1)
+        );
+        Map<String, Object> unpadded = Map.of("type", "scatter", "x", List.of("2026-1-01"), "y", List.of(1));
+        Map<String, Object> mismatched = Map.of("type", "scatter", "x", List.of("2026-01-01"), "y", List.of(1, 2));
+        Map<String, Object> bar = Map.of("type", "bar", "x", List.of("2026-01-01"), "y", List.of(1));
+        Map<String, Object> gaps = Map.of("type", "scatter", "x", List.of("2026-01-01"), "y", List.of("n/a"));
+
+        assertSame(timestamped, CompactTimeSeriesTraceEncoder.encodeTrace(timestamped));
+        assertSame(unpadded, CompactTimeSeriesTraceEncoder.encodeTrace(unpadded));
+        assertSame(mismatched, CompactTimeSeriesTraceEncoder.encodeTrace(mismatched));
+        assertSame(bar, CompactTimeSeriesTraceEncoder.encodeTrace(bar));
+        assertSame(gaps, CompactTimeSeriesTraceEncoder.encodeTrace(gaps));
+    }
+}
@@ -5,14 +5,19 @@ import static com.aphinity.client_analytics_core.api.core.plotly.GraphRelational
 
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphCategoryPoint;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTimeSeriesPoint;
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTracePointStorage;
+import com.aphinity.client_analytics_core.api.core.services.location.dashboardimport.DashboardPayloadWeights;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -57,6 +62,159 @@ class GraphRelationalPayloadMapperTest {
         assertEquals(List.of(10L, 20L), traces.getFirst().get("y"));
     }
 
+    @Test
+    void syncRecordsOnlyChangedAndTrimmedPointOrders() {
+        Graph graph = new Graph();
+        writeData(graph, List.of(Map.of(
+            "type", "pie",
+            "name", "Compliance",
+            "labels", List.of("Compliant", "Non-compliant", "Pending"),
+            "values", List.of(10, 20, 30)
+        )));
+        GraphTrace trace = graph.getGraphTraces().getFirst();
+        assertArrayEquals(new int[] {0, 1, 2}, trace.getPointChanges().categoryOrders());
+        trace.getPointChanges().clear();
+
+        writeData(graph, List.of(Map.of(
+            "type", "pie",
+            "name", "Compliance",
+            "labels", List.of("Compliant", "Non-compliant", "Pending"),
+            "values", List.of(10, 25, 30)
+        )));
+        assertArrayEquals(new int[] {1}, trace.getPointChanges().categoryOrders());
+        assertFalse(trace.getPointChanges().isTimeSeriesChanged());
+        trace.getPointChanges().clear();
+
+        writeData(graph, List.of(Map.of(
+            "type", "pie",
+            "name", "Compliance",
+            "labels", List.of("Compliant", "Non-compliant"),
+            "values", List.of(10, 25)
+        )));
+        assertTrue(trace.getPointChanges().isCategoryChanged());
+        assertArrayEquals(new int[0], trace.getPointChanges().categoryOrders());
+        trace.getPointChanges().clear();
+
+        writeData(graph, List.of(Map.of(
+            "type", "pie",
+            "name", "Compliance",
+            "labels", List.of("Compliant", "Non-compliant"),
+            "values", List.of(10, 25)
+        )));
+        assertTrue(trace.getPointChanges().isEmpty());
+    }
+
+    @Test
+    void timeSeriesPointsArePackedOntoTheTraceAndReadBackUnchanged() {
+        Graph graph = new Graph();
+        BigDecimal wideValue = new BigDecimal("123456789012345678901234567890");
+        writeData(graph, List.of(Map.of(
+            "type", "scatter",
+            "name", "HPC",
+            "x", List.of("2026-01-01", "2026-01-02", "2026-01-05"),
+            "y", List.of(10, new BigDecimal("1.50"), wideValue),
+            "customdata", List.of(
+                Map.of("sampleCount", 1, "compliantCount", 1),
+                Map.of("sampleCount", 1, "compliantCount", 1),
+                Map.of("sampleCount", 3, "compliantCount", 2)
+            )
+        )));
+
+        GraphTrace trace = graph.getGraphTraces().getFirst();
+        assertEquals(GraphTracePointStorage.PACKED, trace.getPointStorage());
+        assertTrue(trace.getTimeSeriesPoints().isEmpty());
+        assertFalse(trace.getPackedPointMeta().containsKey(PackedTimeSeriesPoints.X_FIELD));
+        assertEquals(2, ((List<?>) trace.getPackedPointMeta().get(PackedTimeSeriesPoints.CUSTOMDATA_VALUES_FIELD)).size());
+
+        Map<String, Object> read = GraphPayloadMapper.toTraceList(readData(graph)).getFirst();
+        assertEquals(List.of("2026-01-01", "2026-01-02", "2026-01-05"), read.get("x"));
+        assertEquals(List.of(10L, new BigDecimal("1.5"), wideValue.stripTrailingZeros()), read.get("y"));
+        assertEquals(List.of(
+            Map.of("sampleCount", 1L, "compliantCount", 1L),
+            Map.of("sampleCount", 1L, "compliantCount", 1L),
+            Map.of("sampleCount", 3L, "compliantCount", 2L)
+        ), read.get("customdata"));
+    }
+
+    @Test
+    void rowStoredTimeSeriesTraceMovesToPackedStorageOnItsNextSync() {
+        Graph graph = new Graph();
+        GraphTrace trace = new GraphTrace();
+        trace.setGraph(graph);
+        trace.setTraceKey("scatter-1");
+        trace.setTraceName("HPC");
+        trace.setTraceType("scatter");
+        trace.setDataMode("time_series");
+        List<GraphTimeSeriesPoint> rows = new ArrayList<>();
+        for (int index = 0; index < 2; index++) {
+            GraphTimeSeriesPoint row = new GraphTimeSeriesPoint();
+            row.setGraphTrace(trace);
+            row.setPointOrder(index);
+            row.setObservedAt(Instant.parse("2026-01-0" + (index + 1) + "T00:00:00Z"));
+            row.setYNumeric(BigDecimal.valueOf(index));
+            row.setPointMeta(Map.of("x", "2026-01-0" + (index + 1)));
+            rows.add(row);
+        }
+        trace.setTimeSeriesPoints(rows);
+        graph.setGraphTraces(new ArrayList<>(List.of(trace)));
+        assertEquals(
+            List.of("2026-01-01", "2026-01-02"),
+            GraphPayloadMapper.toTraceList(readData(graph)).getFirst().get("x")
+        );
+
+        writeData(graph, List.of(Map.of(
+            "type", "scatter",
+            "name", "HPC",
+            "x", List.of("2026-01-01T06:30:00Z", "2026-01-02T06:30:00Z", "2026-01-03T06:30:00Z"),
+            "y", List.of(4, 5, 6)
+        )));
+
+        assertEquals(GraphTracePointStorage.PACKED, trace.getPointStorage());
+        assertTrue(trace.getTimeSeriesPoints().isEmpty());
+        assertTrue(trace.getPointChanges().isTimeSeriesChanged());
+        assertArrayEquals(new int[0], trace.getPointChanges().timeSeriesOrders());
+        List<GraphTimeSeriesPoint> points = GraphRelationalPayloadMapper.timeSeriesPoints(trace);
+        assertEquals(3, points.size());
+        assertEquals(Instant.parse("2026-01-03T06:30:00Z"), points.get(2).getObservedAt());
+        assertEquals(
+            List.of("2026-01-01T06:30:00Z", "2026-01-02T06:30:00Z", "2026-01-03T06:30:00Z"),
+            GraphPayloadMapper.toTraceList(readData(graph)).getFirst().get("x")
+        );
+    }
+
+    @Test
+    void rowStoredTimeSeriesTracePacksInPlaceWithoutChangingItsPayload() {
+        Graph graph = new Graph();
+        GraphTrace trace = new GraphTrace();
+        trace.setGraph(graph);
+        trace.setTraceKey("scatter-1");
+        trace.setTraceName("HPC");
+        trace.setTraceType("scatter");
+        trace.setDataMode("time_series");
+        List<GraphTimeSeriesPoint> rows = new ArrayList<>();
+        for (int index = 1; index >= 0; index--) {
+            GraphTimeSeriesPoint row = new GraphTimeSeriesPoint();
+            row.setGraphTrace(trace);
+            row.setPointOrder(index);
+            row.setObservedAt(Instant.parse("2026-01-0" + (index + 1) + "T00:00:00Z"));
+            row.setYNumeric(BigDecimal.valueOf(index));
+            row.setPointMeta(Map.of("x", "2026-01-0" + (index + 1), "customdata", List.of("Newport")));
+            rows.add(row);
+        }
+        trace.setTimeSeriesPoints(rows);
+        graph.setGraphTraces(new ArrayList<>(List.of(trace)));
+        List<Map<String, Object>> before = GraphPayloadMapper.toTraceList(readData(graph));
+
+        assertTrue(GraphRelationalPayloadMapper.packRowStoredTimeSeries(trace));
+
+        assertEquals(GraphTracePointStorage.PACKED, trace.getPointStorage());
+        assertTrue(trace.getTimeSeriesPoints().isEmpty());
+        assertTrue(trace.getPointChanges().isTimeSeriesChanged());
+        assertArrayEquals(new int[0], trace.getPointChanges().timeSeriesOrders());
+        assertEquals(before, GraphPayloadMapper.toTraceList(readData(graph)));
+        assertFalse(GraphRelationalPayloadMapper.packRowStoredTimeSeries(trace));
+    }
+
     @Test
     void setDataPreservesTimeSeriesCustomDataOnPoints() {
         Graph graph = new Graph();
@@ -73,10 +231,11 @@ class GraphRelationalPayloadMapperTest {
 
         GraphTrace trace = graph.getGraphTraces().getFirst();
         assertEquals("time_series", trace.getDataMode());
-        assertEquals(2, trace.getTimeSeriesPoints().size());
+        List<GraphTimeSeriesPoint> points = GraphRelationalPayloadMapper.timeSeriesPoints(trace);
+        assertEquals(2, points.size());
         assertEquals(
             Map.of("sampleCount", 1L, "compliantCount", 1L),
-            trace.getTimeSeriesPoints().getFirst().getPointMeta().get("customdata")
+            points.getFirst().getPointMeta().get("customdata")
         );
 
         List<Map<String, Object>> traces = GraphPayloadMapper.toTraceList(readData(graph));
@@ -86,6 +245,31 @@ class GraphRelationalPayloadMapperTest {
         ), traces.getFirst().get("customdata"));
     }
 
+    @Test
+    void sizedTraceListRecordsTheSameSizesAsMeasuringTheMappedTraces() {
+        Graph graph = new Graph();
+        writeData(graph, List.of(
+            Map.of(
+                "type", "scatter",
+                "name", "Live",
+                "mode", "lines",
+                "x", List.of("2026-01-01", "2026-01-02"),
+                "y", List.of(10, 20),
+                "customdata", List.of(Map.of("sampleCount", 1), Map.of("sampleCount", 2))
+            ),
+            Map.of("type", "pie", "name", "Share", "labels", List.of("A", "B"), "values", List.of(1, 2))
+        ));
+
+        GraphRelationalPayloadMapper.SizedTraceList sized =
+            GraphRelationalPayloadMapper.toSizedTraceList(graph.getGraphTraces());
+
+        assertEquals(GraphRelationalPayloadMapper.toTraceList(graph.getGraphTraces()), sized.traces());
+        assertEquals(
+            sized.traces().stream().map(DashboardPayloadWeights::measureTrace).toList(),
+            sized.sizes()
+        );
+    }
+
     @Test
     void setDataPreservesScatterDateStringsWithFlexibleLocalDateFormatting() {
         Graph graph = new Graph();
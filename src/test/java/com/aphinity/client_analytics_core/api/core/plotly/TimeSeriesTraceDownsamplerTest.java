@@ -0,0 +1,120 @@
+package com.aphinity.client_analytics_core.api.core.plotly;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeSeriesTraceDownsamplerTest {
+    @Test
+    void keepsEndpointsAndThePeakOfEachBucket() {
+        double[] x = {0, 1, 2, 3, 4, 5, 6, 7};
+        double[] y = {0, 0, 9, 0, 0, -9, 0, 0};
+
+        int[] retained = TimeSeriesTraceDownsampler.largestTriangleThreeBuckets(x, y, 4);
+
+        assertArrayEquals(new int[] {0, 2, 5, 7}, retained);
+    }
+
+    @Test
+    void reducesDailyScatterTraceKeepingPerPointArraysAligned() {
+        List<Object> x = new ArrayList<>();
+        List<Object> y = new ArrayList<>();
+        List<Object> customData = new ArrayList<>();
+        List<Object> hoverText = new ArrayList<>();
+        List<Object> markerColors = new ArrayList<>();
+        for (int day = 0; day < 60; day += 1) {
+            x.add(LocalDate.parse("2026-01-01").plusDays(day).toString());
+            y.add(day == 33 ? 100 : day % 5);
+            customData.add(List.of("Newport", day));
+            hoverText.add("Day " + day);
+            markerColors.add(day % 2 == 0 ? "red" : "blue");
+        }
+        Map<String, Object> trace = Map.of(
+            "type", "scatter",
+            "name", "HPC",
+            "x", x,
+            "y", y,
+            "customdata", customData,
+            "hovertext", hoverText,
+            "marker", Map.of("color", markerColors, "size", 6)
+        );
+
+        Map<String, Object> reduced = TimeSeriesTraceDownsampler.downsampleTrace(trace, 12);
+
+        List<?> reducedX = (List<?>) reduced.get("x");
+        List<?> reducedY = (List<?>) reduced.get("y");
+        List<?> reducedCustomData = (List<?>) reduced.get("customdata");
+        List<?> reducedHoverText = (List<?>) reduced.get("hovertext");
+        Map<?, ?> reducedMarker = (Map<?, ?>) reduced.get("marker");
+        List<?> reducedColors = (List<?>) reducedMarker.get("color");
+        assertEquals(12, reducedX.size());
+        assertEquals("2026-01-01", reducedX.get(0));
+        assertEquals("2026-03-01", reducedX.get(11));
+        assertTrue(reducedX.contains("2026-02-03"));
+        assertEquals("HPC", reduced.get("name"));
+        assertEquals(6, reducedMarker.get("size"));
+        for (int index = 0; index < reducedX.size(); index += 1) {
+            int day = x.indexOf(reducedX.get(index));
+            assertEquals(y.get(day), reducedY.get(index));
+            assertEquals(customData.get(day), reducedCustomData.get(index));
+            assertEquals(hoverText.get(day), reducedHoverText.get(index));
+            assertEquals(markerColors.get(day), reducedColors.get(index));
+        }
+    }
+
+    @Test
+    void reducesScatterGlTracesByTimestampWithinTheSameDay() {
+        List<Object> x = new ArrayList<>();
+        List<Object> y = new ArrayList<>();
+        for (int minute = 0; minute < 40; minute += 1) {
+            x.add(String.format("2026-01-01T10:%02d:00Z", minute));
+            y.add(minute == 17 ? 50 : minute % 3);
+        }
+        Map<String, Object> trace = Map.of("type", "scattergl", "x", x, "y", y);
+
+        Map<String, Object> reduced = TimeSeriesTraceDownsampler.downsampleTrace(trace, 8);
+
+        List<?> reducedX = (List<?>) reduced.get("x");
+        assertEquals(8, reducedX.size());
+        assertEquals("2026-01-01T10:00:00Z", reducedX.get(0));
+        assertEquals("2026-01-01T10:39:00Z", reducedX.get(7));
+        assertTrue(reducedX.contains("2026-01-01T10:17:00Z"));
+    }
+
+    @Test
+    void leavesShortUnorderedAndNonNumericTracesUntouched() {
+        Map<String, Object> shortTrace = Map.of(
+            "type", "scatter",
+            "x", List.of("2026-01-01", "2026-01-02", "2026-01-03", "2026-01-04"),
+            "y", List.of(1, 2, 3, 4)
+        );
+        Map<String, Object> unordered = Map.of(
+            "type", "scatter",
+            "x", List.of("2026-01-04", "2026-01-01", "2026-01-03", "2026-01-02", "2026-01-05"),
+            "y", List.of(1, 2, 3, 4, 5)
+        );
+        Map<String, Object> categorical = Map.of(
+            "type", "scatter",
+            "x", List.of("A", "B", "C", "D", "E"),
+            "y", List.of(1, 2, 3, 4, 5)
+        );
+        Map<String, Object> bar = Map.of(
+            "type", "bar",
+            "x", List.of("2026-01-01", "2026-01-02", "2026-01-03", "2026-01-04", "2026-01-05"),
+            "y", List.of(1, 2, 3, 4, 5)
+        );
+
+        assertSame(shortTrace, TimeSeriesTraceDownsampler.downsampleTrace(shortTrace, 4));
+        assertSame(unordered, TimeSeriesTraceDownsampler.downsampleTrace(unordered, 3));
+        assertSame(categorical, TimeSeriesTraceDownsampler.downsampleTrace(categorical, 3));
+        assertSame(bar, TimeSeriesTraceDownsampler.downsampleTrace(bar, 3));
+    }
+}
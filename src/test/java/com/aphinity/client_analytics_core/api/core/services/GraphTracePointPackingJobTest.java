@@ -0,0 +1,105 @@
+package com.aphinity.client_analytics_core.api.core.services;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTimeSeriesPoint;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTracePointStorage;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.GraphRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GraphTracePointPackingJobTest {
+    @Mock
+    private GraphRepository graphRepository;
+
+    @Mock
+    private GraphPointWriter graphPointWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void packsRowStoredTracesBatchByBatchAndDeletesTheirRows() {
+        Graph first = graphWithRowStoredTrace(1L, Instant.parse("2026-01-01T00:00:00Z"));
+        Graph unpackable = graphWithRowStoredTrace(2L, null);
+        Graph third = graphWithRowStoredTrace(3L, Instant.parse("2026-01-03T00:00:00Z"));
+        when(graphRepository.findIdsWithTimeSeriesTracesStoredAs(GraphTracePointStorage.ROWS, 0L, Limit.of(2)))
+            .thenReturn(List.of(1L, 2L));
+        when(graphRepository.findIdsWithTimeSeriesTracesStoredAs(GraphTracePointStorage.ROWS, 2L, Limit.of(2)))
+            .thenReturn(List.of(3L));
+        when(graphRepository.findIdsWithTimeSeriesTracesStoredAs(GraphTracePointStorage.ROWS, 3L, Limit.of(2)))
+            .thenReturn(List.of());
+        when(graphRepository.findByIdInForUpdate(List.of(1L, 2L))).thenReturn(List.of(first, unpackable));
+        when(graphRepository.findByIdInForUpdate(List.of(3L))).thenReturn(List.of(third));
+
+        int packed = job(true).packRowStoredTimeSeriesTraces();
+
+        assertEquals(2, packed);
+        assertEquals(GraphTracePointStorage.PACKED, first.getGraphTraces().getFirst().getPointStorage());
+        assertEquals(GraphTracePointStorage.ROWS, unpackable.getGraphTraces().getFirst().getPointStorage());
+        assertEquals(GraphTracePointStorage.PACKED, third.getGraphTraces().getFirst().getPointStorage());
+        assertTrue(first.getGraphTraces().getFirst().getPointChanges().isTimeSeriesChanged());
+        assertTrue(unpackable.getGraphTraces().getFirst().getPointChanges().isEmpty());
+        verify(graphPointWriter).writePendingPoints(List.of(first, unpackable));
+        verify(graphPointWriter).writePendingPoints(List.of(third));
+    }
+
+    @Test
+    void startupConversionCanBeDisabled() {
+        job(false).packOnStartup();
+
+        verify(graphRepository, never()).findIdsWithTimeSeriesTracesStoredAs(
+            eq(GraphTracePointStorage.ROWS),
+            anyLong(),
+            eq(Limit.of(2))
+        );
+    }
+
+    private GraphTracePointPackingJob job(boolean enabled) {
+        return new GraphTracePointPackingJob(
+            graphRepository,
+            graphPointWriter,
+            new TransactionTemplate(transactionManager),
+            enabled,
+            2
+        );
+    }
+
+    private static Graph graphWithRowStoredTrace(Long graphId, Instant observedAt) {
+        Graph graph = new Graph();
+        graph.setId(graphId);
+        GraphTrace trace = new GraphTrace();
+        trace.setGraph(graph);
+        trace.setTraceKey("scatter-1");
+        trace.setTraceName("HPC");
+        trace.setTraceType("scatter");
+        trace.setDataMode("time_series");
+        GraphTimeSeriesPoint row = new GraphTimeSeriesPoint();
+        row.setGraphTrace(trace);
+        row.setPointOrder(0);
+        row.setObservedAt(observedAt);
+        row.setYNumeric(BigDecimal.ONE);
+        trace.setTimeSeriesPoints(new ArrayList<>(List.of(row)));
+        graph.setGraphTraces(new ArrayList<>(List.of(trace)));
+        return graph;
+    }
+}
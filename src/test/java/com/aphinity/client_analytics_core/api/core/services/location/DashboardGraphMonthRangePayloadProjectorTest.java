@@ -8,6 +8,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DashboardGraphMonthRangePayloadProjectorTest {
     private static final LocalDate ANCHOR_DATE = LocalDate.of(2026, 6, 23);
@@ -146,4 +147,78 @@ class DashboardGraphMonthRangePayloadProjectorTest {
 
         assertSame(payload, projectedPayload);
     }
+
+    @Test
+    void projectedTraceSizesMatchMeasuringTheProjectedPayload() {
+        DashboardGraphMonthRangePayloadProjector.IndexedPayload payload =
+            DashboardGraphMonthRangePayloadProjector.IndexedPayload.of(List.of(
+                Map.of(
+                    "type", "scatter",
+                    "name", "Ascending",
+                    "x", List.of("2025-01-15", "2026-02-15", "2026-05-20"),
+                    "y", List.of(10, 20, 30),
+                    "customdata", List.of("a", "b", "c")
+                ),
+                Map.of(
+                    "type", "scatter",
+                    "name", "Unordered",
+                    "x", List.of("2026-05-20", "2025-01-15", "2026-02-15"),
+                    "y", List.of(30, 10, 20)
+                ),
+                Map.of("type", "pie", "labels", List.of("A"), "values", List.of(1))
+            ));
+
+        DashboardGraphMonthRangePayloadProjector.IndexedPayload projected =
+            DashboardGraphMonthRangePayloadProjector.project(payload, new DashboardGraphMonthRange(12), ANCHOR_DATE);
+
+        assertEquals(
+            DashboardGraphMonthRangePayloadProjector.IndexedPayload.of(projected.data()).approximateSizeBytes(),
+            projected.approximateSizeBytes()
+        );
+        assertTrue(projected.approximateSizeBytes() < payload.approximateSizeBytes());
+    }
+
+    @Test
+    void indexedProjectionCarriesNarrowedIndexesForRepeatedProjection() {
+        DashboardGraphMonthRangePayloadProjector.IndexedPayload payload =
+            DashboardGraphMonthRangePayloadProjector.IndexedPayload.of(List.of(Map.of(
+                "type", "scatter",
+                "x", List.of("2025-01-15", "2026-02-15", "2026-05-20", "2026-06-20"),
+                "y", List.of(10, 20, 30, 40),
+                "customdata", List.of("a", "b", "c", "d")
+            )));
+
+        DashboardGraphMonthRangePayloadProjector.IndexedPayload twelveMonths =
+            DashboardGraphMonthRangePayloadProjector.project(payload, new DashboardGraphMonthRange(12), ANCHOR_DATE);
+        DashboardGraphMonthRangePayloadProjector.IndexedPayload oneMonth =
+            DashboardGraphMonthRangePayloadProjector.project(twelveMonths, new DashboardGraphMonthRange(1), ANCHOR_DATE);
+
+        assertEquals(List.of("2026-02-15", "2026-05-20", "2026-06-20"), twelveMonths.data().getFirst().get("x"));
+        assertEquals(3, twelveMonths.traceIndexes().getFirst().size());
+        assertEquals(List.of("2026-05-20", "2026-06-20"), oneMonth.data().getFirst().get("x"));
+        assertEquals(List.of(30, 40), oneMonth.data().getFirst().get("y"));
+        assertEquals(List.of("c", "d"), oneMonth.data().getFirst().get("customdata"));
+        assertEquals(
+            TimeSeriesTraceIndex.of(oneMonth.data().getFirst()),
+            oneMonth.traceIndexes().getFirst()
+        );
+    }
+
+    @Test
+    void projectFiltersUnorderedLegacyTracesWithoutReordering() {
+        Map<String, Object> trace = Map.of(
+            "type", "scatter",
+            "x", List.of("2026-06-20", "2026-01-10", "2026-05-02"),
+            "y", List.of(95, 60, 90)
+        );
+
+        List<Map<String, Object>> projectedPayload = DashboardGraphMonthRangePayloadProjector.project(
+            List.of(trace),
+            new DashboardGraphMonthRange(1),
+            ANCHOR_DATE
+        );
+
+        assertEquals(List.of("2026-06-20", "2026-05-02"), projectedPayload.getFirst().get("x"));
+        assertEquals(List.of(95, 90), projectedPayload.getFirst().get("y"));
+    }
 }
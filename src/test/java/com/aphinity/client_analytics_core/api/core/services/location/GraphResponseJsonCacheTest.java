@@ -0,0 +1,246 @@
+package com.aphinity.client_analytics_core.api.core.services.location;
+
+import com.aphinity.client_analytics_core.api.core.response.dashboard.GraphResponse;
+import com.aphinity.client_analytics_core.api.core.response.dashboard.LocationSectionGraphsResponse;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphResponseJsonCacheTest {
+    private static final Instant GRAPH_REVISION = Instant.parse("2026-03-02T00:00:00Z");
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void encodesGraphsOncePerRevisionAndMatchesJacksonOutput() throws IOException {
+        GraphResponseJsonCache cache = new GraphResponseJsonCache(jsonMapper);
+        Optional<DashboardGraphReadRevision> revision = Optional.of(revision("range:3"));
+        GraphResponse graph = graph(31L, GRAPH_REVISION, "ranged");
+
+        byte[] first = writeGraphs(cache, revision, List.of(graph));
+        byte[] repeated = writeGraphs(cache, revision, List.of(graph(31L, GRAPH_REVISION, "ignored")));
+        byte[] edited = writeGraphs(
+            cache,
+            revision,
+            List.of(graph(31L, Instant.parse("2026-03-03T00:00:00Z"), "edited"))
+        );
+
+        assertEquals(jsonMapper.readTree(jsonMapper.writeValueAsBytes(List.of(graph))), jsonMapper.readTree(first));
+        assertEquals(new String(first, StandardCharsets.UTF_8), new String(repeated, StandardCharsets.UTF_8));
+        assertEquals("edited", jsonMapper.readTree(edited).get(0).get("data").get(0).get("x").get(0).asText());
+        assertEquals(2L, cache.cachedGraphCount());
+    }
+
+    @Test
+    void encodesSectionResourcesWithoutCachingUnrevisionedReads() {
+        GraphResponseJsonCache cache = new GraphResponseJsonCache(jsonMapper);
+        LocationSectionGraphsResponse section = new LocationSectionGraphsResponse(
+            2L,
+            -1,
+            List.of(graph(31L, GRAPH_REVISION, "all"), graph(12L, GRAPH_REVISION, "persisted")),
+            List.of(999L)
+        );
+
+        JsonNode encoded = jsonMapper.readTree(
+            cache.encodeSection(Optional.empty(), DashboardTraceEncoding.PLOTLY, section)
+        );
+
+        assertEquals(jsonMapper.readTree(jsonMapper.writeValueAsBytes(section)), encoded);
+        assertEquals(0L, cache.cachedGraphCount());
+    }
+
+    @Test
+    void writesGraphsIntoOneArrayResolvingEachJustBeforeItIsWritten() throws IOException {
+        GraphResponseJsonCache cache = new GraphResponseJsonCache(jsonMapper);
+        Optional<DashboardGraphReadRevision> revision = Optional.of(revision("range:all"));
+        List<GraphResponse> graphs = List.of(
+            graph(31L, GRAPH_REVISION, "first"),
+            graph(12L, null, "second"),
+            graph(18L, GRAPH_REVISION, "third")
+        );
+        Map<Long, GraphResponse> graphsById = new LinkedHashMap<>();
+        graphs.forEach(graph -> graphsById.put(graph.id(), graph));
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        List<Integer> bytesWrittenAtResolution = new ArrayList<>();
+
+        cache.writeGraphs(body, revision, DashboardTraceEncoding.PLOTLY, planned(graphs), plannedGraph -> {
+            bytesWrittenAtResolution.add(body.size());
+            return Optional.ofNullable(graphsById.get(plannedGraph.graphId()));
+        });
+
+        assertEquals(jsonMapper.readTree(jsonMapper.writeValueAsBytes(graphs)), jsonMapper.readTree(body.toByteArray()));
+        assertEquals(3, bytesWrittenAtResolution.size());
+        assertEquals(0, bytesWrittenAtResolution.get(0));
+        assertTrue(bytesWrittenAtResolution.get(1) > bytesWrittenAtResolution.get(0));
+        assertTrue(bytesWrittenAtResolution.get(2) > bytesWrittenAtResolution.get(1));
+        assertEquals(2L, cache.cachedGraphCount());
+
+        List<Long> resolvedAgain = new ArrayList<>();
+        ByteArrayOutputStream repeated = new ByteArrayOutputStream();
+        cache.writeGraphs(repeated, revision, DashboardTraceEncoding.PLOTLY, planned(graphs), plannedGraph -> {
+            resolvedAgain.add(plannedGraph.graphId());
+            return Optional.ofNullable(graphsById.get(plannedGraph.graphId()));
+        });
+
+        assertEquals(List.of(12L), resolvedAgain);
+        assertEquals(new String(body.toByteArray(), StandardCharsets.UTF_8), new String(repeated.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void skipsGraphsTheResolverNoLongerFinds() throws IOException {
+        GraphResponseJsonCache cache = new GraphResponseJsonCache(jsonMapper);
+        List<GraphResponse> graphs = List.of(graph(31L, GRAPH_REVISION, "first"), graph(12L, GRAPH_REVISION, "gone"));
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        cache.writeGraphs(body, Optional.empty(), DashboardTraceEncoding.PLOTLY, planned(graphs), plannedGraph ->
+            plannedGraph.graphId().equals(31L) ? Optional.of(graphs.getFirst()) : Optional.empty()
+        );
+
+        assertEquals(
+            jsonMapper.readTree(jsonMapper.writeValueAsBytes(List.of(graphs.getFirst()))),
+            jsonMapper.readTree(body.toByteArray())
+        );
+        assertEquals("[]", new String(writeGraphs(cache, Optional.empty(), List.of()), StandardCharsets.UTF_8));
+        assertEquals(0L, cache.cachedGraphCount());
+    }
+
+    @Test
+    void cachesCompactTraceFormatSeparatelyFromPlotlyFormat() throws IOException {
+        GraphResponseJsonCache cache = new GraphResponseJsonCache(jsonMapper);
+        Optional<DashboardGraphReadRevision> revision = Optional.of(revision("range:all"));
+        List<GraphResponse> graphs = List.of(graph(31L, GRAPH_REVISION, "2026-03-01"));
+
+        JsonNode plotly = jsonMapper.readTree(writeGraphs(cache, revision, graphs));
+        JsonNode compact = jsonMapper.readTree(writeGraphs(
+            cache,
+            revision,
+            new DashboardTraceEncoding(DashboardTraceFormat.COMPACT, null),
+            graphs
+        ));
+
+        assertEquals("2026-03-01", plotly.get(0).get("data").get(0).get("x").get(0).asText());
+        assertEquals(
+            "2026-03-01",
+            compact.get(0).get("data").get(0).get("compactTimeSeries").get("baseDate").asText()
+        );
+        assertEquals(2L, cache.cachedGraphCount());
+    }
+
+    @Test
+    void downsamplesLongTimeSeriesOncePerGraphRevisionAndPointBudget() throws IOException {
+        GraphResponseJsonCache cache = new GraphResponseJsonCache(jsonMapper);
+        Optional<DashboardGraphReadRevision> revision = Optional.of(revision("range:all"));
+        List<Object> x = new ArrayList<>();
+        List<Object> y = new ArrayList<>();
+        List<Object> customData = new ArrayList<>();
+        for (int day = 0; day < 90; day += 1) {
+            x.add(LocalDate.parse("2026-01-01").plusDays(day).toString());
+            y.add(day % 7);
+            customData.add(List.of("sample-" + day));
+        }
+        GraphResponse graph = new GraphResponse(
+            31L,
+            "Graph 31",
+            null,
+            List.of(Map.of("type", "scatter", "x", x, "y", y, "customdata", customData)),
+            Map.of(),
+            Map.of(),
+            Map.of(),
+            Instant.parse("2026-01-01T00:00:00Z"),
+            GRAPH_REVISION,
+            true
+        );
+
+        JsonNode full = jsonMapper.readTree(writeGraphs(cache, revision, List.of(graph)));
+        JsonNode reduced = jsonMapper.readTree(writeGraphs(
+            cache,
+            revision,
+            DashboardTraceEncoding.fromRequest(null, null, 20),
+            List.of(graph)
+        ));
+        writeGraphs(cache, revision, DashboardTraceEncoding.fromRequest(null, null, 20), List.of(graph));
+
+        assertEquals(90, full.get(0).get("data").get(0).get("x").size());
+        JsonNode trace = reduced.get(0).get("data").get(0);
+        assertEquals(20, trace.get("x").size());
+        assertEquals(20, trace.get("customdata").size());
+        for (int index = 0; index < trace.get("x").size(); index += 1) {
+            int day = (int) LocalDate.parse("2026-01-01")
+                .until(LocalDate.parse(trace.get("x").get(index).asText()), ChronoUnit.DAYS);
+            assertEquals(day % 7, trace.get("y").get(index).asInt());
+            assertEquals("sample-" + day, trace.get("customdata").get(index).get(0).asText());
+        }
+        assertEquals(2L, cache.cachedGraphCount());
+    }
+
+    private byte[] writeGraphs(
+        GraphResponseJsonCache cache,
+        Optional<DashboardGraphReadRevision> revision,
+        List<GraphResponse> graphs
+    ) throws IOException {
+        return writeGraphs(cache, revision, DashboardTraceEncoding.PLOTLY, graphs);
+    }
+
+    private byte[] writeGraphs(
+        GraphResponseJsonCache cache,
+        Optional<DashboardGraphReadRevision> revision,
+        DashboardTraceEncoding traceEncoding,
+        List<GraphResponse> graphs
+    ) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        cache.writeGraphs(body, revision, traceEncoding, planned(graphs), plannedGraph -> graphs.stream()
+            .filter(graph -> graph.id().equals(plannedGraph.graphId()))
+            .findFirst());
+        return body.toByteArray();
+    }
+
+    private List<LocationGraphReadPlan.PlannedGraph> planned(List<GraphResponse> graphs) {
+        return graphs.stream()
+            .map(graph -> new LocationGraphReadPlan.PlannedGraph(
+                graph.id(),
+                graph.updatedAt(),
+                graph.sectionTimeRangeEnabled()
+            ))
+            .toList();
+    }
+
+    private DashboardGraphReadRevision revision(String rangeKey) {
+        return new DashboardGraphReadRevision(
+            "\"tag\"",
+            11L,
+            Instant.parse("2026-03-01T00:00:00Z"),
+            LocalDate.parse("2026-03-10"),
+            rangeKey
+        );
+    }
+
+    private GraphResponse graph(Long id, Instant updatedAt, String firstX) {
+        return new GraphResponse(
+            id,
+            "Graph " + id,
+            null,
+            List.of(Map.of("type", "scatter", "x", List.of(firstX), "y", List.of(1))),
+            Map.of("title", "Samples"),
+            Map.of("displayModeBar", false),
+            Map.of("height", 240),
+            Instant.parse("2026-01-01T00:00:00Z"),
+            updatedAt,
+            true
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package com.aphinity.client_analytics_core.api.core.services.location;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeSeriesTraceIndexTest {
+    @Test
+    void parsesDateShapesAcceptedByTheDashboardPayloads() {
+        long expected = LocalDate.of(2026, 4, 5).toEpochDay();
+
+        assertEquals(expected, TimeSeriesTraceIndex.parseEpochDay("2026-04-05"));
+        assertEquals(expected, TimeSeriesTraceIndex.parseEpochDay(" 2026-4-5 "));
+        assertEquals(expected, TimeSeriesTraceIndex.parseEpochDay("2026-04-05T23:30:00Z"));
+        assertEquals(expected, TimeSeriesTraceIndex.parseEpochDay("2026-04-05T23:30:00-07:00"));
+        assertEquals(expected, TimeSeriesTraceIndex.parseEpochDay("2026-04-05T08:15"));
+        assertEquals(expected, TimeSeriesTraceIndex.parseEpochDay(LocalDate.of(2026, 4, 5)));
+    }
+
+    @Test
+    void rejectsValuesThatAreNotCalendarDates() {
+        assertEquals(Long.MIN_VALUE, TimeSeriesTraceIndex.parseEpochDay("2026-02-30"));
+        assertEquals(Long.MIN_VALUE, TimeSeriesTraceIndex.parseEpochDay("2026-13-01"));
+        assertEquals(Long.MIN_VALUE, TimeSeriesTraceIndex.parseEpochDay("2026-4-5T08:15"));
+        assertEquals(Long.MIN_VALUE, TimeSeriesTraceIndex.parseEpochDay("2026-04-05T25:00"));
+        assertEquals(Long.MIN_VALUE, TimeSeriesTraceIndex.parseEpochDay("2026-04-05 extra"));
+        assertEquals(Long.MIN_VALUE, TimeSeriesTraceIndex.parseEpochDay("Open"));
+        assertEquals(Long.MIN_VALUE, TimeSeriesTraceIndex.parseEpochDay(""));
+        assertEquals(Long.MIN_VALUE, TimeSeriesTraceIndex.parseEpochDay(null));
+    }
+
+    @Test
+    void parsesEpochMillisWithSubDayResolution() {
+        assertEquals(
+            Instant.parse("2026-04-05T00:00:00Z").toEpochMilli(),
+            TimeSeriesTraceIndex.parseEpochMillis("2026-04-05")
+        );
+        assertEquals(
+            Instant.parse("2026-04-05T23:30:00.250Z").toEpochMilli(),
+            TimeSeriesTraceIndex.parseEpochMillis("2026-04-05T23:30:00.250Z")
+        );
+        assertEquals(
+            Instant.parse("2026-04-06T06:30:00Z").toEpochMilli(),
+            TimeSeriesTraceIndex.parseEpochMillis("2026-04-05T23:30:00-07:00")
+        );
+        assertEquals(
+            Instant.parse("2026-04-05T08:15:00Z").toEpochMilli(),
+            TimeSeriesTraceIndex.parseEpochMillis("2026-04-05T08:15")
+        );
+        assertEquals(Long.MIN_VALUE, TimeSeriesTraceIndex.parseEpochMillis("2026-04-05T25:00"));
+        assertEquals(Long.MIN_VALUE, TimeSeriesTraceIndex.parseEpochMillis("Open"));
+    }
+
+    @Test
+    void indexesOnlyScatterTracesWithEveryXValueParsed() {
+        assertSame(TimeSeriesTraceIndex.NONE, TimeSeriesTraceIndex.of(Map.of(
+            "type", "bar",
+            "x", List.of("2026-04-05")
+        )));
+        assertSame(TimeSeriesTraceIndex.NONE, TimeSeriesTraceIndex.of(Map.of(
+            "type", "scatter",
+            "x", List.of("2026-04-05", "Open")
+        )));
+        assertSame(TimeSeriesTraceIndex.NONE, TimeSeriesTraceIndex.of(Map.of("type", "scatter", "x", List.of())));
+
+        TimeSeriesTraceIndex index = TimeSeriesTraceIndex.of(Map.of(
+            "type", "scattergl",
+            "x", List.of("2026-01-01", "2026-02-01", "2026-02-01", "2026-03-01")
+        ));
+        assertTrue(index.isTimeSeries());
+        assertTrue(index.ascending());
+        assertEquals(1, index.firstIndexOnOrAfter(LocalDate.of(2026, 1, 15).toEpochDay()));
+        assertEquals(1, index.firstIndexOnOrAfter(LocalDate.of(2026, 2, 1).toEpochDay()));
+        assertEquals(4, index.firstIndexOnOrAfter(LocalDate.of(2026, 4, 1).toEpochDay()));
+        assertEquals(0, index.firstIndexOnOrAfter(LocalDate.of(2025, 1, 1).toEpochDay()));
+    }
+
+    @Test
+    void recordsWhetherLegacyTracesAreOutOfOrder() {
+        TimeSeriesTraceIndex index = TimeSeriesTraceIndex.of(Map.of(
+            "type", "scatter",
+            "x", List.of("2026-03-01", "2026-01-01")
+        ));
+
+        assertTrue(index.isTimeSeries());
+        assertFalse(index.ascending());
+    }
+}
@@ -0,0 +1,113 @@
+package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DerivedGraphPayloadComputationTest {
+    private static final LocalDate ANCHOR_DATE = LocalDate.parse("2026-06-15");
+
+    @Test
+    void parallelComputationMatchesSequentialOutputInRequestOrder() {
+        LocationDashboardDerivedGraphSupport.HistoricalDerivedData historicalData = historicalData();
+        List<DerivedGraphPayloadComputation.Request> requests = requests();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Set<String> workerThreads = ConcurrentHashMap.newKeySet();
+        try {
+            DerivedGraphPayloadComputation parallel = new DerivedGraphPayloadComputation(
+                command -> executor.execute(() -> {
+                    workerThreads.add(Thread.currentThread().getName());
+                    command.run();
+                }),
+                0
+            );
+
+            assertEquals(
+                DerivedGraphPayloadComputation.sequential().buildPayloads(requests, historicalData, List.of(), ANCHOR_DATE),
+                parallel.buildPayloads(requests, historicalData, List.of(), ANCHOR_DATE)
+            );
+            assertTrue(!workerThreads.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void staysOnCallingThreadBelowRowThreshold() {
+        List<String> executedOn = new ArrayList<>();
+        DerivedGraphPayloadComputation computation = new DerivedGraphPayloadComputation(
+            command -> {
+                executedOn.add(Thread.currentThread().getName());
+                command.run();
+            },
+            1_000
+        );
+
+        List<List<Map<String, Object>>> payloads =
+            computation.buildPayloads(requests(), historicalData(), List.of(), ANCHOR_DATE);
+
+        assertEquals(requests().size(), payloads.size());
+        assertEquals(List.of(), executedOn);
+    }
+
+    private List<DerivedGraphPayloadComputation.Request> requests() {
+        List<DerivedGraphPayloadComputation.Request> requests = new ArrayList<>();
+        for (LocationDashboardImportStrategyConfig.DerivedGraphType type : List.of(
+            LocationDashboardImportStrategyConfig.DerivedGraphType.TOTAL_SAMPLES,
+            LocationDashboardImportStrategyConfig.DerivedGraphType.TOTAL_NON_CONFORMANCES,
+            LocationDashboardImportStrategyConfig.DerivedGraphType.NON_CONFORMANCES_BY_FACILITY,
+            LocationDashboardImportStrategyConfig.DerivedGraphType.NON_CONFORMANCE_TURNAROUND_TIME
+        )) {
+            requests.add(new DerivedGraphPayloadComputation.Request(
+                new LocationDashboardImportStrategyConfig.DerivedGraphConfig(
+                    type.value(),
+                    type.value(),
+                    null,
+                    type,
+                    "bar"
+                ),
+                new Graph()
+            ));
+        }
+        return requests;
+    }
+
+    private LocationDashboardDerivedGraphSupport.HistoricalDerivedData historicalData() {
+        List<LocationDashboardNonConformanceIncident> incidents = new ArrayList<>();
+        for (int index = 0; index < 40; index += 1) {
+            incidents.add(new LocationDashboardNonConformanceIncident(
+                ANCHOR_DATE.minusDays(index),
+                "Facility " + (index % 3),
+                index % 2 == 0 ? "HPC" : "Legionella",
+                Map.of(),
+                "sample-" + index,
+                index % 4 == 0,
+                index % 4 == 0 ? (long) index : null,
+                "Utility Cold"
+            ));
+        }
+        return new LocationDashboardDerivedGraphSupport.HistoricalDerivedData(
+            Map.of(ANCHOR_DATE, List.of(new LocationDashboardDerivedGraphSupport.HistoricalSamplePoint(
+                ANCHOR_DATE,
+                "Facility 0",
+                "HPC",
+                "Utility Cold",
+                40L,
+                30L
+            ))),
+            incidents,
+            List.of()
+        );
+    }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class HistoricalDerivedDataTimeRangeProjectorTest {
     @Test
@@ -59,6 +60,53 @@ class HistoricalDerivedDataTimeRangeProjectorTest {
         );
     }
 
+    @Test
+    void projectsUnorderedInputsAsDateSortedViewsWithoutUndatedRows() {
+        LocalDate priorMonth = LocalDate.parse("2026-03-31");
+        LocalDate selectedBoundary = LocalDate.parse("2026-04-01");
+        LocalDate current = LocalDate.parse("2026-07-20");
+        LocationDashboardDerivedGraphSupport.HistoricalDerivedData historicalData =
+            new LocationDashboardDerivedGraphSupport.HistoricalDerivedData(
+                Map.of(current, List.of(samplePoint(current, "current"))),
+                List.of(
+                    nonConformance(current, "current"),
+                    nonConformance(null, "undated"),
+                    nonConformance(selectedBoundary, "boundary"),
+                    nonConformance(priorMonth, "prior")
+                ),
+                List.of(
+                    rawSample(current, "current"),
+                    rawSample(null, "undated"),
+                    rawSample(priorMonth, "prior"),
+                    rawSample(selectedBoundary, "boundary")
+                )
+            );
+
+        LocationDashboardDerivedGraphSupport.HistoricalDerivedData projected =
+            HistoricalDerivedDataTimeRangeProjector.project(
+                historicalData,
+                new DashboardGraphMonthRange(3),
+                LocalDate.parse("2026-07-21")
+            );
+
+        assertEquals(4, historicalData.nonConformances().size());
+        assertEquals(
+            List.of("boundary", "current"),
+            projected.nonConformances().stream()
+                .map(LocationDashboardNonConformanceIncident::sampleIdentity)
+                .toList()
+        );
+        assertEquals(
+            List.of("boundary", "current"),
+            projected.rawSamples().stream()
+                .map(LocationDashboardDerivedGraphSupport.HistoricalRawSample::rowIdentifier)
+                .toList()
+        );
+        assertSame(historicalData.dictionary(), projected.dictionary());
+        assertSame(historicalData.samples(), projected.samples());
+        assertEquals(historicalData.approximateSizeBytes(), projected.approximateSizeBytes());
+    }
+
     private LocationDashboardDerivedGraphSupport.HistoricalSamplePoint samplePoint(LocalDate date, String name) {
         return new LocationDashboardDerivedGraphSupport.HistoricalSamplePoint(
             date,
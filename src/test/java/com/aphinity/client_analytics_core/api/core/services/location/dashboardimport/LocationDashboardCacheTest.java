@@ -6,8 +6,11 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -16,6 +19,8 @@ import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LocationDashboardCacheTest {
     @Test
@@ -67,6 +72,155 @@ class LocationDashboardCacheTest {
         assertEquals(secondProjection, cache.getGraphProjection(secondKey));
     }
 
+    @Test
+    void invalidationRemovesOnlyIndexedEntriesForLocation() {
+        LocationDashboardCache cache = new LocationDashboardCache();
+        LocationDashboardDerivedGraphSupport.HistoricalDerivedData historicalData =
+            new LocationDashboardDerivedGraphSupport.HistoricalDerivedData(Map.of(), List.of(), List.of());
+        DashboardGraphProjection projection = new DashboardGraphProjection(List.of(Map.of("name", "p")), Map.of());
+        for (long locationId = 1L; locationId <= 3L; locationId += 1L) {
+            cache.getOrComputeHistoricalData(
+                new LocationDashboardCache.HistoricalDataCacheKey(locationId, Instant.ofEpochSecond(1)),
+                () -> historicalData
+            );
+            for (int monthRange = 1; monthRange <= 4; monthRange += 1) {
+                cache.putGraphProjection(projectionKey(locationId, 10L, monthRange), projection);
+            }
+        }
+
+        assertEquals(5, cache.indexedKeyCount(2L));
+
+        cache.invalidateLocation(2L);
+
+        assertEquals(0, cache.indexedKeyCount(2L));
+        assertEquals(2L, cache.historicalDataEntryCount());
+        assertEquals(8L, cache.graphProjectionEntryCount());
+        assertNull(cache.getGraphProjection(projectionKey(2L, 10L, 1)));
+        assertEquals(projection, cache.getGraphProjection(projectionKey(1L, 10L, 1)));
+        assertEquals(projection, cache.getGraphProjection(projectionKey(3L, 10L, 4)));
+    }
+
+    @Test
+    void evictedProjectionsAreDroppedFromLocationIndex() {
+        LocationDashboardCache cache = new LocationDashboardCache(
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(10),
+            Duration.ofMinutes(30),
+            1024 * 1024,
+            4 * 1024,
+            Ticker.systemTicker()
+        );
+        DashboardGraphProjection projection = new DashboardGraphProjection(
+            List.of(Map.of("name", "x".repeat(256))),
+            Map.of()
+        );
+        for (int monthRange = 1; monthRange <= 64; monthRange += 1) {
+            cache.putGraphProjection(projectionKey(1L, 10L, monthRange), projection);
+        }
+        cache.cleanUp();
+
+        assertTrue(cache.graphProjectionEntryCount() <= cache.indexedKeyCount(1L));
+        assertTrue(cache.indexedKeyCount(1L) < 64);
+
+        cache.invalidateLocation(1L);
+
+        assertEquals(0, cache.indexedKeyCount(1L));
+        assertEquals(0L, cache.graphProjectionEntryCount());
+    }
+
+    @Test
+    void valuesRecordApproximateSizeOnConstruction() {
+        DashboardGraphProjection smallProjection = new DashboardGraphProjection(
+            List.of(Map.of("name", "p")),
+            Map.of()
+        );
+        DashboardGraphProjection largeProjection = new DashboardGraphProjection(
+            List.of(Map.of("name", "p", "x", List.of("2026-01-01", "2026-02-01"), "y", List.of(1, 2))),
+            Map.of("title", "Samples")
+        );
+        LocationDashboardDerivedGraphSupport.HistoricalSamplePoint samplePoint =
+            new LocationDashboardDerivedGraphSupport.HistoricalSamplePoint(
+                LocalDate.of(2026, 7, 6),
+                "Tower 1",
+                "Legionella",
+                "Cooling tower",
+                2L,
+                1L
+            );
+        LocationDashboardDerivedGraphSupport.HistoricalDerivedData emptyHistoricalData =
+            new LocationDashboardDerivedGraphSupport.HistoricalDerivedData(Map.of(), List.of(), List.of());
+        LocationDashboardDerivedGraphSupport.HistoricalDerivedData historicalData =
+            new LocationDashboardDerivedGraphSupport.HistoricalDerivedData(
+                Map.of(samplePoint.observedDate(), List.of(samplePoint)),
+                List.of(),
+                List.of()
+            );
+
+        assertTrue(smallProjection.approximateSizeBytes() > 0L);
+        assertTrue(largeProjection.approximateSizeBytes() > smallProjection.approximateSizeBytes());
+        assertTrue(emptyHistoricalData.approximateSizeBytes() > 0L);
+        assertTrue(historicalData.approximateSizeBytes() > emptyHistoricalData.approximateSizeBytes());
+        assertEquals(
+            4096L,
+            new DashboardGraphProjection(List.of(), Map.of(), 4096L).approximateSizeBytes()
+        );
+        assertEquals(
+            new DashboardGraphProjection(List.of(), Map.of()),
+            new DashboardGraphProjection(List.of(), Map.of(), 4096L)
+        );
+    }
+
+    @Test
+    void projectionWeightIsReadFromRecordedSize() {
+        LocationDashboardCache cache = new LocationDashboardCache(
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(10),
+            Duration.ofMinutes(30),
+            1024 * 1024,
+            4 * 1024,
+            Ticker.systemTicker()
+        );
+        DashboardGraphProjection oversizedProjection = new DashboardGraphProjection(
+            List.of(Map.of("name", "p")),
+            Map.of(),
+            64L * 1024L
+        );
+
+        cache.putGraphProjection(projectionKey(1L, 10L, 1), oversizedProjection);
+        cache.cleanUp();
+
+        assertEquals(0L, cache.graphProjectionEntryCount());
+        assertEquals(0, cache.indexedKeyCount(1L));
+    }
+
+    @Test
+    void emptiedLocationsAreDroppedFromTheIndex() {
+        LocationDashboardCache cache = new LocationDashboardCache(
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(10),
+            Duration.ofMinutes(30),
+            1024 * 1024,
+            4 * 1024,
+            Ticker.systemTicker()
+        );
+        cache.putGraphProjection(
+            projectionKey(1L, 10L, 1),
+            new DashboardGraphProjection(List.of(Map.of("name", "p")), Map.of(), 64L * 1024L)
+        );
+        cache.putGraphProjection(
+            projectionKey(2L, 10L, 1),
+            new DashboardGraphProjection(List.of(Map.of("name", "p")), Map.of())
+        );
+        cache.cleanUp();
+
+        assertEquals(1, cache.indexedLocationCount());
+
+        cache.invalidateLocation(2L);
+
+        assertEquals(0, cache.indexedLocationCount());
+        assertEquals(0L, cache.graphProjectionEntryCount());
+    }
+
     @Test
     void historicalDataExpiresAfterWrite() {
         AtomicLong tickerNanos = new AtomicLong();
@@ -139,4 +293,143 @@ class LocationDashboardCacheTest {
             executor.shutdownNow();
         }
     }
+
+    @Test
+    void graphProjectionBatchLoadsOnlyMissingKeys() {
+        LocationDashboardCache cache = new LocationDashboardCache();
+        DashboardGraphProjection cachedProjection = new DashboardGraphProjection(List.of(Map.of("name", "c")), Map.of());
+        DashboardGraphProjection loadedProjection = new DashboardGraphProjection(List.of(Map.of("name", "l")), Map.of());
+        cache.putGraphProjection(projectionKey(1L, 10L, 3), cachedProjection);
+        List<Set<LocationDashboardCache.GraphProjectionCacheKey>> loadedKeySets = new ArrayList<>();
+
+        Map<LocationDashboardCache.GraphProjectionCacheKey, DashboardGraphProjection> projections =
+            cache.getOrComputeGraphProjections(
+                List.of(projectionKey(1L, 10L, 3), projectionKey(1L, 11L, 3), projectionKey(1L, 12L, 3)),
+                missingKeys -> {
+                    loadedKeySets.add(missingKeys);
+                    return Map.of(projectionKey(1L, 11L, 3), loadedProjection);
+                }
+            );
+
+        assertEquals(List.of(Set.of(projectionKey(1L, 11L, 3), projectionKey(1L, 12L, 3))), loadedKeySets);
+        assertEquals(
+            Map.of(projectionKey(1L, 10L, 3), cachedProjection, projectionKey(1L, 11L, 3), loadedProjection),
+            projections
+        );
+        assertEquals(loadedProjection, cache.getGraphProjection(projectionKey(1L, 11L, 3)));
+        assertNull(cache.getGraphProjection(projectionKey(1L, 12L, 3)));
+        assertEquals(2, cache.indexedKeyCount(1L));
+    }
+
+    @Test
+    void graphProjectionComputationIsSingleFlightForConcurrentRequests() throws Exception {
+        LocationDashboardCache cache = new LocationDashboardCache();
+        List<LocationDashboardCache.GraphProjectionCacheKey> keys =
+            List.of(projectionKey(1L, 10L, 3), projectionKey(1L, 11L, 3));
+        DashboardGraphProjection projection = new DashboardGraphProjection(List.of(Map.of("name", "p")), Map.of());
+        AtomicLong computations = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Map<LocationDashboardCache.GraphProjectionCacheKey, DashboardGraphProjection>>> futures =
+                java.util.stream.IntStream.range(0, 8)
+                    .mapToObj(ignored -> executor.submit(() -> {
+                        start.await();
+                        return cache.getOrComputeGraphProjections(keys, missingKeys -> {
+                            computations.addAndGet(missingKeys.size());
+                            loaderStarted.countDown();
+                            try {
+                                releaseLoader.await();
+                            } catch (InterruptedException ex) {
+                                Thread.currentThread().interrupt();
+                                throw new IllegalStateException(ex);
+                            }
+                            Map<LocationDashboardCache.GraphProjectionCacheKey, DashboardGraphProjection> loaded =
+                                new HashMap<>();
+                            missingKeys.forEach(key -> loaded.put(key, projection));
+                            return loaded;
+                        });
+                    }))
+                    .toList();
+
+            start.countDown();
+            loaderStarted.await();
+            releaseLoader.countDown();
+            for (Future<Map<LocationDashboardCache.GraphProjectionCacheKey, DashboardGraphProjection>> future : futures) {
+                assertEquals(Map.of(keys.get(0), projection, keys.get(1), projection), future.get());
+            }
+            assertEquals(2L, computations.get());
+        } finally {
+            releaseLoader.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedGraphProjectionLoadIsNotCached() {
+        LocationDashboardCache cache = new LocationDashboardCache();
+        List<LocationDashboardCache.GraphProjectionCacheKey> keys = List.of(projectionKey(1L, 10L, 3));
+        DashboardGraphProjection projection = new DashboardGraphProjection(List.of(Map.of("name", "p")), Map.of());
+
+        assertThrows(IllegalStateException.class, () -> cache.getOrComputeGraphProjections(keys, missingKeys -> {
+            throw new IllegalStateException("projection failed");
+        }));
+
+        assertEquals(
+            Map.of(keys.get(0), projection),
+            cache.getOrComputeGraphProjections(keys, missingKeys -> Map.of(keys.get(0), projection))
+        );
+    }
+
+    @Test
+    void coveringProjectionPrefersShortestLongerRangeThenAllTime() {
+        LocationDashboardCache cache = new LocationDashboardCache();
+        DashboardGraphProjection twelveMonths = new DashboardGraphProjection(List.of(Map.of("name", "12")), Map.of());
+        DashboardGraphProjection sixMonths = new DashboardGraphProjection(List.of(Map.of("name", "6")), Map.of());
+        DashboardGraphProjection allTime = new DashboardGraphProjection(List.of(Map.of("name", "all")), Map.of());
+        LocationDashboardCache.GraphProjectionCacheKey allTimeKey =
+            LocationDashboardCache.GraphProjectionCacheKey.allTime(1L, 10L, Instant.ofEpochSecond(2));
+
+        assertNull(cache.findCoveringGraphProjection(projectionKey(1L, 10L, 3)));
+
+        cache.putGraphProjection(allTimeKey, allTime);
+        assertEquals(allTime, cache.findCoveringGraphProjection(projectionKey(1L, 10L, 3)));
+
+        cache.putGraphProjection(projectionKey(1L, 10L, 12), twelveMonths);
+        cache.putGraphProjection(projectionKey(1L, 10L, 6), sixMonths);
+        cache.putGraphProjection(projectionKey(1L, 11L, 4), new DashboardGraphProjection(List.of(), Map.of()));
+        cache.putGraphProjection(
+            new LocationDashboardCache.GraphProjectionCacheKey(
+                1L,
+                10L,
+                4,
+                LocalDate.of(2026, 7, 7),
+                Instant.ofEpochSecond(1),
+                Instant.ofEpochSecond(2)
+            ),
+            new DashboardGraphProjection(List.of(), Map.of())
+        );
+
+        assertEquals(sixMonths, cache.findCoveringGraphProjection(projectionKey(1L, 10L, 3)));
+        assertEquals(twelveMonths, cache.findCoveringGraphProjection(projectionKey(1L, 10L, 6)));
+        assertEquals(allTime, cache.findCoveringGraphProjection(projectionKey(1L, 10L, 12)));
+        assertNull(cache.findCoveringGraphProjection(allTimeKey));
+    }
+
+    private static LocationDashboardCache.GraphProjectionCacheKey projectionKey(
+        Long locationId,
+        Long graphId,
+        int monthRange
+    ) {
+        return new LocationDashboardCache.GraphProjectionCacheKey(
+            locationId,
+            graphId,
+            monthRange,
+            LocalDate.of(2026, 7, 6),
+            Instant.ofEpochSecond(1),
+            Instant.ofEpochSecond(2)
+        );
+    }
 }
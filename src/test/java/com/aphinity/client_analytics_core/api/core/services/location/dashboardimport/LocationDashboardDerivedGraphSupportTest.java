@@ -8,6 +8,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class LocationDashboardDerivedGraphSupportTest {
     @Test
@@ -293,6 +296,65 @@ class LocationDashboardDerivedGraphSupportTest {
         assertEquals(List.of(Map.of("date", "2026-06-05", "value", "8 CFU.mL")), customData.get(2).get("followUps"));
     }
 
+    @Test
+    void pagesRecentSampleMeasurementsByOffsetAndByCursor() {
+        List<LocationDashboardDerivedGraphSupport.HistoricalRawSample> rawSamples =
+            new LocationDashboardDerivedGraphSupport.HistoricalDerivedData(
+                Map.of(),
+                List.of(),
+                List.of(
+                    rawSample(LocalDate.parse("2026-06-01"), "row-hpc", "HPC", "12", "CFU.mL", false),
+                    rawSample(LocalDate.parse("2026-06-05"), "row-hpc", "HPC", "8", "CFU.mL", false),
+                    rawSample(LocalDate.parse("2026-06-10"), "row-copper", "Copper", "0", true, false),
+                    rawSample(LocalDate.parse("2026-06-10"), "row-lead", "Lead", "1", true, false),
+                    rawSample(LocalDate.parse("2026-06-15"), "row-legionella", "Legionella", "3", true)
+                )
+            ).recentRawSamples(LocalDate.parse("2026-06-01"));
+        List<LocationDashboardImportStrategyConfig.SpreadsheetIdentityColumn> identityPattern = List.of(
+            new LocationDashboardImportStrategyConfig.SpreadsheetIdentityColumn("facility", List.of())
+        );
+        LocalDate anchorDate = LocalDate.parse("2026-07-20");
+
+        LocationDashboardDerivedGraphSupport.RecentSampleMeasurementsPage firstPage =
+            LocationDashboardDerivedGraphSupport.buildRecentSampleMeasurementsPage(
+                rawSamples, identityPattern, anchorDate, null, 1, 2
+            );
+        LocationDashboardDerivedGraphSupport.RecentSampleMeasurementsPage secondPage =
+            LocationDashboardDerivedGraphSupport.buildRecentSampleMeasurementsPage(
+                rawSamples, identityPattern, anchorDate, firstPage.nextCursor(), 1, 2
+            );
+        LocationDashboardDerivedGraphSupport.RecentSampleMeasurementsPage lastPage =
+            LocationDashboardDerivedGraphSupport.buildRecentSampleMeasurementsPage(
+                rawSamples, identityPattern, anchorDate, null, 9, 2
+            );
+
+        assertEquals(4L, firstPage.total());
+        assertEquals(2, firstPage.lastPage());
+        assertEquals(
+            List.of("row-legionella", "row-copper"),
+            firstPage.rows().stream().map(row -> row.get("rowIdentifier")).toList()
+        );
+        assertEquals(2, secondPage.page());
+        assertEquals(
+            List.of("row-lead", "row-hpc"),
+            secondPage.rows().stream().map(row -> row.get("rowIdentifier")).toList()
+        );
+        assertNull(secondPage.nextCursor());
+        assertEquals(secondPage.rows(), lastPage.rows());
+        assertEquals(
+            LocationDashboardDerivedGraphSupport.buildRecentSampleMeasurementsTable(rawSamples, identityPattern, anchorDate)
+                .rows()
+                .subList(2, 4),
+            secondPage.rows()
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LocationDashboardDerivedGraphSupport.buildRecentSampleMeasurementsPage(
+                rawSamples, identityPattern, anchorDate, "not-a-cursor", 1, 2
+            )
+        );
+    }
+
     @Test
     void resolvesRecentSampleTableRowWhenFollowUpChainEventuallyBecomesCompliant() {
         LocationDashboardDerivedGraphSupport.HistoricalDerivedData historicalData =
@@ -432,6 +494,49 @@ class LocationDashboardDerivedGraphSupportTest {
         );
     }
 
+    @Test
+    void storesHistoricalDataInColumnsWithSharedDictionary() {
+        LocalDate observedDate = LocalDate.parse("2026-06-01");
+        LocationDashboardDerivedGraphSupport.HistoricalSamplePoint samplePoint =
+            new LocationDashboardDerivedGraphSupport.HistoricalSamplePoint(
+                observedDate,
+                "Hoag Hospital Newport Beach",
+                "HPC",
+                "Utility Cold",
+                5L,
+                2L
+            );
+        List<LocationDashboardNonConformanceIncident> incidents = List.of(
+            incident("HPC", "Utility Cold", false, null),
+            incident("HPC", "Utility Cold", true, 10L)
+        );
+        List<LocationDashboardDerivedGraphSupport.HistoricalRawSample> rawSamples = List.of(
+            rawSample(observedDate, "row-1", "HPC", "12", "CFU/mL", true, false),
+            rawSample(observedDate, "row-2", "HPC", "900", "CFU/mL", false, true)
+        );
+
+        LocationDashboardDerivedGraphSupport.HistoricalDerivedData historicalData =
+            new LocationDashboardDerivedGraphSupport.HistoricalDerivedData(
+                Map.of(observedDate, List.of(samplePoint, samplePoint)),
+                incidents,
+                rawSamples
+            );
+
+        assertEquals(Map.of(observedDate, List.of(samplePoint, samplePoint)), historicalData.samplesByDate());
+        assertEquals(List.of(samplePoint), historicalData.allSamplePoints());
+        assertEquals(incidents, historicalData.nonConformances());
+        assertEquals(rawSamples, historicalData.rawSamples());
+        assertEquals(4, historicalData.dictionary().size());
+        assertEquals(List.of(5L), trace(historicalData,
+            LocationDashboardImportStrategyConfig.DerivedGraphType.TOTAL_SAMPLES).get("values"));
+        assertSame(
+            historicalData.rawSampleColumns().identityValues(0),
+            historicalData.rawSampleColumns().identityValues(1)
+        );
+        assertSame(historicalData.dictionary(), historicalData.fromDate(observedDate.plusDays(1)).dictionary());
+        assertEquals(0, historicalData.fromDate(observedDate.plusDays(1)).rawSampleColumns().size());
+    }
+
     private LocationDashboardImportStrategyConfig.DerivedGraphConfig recentSampleMeasurementsDefinition() {
         return new LocationDashboardImportStrategyConfig.DerivedGraphConfig(
             "recent-sample-measurements",
@@ -4,6 +4,8 @@ import com.aphinity.client_analytics_core.api.core.entities.dashboard.LocationDa
 import com.aphinity.client_analytics_core.api.core.entities.location.Location;
 import com.aphinity.client_analytics_core.api.core.entities.servicecalendar.ServiceEvent;
 import com.aphinity.client_analytics_core.api.core.entities.servicecalendar.ServiceEventStatus;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.DashboardSampleDigest;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.LocationDashboardSampleBatchWriter;
 import com.aphinity.client_analytics_core.api.core.repositories.dashboard.LocationDashboardSampleRepository;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -11,18 +13,21 @@ import org.mockito.ArgumentCaptor;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.StreamSupport;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static com.aphinity.client_analytics_core.api.core.services.location.dashboardimport.LocationDashboardIdentityFixtures.identityValues;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class LocationDashboardSamplePersistenceServiceTest {
-    private final LocationDashboardSamplePersistenceService service = new LocationDashboardSamplePersistenceService(null);
+    private final LocationDashboardSamplePersistenceService service = new LocationDashboardSamplePersistenceService(null, null);
 
     @Test
     void persistsAndRehydratesArbitraryIdentityKeys() {
@@ -189,10 +194,12 @@ class LocationDashboardSamplePersistenceServiceTest {
     }
 
     @Test
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("unchecked")
     void persistsCorrectiveActionFallbackSampleIdentityAsGeneratedForHistoricalMatching() {
         LocationDashboardSampleRepository repository = mock(LocationDashboardSampleRepository.class);
-        LocationDashboardSamplePersistenceService persistenceService = new LocationDashboardSamplePersistenceService(repository);
+        LocationDashboardSampleBatchWriter batchWriter = mock(LocationDashboardSampleBatchWriter.class);
+        LocationDashboardSamplePersistenceService persistenceService =
+            new LocationDashboardSamplePersistenceService(repository, batchWriter);
         Location location = new Location();
         location.setId(10L);
         ServiceEvent correctiveAction = new ServiceEvent();
@@ -216,11 +223,10 @@ class LocationDashboardSamplePersistenceServiceTest {
 
         persistenceService.replaceLocationSamples(location, computation, List.of(correctiveAction));
 
-        ArgumentCaptor<Iterable> samplesCaptor = ArgumentCaptor.forClass(Iterable.class);
-        verify(repository).saveAll(samplesCaptor.capture());
-        List<LocationDashboardSample> persistedSamples = StreamSupport
-            .stream(((Iterable<LocationDashboardSample>) samplesCaptor.getValue()).spliterator(), false)
-            .toList();
+        ArgumentCaptor<List<LocationDashboardSample>> samplesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(repository).findDigestsByLocationId(10L);
+        verify(batchWriter).insertAll(samplesCaptor.capture());
+        List<LocationDashboardSample> persistedSamples = samplesCaptor.getValue();
         LocationDashboardSample correctiveActionSample = persistedSamples.stream()
             .filter(sample -> LocationDashboardImportStrategy.SampleOrigin.CORRECTIVE_ACTION_DRAFT.name().equals(sample.getOrigin()))
             .findFirst()
@@ -237,6 +243,76 @@ class LocationDashboardSamplePersistenceServiceTest {
         assertFalse(rehydratedSample.resolved());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void replacementWritesOnlyChangedInsertedAndRemovedSamples() {
+        LocationDashboardSampleRepository repository = mock(LocationDashboardSampleRepository.class);
+        LocationDashboardSampleBatchWriter batchWriter = mock(LocationDashboardSampleBatchWriter.class);
+        LocationDashboardSamplePersistenceService persistenceService =
+            new LocationDashboardSamplePersistenceService(repository, batchWriter);
+        Location location = new Location();
+        location.setId(10L);
+        List<LocationDashboardImportStrategy.AnalyzedSamplePoint> analyzedSamples = List.of(
+            analyzedSample("HPC", null, "5", true, LocationDashboardImportStrategy.SampleOrigin.WORKSHEET),
+            analyzedSample("Endotoxin", null, "0.4", true, LocationDashboardImportStrategy.SampleOrigin.WORKSHEET),
+            analyzedSample("pH", null, "7.1", true, LocationDashboardImportStrategy.SampleOrigin.WORKSHEET)
+        );
+        List<LocationDashboardSample> expected = persistenceService.toPersistedSamples(location, analyzedSamples);
+        LocationDashboardSample unchanged = expected.get(0);
+        LocationDashboardSample changed = expected.get(1);
+        LocationDashboardSample inserted = expected.get(2);
+        when(repository.findDigestsByLocationId(10L)).thenReturn(List.of(
+            new StoredDigest(1L, unchanged.getSampleIdentity(), LocationDashboardSamplePersistenceService.contentHash(unchanged)),
+            new StoredDigest(2L, changed.getSampleIdentity(), "stale"),
+            new StoredDigest(3L, "removed|1", "stale")
+        ));
+
+        persistenceService.replaceLocationSamples(location, analyzedSamples);
+
+        verify(batchWriter).deleteAll(List.of(3L));
+        ArgumentCaptor<List<LocationDashboardSampleBatchWriter.SampleUpdate>> updatesCaptor =
+            ArgumentCaptor.forClass(List.class);
+        verify(batchWriter).updateAll(updatesCaptor.capture());
+        assertEquals(1, updatesCaptor.getValue().size());
+        assertEquals(2L, updatesCaptor.getValue().getFirst().id());
+        assertEquals(changed.getSampleIdentity(), updatesCaptor.getValue().getFirst().sample().getSampleIdentity());
+        assertEquals(
+            LocationDashboardSamplePersistenceService.contentHash(changed),
+            updatesCaptor.getValue().getFirst().sample().getContentHash()
+        );
+        ArgumentCaptor<List<LocationDashboardSample>> insertsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter).insertAll(insertsCaptor.capture());
+        assertEquals(
+            List.of(inserted.getSampleIdentity()),
+            insertsCaptor.getValue().stream().map(LocationDashboardSample::getSampleIdentity).toList()
+        );
+        verify(repository, never()).deleteByLocationId(any());
+    }
+
+    @Test
+    void contentHashChangesWithAnyImportedField() {
+        Location location = new Location();
+        location.setId(10L);
+        LocationDashboardSample original = service.toPersistedSamples(location, List.of(
+            analyzedSample("HPC", null, "5", true, LocationDashboardImportStrategy.SampleOrigin.WORKSHEET)
+        )).getFirst();
+        LocationDashboardSample sameContent = service.toPersistedSamples(location, List.of(
+            analyzedSample("HPC", null, "5", true, LocationDashboardImportStrategy.SampleOrigin.WORKSHEET)
+        )).getFirst();
+        LocationDashboardSample shiftedBoundary = service.toPersistedSamples(location, List.of(
+            analyzedSample("HPC", null, "", "5", true, LocationDashboardImportStrategy.SampleOrigin.WORKSHEET)
+        )).getFirst();
+        LocationDashboardSample nonCompliant = service.toPersistedSamples(location, List.of(
+            analyzedSample("HPC", null, "5", false, LocationDashboardImportStrategy.SampleOrigin.WORKSHEET)
+        )).getFirst();
+
+        String hash = LocationDashboardSamplePersistenceService.contentHash(original);
+        assertEquals(64, hash.length());
+        assertEquals(hash, LocationDashboardSamplePersistenceService.contentHash(sameContent));
+        assertNotEquals(hash, LocationDashboardSamplePersistenceService.contentHash(shiftedBoundary));
+        assertNotEquals(hash, LocationDashboardSamplePersistenceService.contentHash(nonCompliant));
+    }
+
     private LocationDashboardImportStrategy.AnalyzedSamplePoint analyzedSample(
         String measurementName,
         String sampleIdentity,
@@ -292,4 +368,8 @@ class LocationDashboardSamplePersistenceServiceTest {
             origin
         );
     }
+
+    private record StoredDigest(Long getId, String getSampleIdentity, String getContentHash)
+        implements DashboardSampleDigest {
+    }
 }
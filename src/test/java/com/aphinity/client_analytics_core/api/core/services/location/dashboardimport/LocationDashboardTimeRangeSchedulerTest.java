@@ -0,0 +1,135 @@
+package com.aphinity.client_analytics_core.api.core.services.location.dashboardimport;
+
+import com.aphinity.client_analytics_core.api.core.repositories.location.LocationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LocationDashboardTimeRangeSchedulerTest {
+    @Mock
+    private LocationDashboardRefreshService refreshService;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void refreshesEveryLocationIdAndReportsFailuresWithoutStopping() {
+        when(refreshService.refreshDerivedGraphsIfStale(3L)).thenReturn(true);
+        when(refreshService.refreshDerivedGraphsIfStale(4L)).thenReturn(false);
+        when(refreshService.refreshDerivedGraphsIfStale(1L)).thenThrow(new IllegalStateException("broken workbook"));
+        when(refreshService.refreshDerivedGraphsIfStale(2L)).thenThrow(new TransactionTimedOutException("deadline reached"));
+        when(refreshService.refreshDerivedGraphsIfStale(5L)).thenThrow(new QueryTimeoutException("statement cancelled"));
+        when(locationRepository.findAllIdsOrderByNameAsc()).thenReturn(List.of(3L, 4L, 1L, 2L, 5L));
+        LocationDashboardTimeRangeScheduler scheduler = scheduler();
+
+        List<LocationDashboardTimeRangeScheduler.LocationRefreshOutcome> outcomes =
+            scheduler.refreshLocations(locationRepository.findAllIdsOrderByNameAsc());
+
+        assertEquals(List.of(3L, 4L, 1L, 2L, 5L), outcomes.stream()
+            .map(LocationDashboardTimeRangeScheduler.LocationRefreshOutcome::locationId)
+            .toList());
+        assertEquals(
+            List.of(
+                LocationDashboardTimeRangeScheduler.RefreshStatus.REFRESHED,
+                LocationDashboardTimeRangeScheduler.RefreshStatus.SKIPPED,
+                LocationDashboardTimeRangeScheduler.RefreshStatus.FAILED,
+                LocationDashboardTimeRangeScheduler.RefreshStatus.TIMED_OUT,
+                LocationDashboardTimeRangeScheduler.RefreshStatus.TIMED_OUT
+            ),
+            outcomes.stream().map(LocationDashboardTimeRangeScheduler.LocationRefreshOutcome::status).toList()
+        );
+        verify(refreshService, never()).refreshDerivedGraphs(anyLong());
+    }
+
+    @Test
+    void slowLocationTimesOutWithoutChargingLocationsQueuedBehindIt() {
+        CountDownLatch released = new CountDownLatch(1);
+        when(refreshService.refreshDerivedGraphsIfStale(1L)).thenAnswer(invocation -> {
+            try {
+                released.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("cancelled", ex);
+            }
+            return true;
+        });
+        when(refreshService.refreshDerivedGraphsIfStale(2L)).thenAnswer(invocation -> {
+            Thread.sleep(150L);
+            return true;
+        });
+        when(refreshService.refreshDerivedGraphsIfStale(3L)).thenReturn(true);
+        LocationDashboardTimeRangeScheduler scheduler = new LocationDashboardTimeRangeScheduler(
+            refreshService,
+            locationRepository,
+            new TransactionTemplate(transactionManager),
+            1,
+            Duration.ofMillis(300)
+        );
+
+        List<LocationDashboardTimeRangeScheduler.LocationRefreshOutcome> outcomes;
+        try {
+            outcomes = scheduler.refreshLocations(List.of(1L, 2L, 3L));
+        } finally {
+            released.countDown();
+        }
+
+        assertEquals(
+            List.of(
+                LocationDashboardTimeRangeScheduler.RefreshStatus.TIMED_OUT,
+                LocationDashboardTimeRangeScheduler.RefreshStatus.REFRESHED,
+                LocationDashboardTimeRangeScheduler.RefreshStatus.REFRESHED
+            ),
+            outcomes.stream().map(LocationDashboardTimeRangeScheduler.LocationRefreshOutcome::status).toList()
+        );
+    }
+
+    @Test
+    void scheduledRefreshLoadsOnlyLocationIds() {
+        when(locationRepository.findAllIdsOrderByNameAsc()).thenReturn(List.of(7L));
+
+        scheduler().refreshAllLocationDashboardTimeRanges();
+
+        verify(locationRepository).findAllIdsOrderByNameAsc();
+        verify(refreshService).refreshDerivedGraphsIfStale(7L);
+    }
+
+    @Test
+    void refreshRunsNightlyInPhoenixTime() throws NoSuchMethodException {
+        Method method = LocationDashboardTimeRangeScheduler.class.getMethod("refreshAllLocationDashboardTimeRanges");
+        Scheduled scheduled = method.getAnnotation(Scheduled.class);
+
+        assertEquals("0 30 0 * * *", scheduled.cron());
+        assertEquals("America/Phoenix", scheduled.zone());
+    }
+
+    private LocationDashboardTimeRangeScheduler scheduler() {
+        return new LocationDashboardTimeRangeScheduler(
+            refreshService,
+            locationRepository,
+            new TransactionTemplate(transactionManager),
+            2,
+            Duration.ofSeconds(30)
+        );
+    }
+}
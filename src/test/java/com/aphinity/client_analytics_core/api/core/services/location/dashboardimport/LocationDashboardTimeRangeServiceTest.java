@@ -10,6 +10,7 @@ import com.aphinity.client_analytics_core.api.core.entities.dashboard.LocationGr
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.LocationGraphId;
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.MeasurementBound;
 import com.aphinity.client_analytics_core.api.core.entities.location.Location;
+import com.aphinity.client_analytics_core.api.core.repositories.dashboard.DashboardSourceRevision;
 import com.aphinity.client_analytics_core.api.core.repositories.dashboard.LocationGraphRepository;
 import com.aphinity.client_analytics_core.api.core.repositories.location.LocationRepository;
 import com.aphinity.client_analytics_core.api.core.repositories.servicecalendar.ServiceEventRepository;
@@ -35,6 +36,8 @@ import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -155,6 +158,94 @@ class LocationDashboardTimeRangeServiceTest {
             : null);
     }
 
+    @Test
+    void allTimeProjectionReusesCachedPayloadUntilGraphRevisionChanges() {
+        LocationDashboardCache cache = new LocationDashboardCache();
+        Clock clock = Clock.fixed(Instant.parse("2026-07-06T00:00:00Z"), ZoneOffset.UTC);
+        LocationDashboardTimeRangeService service = new LocationDashboardTimeRangeService(
+            locationRepository,
+            locationGraphRepository,
+            serviceEventRepository,
+            strategyRegistry,
+            samplePersistenceService,
+            cache,
+            new LocationDashboardGraphMatcher(),
+            new LocationDashboardHistoricalDataAssembler(),
+            clock
+        );
+        Graph graph = new Graph();
+        graph.setId(101L);
+        graph.setName("Water Quality Conformance");
+        graph.setLayout(Map.of("title", Map.of("text", "Newport Beach")));
+        graph.setUpdatedAt(Instant.parse("2026-07-01T00:00:00Z"));
+        writeData(graph, List.of(Map.of("type", "bar", "x", List.of("first"), "y", List.of(1))));
+
+        Map<Long, DashboardGraphProjection> first = service.resolveAllTimeGraphProjections(42L, List.of(graph));
+        writeData(graph, List.of(Map.of("type", "bar", "x", List.of("second"), "y", List.of(2))));
+        Map<Long, DashboardGraphProjection> cached = service.resolveAllTimeGraphProjections(42L, List.of(graph));
+
+        assertEquals(List.of("first"), first.get(101L).data().getFirst().get("x"));
+        assertEquals(Map.of("title", Map.of("text", "Newport Beach")), first.get(101L).layout());
+        assertEquals(first.get(101L), cached.get(101L));
+        assertEquals(1L, cache.graphProjectionEntryCount());
+
+        graph.setUpdatedAt(Instant.parse("2026-07-02T00:00:00Z"));
+        Map<Long, DashboardGraphProjection> revised = service.resolveAllTimeGraphProjections(42L, List.of(graph));
+        assertEquals(List.of("second"), revised.get(101L).data().getFirst().get("x"));
+
+        service.invalidateLocationCache(42L);
+        assertEquals(0L, cache.graphProjectionEntryCount());
+    }
+
+    @Test
+    void shorterRangeIsSlicedFromCachedLongerRangeProjection() {
+        Clock clock = Clock.fixed(Instant.parse("2026-07-06T00:00:00Z"), ZoneOffset.UTC);
+        LocationDashboardCache cache = new LocationDashboardCache();
+        LocationDashboardTimeRangeService service = new LocationDashboardTimeRangeService(
+            locationRepository,
+            locationGraphRepository,
+            serviceEventRepository,
+            strategyRegistry,
+            samplePersistenceService,
+            cache,
+            new LocationDashboardGraphMatcher(),
+            new LocationDashboardHistoricalDataAssembler(),
+            clock
+        );
+        Location location = new Location();
+        location.setId(42L);
+        location.setName("Unconfigured Location");
+        Graph persistedGraph = timeSeriesGraph(
+            101L,
+            List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2026, 2, 15), LocalDate.of(2026, 6, 20)),
+            List.of(1d, 2d, 3d)
+        );
+        Graph reloadedGraph = timeSeriesGraph(
+            101L,
+            List.of(LocalDate.of(2026, 6, 20)),
+            List.of(9d)
+        );
+
+        when(locationRepository.findById(42L)).thenReturn(Optional.of(location));
+        when(locationGraphRepository.findByLocationIdAndGraphIdInWithGraphDetails(
+            eq(42L), argThat(ids -> Set.copyOf(ids).equals(Set.of(101L)))
+        )).thenReturn(List.of(locationGraph(42L, persistedGraph)), List.of(locationGraph(42L, reloadedGraph)));
+
+        Map<Long, DashboardGraphProjection> twelveMonths =
+            service.resolveLocationMonthRangeProjections(42L, List.of(101L), new DashboardGraphMonthRange(12));
+        Map<Long, DashboardGraphProjection> threeMonths =
+            service.resolveLocationMonthRangeProjections(42L, List.of(101L), new DashboardGraphMonthRange(3));
+
+        assertEquals(List.of("2026-02-15", "2026-06-20"), twelveMonths.get(101L).data().getFirst().get("x"));
+        Map<String, Object> slicedTrace = threeMonths.get(101L).data().getFirst();
+        assertEquals(List.of("2026-06-20"), slicedTrace.get("x"));
+        assertEquals(
+            List.of(3),
+            ((List<?>) slicedTrace.get("y")).stream().map(value -> ((Number) value).intValue()).toList()
+        );
+        assertEquals(2L, cache.graphProjectionEntryCount());
+    }
+
     @Test
     void scopedDerivedProjectionLoadsOnlyRequestedGraphsAndImportedDependencies() {
         Clock clock = Clock.fixed(Instant.parse("2026-07-06T00:00:00Z"), ZoneOffset.UTC);
@@ -467,6 +558,70 @@ class LocationDashboardTimeRangeServiceTest {
         );
     }
 
+    @Test
+    void staleRefreshSkipsUnchangedInputsUntilSourcesOrAnchorMonthChange() {
+        Location location = new Location();
+        location.setId(42L);
+        location.setName("Hoag Hospital");
+        LocationDashboardImportStrategyConfig.DerivedGraphConfig totalDefinition =
+            new LocationDashboardImportStrategyConfig.DerivedGraphConfig(
+                "total-samples", "Total Number of Samples", null,
+                LocationDashboardImportStrategyConfig.DerivedGraphType.TOTAL_SAMPLES, "pie"
+            );
+        LocationDashboardImportStrategyConfig.DerivedGraphConfig recentDefinition =
+            new LocationDashboardImportStrategyConfig.DerivedGraphConfig(
+                "recent-samples", "Recent Sample Measurements", null,
+                LocationDashboardImportStrategyConfig.DerivedGraphType.RECENT_SAMPLE_MEASUREMENTS, "table"
+            );
+        LocationDashboardImportStrategy strategy = mock(LocationDashboardImportStrategy.class);
+        when(strategy.graphDefinitions()).thenReturn(List.of());
+        when(strategy.derivedGraphDefinitions()).thenReturn(List.of(totalDefinition, recentDefinition));
+        when(strategy.spreadsheetIdentityPattern()).thenReturn(List.of());
+        when(strategy.locationName()).thenReturn("Hoag Hospital");
+        when(strategyRegistry.resolve("Hoag Hospital")).thenReturn(Optional.of(strategy));
+
+        Graph totalGraph = new Graph();
+        totalGraph.setId(202L);
+        totalGraph.setName(totalDefinition.name());
+        totalGraph.setLayout(LocationDashboardGraphMetadataSupport.withDerivedImportMetadata(
+            Map.of(), totalDefinition, "Hoag Hospital"
+        ));
+        Graph recentGraph = new Graph();
+        recentGraph.setId(203L);
+        recentGraph.setName(recentDefinition.name());
+        recentGraph.setLayout(LocationDashboardGraphMetadataSupport.withDerivedImportMetadata(
+            Map.of(), recentDefinition, "Hoag Hospital"
+        ));
+        when(locationRepository.findById(42L)).thenReturn(Optional.of(location));
+        when(locationGraphRepository.findByLocationIdWithGraphDetails(42L))
+            .thenReturn(List.of(locationGraph(42L, totalGraph), locationGraph(42L, recentGraph)));
+        when(serviceEventRepository.findByLocation_IdAndCorrectiveActionTrueOrderByEventDateAscEventTimeAscIdAsc(42L))
+            .thenReturn(List.of());
+        when(samplePersistenceService.loadLocationSamples(42L)).thenReturn(List.of());
+        LocationDashboardTimeRangeService julyService =
+            service(Clock.fixed(Instant.parse("2026-07-06T00:00:00Z"), ZoneOffset.UTC));
+        LocationDashboardTimeRangeService augustService =
+            service(Clock.fixed(Instant.parse("2026-08-02T00:00:00Z"), ZoneOffset.UTC));
+
+        assertTrue(julyService.refreshLocationDateGroupsIfStale(42L));
+        assertFalse(julyService.refreshLocationDateGroupsIfStale(42L));
+
+        DashboardSourceRevision changedSamples = mock(DashboardSourceRevision.class);
+        when(changedSamples.getRowCount()).thenReturn(1L);
+        when(changedSamples.getLatestUpdatedAt()).thenReturn(Instant.parse("2026-07-06T12:00:00Z"));
+        when(samplePersistenceService.summarizeLocationSamples(42L)).thenReturn(changedSamples);
+        assertTrue(julyService.refreshLocationDateGroupsIfStale(42L));
+        assertFalse(julyService.refreshLocationDateGroupsIfStale(42L));
+
+        assertTrue(augustService.refreshLocationDateGroupsIfStale(42L));
+        assertEquals(
+            "2026-08",
+            LocationDashboardGraphMetadataSupport.readImportMetadata(recentGraph)
+                .get(LocationDashboardGraphMetadataSupport.DERIVED_ANCHOR_MONTH_META_KEY)
+        );
+        verify(samplePersistenceService, times(3)).loadLocationSamples(42L);
+    }
+
     private LocationDashboardTimeRangeService service(Clock clock) {
         return new LocationDashboardTimeRangeService(
             locationRepository,
@@ -24,6 +24,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 @ExtendWith(OutputCaptureExtension.class)
@@ -44,6 +46,19 @@ class ApiExceptionHandlerTest {
         assertEquals("Graph data is temporarily unavailable", response.getBody().message());
     }
 
+    @Test
+    void abortedStreamIsRethrownInsteadOfMappedToAnErrorBody() {
+        ResponseStreamAbortedException exception =
+            new ResponseStreamAbortedException("Graph stream aborted", new IllegalStateException("boom"));
+
+        ResponseStreamAbortedException thrown = assertThrows(
+            ResponseStreamAbortedException.class,
+            () -> apiExceptionHandler.handleAbortedStream(exception)
+        );
+
+        assertSame(exception, thrown);
+    }
+
     @Test
     void handleResponseStatusMapsInvitedUserNotFoundReason() {
         ResponseStatusException exception = new ResponseStatusException(HttpStatus.NOT_FOUND, "Invited user not found");
@@ -25,6 +25,7 @@ import com.aphinity.client_analytics_core.api.core.repositories.dashboard.Locati
 import com.aphinity.client_analytics_core.api.core.repositories.location.LocationRepository;
 import com.aphinity.client_analytics_core.api.core.repositories.location.LocationUserRepository;
 import com.aphinity.client_analytics_core.api.core.repositories.servicecalendar.ServiceEventRepository;
+import com.aphinity.client_analytics_core.api.core.services.GraphPointWriter;
 import com.aphinity.client_analytics_core.api.security.JwtProperties;
 import com.digitalsanctuary.cf.turnstile.service.TurnstileValidationService;
 import jakarta.servlet.http.Cookie;
@@ -86,6 +87,9 @@ abstract class AbstractApiIntegrationTest {
     @Autowired
     protected GraphRepository graphRepository;
 
+    @Autowired
+    protected GraphPointWriter graphPointWriter;
+
     @Autowired
     protected LocationGraphRepository locationGraphRepository;
 
@@ -166,10 +170,25 @@ abstract class AbstractApiIntegrationTest {
     }
 
     protected Graph createGraph(String name, Object data) {
-        Graph graph = new Graph();
-        graph.setName(name);
-        writeData(graph, data);
-        return graphRepository.saveAndFlush(graph);
+        Long graphId = transactionTemplate.execute(status -> {
+            Graph graph = new Graph();
+            graph.setName(name);
+            writeData(graph, data);
+            graphRepository.saveAndFlush(graph);
+            graphPointWriter.writePendingPoints(List.of(graph));
+            return graph.getId();
+        });
+        return reloadGraph(graphId);
+    }
+
+    protected Graph updateGraphData(Long graphId, Object data) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Graph graph = graphRepository.findById(graphId).orElseThrow();
+            writeData(graph, data);
+            graphRepository.saveAndFlush(graph);
+            graphPointWriter.writePendingPoints(List.of(graph));
+        });
+        return reloadGraph(graphId);
     }
 
     protected Graph reloadGraph(Long graphId) {
@@ -331,6 +350,7 @@ abstract class AbstractApiIntegrationTest {
             "location_dashboard_sample",
             "location_measurements",
             "location_graph",
+            "location_thumbnail",
             "location_user",
             "measurement_bounds",
             "graph",
@@ -1,7 +1,6 @@
 package com.aphinity.client_analytics_core.api.integration;
 
 import static com.aphinity.client_analytics_core.api.core.plotly.GraphRelationalPayloadMapper.readData;
-import static com.aphinity.client_analytics_core.api.core.plotly.GraphRelationalPayloadMapper.writeData;
 
 import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
 import com.aphinity.client_analytics_core.api.core.entities.location.Location;
@@ -464,7 +463,7 @@ class LocationDashboardSpreadsheetUploadIntegrationTest extends AbstractApiInteg
         seedHoagMeasurement(location, "Hardness");
 
         HoagGraphFixture graphs = seedHoagStrategyGraphs(location);
-        writeData(graphs.waterQualityGraph(), namedEmptyScatterData(List.of(
+        updateGraphData(graphs.waterQualityGraph().getId(), namedEmptyScatterData(List.of(
             "HPC",
             "Endotoxin",
             "Legionella",
@@ -473,7 +472,6 @@ class LocationDashboardSpreadsheetUploadIntegrationTest extends AbstractApiInteg
             "Alkalinity",
             "Hardness"
         )));
-        graphRepository.saveAndFlush(graphs.waterQualityGraph());
 
         AuthCookies authCookies = loginAndCaptureCookies("partner-dashboard-upload-placeholders@example.com", PASSWORD);
         byte[] spreadsheet = readFixtureBytes("sheets/dashboard_upload_template_example_2.xlsx");
@@ -0,0 +1,60 @@
+package com.aphinity.client_analytics_core.api.integration;
+
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.Graph;
+import com.aphinity.client_analytics_core.api.core.entities.dashboard.GraphTrace;
+import com.aphinity.client_analytics_core.api.core.plotly.GraphRelationalPayloadMapper;
+import com.aphinity.client_analytics_core.api.core.services.GraphTraceReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.aphinity.client_analytics_core.api.core.plotly.GraphRelationalPayloadMapper.readData;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProjectedGraphTraceReaderIntegrationTest extends AbstractApiIntegrationTest {
+    @Autowired
+    private GraphTraceReader graphTraceReader;
+
+    @Test
+    void readsTheSameTraceListsAsTheGraphEntities() {
+        Graph pieGraph = createGraph("Pie", List.of(Map.of(
+            "type", "pie",
+            "labels", List.of("Compliant", "Non-compliant"),
+            "values", List.of(7, 3)
+        )));
+        Graph barGraph = createGraph("Bars", List.of(
+            Map.of("type", "bar", "orientation", "v", "x", List.of("North", "South"), "y", List.of(1.5, 2)),
+            Map.of("type", "bar", "orientation", "v", "x", List.of("North", "South"), "y", List.of(4, 0))
+        ));
+        Graph timeSeriesGraph = createGraph("Readings", List.of(Map.of(
+            "type", "scatter",
+            "mode", "lines+markers",
+            "name", "Chlorine",
+            "x", List.of("2026-01-01", "2026-01-02", "2026-01-03"),
+            "y", List.of(0.5, 0.75, 1),
+            "customdata", List.of(
+                Map.of("sampleCount", 2),
+                Map.of("sampleCount", 1),
+                Map.of("sampleCount", 2)
+            )
+        )));
+        Graph emptyGraph = createGraph("Empty", List.of());
+
+        Map<Long, List<GraphTrace>> tracesByGraphId = graphTraceReader.readTraces(
+            List.of(pieGraph, barGraph, timeSeriesGraph, emptyGraph)
+        );
+
+        assertEquals(List.of(pieGraph.getId(), barGraph.getId(), timeSeriesGraph.getId(), emptyGraph.getId()),
+            List.copyOf(tracesByGraphId.keySet()));
+        for (Graph graph : List.of(pieGraph, barGraph, timeSeriesGraph, emptyGraph)) {
+            assertEquals(
+                readData(reloadGraph(graph.getId())),
+                GraphRelationalPayloadMapper.toTraceList(tracesByGraphId.get(graph.getId()))
+            );
+        }
+        assertEquals(2, tracesByGraphId.get(barGraph.getId()).size());
+        assertEquals(List.of(), tracesByGraphId.get(emptyGraph.getId()));
+    }
+}